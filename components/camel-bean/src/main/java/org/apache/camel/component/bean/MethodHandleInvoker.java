@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.bean;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import org.apache.camel.support.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Invokes a method through a {@link MethodHandle} which is bound once for the method, instead of through reflection.
+ * <p/>
+ * Methods with one or two parameters can be invoked with the arguments as is, so no argument array is needed. The
+ * failures are reported the same way as {@link Method#invoke(Object, Object...)} does: an exception thrown by the
+ * method is wrapped in an {@link InvocationTargetException}, and invalid arguments cause an
+ * {@link IllegalArgumentException}. If the method handle cannot be created, then reflection is used.
+ */
+final class MethodHandleInvoker {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MethodHandleInvoker.class);
+
+    private final Method method;
+    private final Class<?>[] parameterTypes;
+    // (Object, Object[])Object
+    private final MethodHandle spreader;
+    // (Object, Object...)Object with the parameters as is
+    private final MethodHandle handle;
+
+    MethodHandleInvoker(Method method) {
+        this.method = method;
+        this.parameterTypes = method.getParameterTypes();
+
+        MethodHandle generic = null;
+        try {
+            if (!method.isAccessible()) {
+                method.setAccessible(true);
+            }
+            MethodHandle mh = MethodHandles.lookup().unreflect(method).asFixedArity();
+            if (Modifier.isStatic(method.getModifiers())) {
+                // the instance is ignored for static methods
+                mh = MethodHandles.dropArguments(mh, 0, Object.class);
+            }
+            generic = mh.asType(MethodType.genericMethodType(parameterTypes.length + 1));
+        } catch (Exception e) {
+            LOG.debug("Cannot create method handle for method: {}. Will use reflection.", method, e);
+        }
+        this.handle = generic;
+        this.spreader = generic != null ? generic.asSpreader(Object[].class, parameterTypes.length) : null;
+    }
+
+    /**
+     * Invokes the method with the given arguments
+     */
+    Object invoke(Object instance, Object[] arguments) throws InvocationTargetException, IllegalAccessException {
+        if (spreader == null) {
+            return ObjectHelper.invokeMethodSafe(method, instance, arguments);
+        }
+        try {
+            return (Object) spreader.invokeExact(instance, arguments);
+        } catch (Throwable e) {
+            return handleFailure(e, instance, arguments);
+        }
+    }
+
+    /**
+     * Invokes a method which has one parameter
+     */
+    Object invoke(Object instance, Object arg0) throws InvocationTargetException, IllegalAccessException {
+        if (handle == null || parameterTypes.length != 1) {
+            return ObjectHelper.invokeMethodSafe(method, instance, arg0);
+        }
+        try {
+            return (Object) handle.invokeExact(instance, arg0);
+        } catch (Throwable e) {
+            return handleFailure(e, instance, new Object[] { arg0 });
+        }
+    }
+
+    /**
+     * Invokes a method which has two parameters
+     */
+    Object invoke(Object instance, Object arg0, Object arg1) throws InvocationTargetException, IllegalAccessException {
+        if (handle == null || parameterTypes.length != 2) {
+            return ObjectHelper.invokeMethodSafe(method, instance, arg0, arg1);
+        }
+        try {
+            return (Object) handle.invokeExact(instance, arg0, arg1);
+        } catch (Throwable e) {
+            return handleFailure(e, instance, new Object[] { arg0, arg1 });
+        }
+    }
+
+    /**
+     * The method handle fails before invoking the method if the instance or the arguments are not valid, in which case
+     * reflection is used to fail the way reflection does. Otherwise the exception was thrown by the method.
+     */
+    private Object handleFailure(Throwable e, Object instance, Object[] arguments)
+            throws InvocationTargetException, IllegalAccessException {
+        if (!isValid(instance, arguments)) {
+            return ObjectHelper.invokeMethodSafe(method, instance, arguments);
+        }
+        throw new InvocationTargetException(e);
+    }
+
+    private boolean isValid(Object instance, Object[] arguments) {
+        if (!Modifier.isStatic(method.getModifiers()) && !method.getDeclaringClass().isInstance(instance)) {
+            return false;
+        }
+        int length = arguments != null ? arguments.length : 0;
+        if (length != parameterTypes.length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (!isAssignable(parameterTypes[i], arguments[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Whether the value can be passed as the given parameter type, including unboxing and widening to a primitive type
+     */
+    private static boolean isAssignable(Class<?> type, Object value) {
+        if (!type.isPrimitive()) {
+            return value == null || type.isInstance(value);
+        }
+        if (value == null) {
+            return false;
+        }
+        Class<?> from = MethodType.methodType(value.getClass()).unwrap().returnType();
+        if (from == type) {
+            return true;
+        }
+        if (type == double.class) {
+            return from == float.class || from == long.class || from == int.class || from == char.class
+                    || from == short.class || from == byte.class;
+        } else if (type == float.class) {
+            return from == long.class || from == int.class || from == char.class || from == short.class
+                    || from == byte.class;
+        } else if (type == long.class) {
+            return from == int.class || from == char.class || from == short.class || from == byte.class;
+        } else if (type == int.class) {
+            return from == char.class || from == short.class || from == byte.class;
+        } else if (type == short.class) {
+            return from == byte.class;
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return "MethodHandleInvoker[" + method + "]";
+    }
+}
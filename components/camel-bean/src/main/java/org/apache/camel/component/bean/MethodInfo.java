@@ -78,6 +78,7 @@ public class MethodInfo {
     private final boolean hasCustomAnnotation;
     private final boolean hasHandlerAnnotation;
     private final Expression parametersExpression;
+    private volatile MethodHandleInvoker invoker;
     private ExchangePattern pattern = ExchangePattern.InOut;
     private AsyncProcessor recipientList;
     private AsyncProcessor routingSlip;
@@ -267,116 +268,166 @@ public class MethodInfo {
     }
 
     public MethodInvocation createMethodInvocation(final Object pojo, boolean hasParameters, final Exchange exchange) {
+        if (hasParameters && parametersExpression instanceof ParameterExpression pe && pe.expressions.length <= 2) {
+            // bind the common one or two parameters as is, so no argument array is needed
+            pe.init(camelContext);
+            Object body = exchange.getIn().getBody();
+            Iterator<?> it = pe.parameterValues(exchange);
+            Object arg0 = pe.evaluateParameter(exchange, body, it, 0);
+            if (pe.expressions.length == 1) {
+                return new DefaultMethodInvocation(pojo, exchange, 1, arg0, null, null);
+            }
+            Object arg1 = pe.evaluateParameter(exchange, body, it, 1);
+            return new DefaultMethodInvocation(pojo, exchange, 2, arg0, arg1, null);
+        }
+
         final Object[] arguments = initializeArguments(hasParameters, exchange);
+        return new DefaultMethodInvocation(pojo, exchange, -1, null, null, arguments);
+    }
 
-        return new MethodInvocation() {
-            public Method getMethod() {
-                return method;
-            }
+    /**
+     * The invocation of the method, where the arguments are either in an array, or in fields when the method has one
+     * or two parameters.
+     */
+    private final class DefaultMethodInvocation implements MethodInvocation {
+        private final Object pojo;
+        private final Exchange exchange;
+        private final int argumentCount;
+        private final Object arg0;
+        private final Object arg1;
+        private Object[] arguments;
+
+        private DefaultMethodInvocation(Object pojo, Exchange exchange, int argumentCount, Object arg0, Object arg1,
+                                        Object[] arguments) {
+            this.pojo = pojo;
+            this.exchange = exchange;
+            this.argumentCount = argumentCount;
+            this.arg0 = arg0;
+            this.arg1 = arg1;
+            this.arguments = arguments;
+        }
 
-            public Object[] getArguments() {
-                return arguments;
+        @Override
+        public Method getMethod() {
+            return method;
+        }
+
+        @Override
+        public Object[] getArguments() {
+            if (arguments == null && argumentCount > 0) {
+                arguments = argumentCount == 1 ? new Object[] { arg0 } : new Object[] { arg0, arg1 };
             }
+            return arguments;
+        }
 
-            public boolean proceed(AsyncCallback callback) {
-                try {
-                    // reset cached streams so they can be read again
-                    MessageHelper.resetStreamCache(exchange.getIn());
-                    return doProceed(callback);
-                } catch (InvocationTargetException e) {
-                    exchange.setException(e.getTargetException());
-                    callback.done(true);
-                    return true;
-                } catch (Exception e) {
-                    exchange.setException(e);
-                    callback.done(true);
-                    return true;
-                }
+        private Object invokeMethod() throws InvocationTargetException {
+            if (argumentCount > 0) {
+                return invoke(pojo, argumentCount, arg0, arg1, exchange);
             }
+            return invoke(method, pojo, arguments, exchange);
+        }
 
-            private boolean doProceed(AsyncCallback callback) throws Exception {
-                // dynamic router should be invoked beforehand
-                if (dynamicRouter != null) {
-                    if (!ServiceHelper.isStarted(dynamicRouter)) {
-                        ServiceHelper.startService(dynamicRouter);
-                    }
-                    // use an expression which invokes the method to be used by dynamic router
-                    Expression expression = new DynamicRouterExpression(pojo);
-                    expression.init(camelContext);
-                    exchange.setProperty(ExchangePropertyKey.EVALUATE_EXPRESSION_RESULT, expression);
-                    return dynamicRouter.process(exchange, callback);
-                }
+        @Override
+        public boolean proceed(AsyncCallback callback) {
+            try {
+                // reset cached streams so they can be read again
+                MessageHelper.resetStreamCache(exchange.getIn());
+                return doProceed(callback);
+            } catch (InvocationTargetException e) {
+                exchange.setException(e.getTargetException());
+                callback.done(true);
+                return true;
+            } catch (Exception e) {
+                exchange.setException(e);
+                callback.done(true);
+                return true;
+            }
+        }
 
-                // invoke pojo
-                if (LOG.isTraceEnabled()) {
-                    LOG.trace(">>>> invoking: {} on bean: {} with arguments: {} for exchange: {}", method, pojo,
-                            asString(arguments), exchange);
-                }
-                Object result = invoke(method, pojo, arguments, exchange);
-
-                // the method may be a closure or chained method returning a callable which should be called
-                if (result instanceof Callable) {
-                    LOG.trace("Method returned Callback which will be called: {}", result);
-                    Object callableResult = ((Callable) result).call();
-                    if (callableResult != null) {
-                        result = callableResult;
-                    } else {
-                        // if callable returned null we should not change the body
-                        result = Void.TYPE;
-                    }
+        private boolean doProceed(AsyncCallback callback) throws Exception {
+            // dynamic router should be invoked beforehand
+            if (dynamicRouter != null) {
+                if (!ServiceHelper.isStarted(dynamicRouter)) {
+                    ServiceHelper.startService(dynamicRouter);
                 }
+                // use an expression which invokes the method to be used by dynamic router
+                Expression expression = new DynamicRouterExpression(pojo);
+                expression.init(camelContext);
+                exchange.setProperty(ExchangePropertyKey.EVALUATE_EXPRESSION_RESULT, expression);
+                return dynamicRouter.process(exchange, callback);
+            }
 
-                if (recipientList != null) {
-                    // ensure its started
-                    if (!ServiceHelper.isStarted(recipientList)) {
-                        ServiceHelper.startService(recipientList);
-                    }
-                    exchange.setProperty(ExchangePropertyKey.EVALUATE_EXPRESSION_RESULT, result);
-                    return recipientList.process(exchange, callback);
-                }
-                if (routingSlip != null) {
-                    if (!ServiceHelper.isStarted(routingSlip)) {
-                        ServiceHelper.startService(routingSlip);
-                    }
-                    exchange.setProperty(ExchangePropertyKey.EVALUATE_EXPRESSION_RESULT, result);
-                    return routingSlip.process(exchange, callback);
+            // invoke pojo
+            if (LOG.isTraceEnabled()) {
+                LOG.trace(">>>> invoking: {} on bean: {} with arguments: {} for exchange: {}", method, pojo,
+                        asString(getArguments()), exchange);
+            }
+            Object result = invokeMethod();
+
+            // the method may be a closure or chained method returning a callable which should be called
+            if (result instanceof Callable) {
+                LOG.trace("Method returned Callback which will be called: {}", result);
+                Object callableResult = ((Callable) result).call();
+                if (callableResult != null) {
+                    result = callableResult;
+                } else {
+                    // if callable returned null we should not change the body
+                    result = Void.TYPE;
                 }
+            }
 
-                //If it's Java 8 async result
-                if (CompletionStage.class.isAssignableFrom(method.getReturnType())) {
-                    CompletionStage<?> completionStage = (CompletionStage<?>) result;
-
-                    completionStage
-                            .whenComplete((resultObject, e) -> {
-                                if (e != null) {
-                                    exchange.setException(e);
-                                } else if (resultObject != null) {
-                                    fillResult(exchange, resultObject);
-                                }
-                                callback.done(false);
-                            });
-                    return false;
+            if (recipientList != null) {
+                // ensure its started
+                if (!ServiceHelper.isStarted(recipientList)) {
+                    ServiceHelper.startService(recipientList);
                 }
-
-                // if the method returns something then set the value returned on the Exchange
-                if (result != Void.TYPE && !method.getReturnType().equals(Void.TYPE)) {
-                    fillResult(exchange, result);
+                exchange.setProperty(ExchangePropertyKey.EVALUATE_EXPRESSION_RESULT, result);
+                return recipientList.process(exchange, callback);
+            }
+            if (routingSlip != null) {
+                if (!ServiceHelper.isStarted(routingSlip)) {
+                    ServiceHelper.startService(routingSlip);
                 }
-
-                // we did not use any of the eips, but just invoked the bean
-                // so notify the callback we are done synchronously
-                callback.done(true);
-                return true;
+                exchange.setProperty(ExchangePropertyKey.EVALUATE_EXPRESSION_RESULT, result);
+                return routingSlip.process(exchange, callback);
             }
 
-            public Object getThis() {
-                return pojo;
+            //If it's Java 8 async result
+            if (CompletionStage.class.isAssignableFrom(method.getReturnType())) {
+                CompletionStage<?> completionStage = (CompletionStage<?>) result;
+
+                completionStage
+                        .whenComplete((resultObject, e) -> {
+                            if (e != null) {
+                                exchange.setException(e);
+                            } else if (resultObject != null) {
+                                fillResult(exchange, resultObject);
+                            }
+                            callback.done(false);
+                        });
+                return false;
             }
 
-            public AccessibleObject getStaticPart() {
-                return method;
+            // if the method returns something then set the value returned on the Exchange
+            if (result != Void.TYPE && !method.getReturnType().equals(Void.TYPE)) {
+                fillResult(exchange, result);
             }
-        };
+
+            // we did not use any of the eips, but just invoked the bean
+            // so notify the callback we are done synchronously
+            callback.done(true);
+            return true;
+        }
+
+        @Override
+        public Object getThis() {
+            return pojo;
+        }
+
+        @Override
+        public AccessibleObject getStaticPart() {
+            return method;
+        }
     }
 
     private void fillResult(Exchange exchange, Object result) {
@@ -490,6 +541,9 @@ public class MethodInfo {
 
     protected Object invoke(Method mth, Object pojo, Object[] arguments, Exchange exchange) throws InvocationTargetException {
         try {
+            if (mth == method) {
+                return getInvoker().invoke(pojo, arguments);
+            }
             return ObjectHelper.invokeMethodSafe(mth, pojo, arguments);
         } catch (IllegalAccessException e) {
             throw new RuntimeExchangeException(
@@ -502,6 +556,38 @@ public class MethodInfo {
         }
     }
 
+    /**
+     * Invokes the method which has one or two parameters, without an argument array
+     */
+    private Object invoke(Object pojo, int argumentCount, Object arg0, Object arg1, Exchange exchange)
+            throws InvocationTargetException {
+        try {
+            if (argumentCount == 1) {
+                return getInvoker().invoke(pojo, arg0);
+            }
+            return getInvoker().invoke(pojo, arg0, arg1);
+        } catch (IllegalAccessException | IllegalArgumentException e) {
+            Object[] arguments = argumentCount == 1 ? new Object[] { arg0 } : new Object[] { arg0, arg1 };
+            throw new RuntimeExchangeException(
+                    e.getClass().getSimpleName() + " occurred invoking method: " + method + " using arguments: "
+                                               + asList(arguments),
+                    exchange, e);
+        }
+    }
+
+    /**
+     * Gets the invoker of the method, which is created on first use, as most of the introspected methods are never
+     * invoked
+     */
+    private MethodHandleInvoker getInvoker() {
+        MethodHandleInvoker answer = invoker;
+        if (answer == null) {
+            answer = new MethodHandleInvoker(method);
+            invoker = answer;
+        }
+        return answer;
+    }
+
     protected Expression[] createParameterExpressions() {
         final int size = parameters.size();
         LOG.trace("Creating parameters expression for {} parameters", size);
@@ -565,7 +651,19 @@ public class MethodInfo {
         @SuppressWarnings("unchecked")
         public <T> T evaluate(Exchange exchange, Class<T> type) {
             Object body = exchange.getIn().getBody();
+            Iterator<?> it = parameterValues(exchange);
 
+            Object[] answer = new Object[expressions.length];
+            for (int i = 0; i < expressions.length; i++) {
+                answer[i] = evaluateParameter(exchange, body, it, i);
+            }
+            return (T) answer;
+        }
+
+        /**
+         * Gets an iterator over the parameter values provided in the method name, if any
+         */
+        private Iterator<?> parameterValues(Exchange exchange) {
             // if there was an explicit method name to invoke, then we should support using
             // any provided parameter values in the method name
             String methodName = exchange.getIn().getHeader(BeanConstants.BEAN_METHOD_NAME, String.class);
@@ -587,48 +685,38 @@ public class MethodInfo {
             if (methodName != null) {
                 exchange.getIn().removeHeader(Exchange.BEAN_METHOD_NAME);
             }
-
-            Object[] answer = evaluateParameterExpressions(exchange, body, it);
-            return (T) answer;
+            return it;
         }
 
         /**
-         * Evaluates all the parameter expressions
+         * Evaluates the parameter expression at the given index, where the parameter values must be evaluated in order
          */
-        private Object[] evaluateParameterExpressions(Exchange exchange, Object body, Iterator<?> it) {
-            Object[] answer = new Object[expressions.length];
-            for (int i = 0; i < expressions.length; i++) {
-
-                if (body instanceof StreamCache) {
-                    // need to reset stream cache for each expression as you may access the message body in multiple parameters
-                    ((StreamCache) body).reset();
-                }
-
-                // grab the parameter value for the given index
-                Object parameterValue = it != null && it.hasNext() ? it.next() : null;
-                // and the expected parameter type
-                Class<?> parameterType = parameters.get(i).getType();
-                // the value for the parameter to use
-                Object value = null;
-
-                // prefer to use parameter value if given, as they override any bean parameter binding
-                // we should skip * as its a type placeholder to indicate any type
-                if (parameterValue != null && !parameterValue.equals("*")) {
-                    // evaluate the parameter value binding
-                    value = evaluateParameterValue(exchange, i, parameterValue, parameterType);
-                }
-                // use bean parameter binding, if still no value
-                Expression expression = expressions[i];
-                if (value == null && expression != null) {
-                    value = evaluateParameterBinding(exchange, expression, i, parameterType);
-                }
-                // remember the value to use
-                if (value != Void.TYPE) {
-                    answer[i] = value;
-                }
+        private Object evaluateParameter(Exchange exchange, Object body, Iterator<?> it, int i) {
+            if (body instanceof StreamCache) {
+                // need to reset stream cache for each expression as you may access the message body in multiple parameters
+                ((StreamCache) body).reset();
             }
 
-            return answer;
+            // grab the parameter value for the given index
+            Object parameterValue = it != null && it.hasNext() ? it.next() : null;
+            // and the expected parameter type
+            Class<?> parameterType = parameters.get(i).getType();
+            // the value for the parameter to use
+            Object value = null;
+
+            // prefer to use parameter value if given, as they override any bean parameter binding
+            // we should skip * as its a type placeholder to indicate any type
+            if (parameterValue != null && !parameterValue.equals("*")) {
+                // evaluate the parameter value binding
+                value = evaluateParameterValue(exchange, i, parameterValue, parameterType);
+            }
+            // use bean parameter binding, if still no value
+            Expression expression = expressions[i];
+            if (value == null && expression != null) {
+                value = evaluateParameterBinding(exchange, expression, i, parameterType);
+            }
+            // an explicit null value is returned as null
+            return value != Void.TYPE ? value : null;
         }
 
         /**
@@ -55,6 +55,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "chmod": target.setChmod(property(camelContext, java.lang.String.class, value)); return true;
         case "chmoddirectory":
         case "chmodDirectory": target.setChmodDirectory(property(camelContext, java.lang.String.class, value)); return true;
+        case "concurrentconsumers":
+        case "concurrentConsumers": target.setConcurrentConsumers(property(camelContext, int.class, value)); return true;
         case "copyanddeleteonrenamefail":
         case "copyAndDeleteOnRenameFail": target.setCopyAndDeleteOnRenameFail(property(camelContext, boolean.class, value)); return true;
         case "delay": target.setDelay(property(camelContext, long.class, value)); return true;
@@ -204,6 +206,10 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "timeUnit": target.setTimeUnit(property(camelContext, java.util.concurrent.TimeUnit.class, value)); return true;
         case "usefixeddelay":
         case "useFixedDelay": target.setUseFixedDelay(property(camelContext, boolean.class, value)); return true;
+        case "watchdirectory":
+        case "watchDirectory": target.setWatchDirectory(property(camelContext, boolean.class, value)); return true;
+        case "watchdirectoryrescaninterval":
+        case "watchDirectoryRescanInterval": target.setWatchDirectoryRescanInterval(property(camelContext, long.class, value)); return true;
         default: return false;
         }
     }
@@ -243,6 +249,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "chmod": return java.lang.String.class;
         case "chmoddirectory":
         case "chmodDirectory": return java.lang.String.class;
+        case "concurrentconsumers":
+        case "concurrentConsumers": return int.class;
         case "copyanddeleteonrenamefail":
         case "copyAndDeleteOnRenameFail": return boolean.class;
         case "delay": return long.class;
@@ -392,6 +400,10 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "timeUnit": return java.util.concurrent.TimeUnit.class;
         case "usefixeddelay":
         case "useFixedDelay": return boolean.class;
+        case "watchdirectory":
+        case "watchDirectory": return boolean.class;
+        case "watchdirectoryrescaninterval":
+        case "watchDirectoryRescanInterval": return long.class;
         default: return null;
         }
     }
@@ -432,6 +444,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "chmod": return target.getChmod();
         case "chmoddirectory":
         case "chmodDirectory": return target.getChmodDirectory();
+        case "concurrentconsumers":
+        case "concurrentConsumers": return target.getConcurrentConsumers();
         case "copyanddeleteonrenamefail":
         case "copyAndDeleteOnRenameFail": return target.isCopyAndDeleteOnRenameFail();
         case "delay": return target.getDelay();
@@ -581,6 +595,10 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "timeUnit": return target.getTimeUnit();
         case "usefixeddelay":
         case "useFixedDelay": return target.isUseFixedDelay();
+        case "watchdirectory":
+        case "watchDirectory": return target.isWatchDirectory();
+        case "watchdirectoryrescaninterval":
+        case "watchDirectoryRescanInterval": return target.getWatchDirectoryRescanInterval();
         default: return null;
         }
     }
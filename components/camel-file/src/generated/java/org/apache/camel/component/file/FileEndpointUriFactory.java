@@ -23,7 +23,7 @@ public class FileEndpointUriFactory extends org.apache.camel.support.component.E
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Set<String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(100);
+        Set<String> props = new HashSet<>(103);
         props.add("allowNullBody");
         props.add("antExclude");
         props.add("antFilterCaseSensitive");
@@ -41,6 +41,7 @@ public class FileEndpointUriFactory extends org.apache.camel.support.component.E
         props.add("checksumFileAlgorithm");
         props.add("chmod");
         props.add("chmodDirectory");
+        props.add("concurrentConsumers");
         props.add("copyAndDeleteOnRenameFail");
         props.add("delay");
         props.add("delete");
@@ -124,6 +125,8 @@ public class FileEndpointUriFactory extends org.apache.camel.support.component.E
         props.add("tempPrefix");
         props.add("timeUnit");
         props.add("useFixedDelay");
+        props.add("watchDirectory");
+        props.add("watchDirectoryRescanInterval");
         PROPERTY_NAMES = Collections.unmodifiableSet(props);
         SECRET_PROPERTY_NAMES = Collections.emptySet();
         Set<String> prefixes = new HashSet<>(1);
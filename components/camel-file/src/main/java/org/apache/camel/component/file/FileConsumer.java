@@ -31,13 +31,19 @@ import java.util.Set;
 import org.apache.camel.Exchange;
 import org.apache.camel.Message;
 import org.apache.camel.Processor;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedResource;
 import org.apache.camel.component.file.consumer.DirectoryEntriesResumeAdapter;
+import org.apache.camel.component.file.consumer.DirectoryWatchIndex;
 import org.apache.camel.component.file.consumer.FileOffsetResumeAdapter;
+import org.apache.camel.component.file.strategy.FileChangedNonBlockingExclusiveReadLockStrategy;
+import org.apache.camel.component.file.strategy.GenericFileProcessStrategySupport;
 import org.apache.camel.resume.ResumeAdapter;
 import org.apache.camel.resume.ResumeAware;
 import org.apache.camel.resume.ResumeStrategy;
 import org.apache.camel.support.resume.Resumables;
 import org.apache.camel.util.FileUtil;
+import org.apache.camel.util.IOHelper;
 import org.apache.camel.util.ObjectHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -45,12 +51,14 @@ import org.slf4j.LoggerFactory;
 /**
  * File consumer.
  */
+@ManagedResource(description = "Managed FileConsumer")
 public class FileConsumer extends GenericFileConsumer<File> implements ResumeAware<ResumeStrategy> {
 
     private static final Logger LOG = LoggerFactory.getLogger(FileConsumer.class);
     private ResumeStrategy resumeStrategy;
     private final String endpointPath;
     private Set<String> extendedAttributes;
+    private DirectoryWatchIndex directoryWatchIndex;
 
     public FileConsumer(FileEndpoint endpoint, Processor processor, GenericFileOperations<File> operations,
                         GenericFileProcessStrategy<File> processStrategy) {
@@ -203,7 +211,7 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
         if (!getEndpoint().isIncludeHiddenDirs() && directory.isHidden()) {
             return null;
         }
-        final File[] dirFiles = directory.listFiles();
+        final File[] dirFiles = directoryWatchIndex != null ? directoryWatchIndex.listFiles(directory) : directory.listFiles();
 
         if (dirFiles == null || dirFiles.length == 0) {
             // no files in this directory to poll
@@ -373,9 +381,60 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
             resumeStrategy.loadCache();
         }
 
+        if (getEndpoint().isWatchDirectory()) {
+            try {
+                directoryWatchIndex = new DirectoryWatchIndex(getEndpoint().getWatchDirectoryRescanInterval());
+            } catch (IOException | UnsupportedOperationException e) {
+                LOG.warn("Cannot watch directory: {} due to: {}. The directory is listed on every poll.", endpointPath,
+                        e.getMessage());
+            }
+        }
+
         super.doStart();
     }
 
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+
+        IOHelper.close(directoryWatchIndex);
+        directoryWatchIndex = null;
+    }
+
+    @ManagedAttribute(description = "Number of files which are still changing, when using the changed-nonblocking read lock")
+    public int getReadLockPendingFileCount() {
+        FileChangedNonBlockingExclusiveReadLockStrategy strategy = getNonBlockingReadLockStrategy();
+        return strategy != null ? strategy.getPendingFileCount() : 0;
+    }
+
+    @ManagedAttribute(description = "Number of files which the changed-nonblocking read lock has been acquired for")
+    public long getReadLockStableFileCount() {
+        FileChangedNonBlockingExclusiveReadLockStrategy strategy = getNonBlockingReadLockStrategy();
+        return strategy != null ? strategy.getStableFileCount() : 0;
+    }
+
+    @ManagedAttribute(description = "Mean time in millis from a file was first checked until the changed-nonblocking read lock"
+                                    + " was acquired")
+    public long getReadLockMeanTimeToStable() {
+        FileChangedNonBlockingExclusiveReadLockStrategy strategy = getNonBlockingReadLockStrategy();
+        return strategy != null ? strategy.getMeanTimeToStable() : 0;
+    }
+
+    @ManagedAttribute(description = "Max time in millis from a file was first checked until the changed-nonblocking read lock"
+                                    + " was acquired")
+    public long getReadLockMaxTimeToStable() {
+        FileChangedNonBlockingExclusiveReadLockStrategy strategy = getNonBlockingReadLockStrategy();
+        return strategy != null ? strategy.getMaxTimeToStable() : 0;
+    }
+
+    private FileChangedNonBlockingExclusiveReadLockStrategy getNonBlockingReadLockStrategy() {
+        if (processStrategy instanceof GenericFileProcessStrategySupport<File> support
+                && support.getExclusiveReadLockStrategy() instanceof FileChangedNonBlockingExclusiveReadLockStrategy strategy) {
+            return strategy;
+        }
+        return null;
+    }
+
     @Override
     public ResumeStrategy getResumeStrategy() {
         return resumeStrategy;
@@ -83,6 +83,10 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
     private boolean probeContentType;
     @UriParam(label = "consumer,advanced")
     private String extendedAttributes;
+    @UriParam(label = "consumer,advanced")
+    private boolean watchDirectory;
+    @UriParam(label = "consumer,advanced", defaultValue = "60000")
+    private long watchDirectoryRescanInterval = 60000;
     @UriParam(label = "producer,advanced", defaultValue = "true")
     private boolean forceWrites = true;
     @UriParam(label = "producer,advanced")
@@ -151,7 +155,8 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
 
     private void readLockCheck() {
         // check if it's valid
-        String valid = "none,markerFile,fileLock,rename,changed,idempotent,idempotent-changed,idempotent-rename";
+        String valid
+                = "none,markerFile,fileLock,rename,changed,changed-nonblocking,idempotent,idempotent-changed,idempotent-rename";
         String[] arr = valid.split(",");
         boolean matched = Arrays.stream(arr).anyMatch(n -> n.equals(getReadLock()));
         if (!matched) {
@@ -426,6 +431,34 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
         this.extendedAttributes = extendedAttributes;
     }
 
+    public boolean isWatchDirectory() {
+        return watchDirectory;
+    }
+
+    /**
+     * Whether the consumer keeps an index of the files in the directories it polls, which is updated from the events
+     * of the file system watch service, instead of listing the directories on every poll. This speeds up polling
+     * directories with many files, which are only listed again when the watch service has lost events, and after the
+     * watch directory rescan interval. On macOS the watch service of the JDK polls the directories, so changes are only
+     * seen after a delay of about 2 to 10 seconds.
+     */
+    public void setWatchDirectory(boolean watchDirectory) {
+        this.watchDirectory = watchDirectory;
+    }
+
+    public long getWatchDirectoryRescanInterval() {
+        return watchDirectoryRescanInterval;
+    }
+
+    /**
+     * Interval in millis to list all the directories again when the watchDirectory option is enabled, in case the file
+     * system does not report all the changes, such as network file systems. Use zero to only list the directories
+     * again when the watch service has lost events.
+     */
+    public void setWatchDirectoryRescanInterval(long watchDirectoryRescanInterval) {
+        this.watchDirectoryRescanInterval = watchDirectoryRescanInterval;
+    }
+
     /**
      * Chmod value must be between 000 and 777; If there is a leading digit like in 0755 we will ignore it.
      */
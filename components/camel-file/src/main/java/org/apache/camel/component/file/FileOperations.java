@@ -41,6 +41,7 @@ import java.util.concurrent.locks.ReentrantLock;
 import org.apache.camel.Exchange;
 import org.apache.camel.InvalidPayloadException;
 import org.apache.camel.WrappedFile;
+import org.apache.camel.converter.stream.FileInputStreamCache;
 import org.apache.camel.util.FileUtil;
 import org.apache.camel.util.IOHelper;
 import org.apache.camel.util.ObjectHelper;
@@ -330,6 +331,11 @@ public class FileOperations implements GenericFileOperations<File> {
     }
 
     private void handleStreamAsFileSource(Exchange exchange, File file) throws InvalidPayloadException, IOException {
+        if (exchange.getIn().getBody() instanceof FileInputStreamCache cache) {
+            // the body is spooled to disk so we can transfer it from file to file
+            writeFileByStreamCache(cache, file);
+            return;
+        }
         InputStream in = exchange.getIn().getMandatoryBody(InputStream.class);
         writeFileByStream(in, file);
     }
@@ -514,6 +520,20 @@ public class FileOperations implements GenericFileOperations<File> {
         }
     }
 
+    private void writeFileByStreamCache(FileInputStreamCache cache, File target) throws IOException {
+        try (SeekableByteChannel out = prepareOutputFileChannel(target)) {
+            LOG.debug("Using FileChannel to transfer stream cache to file: {}", target);
+            cache.writeTo(out);
+
+            boolean append = endpoint.getFileExist() == GenericFileExist.Append;
+            if (append && endpoint.getAppendChars() != null) {
+                out.write(ByteBuffer.wrap(endpoint.getAppendChars().getBytes()));
+            }
+        } finally {
+            IOHelper.close(cache, target.getName(), LOG);
+        }
+    }
+
     private void writeFileByReaderWithCharset(Reader in, File target, String charset) throws IOException {
         boolean append = endpoint.getFileExist() == GenericFileExist.Append;
         try (Writer out = Files.newBufferedWriter(target.toPath(), Charset.forName(charset), StandardOpenOption.WRITE,
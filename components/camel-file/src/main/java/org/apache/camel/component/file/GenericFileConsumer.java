@@ -22,6 +22,10 @@ import java.util.Deque;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Queue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.regex.Pattern;
 
 import org.apache.camel.CamelContextAware;
@@ -61,6 +65,11 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
     private final String[] includeExt;
     private final String[] excludeExt;
     private boolean retrieveFile = true;
+    private final Lock operationsLock = new ReentrantLock();
+    private ExecutorService concurrentExecutorService;
+    private Semaphore concurrentPermits;
+    private int concurrentConsumers;
+    private boolean permitHeld;
 
     protected GenericFileConsumer(GenericFileEndpoint<T> endpoint, Processor processor, GenericFileOperations<T> operations,
                                   GenericFileProcessStrategy<T> processStrategy) {
@@ -202,7 +211,12 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
             LOG.debug("Total {} files to consume", total);
         }
 
+        StopWatch watch = new StopWatch();
         int polledMessages = processBatch(CastUtils.cast((Deque<Exchange>) exchanges));
+        if (total > 0 && LOG.isDebugEnabled()) {
+            LOG.debug("Took {} to process {} files using {} concurrent consumers: {}",
+                    TimeUtils.printDuration(watch.taken(), true), polledMessages, Math.max(concurrentConsumers, 1), name);
+        }
 
         postPollCheck(polledMessages);
 
@@ -239,6 +253,9 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
             if (customProcessor != null) {
                 // use a custom processor
                 started = customProcessExchange(exchange, customProcessor);
+            } else if (concurrentExecutorService != null) {
+                // process the exchange concurrently
+                started = processExchangeConcurrently(exchange);
             } else {
                 // process the exchange regular
                 started = processExchange(exchange);
@@ -250,6 +267,12 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
             }
         }
 
+        if (concurrentExecutorService != null) {
+            // wait for the files processed concurrently to complete before the next poll
+            concurrentPermits.acquireUninterruptibly(concurrentConsumers);
+            concurrentPermits.release(concurrentConsumers);
+        }
+
         // drain any in progress files as we are done with this batch
         removeExcessiveInProgressFiles(CastUtils.cast((Deque<?>) exchanges, Exchange.class), 0);
 
@@ -441,12 +464,20 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
             // register on completion callback that does the completion
             // strategies
             // (for instance to move the file after we have processed it)
-            exchange.getExchangeExtension().addOnCompletion(
-                    new GenericFileOnCompletion<>(endpoint, operations, processStrategy, target, absoluteFileName));
+            GenericFileOnCompletion<T> onCompletion
+                    = new GenericFileOnCompletion<>(endpoint, operations, processStrategy, target, absoluteFileName);
+            if (concurrentExecutorService != null) {
+                // the operations are used by the polling thread while the other files complete
+                onCompletion.setLock(operationsLock);
+            }
+            exchange.getExchangeExtension().addOnCompletion(onCompletion);
 
             LOG.debug("About to process file: {} using exchange: {}", target, exchange);
 
-            if (endpoint.isSynchronous()) {
+            if (concurrentExecutorService != null) {
+                // process the exchange using the thread pool
+                submitExchange(exchange, file, absoluteFileName);
+            } else if (endpoint.isSynchronous()) {
                 // process synchronously
                 getProcessor().process(exchange);
             } else {
@@ -475,6 +506,49 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
         return true;
     }
 
+    /**
+     * Processes the exchange when the files of the batch are processed concurrently. The file is locked and retrieved
+     * by the polling thread while holding the lock of the operations, and then routed by the thread pool.
+     *
+     * @param  exchange the exchange
+     * @return          <tt>true</tt> if the file was started to be processed, <tt>false</tt> if the file was not
+     *                  started to be processed, for some reason (not found, or aborted etc)
+     */
+    protected boolean processExchangeConcurrently(final Exchange exchange) {
+        // must get the permit before the lock, as the files being processed lock the operations to complete
+        concurrentPermits.acquireUninterruptibly();
+        permitHeld = true;
+        operationsLock.lock();
+        try {
+            return processExchange(exchange);
+        } finally {
+            operationsLock.unlock();
+            if (permitHeld) {
+                // the file was not routed
+                permitHeld = false;
+                concurrentPermits.release();
+            }
+        }
+    }
+
+    private void submitExchange(Exchange exchange, GenericFile<T> file, String absoluteFileName) {
+        concurrentExecutorService.execute(() -> {
+            try {
+                // process synchronously so the thread pool bounds the files being processed
+                getProcessor().process(exchange);
+            } catch (Exception e) {
+                endpoint.getInProgressRepository().remove(absoluteFileName);
+
+                String msg = "Error processing file " + file + " due to " + e.getMessage();
+                handleException(msg, exchange, e);
+            } finally {
+                concurrentPermits.release();
+            }
+        });
+        // the permit is released when the file has been processed
+        permitHeld = false;
+    }
+
     boolean tryRetrievingFile(
             Exchange exchange, String name, GenericFile<T> target, String absoluteFileName, GenericFile<T> file)
             throws Exception {
@@ -844,6 +918,12 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
     @Override
     protected void doStart() throws Exception {
         ServiceHelper.startService(processStrategy);
+        concurrentConsumers = endpoint.getConcurrentConsumers();
+        if (concurrentConsumers > 1 && (concurrentExecutorService == null || concurrentExecutorService.isShutdown())) {
+            concurrentExecutorService = endpoint.getCamelContext().getExecutorServiceManager()
+                    .newFixedThreadPool(this, endpoint.getEndpointUri(), concurrentConsumers);
+            concurrentPermits = new Semaphore(concurrentConsumers);
+        }
         super.doStart();
     }
 
@@ -851,6 +931,9 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
     protected void doStop() throws Exception {
         prepareOnStartup = false;
         super.doStop();
+        if (concurrentExecutorService != null) {
+            endpoint.getCamelContext().getExecutorServiceManager().shutdown(concurrentExecutorService);
+        }
         ServiceHelper.stopService(processStrategy);
     }
 
@@ -193,6 +193,12 @@ public abstract class GenericFileEndpoint<T> extends ScheduledPollEndpoint imple
                                                          + "store the remote file content directly in local files, to avoid loading the content into memory. This "
                                                          + "is beneficial, if you consume a very big remote file and thus can conserve memory.")
     protected String localWorkDirectory;
+    @UriParam(label = "consumer,advanced", defaultValue = "1", description = "Number of concurrent threads processing "
+                                                                             + "the files picked up in a poll. The files are still locked and retrieved one at a time by the "
+                                                                             + "polling thread, before being routed concurrently, and the next poll starts when all the files "
+                                                                             + "of the batch have completed. For the FTP components, the streamDownload option cannot be "
+                                                                             + "used together with this option.")
+    protected int concurrentConsumers = 1;
     @UriParam(label = "consumer", description = "If true, the file is not moved or deleted in any way. This option "
                                                 + "is good for readonly data, or for ETL type requirements. If noop=true, Camel will set idempotent=true "
                                                 + "as well, to avoid consuming the same files over and over again.")
@@ -326,7 +332,8 @@ public abstract class GenericFileEndpoint<T> extends ScheduledPollEndpoint imple
     @UriParam(label = "consumer,sort", description = "To shuffle the list of files (sort in random order)")
     protected boolean shuffle;
     @UriParam(label = "consumer,lock", defaultValue = "none",
-              enums = "none,markerFile,fileLock,rename,changed,idempotent,idempotent-changed,idempotent-rename",
+              enums = "none,markerFile,fileLock,rename,changed,changed-nonblocking,idempotent,idempotent-changed,"
+                      + "idempotent-rename",
               description = "Used by consumer, to only poll the files if it has exclusive read-lock on the file (i.e. "
                             + "the file is not in-progress or being written). Camel will wait until the file lock is granted. "
                             + "This option provides the build in strategies:<p/>"
@@ -338,6 +345,11 @@ public abstract class GenericFileEndpoint<T> extends ScheduledPollEndpoint imple
                             + "cannot consume files as fast as the others, but can be more reliable as the JDK IO API "
                             + "cannot always determine whether a file is currently being used by another process. The option "
                             + "readLockCheckInterval can be used to set the check frequency.<p/>"
+                            + " - changed-nonblocking - (only for file component) changed-nonblocking is using file "
+                            + "length/modification timestamp like changed, but without waiting for the file to stop "
+                            + "changing. A file which is still changing is skipped and checked again on the next polls, "
+                            + "at least readLockCheckInterval apart, so files being written slowly do not hold up the "
+                            + "other files.<p/>"
                             + " - fileLock - is for using java.nio.channels.FileLock. This option is not avail for Windows OS "
                             + "and the FTP component. This approach should be avoided when accessing a remote file system via "
                             + "a mount/share unless that file system supports distributed file locks.<p/>"
@@ -1476,6 +1488,20 @@ public abstract class GenericFileEndpoint<T> extends ScheduledPollEndpoint imple
         this.eagerMaxMessagesPerPoll = eagerMaxMessagesPerPoll;
     }
 
+    public int getConcurrentConsumers() {
+        return concurrentConsumers;
+    }
+
+    /**
+     * Number of concurrent threads processing the files picked up in a poll. The files are still locked and retrieved
+     * one at a time by the polling thread, before being routed concurrently, and the next poll starts when all the
+     * files of the batch have completed. For the FTP components, the streamDownload option cannot be used together
+     * with this option.
+     */
+    public void setConcurrentConsumers(int concurrentConsumers) {
+        this.concurrentConsumers = concurrentConsumers;
+    }
+
     public int getMaxDepth() {
         return maxDepth;
     }
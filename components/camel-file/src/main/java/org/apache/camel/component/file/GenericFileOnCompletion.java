@@ -16,6 +16,8 @@
  */
 package org.apache.camel.component.file;
 
+import java.util.concurrent.locks.Lock;
+
 import org.apache.camel.Exchange;
 import org.apache.camel.ExchangePropertyKey;
 import org.apache.camel.spi.ExceptionHandler;
@@ -40,6 +42,7 @@ public class GenericFileOnCompletion<T> implements Synchronization {
     private ExceptionHandler exceptionHandler;
     private final GenericFile<T> file;
     private final String absoluteFileName;
+    private Lock lock;
 
     public GenericFileOnCompletion(GenericFileEndpoint<T> endpoint, GenericFileOperations<T> operations,
                                    GenericFileProcessStrategy processStrategy, GenericFile<T> file,
@@ -73,7 +76,32 @@ public class GenericFileOnCompletion<T> implements Synchronization {
         this.exceptionHandler = exceptionHandler;
     }
 
+    public Lock getLock() {
+        return lock;
+    }
+
+    /**
+     * Sets the lock to hold while performing the work, when the file operations are shared by files processed
+     * concurrently.
+     */
+    public void setLock(Lock lock) {
+        this.lock = lock;
+    }
+
     protected void onCompletion(Exchange exchange) {
+        if (lock == null) {
+            doOnCompletion(exchange);
+            return;
+        }
+        lock.lock();
+        try {
+            doOnCompletion(exchange);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void doOnCompletion(Exchange exchange) {
         LOG.debug("Done processing file: {} using exchange: {}", file, exchange);
 
         // commit or rollback
@@ -0,0 +1,219 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file.consumer;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An index of the files in the directories polled by the file consumer, which is kept up to date from the events of a
+ * {@link WatchService}, so the directories do not have to be listed on every poll.
+ * <p/>
+ * A directory is listed the first time it is polled, and then watched for the files created and deleted in it. A
+ * directory is listed again when the watch service lost some of its events, and all the directories are listed again
+ * after the rescan interval, in case the file system does not report all the changes (such as network file systems).
+ * <p/>
+ * This index is not thread safe, and is meant to be used by the polling thread of the consumer.
+ */
+public class DirectoryWatchIndex implements Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DirectoryWatchIndex.class);
+
+    private final WatchService watchService;
+    private final long rescanInterval;
+    private final Map<File, IndexedDirectory> directories = new HashMap<>();
+    private final Map<WatchKey, IndexedDirectory> keys = new HashMap<>();
+    private long lastRescan;
+
+    /**
+     * Creates an index watching the default file system.
+     *
+     * @param  rescanInterval the interval in millis to list all the directories again, or zero to only list them again
+     *                        when events have been lost
+     * @throws IOException    if the watch service cannot be created
+     */
+    public DirectoryWatchIndex(long rescanInterval) throws IOException {
+        this.watchService = FileSystems.getDefault().newWatchService();
+        this.rescanInterval = rescanInterval;
+        this.lastRescan = System.currentTimeMillis();
+    }
+
+    /**
+     * Lists the files in the directory, from the index if the directory is watched and up to date.
+     *
+     * @param  directory the directory
+     * @return           the files in the directory, or <tt>null</tt> if the directory cannot be listed. The array is
+     *                   shared with the next polls until the directory changes, so it must not be modified, except for
+     *                   sorting it.
+     */
+    public File[] listFiles(File directory) {
+        processEvents();
+
+        IndexedDirectory indexed = directories.get(directory);
+        if (indexed != null && !indexed.stale) {
+            LOG.trace("Listing directory from index: {}", directory);
+            return indexed.getFiles();
+        }
+        return index(directory, indexed);
+    }
+
+    /**
+     * The number of directories in the index.
+     */
+    public int size() {
+        return directories.size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        directories.clear();
+        keys.clear();
+        watchService.close();
+    }
+
+    private File[] index(File directory, IndexedDirectory indexed) {
+        WatchKey key = indexed != null ? indexed.key : null;
+        if (key == null || !key.isValid()) {
+            try {
+                // watch before listing, so no file created in between is missed
+                key = directory.toPath().register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_DELETE);
+            } catch (IOException | UnsupportedOperationException e) {
+                // such as too many directories watched, so this directory is listed on every poll
+                LOG.debug("Cannot watch directory: {} due to: {}. The directory is listed on every poll.", directory,
+                        e.getMessage());
+                remove(indexed);
+                return directory.listFiles();
+            }
+        }
+
+        LOG.trace("Listing directory to index: {}", directory);
+        File[] files = directory.listFiles();
+        if (files == null) {
+            key.cancel();
+            remove(indexed);
+            keys.remove(key);
+            return null;
+        }
+        indexed = new IndexedDirectory(directory, key, files);
+        directories.put(directory, indexed);
+        keys.put(key, indexed);
+        return files;
+    }
+
+    private void processEvents() {
+        if (rescanInterval > 0) {
+            long now = System.currentTimeMillis();
+            if (now - lastRescan >= rescanInterval) {
+                LOG.debug("Rescanning {} directories", directories.size());
+                lastRescan = now;
+                for (IndexedDirectory indexed : directories.values()) {
+                    indexed.stale = true;
+                }
+            }
+        }
+
+        WatchKey key;
+        while ((key = watchService.poll()) != null) {
+            IndexedDirectory indexed = keys.get(key);
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (indexed != null) {
+                    onEvent(indexed, event);
+                }
+            }
+            if (!key.reset()) {
+                // the directory is no longer accessible
+                keys.remove(key);
+                remove(indexed);
+            }
+        }
+    }
+
+    private void onEvent(IndexedDirectory indexed, WatchEvent<?> event) {
+        if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+            LOG.debug("Events lost for directory: {}, which is listed again on next poll", indexed.directory);
+            indexed.stale = true;
+            return;
+        }
+        File file = new File(indexed.directory, event.context().toString());
+        if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE) {
+            indexed.add(file);
+        } else if (event.kind() == StandardWatchEventKinds.ENTRY_DELETE) {
+            indexed.remove(file);
+            // the directory may have been deleted and created again before the events are processed
+            IndexedDirectory child = directories.get(file);
+            if (child != null) {
+                child.stale = true;
+            }
+        }
+    }
+
+    private void remove(IndexedDirectory indexed) {
+        if (indexed != null && directories.get(indexed.directory) == indexed) {
+            directories.remove(indexed.directory);
+        }
+    }
+
+    private static final class IndexedDirectory {
+        private final File directory;
+        private final WatchKey key;
+        private final Set<File> files;
+        private File[] snapshot;
+        private boolean stale;
+
+        IndexedDirectory(File directory, WatchKey key, File[] files) {
+            this.directory = directory;
+            this.key = key;
+            this.files = new LinkedHashSet<>(files.length * 4 / 3 + 1);
+            Collections.addAll(this.files, files);
+            this.snapshot = files;
+        }
+
+        void add(File file) {
+            if (files.add(file)) {
+                snapshot = null;
+            }
+        }
+
+        void remove(File file) {
+            if (files.remove(file)) {
+                snapshot = null;
+            }
+        }
+
+        File[] getFiles() {
+            if (snapshot == null) {
+                snapshot = files.toArray(new File[0]);
+            }
+            return snapshot;
+        }
+    }
+}
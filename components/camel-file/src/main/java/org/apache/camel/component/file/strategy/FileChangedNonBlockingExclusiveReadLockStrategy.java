@@ -0,0 +1,225 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file.strategy;
+
+import java.io.File;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.LoggingLevel;
+import org.apache.camel.component.file.GenericFile;
+import org.apache.camel.component.file.GenericFileOperations;
+import org.apache.camel.spi.CamelLogger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Acquires exclusive read lock to the given file by checking whether the file is being changed, like
+ * {@link FileChangedExclusiveReadLockStrategy}, but without sleeping while waiting for the file to stop changing.
+ * <p/>
+ * The length and last modified timestamp of the files which are still changing are kept in a table, and compared to
+ * the file on the following polls, when at least the check interval has elapsed. The read lock is only granted when
+ * the file has not changed since it was last checked, and else the file is skipped on this poll. This allows the
+ * consumer to pick up the files which have settled, without waiting on the files which are still being written.
+ * <p/>
+ * Setting the option {@link #setMarkerFiler(boolean)} to <tt>false</tt> allows to turn off using marker files.
+ */
+public class FileChangedNonBlockingExclusiveReadLockStrategy extends MarkerFileExclusiveReadLockStrategy {
+    private static final Logger LOG = LoggerFactory.getLogger(FileChangedNonBlockingExclusiveReadLockStrategy.class);
+    private final Map<String, FileState> states = new ConcurrentHashMap<>();
+    private final LongAdder stableCount = new LongAdder();
+    private final LongAdder totalTimeToStable = new LongAdder();
+    private final AtomicLong maxTimeToStable = new AtomicLong();
+    private volatile long lastPurge;
+    private long timeout;
+    private long checkInterval = 1000;
+    private long minLength = 1;
+    private long minAge;
+    private LoggingLevel readLockLoggingLevel = LoggingLevel.DEBUG;
+
+    @Override
+    public boolean acquireExclusiveReadLock(GenericFileOperations<File> operations, GenericFile<File> file, Exchange exchange)
+            throws Exception {
+        String path = file.getAbsoluteFilePath();
+        File target = new File(path);
+        long now = System.currentTimeMillis();
+
+        purgeStates(now);
+
+        if (!target.exists()) {
+            states.remove(path);
+            CamelLogger.log(LOG, readLockLoggingLevel,
+                    "Cannot acquire read lock as file no longer exists. Will skip the file: " + file);
+            return false;
+        }
+
+        long newLastModified = target.lastModified();
+        long newLength = target.length();
+
+        FileState state = states.get(path);
+        if (state == null) {
+            state = new FileState(now, newLastModified, newLength);
+            if (minAge == 0 || newLength < minLength) {
+                // must check the file again on a later poll to know if it has changed
+                LOG.trace("Waiting for file to stop changing: {}", file);
+                states.put(path, state);
+                return false;
+            }
+        } else if (now - state.checked < checkInterval) {
+            LOG.trace("Exclusive read lock not granted. File checked less than {} millis ago: {}", checkInterval, file);
+            return false;
+        }
+
+        LOG.trace("Previous last modified: {}, new last modified: {}", state.lastModified, newLastModified);
+        LOG.trace("Previous length: {}, new length: {}", state.length, newLength);
+        LOG.trace("New older than threshold: {}", now - minAge);
+
+        // CHECKSTYLE:OFF
+        if (newLength >= minLength && ((minAge == 0 && newLastModified == state.lastModified && newLength == state.length)
+                || (minAge != 0 && newLastModified < now - minAge))) {
+        // CHECKSTYLE:ON
+            states.remove(path);
+            // must call super to use the marker file only when the file has settled
+            if (!super.acquireExclusiveReadLock(operations, file, exchange)) {
+                return false;
+            }
+            long taken = now - state.firstSeen;
+            stableCount.increment();
+            totalTimeToStable.add(taken);
+            maxTimeToStable.accumulateAndGet(taken, Math::max);
+            LOG.trace("Read lock acquired after file was stable for {} millis: {}", taken, file);
+            return true;
+        }
+
+        if (timeout > 0 && now - state.firstSeen > timeout) {
+            CamelLogger.log(LOG, readLockLoggingLevel,
+                    "Cannot acquire read lock within " + timeout + " millis. Will skip the file: " + file);
+            // start over on the next poll
+            states.remove(path);
+            return false;
+        }
+
+        // set new base file change information
+        state.checked = now;
+        state.lastModified = newLastModified;
+        state.length = newLength;
+        states.put(path, state);
+        LOG.trace("Exclusive read lock not granted. File is still changing: {}", file);
+        return false;
+    }
+
+    /**
+     * Removes the files which no longer exist, such as files deleted while being written, as they are not polled again.
+     */
+    private void purgeStates(long now) {
+        if (now - lastPurge < Math.max(checkInterval, 1000) || states.isEmpty()) {
+            return;
+        }
+        lastPurge = now;
+        for (Iterator<String> it = states.keySet().iterator(); it.hasNext();) {
+            if (!new File(it.next()).exists()) {
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * Number of files which are still changing, and waiting to be checked again on a later poll.
+     */
+    public int getPendingFileCount() {
+        return states.size();
+    }
+
+    /**
+     * Number of files which the read lock has been acquired for.
+     */
+    public long getStableFileCount() {
+        return stableCount.sum();
+    }
+
+    /**
+     * Mean time in millis from a file was first checked until the read lock was acquired.
+     */
+    public long getMeanTimeToStable() {
+        long count = stableCount.sum();
+        return count > 0 ? totalTimeToStable.sum() / count : 0;
+    }
+
+    /**
+     * Max time in millis from a file was first checked until the read lock was acquired.
+     */
+    public long getMaxTimeToStable() {
+        return maxTimeToStable.get();
+    }
+
+    public long getTimeout() {
+        return timeout;
+    }
+
+    @Override
+    public void setTimeout(long timeout) {
+        this.timeout = timeout;
+    }
+
+    public long getCheckInterval() {
+        return checkInterval;
+    }
+
+    @Override
+    public void setCheckInterval(long checkInterval) {
+        this.checkInterval = checkInterval;
+    }
+
+    @Override
+    public void setReadLockLoggingLevel(LoggingLevel readLockLoggingLevel) {
+        this.readLockLoggingLevel = readLockLoggingLevel;
+    }
+
+    public long getMinLength() {
+        return minLength;
+    }
+
+    public void setMinLength(long minLength) {
+        this.minLength = minLength;
+    }
+
+    public long getMinAge() {
+        return minAge;
+    }
+
+    public void setMinAge(long minAge) {
+        this.minAge = minAge;
+    }
+
+    private static final class FileState {
+        private final long firstSeen;
+        private long checked;
+        private long lastModified;
+        private long length;
+
+        FileState(long firstSeen, long lastModified, long length) {
+            this.firstSeen = firstSeen;
+            this.checked = firstSeen;
+            this.lastModified = lastModified;
+            this.length = length;
+        }
+    }
+}
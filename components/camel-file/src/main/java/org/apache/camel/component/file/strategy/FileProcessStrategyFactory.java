@@ -146,6 +146,8 @@ public final class FileProcessStrategyFactory implements GenericFileProcessStrat
                 strategy = new FileRenameExclusiveReadLockStrategy();
             } else if ("changed".equals(readLock)) {
                 strategy = newStrategyForChanged(params);
+            } else if ("changed-nonblocking".equals(readLock)) {
+                strategy = newStrategyForChangedNonBlocking(params);
             } else if ("idempotent".equals(readLock)) {
                 strategy = newStrategyForIdempotent(params);
             } else if ("idempotent-changed".equals(readLock)) {
@@ -201,6 +203,21 @@ public final class FileProcessStrategyFactory implements GenericFileProcessStrat
         return strategy;
     }
 
+    private static GenericFileExclusiveReadLockStrategy<File> newStrategyForChangedNonBlocking(
+            Map<String, Object> params) {
+        FileChangedNonBlockingExclusiveReadLockStrategy readLockStrategy
+                = new FileChangedNonBlockingExclusiveReadLockStrategy();
+        Long minLength = (Long) params.get("readLockMinLength");
+        if (minLength != null) {
+            readLockStrategy.setMinLength(minLength);
+        }
+        Long minAge = (Long) params.get("readLockMinAge");
+        if (null != minAge) {
+            readLockStrategy.setMinAge(minAge);
+        }
+        return readLockStrategy;
+    }
+
     private static GenericFileExclusiveReadLockStrategy<File> newStrategyForIdempotentRename(
             Map<String, Object> params) {
         GenericFileExclusiveReadLockStrategy<File> strategy;
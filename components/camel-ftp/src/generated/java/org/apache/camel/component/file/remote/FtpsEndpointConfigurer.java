@@ -23,6 +23,8 @@ public class FtpsEndpointConfigurer extends FtpEndpointConfigurer implements Gen
     public boolean configure(CamelContext camelContext, Object obj, String name, Object value, boolean ignoreCase) {
         FtpsEndpoint target = (FtpsEndpoint) obj;
         switch (ignoreCase ? name.toLowerCase() : name) {
+        case "concurrentconsumers":
+        case "concurrentConsumers": target.setConcurrentConsumers(property(camelContext, int.class, value)); return true;
         case "disablesecuredatachanneldefaults":
         case "disableSecureDataChannelDefaults": target.getConfiguration().setDisableSecureDataChannelDefaults(property(camelContext, boolean.class, value)); return true;
         case "execpbsz":
@@ -45,6 +47,8 @@ public class FtpsEndpointConfigurer extends FtpEndpointConfigurer implements Gen
     @Override
     public Class<?> getOptionType(String name, boolean ignoreCase) {
         switch (ignoreCase ? name.toLowerCase() : name) {
+        case "concurrentconsumers":
+        case "concurrentConsumers": return int.class;
         case "disablesecuredatachanneldefaults":
         case "disableSecureDataChannelDefaults": return boolean.class;
         case "execpbsz":
@@ -68,6 +72,8 @@ public class FtpsEndpointConfigurer extends FtpEndpointConfigurer implements Gen
     public Object getOptionValue(Object obj, String name, boolean ignoreCase) {
         FtpsEndpoint target = (FtpsEndpoint) obj;
         switch (ignoreCase ? name.toLowerCase() : name) {
+        case "concurrentconsumers":
+        case "concurrentConsumers": return target.getConcurrentConsumers();
         case "disablesecuredatachanneldefaults":
         case "disableSecureDataChannelDefaults": return target.getConfiguration().isDisableSecureDataChannelDefaults();
         case "execpbsz":
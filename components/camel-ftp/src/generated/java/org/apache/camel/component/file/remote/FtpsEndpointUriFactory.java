@@ -23,7 +23,7 @@ public class FtpsEndpointUriFactory extends org.apache.camel.support.component.E
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Set<String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(124);
+        Set<String> props = new HashSet<>(125);
         props.add("account");
         props.add("activePortRange");
         props.add("allowNullBody");
@@ -41,6 +41,7 @@ public class FtpsEndpointUriFactory extends org.apache.camel.support.component.E
         props.add("charset");
         props.add("checksumFileAlgorithm");
         props.add("chmod");
+        props.add("concurrentConsumers");
         props.add("connectTimeout");
         props.add("delay");
         props.add("delete");
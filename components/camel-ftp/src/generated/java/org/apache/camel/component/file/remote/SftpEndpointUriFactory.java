@@ -23,7 +23,7 @@ public class SftpEndpointUriFactory extends org.apache.camel.support.component.E
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Set<String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(134);
+        Set<String> props = new HashSet<>(135);
         props.add("allowNullBody");
         props.add("antExclude");
         props.add("antFilterCaseSensitive");
@@ -44,6 +44,7 @@ public class SftpEndpointUriFactory extends org.apache.camel.support.component.E
         props.add("chmodDirectory");
         props.add("ciphers");
         props.add("compression");
+        props.add("concurrentConsumers");
         props.add("connectTimeout");
         props.add("delay");
         props.add("delete");
@@ -110,8 +110,9 @@ public abstract class RemoteFileConsumer<T> extends GenericFileConsumer<T> {
         // if we did not poll any messages, but are configured to disconnect
         // then we need to do this now
         // as there is no exchanges to be routed that otherwise will disconnect
-        // from the last UoW
-        if (polledMessages == 0) {
+        // from the last UoW, and when the files are processed concurrently,
+        // then the batch has completed when the poll is done
+        if (polledMessages == 0 || getEndpoint().getConcurrentConsumers() > 1) {
             if (getEndpoint().isDisconnect()) {
                 LOG.trace("postPollCheck disconnect from: {}", getEndpoint());
                 disconnect();
@@ -124,7 +125,7 @@ public abstract class RemoteFileConsumer<T> extends GenericFileConsumer<T> {
         // defer disconnect til the UoW is complete - but only the last exchange
         // from the batch should do that
         boolean isLast = exchange.getProperty(ExchangePropertyKey.BATCH_COMPLETE, true, Boolean.class);
-        if (isLast && getEndpoint().isDisconnect()) {
+        if (isLast && getEndpoint().isDisconnect() && getEndpoint().getConcurrentConsumers() <= 1) {
             exchange.getExchangeExtension().addOnCompletion(new SynchronizationAdapter() {
                 @Override
                 public void onDone(Exchange exchange) {
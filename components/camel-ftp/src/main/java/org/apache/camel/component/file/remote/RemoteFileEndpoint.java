@@ -159,6 +159,10 @@ public abstract class RemoteFileEndpoint<T> extends GenericFileEndpoint<T> imple
             throw new IllegalArgumentException("You cannot both set delete=true and move options");
         }
 
+        if (getConcurrentConsumers() > 1 && getConfiguration().isStreamDownload()) {
+            throw new IllegalArgumentException("You cannot both set streamDownload=true and concurrentConsumers options");
+        }
+
         // if noop=true then idempotent should also be configured
         if (isNoop() && !isIdempotentSet()) {
             LOG.info("Endpoint is configured with noop=true so forcing endpoint to be idempotent as well");
@@ -163,6 +163,10 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "pollTimeoutMs": getOrCreateConfiguration(target).setPollTimeoutMs(property(camelContext, java.lang.Long.class, value)); return true;
         case "prevalidatehostandport":
         case "preValidateHostAndPort": getOrCreateConfiguration(target).setPreValidateHostAndPort(property(camelContext, boolean.class, value)); return true;
+        case "processingorder":
+        case "processingOrder": getOrCreateConfiguration(target).setProcessingOrder(property(camelContext, java.lang.String.class, value)); return true;
+        case "processingthreads":
+        case "processingThreads": getOrCreateConfiguration(target).setProcessingThreads(property(camelContext, int.class, value)); return true;
         case "producerbatchsize":
         case "producerBatchSize": getOrCreateConfiguration(target).setProducerBatchSize(property(camelContext, java.lang.Integer.class, value)); return true;
         case "queuebufferingmaxmessages":
@@ -400,6 +404,10 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "pollTimeoutMs": return java.lang.Long.class;
         case "prevalidatehostandport":
         case "preValidateHostAndPort": return boolean.class;
+        case "processingorder":
+        case "processingOrder": return java.lang.String.class;
+        case "processingthreads":
+        case "processingThreads": return int.class;
         case "producerbatchsize":
         case "producerBatchSize": return java.lang.Integer.class;
         case "queuebufferingmaxmessages":
@@ -633,6 +641,10 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "pollTimeoutMs": return getOrCreateConfiguration(target).getPollTimeoutMs();
         case "prevalidatehostandport":
         case "preValidateHostAndPort": return getOrCreateConfiguration(target).isPreValidateHostAndPort();
+        case "processingorder":
+        case "processingOrder": return getOrCreateConfiguration(target).getProcessingOrder();
+        case "processingthreads":
+        case "processingThreads": return getOrCreateConfiguration(target).getProcessingThreads();
         case "producerbatchsize":
         case "producerBatchSize": return getOrCreateConfiguration(target).getProducerBatchSize();
         case "queuebufferingmaxmessages":
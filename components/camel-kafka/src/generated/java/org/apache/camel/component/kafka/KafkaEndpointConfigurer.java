@@ -147,6 +147,10 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "pollTimeoutMs": target.getConfiguration().setPollTimeoutMs(property(camelContext, java.lang.Long.class, value)); return true;
         case "prevalidatehostandport":
         case "preValidateHostAndPort": target.getConfiguration().setPreValidateHostAndPort(property(camelContext, boolean.class, value)); return true;
+        case "processingorder":
+        case "processingOrder": target.getConfiguration().setProcessingOrder(property(camelContext, java.lang.String.class, value)); return true;
+        case "processingthreads":
+        case "processingThreads": target.getConfiguration().setProcessingThreads(property(camelContext, int.class, value)); return true;
         case "producerbatchsize":
         case "producerBatchSize": target.getConfiguration().setProducerBatchSize(property(camelContext, java.lang.Integer.class, value)); return true;
         case "queuebufferingmaxmessages":
@@ -364,6 +368,10 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "pollTimeoutMs": return java.lang.Long.class;
         case "prevalidatehostandport":
         case "preValidateHostAndPort": return boolean.class;
+        case "processingorder":
+        case "processingOrder": return java.lang.String.class;
+        case "processingthreads":
+        case "processingThreads": return int.class;
         case "producerbatchsize":
         case "producerBatchSize": return java.lang.Integer.class;
         case "queuebufferingmaxmessages":
@@ -582,6 +590,10 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "pollTimeoutMs": return target.getConfiguration().getPollTimeoutMs();
         case "prevalidatehostandport":
         case "preValidateHostAndPort": return target.getConfiguration().isPreValidateHostAndPort();
+        case "processingorder":
+        case "processingOrder": return target.getConfiguration().getProcessingOrder();
+        case "processingthreads":
+        case "processingThreads": return target.getConfiguration().getProcessingThreads();
         case "producerbatchsize":
         case "producerBatchSize": return target.getConfiguration().getProducerBatchSize();
         case "queuebufferingmaxmessages":
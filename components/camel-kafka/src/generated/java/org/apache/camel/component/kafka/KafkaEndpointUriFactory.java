@@ -23,7 +23,7 @@ public class KafkaEndpointUriFactory extends org.apache.camel.support.component.
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Set<String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(109);
+        Set<String> props = new HashSet<>(111);
         props.add("additionalProperties");
         props.add("allowManualCommit");
         props.add("autoCommitEnable");
@@ -88,6 +88,8 @@ public class KafkaEndpointUriFactory extends org.apache.camel.support.component.
         props.add("pollOnError");
         props.add("pollTimeoutMs");
         props.add("preValidateHostAndPort");
+        props.add("processingOrder");
+        props.add("processingThreads");
         props.add("producerBatchSize");
         props.add("queueBufferingMaxMessages");
         props.add("receiveBufferBytes");
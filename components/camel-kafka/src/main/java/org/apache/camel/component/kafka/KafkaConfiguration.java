@@ -357,6 +357,10 @@ public class KafkaConfiguration implements Cloneable, HeaderFilterStrategyAware
 
     @UriParam(label = "consumer", defaultValue = "false")
     private boolean batching;
+    @UriParam(label = "consumer,advanced", defaultValue = "1")
+    private int processingThreads = 1;
+    @UriParam(label = "consumer,advanced", defaultValue = "key", enums = "key,partition")
+    private String processingOrder = "key";
 
     public KafkaConfiguration() {
     }
@@ -1998,4 +2002,32 @@ public class KafkaConfiguration implements Cloneable, HeaderFilterStrategyAware
     public void setBatching(boolean batching) {
         this.batching = batching;
     }
+
+    public int getProcessingThreads() {
+        return processingThreads;
+    }
+
+    /**
+     * The number of threads used to process the records of a poll in parallel. The default is 1, which processes the
+     * records sequentially on the consumer thread. When more than one, the records are processed by a pool of threads
+     * shared by the consumers, while keeping the order of the records as set by the processingOrder option. The offsets
+     * of a partition are only committed up to the last record that has been processed with all its previous records.
+     * This cannot be used together with batching, allowManualCommit or the pausable EIP.
+     */
+    public void setProcessingThreads(int processingThreads) {
+        this.processingThreads = processingThreads;
+    }
+
+    public String getProcessingOrder() {
+        return processingOrder;
+    }
+
+    /**
+     * The order kept when processing the records of a poll in parallel, see the processingThreads option. With key, the
+     * records of a partition with the same key are processed in order, one after the other. With partition, all the
+     * records of a partition are processed in order, so the partitions are processed in parallel.
+     */
+    public void setProcessingOrder(String processingOrder) {
+        this.processingOrder = processingOrder;
+    }
 }
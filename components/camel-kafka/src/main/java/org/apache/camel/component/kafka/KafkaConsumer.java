@@ -57,6 +57,7 @@ public class KafkaConsumer extends DefaultConsumer
     private static final Logger LOG = LoggerFactory.getLogger(KafkaConsumer.class);
 
     protected ExecutorService executor;
+    protected ExecutorService processingExecutor;
     private final KafkaEndpoint endpoint;
     private KafkaConsumerHealthCheck consumerHealthCheck;
     private HealthCheckRepository healthCheckRepository;
@@ -91,6 +92,13 @@ public class KafkaConsumer extends DefaultConsumer
         this.consumerListener = consumerListener;
     }
 
+    /**
+     * The pool of threads to process the records of a poll in parallel, or null when processed on the consumer threads
+     */
+    public ExecutorService getProcessingExecutor() {
+        return processingExecutor;
+    }
+
     @Override
     public KafkaEndpoint getEndpoint() {
         return (KafkaEndpoint) super.getEndpoint();
@@ -148,6 +156,20 @@ public class KafkaConsumer extends DefaultConsumer
             }
         }
 
+        if (endpoint.getConfiguration().getProcessingThreads() > 1) {
+            if (endpoint.getConfiguration().isBatching()) {
+                throw new IllegalArgumentException("You cannot both set batching=true and processingThreads options");
+            }
+            if (endpoint.getConfiguration().isAllowManualCommit()) {
+                throw new IllegalArgumentException(
+                        "You cannot both set allowManualCommit=true and processingThreads options");
+            }
+            if (consumerListener != null) {
+                throw new IllegalArgumentException("You cannot both use the pausable EIP and processingThreads options");
+            }
+            processingExecutor = endpoint.createProcessingExecutor();
+        }
+
         executor = endpoint.createExecutor();
 
         String topic = endpoint.getConfiguration().getTopic();
@@ -216,6 +238,12 @@ public class KafkaConsumer extends DefaultConsumer
         tasks.clear();
         executor = null;
 
+        if (processingExecutor != null) {
+            // the consumer threads have stopped so there are no more records to process
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdown(processingExecutor);
+            processingExecutor = null;
+        }
+
         if (stopOffsetRepo) {
             StateRepository<String, String> repo = endpoint.getConfiguration().getOffsetRepository();
             LOG.debug("Stopping OffsetRepository: {}", repo);
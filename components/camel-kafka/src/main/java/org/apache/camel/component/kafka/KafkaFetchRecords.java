@@ -35,6 +35,7 @@ import org.apache.camel.component.kafka.consumer.support.ProcessingResult;
 import org.apache.camel.component.kafka.consumer.support.TopicHelper;
 import org.apache.camel.component.kafka.consumer.support.batching.KafkaRecordBatchingProcessorFacade;
 import org.apache.camel.component.kafka.consumer.support.classic.ClassicRebalanceListener;
+import org.apache.camel.component.kafka.consumer.support.parallel.KafkaRecordParallelProcessorFacade;
 import org.apache.camel.component.kafka.consumer.support.resume.ResumeRebalanceListener;
 import org.apache.camel.component.kafka.consumer.support.streaming.KafkaRecordStreamingProcessorFacade;
 import org.apache.camel.component.kafka.consumer.support.subcription.DefaultSubscribeAdapter;
@@ -432,6 +433,9 @@ public class KafkaFetchRecords implements Runnable {
         if (configuration.isBatching()) {
             return new KafkaRecordBatchingProcessorFacade(
                     kafkaConsumer, threadId, commitManager, consumerListener);
+        } else if (kafkaConsumer.getProcessingExecutor() != null) {
+            return new KafkaRecordParallelProcessorFacade(
+                    kafkaConsumer, threadId, commitManager, consumerListener, kafkaConsumer.getProcessingExecutor());
         } else {
             return new KafkaRecordStreamingProcessorFacade(
                     kafkaConsumer, threadId, commitManager, consumerListener);
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka.consumer.support.parallel;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.Message;
+import org.apache.camel.Processor;
+import org.apache.camel.component.kafka.KafkaConfiguration;
+import org.apache.camel.component.kafka.KafkaConstants;
+import org.apache.camel.component.kafka.KafkaConsumer;
+import org.apache.camel.component.kafka.consumer.support.KafkaRecordProcessor;
+import org.apache.camel.component.kafka.consumer.support.ProcessingResult;
+import org.apache.camel.spi.ExceptionHandler;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Processes a record on a thread of the processing pool. Unlike streaming, the offsets are not recorded nor committed
+ * here, as the commit manager uses the Kafka consumer which must only be used from the consumer thread.
+ */
+final class KafkaRecordParallelProcessor extends KafkaRecordProcessor {
+    private static final Logger LOG = LoggerFactory.getLogger(KafkaRecordParallelProcessor.class);
+
+    private final boolean autoCommitEnabled;
+    private final KafkaConfiguration configuration;
+    private final Processor processor;
+
+    public KafkaRecordParallelProcessor(KafkaConfiguration configuration, Processor processor) {
+        this.autoCommitEnabled = configuration.isAutoCommitEnable();
+        this.configuration = configuration;
+        this.processor = processor;
+    }
+
+    public ProcessingResult processExchange(
+            KafkaConsumer camelKafkaConsumer, TopicPartition topicPartition, boolean partitionHasNext,
+            boolean recordHasNext, ConsumerRecord<Object, Object> consumerRecord) {
+
+        final Exchange exchange = camelKafkaConsumer.createExchange(false);
+
+        Message message = exchange.getMessage();
+
+        setupExchangeMessage(message, consumerRecord);
+
+        propagateHeaders(configuration, consumerRecord, exchange);
+
+        // if not auto commit then we have additional information on the exchange
+        if (!autoCommitEnabled) {
+            message.setHeader(KafkaConstants.LAST_RECORD_BEFORE_COMMIT, !recordHasNext);
+            message.setHeader(KafkaConstants.LAST_POLL_RECORD, !recordHasNext && !partitionHasNext);
+        }
+
+        try {
+            processor.process(exchange);
+        } catch (Exception e) {
+            exchange.setException(e);
+        }
+
+        ProcessingResult result;
+        if (exchange.getException() != null) {
+            LOG.debug("An exception was thrown for consumerRecord at partition {} and offset {}",
+                    consumerRecord.partition(), consumerRecord.offset());
+            final ExceptionHandler exceptionHandler = camelKafkaConsumer.getExceptionHandler();
+
+            boolean breakOnErrorExit = processException(exchange, topicPartition, consumerRecord, exceptionHandler);
+            result = new ProcessingResult(
+                    breakOnErrorExit, true, consumerRecord.topic(), consumerRecord.partition(), consumerRecord.offset());
+        } else {
+            result = new ProcessingResult(
+                    false, false, consumerRecord.topic(), consumerRecord.partition(), consumerRecord.offset());
+        }
+
+        camelKafkaConsumer.releaseExchange(exchange, false);
+
+        return result;
+    }
+
+    private boolean processException(
+            Exchange exchange, TopicPartition topicPartition,
+            ConsumerRecord<Object, Object> consumerRecord, ExceptionHandler exceptionHandler) {
+
+        // processing failed due to an unhandled exception, what should we do
+        if (configuration.isBreakOnFirstError()) {
+            // we are failing and we should break out, the offsets of the partition are committed up to the
+            // previous record by the consumer thread, so the consumer seeks back to this record
+            if (LOG.isWarnEnabled()) {
+                Exception exc = exchange.getException();
+                LOG.warn("Error during processing {} from topic: {} due to {}", exchange, topicPartition.topic(),
+                        exc.getMessage());
+                LOG.warn("Will seek consumer to offset {} on partition {} and start polling again.",
+                        consumerRecord.offset(), consumerRecord.partition());
+            }
+
+            return true;
+        } else {
+            // will handle/log the exception and then continue to next
+            exceptionHandler.handleException("Error during processing", exchange, exchange.getException());
+        }
+
+        return false;
+    }
+}
@@ -0,0 +1,301 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka.consumer.support.parallel;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.apache.camel.component.kafka.KafkaConsumer;
+import org.apache.camel.component.kafka.consumer.CommitManager;
+import org.apache.camel.component.kafka.consumer.errorhandler.KafkaConsumerListener;
+import org.apache.camel.component.kafka.consumer.support.AbstractKafkaRecordProcessorFacade;
+import org.apache.camel.component.kafka.consumer.support.ProcessingResult;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Processes the records of a poll in parallel on a pool of threads.
+ *
+ * The records of a partition are grouped by key (or all together when ordering by partition), and each group is
+ * processed in order by a single task, so the records with the same key are never processed concurrently. The
+ * consumer thread waits for all the records of the poll, and then commits the offsets of each partition up to the last
+ * record that has been processed with all the records before it, as the Kafka consumer must only be used from the
+ * consumer thread.
+ */
+public class KafkaRecordParallelProcessorFacade extends AbstractKafkaRecordProcessorFacade {
+    private static final Logger LOG = LoggerFactory.getLogger(KafkaRecordParallelProcessorFacade.class);
+    private final KafkaRecordParallelProcessor kafkaRecordProcessor;
+    private final ExecutorService executorService;
+    private final boolean orderByKey;
+
+    public KafkaRecordParallelProcessorFacade(
+                                              KafkaConsumer camelKafkaConsumer, String threadId,
+                                              CommitManager commitManager, KafkaConsumerListener consumerListener,
+                                              ExecutorService executorService) {
+        super(camelKafkaConsumer, threadId, commitManager, consumerListener);
+
+        this.kafkaRecordProcessor = new KafkaRecordParallelProcessor(
+                camelKafkaConsumer.getEndpoint().getConfiguration(),
+                camelKafkaConsumer.getProcessor());
+        this.executorService = executorService;
+        this.orderByKey = !"partition".equals(camelKafkaConsumer.getEndpoint().getConfiguration().getProcessingOrder());
+    }
+
+    @Override
+    public ProcessingResult processPolledRecords(ConsumerRecords<Object, Object> allRecords) {
+        logRecords(allRecords);
+
+        Set<TopicPartition> partitions = allRecords.partitions();
+        LOG.debug("Poll received records on {} partitions", partitions.size());
+
+        List<PartitionProgress> progresses = new ArrayList<>(partitions.size());
+
+        Iterator<TopicPartition> partitionIterator = partitions.iterator();
+        while (partitionIterator.hasNext() && !isStopping()) {
+            TopicPartition partition = partitionIterator.next();
+
+            List<ConsumerRecord<Object, Object>> partitionRecords = allRecords.records(partition);
+            logRecordsInPartition(partitionRecords, partition);
+
+            PartitionProgress progress = new PartitionProgress(partition, partitionRecords, partitionIterator.hasNext());
+            progresses.add(progress);
+
+            for (List<Integer> group : groupRecords(partitionRecords)) {
+                progress.tasks.add(executorService.submit(() -> processRecords(progress, group)));
+            }
+        }
+
+        // wait for all the records of the poll before committing, so the offsets are committed in order
+        awaitTasks(progresses);
+
+        ProcessingResult result = ProcessingResult.newUnprocessed();
+        for (PartitionProgress progress : progresses) {
+            long offset = progress.getLastCompletedOffset();
+            if (offset >= 0) {
+                commitManager.recordOffset(progress.partition, offset);
+                LOG.debug("Committing offset {} on partition {}", offset, progress.partition.partition());
+                commitManager.commit(progress.partition);
+            }
+
+            result = progress.getResult(result);
+        }
+
+        if (consumerListener != null && result.isFailed()) {
+            consumerListener.afterProcess(result);
+        }
+
+        return result;
+    }
+
+    /**
+     * Waits for the tasks processing the records of the poll. When interrupted, the tasks are cancelled so they stop
+     * before their next record, and they are still waited for, so no offset is committed while a record is processed.
+     * When a task fails, the partition breaks on error at its first record which has not been completed.
+     */
+    private void awaitTasks(List<PartitionProgress> progresses) {
+        boolean interrupted = false;
+        for (PartitionProgress progress : progresses) {
+            for (Future<?> task : progress.tasks) {
+                boolean done = false;
+                while (!done) {
+                    try {
+                        task.get();
+                        done = true;
+                    } catch (ExecutionException e) {
+                        LOG.warn("Error processing records on partition {} on thread {} due to {}",
+                                progress.partition.partition(), threadId, e.getCause().getMessage(), e.getCause());
+                        progress.failed();
+                        done = true;
+                    } catch (InterruptedException e) {
+                        if (!interrupted) {
+                            LOG.info("Interrupted while waiting for the records to be processed on thread {}", threadId);
+                            interrupted = true;
+                            progresses.forEach(PartitionProgress::cancel);
+                        }
+                    }
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Groups the indexes of the records of a partition that must be processed in order
+     */
+    private Collection<List<Integer>> groupRecords(List<ConsumerRecord<Object, Object>> partitionRecords) {
+        List<Integer> all = new ArrayList<>(partitionRecords.size());
+        for (int i = 0; i < partitionRecords.size(); i++) {
+            all.add(i);
+        }
+        if (!orderByKey) {
+            return Collections.singletonList(all);
+        }
+
+        Map<Object, List<Integer>> groups = new LinkedHashMap<>();
+        for (int index : all) {
+            Object key = partitionRecords.get(index).key();
+            if (key instanceof byte[] bytes) {
+                // arrays do not implement equals
+                key = ByteBuffer.wrap(bytes);
+            }
+            groups.computeIfAbsent(key, k -> new ArrayList<>()).add(index);
+        }
+        return groups.values();
+    }
+
+    private void processRecords(PartitionProgress progress, List<Integer> group) {
+        for (int index : group) {
+            if (isStopping() || progress.isSkipped(index)) {
+                return;
+            }
+
+            ConsumerRecord<Object, Object> consumerRecord = progress.records.get(index);
+            logRecord(consumerRecord);
+
+            LOG.debug("Processing record on partition {} with offset {}", consumerRecord.partition(),
+                    consumerRecord.offset());
+
+            ProcessingResult result = kafkaRecordProcessor.processExchange(camelKafkaConsumer, progress.partition,
+                    progress.partitionHasNext, index < progress.records.size() - 1, consumerRecord);
+            progress.processed(index, result);
+
+            LOG.debug("Processed record on partition {} with offset {}", consumerRecord.partition(),
+                    consumerRecord.offset());
+
+            if (result.isBreakOnErrorHit()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Tracks which records of a partition have been processed by the tasks of the processing pool
+     */
+    private static final class PartitionProgress {
+        private final TopicPartition partition;
+        private final List<ConsumerRecord<Object, Object>> records;
+        private final boolean partitionHasNext;
+        private final boolean[] completed;
+        private final List<Future<?>> tasks = new ArrayList<>();
+        private int brokenIndex = Integer.MAX_VALUE;
+        private boolean cancelled;
+        private boolean taskFailed;
+        private ProcessingResult failedResult;
+        private ProcessingResult lastResult;
+
+        PartitionProgress(TopicPartition partition, List<ConsumerRecord<Object, Object>> records,
+                          boolean partitionHasNext) {
+            this.partition = partition;
+            this.records = records;
+            this.partitionHasNext = partitionHasNext;
+            this.completed = new boolean[records.size()];
+        }
+
+        synchronized void processed(int index, ProcessingResult result) {
+            if (result.isBreakOnErrorHit()) {
+                // the records after this one are not processed, and this one is consumed again
+                brokenIndex = Math.min(brokenIndex, index);
+            } else {
+                completed[index] = true;
+            }
+            if (result.isFailed() && (failedResult == null || result.getOffset() < failedResult.getOffset())) {
+                failedResult = result;
+            }
+            if (lastResult == null || result.getOffset() > lastResult.getOffset()) {
+                lastResult = result;
+            }
+        }
+
+        /**
+         * Breaks on error at the first record which has not been completed once all the tasks are done, as a task
+         * failed without a result
+         */
+        synchronized void failed() {
+            taskFailed = true;
+        }
+
+        /**
+         * Cancels the processing of the records which have not been started
+         */
+        synchronized void cancel() {
+            cancelled = true;
+        }
+
+        /**
+         * Whether the record must not be processed, as the processing was cancelled or a record before it broke on error
+         */
+        synchronized boolean isSkipped(int index) {
+            return cancelled || brokenIndex < index;
+        }
+
+        /**
+         * The offset of the last record processed together with all the records before it, or -1 if none
+         */
+        synchronized long getLastCompletedOffset() {
+            int index = getFirstUncompletedIndex();
+            return index > 0 ? records.get(index - 1).offset() : -1;
+        }
+
+        private int getFirstUncompletedIndex() {
+            int index = 0;
+            while (index < completed.length && completed[index]) {
+                index++;
+            }
+            return index;
+        }
+
+        /**
+         * The result of the partition, where breaking on error takes precedence over failures, and failures over the
+         * given result of previous partitions
+         */
+        synchronized ProcessingResult getResult(ProcessingResult previous) {
+            if (previous.isBreakOnErrorHit()) {
+                return previous;
+            }
+            ProcessingResult result = failedResult;
+            int index = getFirstUncompletedIndex();
+            if (taskFailed && index < records.size()) {
+                // the consumer seeks back to this record, as the offsets are committed up to the one before it
+                ConsumerRecord<Object, Object> consumerRecord = records.get(index);
+                result = new ProcessingResult(
+                        true, true, consumerRecord.topic(), consumerRecord.partition(), consumerRecord.offset());
+            }
+            if (result != null && (result.isBreakOnErrorHit() || !previous.isFailed())) {
+                return result;
+            }
+            if (previous.isFailed()) {
+                return previous;
+            }
+            return lastResult != null ? lastResult : previous;
+        }
+    }
+}
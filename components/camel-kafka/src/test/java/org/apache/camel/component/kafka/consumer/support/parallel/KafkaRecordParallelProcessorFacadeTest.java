@@ -0,0 +1,237 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka.consumer.support.parallel;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Processor;
+import org.apache.camel.component.kafka.KafkaConfiguration;
+import org.apache.camel.component.kafka.KafkaConstants;
+import org.apache.camel.component.kafka.KafkaConsumer;
+import org.apache.camel.component.kafka.KafkaEndpoint;
+import org.apache.camel.component.kafka.consumer.SyncCommitManager;
+import org.apache.camel.component.kafka.consumer.support.ProcessingResult;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.spi.ExceptionHandler;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class KafkaRecordParallelProcessorFacadeTest {
+
+    private static final String TOPIC = "test";
+    private static final int KEYS = 5;
+    private static final int RECORDS = 50;
+
+    private final TopicPartition partition0 = new TopicPartition(TOPIC, 0);
+    private final TopicPartition partition1 = new TopicPartition(TOPIC, 1);
+    private final Map<String, List<Long>> processed = new ConcurrentHashMap<>();
+    private final Set<Long> failures = ConcurrentHashMap.newKeySet();
+    private final KafkaConfiguration configuration = new KafkaConfiguration();
+    private final MockConsumer<Object, Object> consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+    private final ExecutorService executorService = Executors.newFixedThreadPool(8);
+    private final CamelContext context = new DefaultCamelContext();
+    private KafkaConsumer camelKafkaConsumer;
+
+    @BeforeEach
+    public void setup() {
+        configuration.setTopic(TOPIC);
+        configuration.setAutoCommitEnable(false);
+
+        KafkaEndpoint endpoint = mock(KafkaEndpoint.class);
+        when(endpoint.getConfiguration()).thenReturn(configuration);
+
+        Processor processor = exchange -> {
+            Thread.sleep(ThreadLocalRandom.current().nextInt(5));
+            long offset = exchange.getMessage().getHeader(KafkaConstants.OFFSET, Long.class);
+            if (failures.contains(offset)) {
+                throw new IllegalArgumentException("Forced");
+            }
+            String key = exchange.getMessage().getHeader(KafkaConstants.KEY, String.class);
+            processed.computeIfAbsent(key + "-" + exchange.getMessage().getHeader(KafkaConstants.PARTITION),
+                    k -> Collections.synchronizedList(new ArrayList<>())).add(offset);
+        };
+
+        camelKafkaConsumer = mock(KafkaConsumer.class);
+        when(camelKafkaConsumer.getEndpoint()).thenReturn(endpoint);
+        when(camelKafkaConsumer.getProcessor()).thenReturn(processor);
+        when(camelKafkaConsumer.getExceptionHandler()).thenReturn(mock(ExceptionHandler.class));
+        when(camelKafkaConsumer.createExchange(anyBoolean())).thenAnswer(i -> new DefaultExchange(context));
+
+        consumer.assign(List.of(partition0, partition1));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void testOrderedByKey() {
+        ProcessingResult result = createFacade().processPolledRecords(createRecords());
+
+        assertFalse(result.isFailed());
+        assertEquals(2 * KEYS, processed.size());
+        for (List<Long> offsets : processed.values()) {
+            assertEquals(RECORDS / KEYS, offsets.size());
+            // the records with the same key are processed in order
+            for (int i = 1; i < offsets.size(); i++) {
+                assertTrue(offsets.get(i - 1) < offsets.get(i), "Out of order: " + offsets);
+            }
+        }
+
+        // the offset to commit is the one of the next record to consume
+        assertEquals(RECORDS, committed(partition0));
+        assertEquals(RECORDS, committed(partition1));
+    }
+
+    @Test
+    public void testOrderedByPartition() {
+        configuration.setProcessingOrder("partition");
+
+        createFacade().processPolledRecords(createRecords());
+
+        assertEquals(2 * KEYS, processed.size());
+        assertEquals(RECORDS, committed(partition0));
+        assertEquals(RECORDS, committed(partition1));
+    }
+
+    @Test
+    public void testBreakOnFirstError() {
+        configuration.setBreakOnFirstError(true);
+        failures.add(20L);
+
+        ProcessingResult result = createFacade().processPolledRecords(createRecords());
+
+        assertTrue(result.isBreakOnErrorHit());
+        assertEquals(20L, result.getOffset());
+
+        // the records before the failure are committed, so the consumer seeks back to the failed record
+        assertEquals(20L, committed(partition0));
+        assertEquals(20L, committed(partition1));
+        // the records of the failed key are not processed after the failure
+        assertFalse(processed.get("key0-0").contains(25L));
+    }
+
+    @Test
+    public void testErrorHandled() {
+        failures.add(20L);
+
+        ProcessingResult result = createFacade().processPolledRecords(createRecords());
+
+        assertTrue(result.isFailed());
+        assertFalse(result.isBreakOnErrorHit());
+
+        // the failed record is handled by the exception handler and the consumer continues
+        assertEquals(RECORDS, committed(partition0));
+        assertEquals(RECORDS, committed(partition1));
+        assertTrue(processed.get("key0-0").contains(25L));
+    }
+
+    @Test
+    public void testTaskFailed() {
+        failures.add(20L);
+        // the exception handler fails, so does the task processing the records of the key
+        ExceptionHandler exceptionHandler = mock(ExceptionHandler.class);
+        doThrow(new IllegalStateException("Forced")).when(exceptionHandler)
+                .handleException(anyString(), any(Exchange.class), any(Throwable.class));
+        when(camelKafkaConsumer.getExceptionHandler()).thenReturn(exceptionHandler);
+
+        ProcessingResult result = createFacade().processPolledRecords(createRecords());
+
+        assertTrue(result.isFailed());
+        assertTrue(result.isBreakOnErrorHit());
+        assertEquals(20L, result.getOffset());
+
+        // the records before the failure are committed, so the consumer seeks back to the failed record
+        assertEquals(20L, committed(partition0));
+        assertEquals(20L, committed(partition1));
+        assertFalse(processed.get("key0-0").contains(25L));
+    }
+
+    @Test
+    public void testInterrupted() throws Exception {
+        Thread.currentThread().interrupt();
+        ProcessingResult result = createFacade().processPolledRecords(createRecords());
+        // the consumer thread is still interrupted
+        assertTrue(Thread.interrupted());
+        assertFalse(result.isFailed());
+
+        // the tasks are done when committing, so no record is processed afterwards
+        int count = processed.values().stream().mapToInt(List::size).sum();
+        Thread.sleep(100);
+        assertEquals(count, processed.values().stream().mapToInt(List::size).sum());
+
+        // the offsets committed are the ones of records which have been processed
+        for (TopicPartition partition : List.of(partition0, partition1)) {
+            for (long offset = 0; offset < committed(partition); offset++) {
+                List<Long> offsets = processed.get("key" + offset % KEYS + "-" + partition.partition());
+                assertTrue(offsets != null && offsets.contains(offset), "Not processed: " + offset);
+            }
+        }
+    }
+
+    private KafkaRecordParallelProcessorFacade createFacade() {
+        SyncCommitManager commitManager = new SyncCommitManager(consumer, camelKafkaConsumer, "0", TOPIC);
+        return new KafkaRecordParallelProcessorFacade(camelKafkaConsumer, "0", commitManager, null, executorService);
+    }
+
+    private ConsumerRecords<Object, Object> createRecords() {
+        Map<TopicPartition, List<ConsumerRecord<Object, Object>>> records = new LinkedHashMap<>();
+        for (TopicPartition partition : List.of(partition0, partition1)) {
+            List<ConsumerRecord<Object, Object>> partitionRecords = new ArrayList<>();
+            for (int i = 0; i < RECORDS; i++) {
+                partitionRecords.add(new ConsumerRecord<>(TOPIC, partition.partition(), i, "key" + i % KEYS, "value" + i));
+            }
+            records.put(partition, partitionRecords);
+        }
+        return new ConsumerRecords<>(records);
+    }
+
+    private long committed(TopicPartition partition) {
+        OffsetAndMetadata offset = consumer.committed(Set.of(partition)).get(partition);
+        return offset != null ? offset.offset() : -1;
+    }
+}
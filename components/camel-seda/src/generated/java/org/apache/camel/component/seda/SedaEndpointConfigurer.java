@@ -35,6 +35,8 @@ public class SedaEndpointConfigurer extends PropertyConfigurerSupport implements
         case "discardIfNoConsumers": target.setDiscardIfNoConsumers(property(camelContext, boolean.class, value)); return true;
         case "discardwhenfull":
         case "discardWhenFull": target.setDiscardWhenFull(property(camelContext, boolean.class, value)); return true;
+        case "drainbatchsize":
+        case "drainBatchSize": target.setDrainBatchSize(property(camelContext, int.class, value)); return true;
         case "exceptionhandler":
         case "exceptionHandler": target.setExceptionHandler(property(camelContext, org.apache.camel.spi.ExceptionHandler.class, value)); return true;
         case "exchangepattern":
@@ -77,6 +79,8 @@ public class SedaEndpointConfigurer extends PropertyConfigurerSupport implements
         case "discardIfNoConsumers": return boolean.class;
         case "discardwhenfull":
         case "discardWhenFull": return boolean.class;
+        case "drainbatchsize":
+        case "drainBatchSize": return int.class;
         case "exceptionhandler":
         case "exceptionHandler": return org.apache.camel.spi.ExceptionHandler.class;
         case "exchangepattern":
@@ -120,6 +124,8 @@ public class SedaEndpointConfigurer extends PropertyConfigurerSupport implements
         case "discardIfNoConsumers": return target.isDiscardIfNoConsumers();
         case "discardwhenfull":
         case "discardWhenFull": return target.isDiscardWhenFull();
+        case "drainbatchsize":
+        case "drainBatchSize": return target.getDrainBatchSize();
         case "exceptionhandler":
         case "exceptionHandler": return target.getExceptionHandler();
         case "exchangepattern":
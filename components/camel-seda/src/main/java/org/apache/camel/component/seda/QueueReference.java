@@ -33,6 +33,7 @@ public final class QueueReference {
     private final BlockingQueue<Exchange> queue;
     private Integer size;
     private Boolean multipleConsumers;
+    private volatile boolean batchConsumers;
 
     private List<SedaEndpoint> endpoints = new LinkedList<>();
 
@@ -94,4 +95,24 @@ public final class QueueReference {
 
         return false;
     }
+
+    /**
+     * Whether any of the consumers drain the queue in batches, which records the time the exchanges were waiting on the
+     * queue
+     */
+    public boolean hasBatchConsumers() {
+        return batchConsumers;
+    }
+
+    synchronized void updateBatchConsumers() {
+        boolean answer = false;
+        for (SedaEndpoint endpoint : endpoints) {
+            for (SedaConsumer consumer : endpoint.getConsumers()) {
+                if (consumer.getDrainBatchSize() > 1) {
+                    answer = true;
+                }
+            }
+        }
+        batchConsumers = answer;
+    }
 }
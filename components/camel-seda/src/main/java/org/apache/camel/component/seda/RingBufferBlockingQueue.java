@@ -0,0 +1,477 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A bounded {@link BlockingQueue} backed by a lock-free multi-producer/multi-consumer ring buffer.
+ * <p/>
+ * Each slot of the ring buffer has a sequence number which tells whether the slot is free to be written to, or has an
+ * element ready to be taken, for the current lap of the ring. Producers and consumers claim positions by a CAS on the
+ * tail and head counters, which are padded to avoid false sharing with each other, and do not allocate any nodes.
+ * <p/>
+ * The non-blocking methods {@link #offer(Object)}, {@link #poll()} and {@link #drainTo(Collection, int)} never lock.
+ * The blocking methods spin for a short while and then wait on a lock condition, which is only signalled when there are
+ * threads waiting, so the lock is not touched as long as the queue is neither full nor empty.
+ * <p/>
+ * {@link #remove(Object)} marks the element as removed, and the slot is released when the consumers reach it. The
+ * iterator, {@link #size()} and {@link #peek()} are weakly consistent.
+ *
+ * @param <E> Element type, usually {@link org.apache.camel.Exchange}
+ */
+public class RingBufferBlockingQueue<E> extends AbstractQueue<E> implements BlockingQueue<E> {
+
+    private static final VarHandle SLOTS = MethodHandles.arrayElementVarHandle(Object[].class);
+    private static final VarHandle SEQUENCES = MethodHandles.arrayElementVarHandle(long[].class);
+    private static final Object REMOVED = new Object();
+    // spinning is only useful when another thread can run in parallel
+    private static final int SPINS = Runtime.getRuntime().availableProcessors() > 1 ? 64 : 0;
+
+    private final int capacity;
+    private final int mask;
+    private final Object[] slots;
+    private final long[] sequences;
+    // the next position to write to
+    private final Sequence tail = new Sequence();
+    // the next position to read from
+    private final Sequence head = new Sequence();
+    private final AtomicInteger removed = new AtomicInteger();
+    private final AtomicInteger waitingProducers = new AtomicInteger();
+    private final AtomicInteger waitingConsumers = new AtomicInteger();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+
+    public RingBufferBlockingQueue(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be a positive number, was: " + capacity);
+        }
+        this.capacity = capacity;
+        // use a mask instead of modulus when the capacity is a power of two
+        this.mask = Integer.bitCount(capacity) == 1 ? capacity - 1 : -1;
+        this.slots = new Object[capacity];
+        this.sequences = new long[capacity];
+        for (int i = 0; i < capacity; i++) {
+            sequences[i] = i;
+        }
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    private int index(long position) {
+        return mask != -1 ? (int) (position & mask) : (int) (position % capacity);
+    }
+
+    private boolean tryEnqueue(E e) {
+        long pos = tail.get();
+        while (true) {
+            int index = index(pos);
+            long diff = (long) SEQUENCES.getVolatile(sequences, index) - pos;
+            if (diff == 0) {
+                if (tail.compareAndSet(pos, pos + 1)) {
+                    SLOTS.setRelease(slots, index, e);
+                    // publish the element to the consumers
+                    SEQUENCES.setVolatile(sequences, index, pos + 1);
+                    return true;
+                }
+                pos = tail.get();
+            } else if (diff < 0) {
+                // the slot has not been consumed since the previous lap, so we are full
+                return false;
+            } else {
+                // another producer claimed the position
+                pos = tail.get();
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private E tryDequeue() {
+        long pos = head.get();
+        while (true) {
+            int index = index(pos);
+            long diff = (long) SEQUENCES.getVolatile(sequences, index) - (pos + 1);
+            if (diff == 0) {
+                if (head.compareAndSet(pos, pos + 1)) {
+                    Object e = SLOTS.getAndSet(slots, index, null);
+                    // release the slot to the producers of the next lap
+                    SEQUENCES.setVolatile(sequences, index, pos + capacity);
+                    if (e != REMOVED) {
+                        return (E) e;
+                    }
+                    // skip over the removed element
+                    removed.decrementAndGet();
+                    signalNotFull();
+                }
+                pos = head.get();
+            } else if (diff < 0) {
+                // the slot has not been published yet, so we are empty
+                return null;
+            } else {
+                // another consumer claimed the position
+                pos = head.get();
+            }
+        }
+    }
+
+    private void signalNotEmpty() {
+        if (waitingConsumers.get() > 0) {
+            lock.lock();
+            try {
+                notEmpty.signal();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void signalNotFull() {
+        if (waitingProducers.get() > 0) {
+            lock.lock();
+            try {
+                notFull.signal();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    @Override
+    public boolean offer(E e) {
+        Objects.requireNonNull(e);
+        if (tryEnqueue(e)) {
+            signalNotEmpty();
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void put(E e) throws InterruptedException {
+        offer(e, Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public boolean offer(E e, long timeout, TimeUnit unit) throws InterruptedException {
+        Objects.requireNonNull(e);
+        long nanos = unit.toNanos(timeout);
+        if (!tryEnqueue(e) && (nanos <= 0L || !spinEnqueue(e))) {
+            lock.lockInterruptibly();
+            // register as waiting before trying again, so a consumer that frees a slot after our attempt will signal us
+            waitingProducers.incrementAndGet();
+            try {
+                while (!tryEnqueue(e)) {
+                    if (nanos <= 0L) {
+                        return false;
+                    }
+                    try {
+                        nanos = notFull.awaitNanos(nanos);
+                    } catch (InterruptedException ex) {
+                        // pass on the signal we may have consumed
+                        notFull.signal();
+                        throw ex;
+                    }
+                }
+            } finally {
+                waitingProducers.decrementAndGet();
+                lock.unlock();
+            }
+        }
+        signalNotEmpty();
+        return true;
+    }
+
+    private boolean spinEnqueue(E e) {
+        for (int i = 0; i < SPINS; i++) {
+            Thread.onSpinWait();
+            if (tryEnqueue(e)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public E poll() {
+        E e = tryDequeue();
+        if (e != null) {
+            signalNotFull();
+        }
+        return e;
+    }
+
+    @Override
+    public E take() throws InterruptedException {
+        return poll(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        E e = tryDequeue();
+        if (e == null && nanos > 0L) {
+            e = spinDequeue();
+        }
+        if (e == null) {
+            lock.lockInterruptibly();
+            // register as waiting before trying again, so a producer that publishes after our attempt will signal us
+            waitingConsumers.incrementAndGet();
+            try {
+                while ((e = tryDequeue()) == null) {
+                    if (nanos <= 0L) {
+                        return null;
+                    }
+                    try {
+                        nanos = notEmpty.awaitNanos(nanos);
+                    } catch (InterruptedException ex) {
+                        // pass on the signal we may have consumed
+                        notEmpty.signal();
+                        throw ex;
+                    }
+                }
+            } finally {
+                waitingConsumers.decrementAndGet();
+                lock.unlock();
+            }
+        }
+        signalNotFull();
+        return e;
+    }
+
+    private E spinDequeue() {
+        for (int i = 0; i < SPINS; i++) {
+            Thread.onSpinWait();
+            E e = tryDequeue();
+            if (e != null) {
+                return e;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c, int maxElements) {
+        Objects.requireNonNull(c);
+        if (c == this) {
+            throw new IllegalArgumentException();
+        }
+        int n = 0;
+        int released = 0;
+        while (n < maxElements) {
+            // claim all the published slots from the head at once
+            long pos = head.get();
+            int limit = Math.min(maxElements - n, capacity);
+            int available = 0;
+            while (available < limit
+                    && (long) SEQUENCES.getVolatile(sequences, index(pos + available)) == pos + available + 1) {
+                available++;
+            }
+            if (available == 0) {
+                break;
+            }
+            if (!head.compareAndSet(pos, pos + available)) {
+                // another consumer claimed some of the slots so try again
+                continue;
+            }
+            for (int i = 0; i < available; i++) {
+                int index = index(pos + i);
+                Object e = SLOTS.getAndSet(slots, index, null);
+                SEQUENCES.setVolatile(sequences, index, pos + i + capacity);
+                if (e == REMOVED) {
+                    removed.decrementAndGet();
+                } else {
+                    c.add(cast(e));
+                    n++;
+                }
+            }
+            released += available;
+        }
+        if (released > 0) {
+            signalNotFull();
+        }
+        return n;
+    }
+
+    @Override
+    public E peek() {
+        long pos = head.get();
+        long end = tail.get();
+        for (; pos < end; pos++) {
+            Object e = elementAt(pos);
+            if (e != null) {
+                return cast(e);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets the element at the given position, or <tt>null</tt> if not published, already taken or removed
+     */
+    private Object elementAt(long pos) {
+        int index = index(pos);
+        if ((long) SEQUENCES.getVolatile(sequences, index) != pos + 1) {
+            return null;
+        }
+        Object e = SLOTS.getVolatile(slots, index);
+        return e == REMOVED ? null : e;
+    }
+
+    @SuppressWarnings("unchecked")
+    private E cast(Object e) {
+        return (E) e;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (o == null) {
+            return false;
+        }
+        long pos = head.get();
+        long end = tail.get();
+        for (; pos < end; pos++) {
+            Object e = elementAt(pos);
+            // mark the element as removed, which fails if a consumer took it in the meantime
+            if (e != null && o.equals(e) && SLOTS.compareAndSet(slots, index(pos), e, REMOVED)) {
+                removed.incrementAndGet();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void clear() {
+        while (poll() != null) {
+            // noop
+        }
+    }
+
+    @Override
+    public int size() {
+        long h = head.get();
+        long t = tail.get();
+        // the counters are read at different times, so the size is an estimate while the queue is in use
+        long size = t - h - removed.get();
+        return (int) Math.max(0, Math.min(capacity, size));
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return capacity - size();
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        List<E> snapshot = new ArrayList<>();
+        long pos = head.get();
+        long end = tail.get();
+        for (; pos < end; pos++) {
+            Object e = elementAt(pos);
+            if (e != null) {
+                snapshot.add(cast(e));
+            }
+        }
+        Iterator<E> it = snapshot.iterator();
+        return new Iterator<>() {
+            private E last;
+
+            @Override
+            public boolean hasNext() {
+                return it.hasNext();
+            }
+
+            @Override
+            public E next() {
+                last = it.next();
+                return last;
+            }
+
+            @Override
+            public void remove() {
+                if (last == null) {
+                    throw new IllegalStateException();
+                }
+                RingBufferBlockingQueue.this.remove(last);
+                last = null;
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return "RingBufferBlockingQueue[capacity=" + capacity + ", size=" + size() + "]";
+    }
+
+    // the padding keeps the head and tail counters on different cache lines, so producers and consumers do not
+    // invalidate each other's cache line when they claim positions
+
+    @SuppressWarnings("unused")
+    private static class LhsPadding {
+        protected long p1, p2, p3, p4, p5, p6, p7;
+    }
+
+    private static class Value extends LhsPadding {
+        protected volatile long value;
+    }
+
+    @SuppressWarnings("unused")
+    private static class RhsPadding extends Value {
+        protected long p9, p10, p11, p12, p13, p14, p15;
+    }
+
+    private static final class Sequence extends RhsPadding {
+
+        private static final VarHandle VALUE;
+
+        static {
+            try {
+                VALUE = MethodHandles.lookup().findVarHandle(Value.class, "value", long.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        long get() {
+            return value;
+        }
+
+        boolean compareAndSet(long expected, long update) {
+            return VALUE.compareAndSet(this, expected, update);
+        }
+    }
+}
@@ -21,6 +21,10 @@ public final class SedaConstants {
     public static final int MAX_CONCURRENT_CONSUMERS = 500;
     public static final int CONCURRENT_CONSUMERS = 1;
     public static final int QUEUE_SIZE = 1000;
+    /**
+     * Internal property with the {@link System#nanoTime()} when the exchange was added to the queue
+     */
+    public static final String ENQUEUED_TIME = "CamelSedaEnqueuedTime";
 
     private SedaConstants() {
     }
@@ -16,12 +16,14 @@
  */
 package org.apache.camel.component.seda;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
 
 import org.apache.camel.AsyncCallback;
 import org.apache.camel.AsyncProcessor;
@@ -29,6 +31,9 @@ import org.apache.camel.Exchange;
 import org.apache.camel.Processor;
 import org.apache.camel.ShutdownRunningTask;
 import org.apache.camel.Suspendable;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
 import org.apache.camel.spi.ShutdownAware;
 import org.apache.camel.spi.Synchronization;
 import org.apache.camel.support.DefaultConsumer;
@@ -42,10 +47,15 @@ import org.slf4j.LoggerFactory;
  * <p/>
  * In this implementation there is a little <i>slack period</i> when you suspend/stop the consumer, by which the
  * consumer may pickup a newly arrived messages and process it. That period is up till 1 second.
+ * <p/>
+ * If {@link SedaEndpoint#getDrainBatchSize()} is enabled, then the consumer drains up to that number of exchanges from
+ * the queue each time it wakes up, and spins for a short while before blocking when the queue is empty.
  */
+@ManagedResource(description = "Managed SedaConsumer")
 public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownAware, Suspendable {
 
     private static final Logger LOG = LoggerFactory.getLogger(SedaConsumer.class);
+    private static final int SPINS = 100;
 
     private final AtomicInteger taskCount = new AtomicInteger();
     private volatile CountDownLatch latch;
@@ -53,10 +63,16 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
     private volatile boolean forceShutdown;
     private ExecutorService executor;
     private final int pollTimeout;
+    private final int drainBatchSize;
+    // the exchanges drained from the queue but not yet sent to the consumers
+    private final AtomicInteger drainedPending = new AtomicInteger();
+    private final Histogram batchSizes = new Histogram();
+    private final Histogram queueWaits = new Histogram();
 
     public SedaConsumer(SedaEndpoint endpoint, Processor processor) {
         super(endpoint, processor);
         this.pollTimeout = endpoint.getPollTimeout();
+        this.drainBatchSize = endpoint.getDrainBatchSize();
     }
 
     @Override
@@ -78,7 +94,7 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
         if (getEndpoint().isPurgeWhenStopping()) {
             getEndpoint().purgeQueue();
         }
-        return getEndpoint().getQueue().size();
+        return getEndpoint().getQueue().size() + drainedPending.get();
     }
 
     @Override
@@ -134,6 +150,11 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
     }
 
     protected void doRun() {
+        if (drainBatchSize > 1) {
+            doRunBatch();
+            return;
+        }
+
         BlockingQueue<Exchange> queue = getEndpoint().getQueue();
         // loop while we are allowed, or if we are stopping loop until the queue is empty
         while (queue != null && isRunAllowed()) {
@@ -182,6 +203,7 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
                 if (exchange != null) {
                     try {
                         final Exchange target = exchange;
+                        recordQueueWait(target);
                         // prepare the exchange before sending to consumer
                         prepareExchange(target);
                         // callback to be executed when sending to consumer and processing is done
@@ -215,6 +237,153 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
         }
     }
 
+    /**
+     * Drains the queue in batches of up to {@link SedaEndpoint#getDrainBatchSize()} exchanges, which takes the lock of
+     * the queue once per batch instead of once per exchange.
+     */
+    protected void doRunBatch() {
+        BlockingQueue<Exchange> queue = getEndpoint().getQueue();
+        List<Exchange> batch = new ArrayList<>(drainBatchSize);
+        long backoff = 0;
+        // loop while we are allowed, or if we are stopping loop until the queue is empty
+        while (queue != null && isRunAllowed()) {
+
+            // do not poll during CamelContext is starting, or if we are suspended or starting again after resuming
+            boolean contextStarting = getEndpoint().getCamelContext().getStatus().isStarting();
+            if (contextStarting || isSuspending() || isSuspended() || isStarting()) {
+                if (!contextStarting && shutdownPending && queue.isEmpty()) {
+                    LOG.trace(
+                            "Consumer is suspended and shutdown is pending, so this consumer thread is breaking out because the task queue is empty.");
+                    break;
+                }
+                // back off starting from 1 millis up till the poll timeout (at most 1 sec)
+                backoff = Math.min(Math.max(1, backoff * 2), Math.min(pollTimeout, 1000));
+                LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(backoff));
+                continue;
+            }
+            backoff = 0;
+
+            try {
+                int drained = queue.drainTo(batch, drainBatchSize);
+                if (drained == 0) {
+                    drained = awaitBatch(queue, batch);
+                }
+                if (drained == 0) {
+                    if (shutdownPending && queue.isEmpty()) {
+                        LOG.trace(
+                                "Shutdown is pending, so this consumer thread is breaking out because the task queue is empty.");
+                        // we want to shutdown so break out if there queue is empty
+                        break;
+                    }
+                    continue;
+                }
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Drained {} exchanges from queue {}", drained, ObjectHelper.getIdentityHashCode(queue));
+                }
+                batchSizes.record(drained);
+                drainedPending.addAndGet(drained);
+                for (Exchange exchange : batch) {
+                    drainedPending.decrementAndGet();
+                    // errors are handled per exchange so the rest of the batch is still processed
+                    processExchange(exchange);
+                }
+            } catch (InterruptedException e) {
+                LOG.debug("Sleep interrupted, are we stopping? {}", isStopping() || isStopped());
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                getExceptionHandler().handleException(e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Waits for exchanges on the empty queue, by spinning a little while before blocking until the poll timeout
+     *
+     * @return the number of exchanges added to the batch
+     */
+    private int awaitBatch(BlockingQueue<Exchange> queue, List<Exchange> batch) throws InterruptedException {
+        for (int i = 0; i < SPINS; i++) {
+            Thread.onSpinWait();
+            int drained = queue.drainTo(batch, drainBatchSize);
+            if (drained > 0) {
+                return drained;
+            }
+        }
+        // use the end user configured poll timeout
+        Exchange exchange = queue.poll(pollTimeout, TimeUnit.MILLISECONDS);
+        if (exchange == null) {
+            return 0;
+        }
+        batch.add(exchange);
+        return 1 + queue.drainTo(batch, drainBatchSize - 1);
+    }
+
+    private void recordQueueWait(Exchange exchange) {
+        Object enqueued = exchange.removeProperty(SedaConstants.ENQUEUED_TIME);
+        if (enqueued instanceof Long time) {
+            queueWaits.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - time));
+        }
+    }
+
+    private void processExchange(Exchange exchange) {
+        try {
+            recordQueueWait(exchange);
+            // prepare the exchange before sending to consumer
+            prepareExchange(exchange);
+            // callback to be executed when sending to consumer and processing is done
+            AsyncCallback callback = doneSync -> {
+                // log exception if an exception occurred and was not handled
+                if (exchange.getException() != null) {
+                    getExceptionHandler().handleException("Error processing exchange", exchange,
+                            exchange.getException());
+                }
+            };
+            // process the exchange
+            sendToConsumers(exchange, callback);
+        } catch (Exception e) {
+            getExceptionHandler().handleException("Error processing exchange", exchange, e);
+        }
+    }
+
+    @ManagedAttribute(description = "Maximum number of exchanges to drain from the queue at once")
+    public int getDrainBatchSize() {
+        return drainBatchSize;
+    }
+
+    @ManagedAttribute(description = "Number of batches drained from the queue")
+    public long getDrainedBatches() {
+        return batchSizes.getCount();
+    }
+
+    @ManagedAttribute(description = "Mean number of exchanges drained from the queue at once")
+    public double getMeanBatchSize() {
+        return batchSizes.getMean();
+    }
+
+    @ManagedAttribute(description = "Histogram of the number of exchanges drained from the queue at once")
+    public String getBatchSizeHistogram() {
+        return batchSizes.toString();
+    }
+
+    @ManagedAttribute(description = "Mean time in millis the exchanges were waiting on the queue, when draining in batches")
+    public double getMeanQueueWait() {
+        return queueWaits.getMean();
+    }
+
+    @ManagedAttribute(description = "Histogram of the time in millis the exchanges were waiting on the queue,"
+                                    + " when draining in batches")
+    public String getQueueWaitHistogram() {
+        return queueWaits.toString();
+    }
+
+    @ManagedOperation(description = "Reset the batch size and queue wait statistics")
+    public void resetStatistics() {
+        batchSizes.reset();
+        queueWaits.reset();
+    }
+
     /**
      * Strategy to prepare exchange for being processed by this consumer
      *
@@ -87,6 +87,8 @@ public class SedaEndpoint extends DefaultEndpoint implements AsyncEndpoint, Brow
     private boolean purgeWhenStopping;
     @UriParam(label = "consumer,advanced", defaultValue = "1000")
     private int pollTimeout = 1000;
+    @UriParam(label = "consumer,advanced")
+    private int drainBatchSize;
 
     @UriParam(label = "producer", defaultValue = "IfReplyExpected")
     private WaitForTaskToComplete waitForTaskToComplete = WaitForTaskToComplete.IfReplyExpected;
@@ -481,6 +483,21 @@ public class SedaEndpoint extends DefaultEndpoint implements AsyncEndpoint, Brow
         this.pollTimeout = pollTimeout;
     }
 
+    @ManagedAttribute
+    public int getDrainBatchSize() {
+        return drainBatchSize;
+    }
+
+    /**
+     * Maximum number of exchanges the consumer drains from the queue each time it wakes up. When enabled (a value
+     * greater than 1), the consumer takes the lock of the queue once per batch instead of once per exchange, and spins
+     * for a short while before blocking when the queue is empty, which improves throughput at high message rates. The
+     * exchanges of a batch are processed one by one by the consumer thread.
+     */
+    public void setDrainBatchSize(int drainBatchSize) {
+        this.drainBatchSize = drainBatchSize;
+    }
+
     @ManagedAttribute
     public boolean isPurgeWhenStopping() {
         return purgeWhenStopping;
@@ -499,7 +516,10 @@ public class SedaEndpoint extends DefaultEndpoint implements AsyncEndpoint, Brow
      */
     @Override
     public List<Exchange> getExchanges() {
-        return new ArrayList<>(getQueue());
+        List<Exchange> answer = new ArrayList<>(getQueue());
+        // the time the exchanges were added to the queue is internal to the consumer
+        answer.forEach(exchange -> exchange.removeProperty(SedaConstants.ENQUEUED_TIME));
+        return answer;
     }
 
     @Override
@@ -544,6 +564,7 @@ public class SedaEndpoint extends DefaultEndpoint implements AsyncEndpoint, Brow
         if (isMultipleConsumers()) {
             updateMulticastProcessor();
         }
+        updateBatchConsumers();
     }
 
     void onStopped(SedaConsumer consumer) throws Exception {
@@ -551,6 +572,14 @@ public class SedaEndpoint extends DefaultEndpoint implements AsyncEndpoint, Brow
         if (isMultipleConsumers()) {
             updateMulticastProcessor();
         }
+        updateBatchConsumers();
+    }
+
+    private void updateBatchConsumers() {
+        QueueReference queueReference = getQueueReference();
+        if (queueReference != null) {
+            queueReference.updateBatchConsumers();
+        }
     }
 
     public boolean hasConsumers() {
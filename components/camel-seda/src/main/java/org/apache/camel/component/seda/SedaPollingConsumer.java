@@ -44,7 +44,7 @@ public class SedaPollingConsumer extends PollingConsumerSupport implements IsSin
     @Override
     public Exchange receive() {
         try {
-            return getEndpoint().getQueue().take();
+            return dequeued(getEndpoint().getQueue().take());
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw RuntimeCamelException.wrapRuntimeCamelException(e);
@@ -53,19 +53,27 @@ public class SedaPollingConsumer extends PollingConsumerSupport implements IsSin
 
     @Override
     public Exchange receiveNoWait() {
-        return getEndpoint().getQueue().poll();
+        return dequeued(getEndpoint().getQueue().poll());
     }
 
     @Override
     public Exchange receive(long timeout) {
         try {
-            return getEndpoint().getQueue().poll(timeout, TimeUnit.MILLISECONDS);
+            return dequeued(getEndpoint().getQueue().poll(timeout, TimeUnit.MILLISECONDS));
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw RuntimeCamelException.wrapRuntimeCamelException(e);
         }
     }
 
+    private static Exchange dequeued(Exchange exchange) {
+        if (exchange != null) {
+            // the time the exchange was added to the queue is only used by the seda consumer
+            exchange.removeProperty(SedaConstants.ENQUEUED_TIME);
+        }
+        return exchange;
+    }
+
     @Override
     protected void doStart() throws Exception {
         // noop
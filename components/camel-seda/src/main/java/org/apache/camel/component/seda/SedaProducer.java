@@ -224,6 +224,10 @@ public class SedaProducer extends DefaultAsyncProducer {
         }
 
         LOG.trace("Adding Exchange to queue: {}", target);
+        if (queueReference.hasBatchConsumers()) {
+            // stamp when added, so the consumer can tell the time the exchange was waiting on the queue
+            target.setProperty(SedaConstants.ENQUEUED_TIME, System.nanoTime());
+        }
         if (discardWhenFull) {
             try {
                 boolean added = queue.offer(target, 0, TimeUnit.MILLISECONDS);
@@ -23,13 +23,14 @@ public class StubEndpointUriFactory extends org.apache.camel.support.component.E
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Set<String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(20);
+        Set<String> props = new HashSet<>(21);
         props.add("blockWhenFull");
         props.add("bridgeErrorHandler");
         props.add("browseLimit");
         props.add("concurrentConsumers");
         props.add("discardIfNoConsumers");
         props.add("discardWhenFull");
+        props.add("drainBatchSize");
         props.add("exceptionHandler");
         props.add("exchangePattern");
         props.add("failIfNoConsumers");
@@ -17,11 +17,12 @@
 package org.apache.camel.spi;
 
 import java.util.Collection;
+import java.util.Collections;
 
 import org.apache.camel.StaticService;
 
 /**
- * Manages {@link ExchangeFactory}.
+ * Manages {@link ExchangeFactory} and the {@link ProcessorExchangeFactory} used by EIPs.
  */
 public interface ExchangeFactoryManager extends StaticService {
 
@@ -45,6 +46,32 @@ public interface ExchangeFactoryManager extends StaticService {
      */
     Collection<ExchangeFactory> getExchangeFactories();
 
+    /**
+     * Adds the {@link ProcessorExchangeFactory} of an EIP (such as Multicast, Split) to be managed.
+     *
+     * @param processorExchangeFactory the processor exchange factory
+     */
+    default void addProcessorExchangeFactory(ProcessorExchangeFactory processorExchangeFactory) {
+        // noop
+    }
+
+    /**
+     * Removes the {@link ProcessorExchangeFactory} from being managed (such as when a route is stopped/removed) or
+     * during shutdown.
+     *
+     * @param processorExchangeFactory the processor exchange factory
+     */
+    default void removeProcessorExchangeFactory(ProcessorExchangeFactory processorExchangeFactory) {
+        // noop
+    }
+
+    /**
+     * Returns a read-only view of the managed processor factories.
+     */
+    default Collection<ProcessorExchangeFactory> getProcessorExchangeFactories() {
+        return Collections.emptyList();
+    }
+
     /**
      * Number of consumers currently being managed
      */
@@ -56,7 +83,7 @@ public interface ExchangeFactoryManager extends StaticService {
     int getCapacity();
 
     /**
-     * Number of currently exchanges being pooled (if pooled is in use)
+     * Number of currently exchanges being pooled (if pooled is in use), by both the consumers and the EIPs
      */
     int getPooledCounter();
 
@@ -81,7 +108,7 @@ public interface ExchangeFactoryManager extends StaticService {
     void purge();
 
     /**
-     * Aggregated statistics for all the managed exchange factories
+     * Aggregated statistics for all the managed exchange factories, including the processor exchange factories
      */
     ExchangeFactory.Statistics getStatistics();
 
@@ -17,6 +17,7 @@
 package org.apache.camel.spi;
 
 import java.io.File;
+import java.nio.ByteBuffer;
 import java.util.Collection;
 
 import org.apache.camel.Exchange;
@@ -233,6 +234,42 @@ public interface StreamCachingStrategy extends StaticService {
 
     boolean isRemoveSpoolDirectoryWhenStopping();
 
+    /**
+     * Sets the size in bytes of off-heap (direct) memory which stream caches can use, before they are spooled to disk.
+     * <p/>
+     * When a stream cache should be spooled, then it is first kept in off-heap memory, and only spooled to disk when
+     * all the off-heap memory is in use. The off-heap memory is allocated in buffers which are pooled and reused.
+     * <p/>
+     * The default value is <tt>0</tt> which means the stream caches are spooled directly to disk.
+     */
+    void setSpoolOffHeapMemorySize(long size);
+
+    long getSpoolOffHeapMemorySize();
+
+    /**
+     * Gets the number of bytes of off-heap memory currently in use by stream caches.
+     */
+    long getSpoolOffHeapMemoryUsed();
+
+    /**
+     * Gets the number of stream caches which have been spooled to disk because all the off-heap memory was in use.
+     */
+    long getSpoolOffHeapSpillCounter();
+
+    /**
+     * Acquires a buffer from the off-heap memory to be used by a stream cache.
+     *
+     * @return the buffer, or <tt>null</tt> if off-heap memory is not enabled, or all the off-heap memory is in use
+     */
+    ByteBuffer acquireOffHeapBuffer();
+
+    /**
+     * Releases a buffer which has been acquired by {@link #acquireOffHeapBuffer()} so it can be reused.
+     *
+     * @param buffer the buffer
+     */
+    void releaseOffHeapBuffer(ByteBuffer buffer);
+
     /**
      * Sets whether if just any of the {@link org.apache.camel.spi.StreamCachingStrategy.SpoolRule} rules returns
      * <tt>true</tt> then {@link #shouldSpoolCache(long)} returns <tt>true</tt>. If this option is <tt>false</tt>, then
@@ -0,0 +1,298 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A map that uses case insensitive keys, but preserves the original key cases, which stores the headers in small
+ * arrays.
+ * <p/>
+ * The keys are stored together with their case-folded hash, so a lookup compares the hashes in an int array before
+ * comparing any keys, and keys which are the same instance (such as constants) are matched without comparing the
+ * characters. Copying the map from another {@link ArrayHeadersMap} copies the arrays and does not rehash any keys.
+ * <p/>
+ * A lookup is O(n), which is faster than a tree or hash map for the number of headers a message typically has.
+ * <p/>
+ * This map is <b>not</b> designed to be thread safe as concurrent access to it is not supposed to be performed by the
+ * Camel routing engine.
+ */
+public class ArrayHeadersMap extends AbstractMap<String, Object> implements Serializable {
+
+    private static final @Serial long serialVersionUID = 4471617470960316932L;
+
+    private static final int DEFAULT_CAPACITY = 8;
+
+    private String[] keys;
+    private int[] hashes;
+    private Object[] values;
+    private int size;
+    private transient int modCount;
+    private transient Set<Map.Entry<String, Object>> entrySet;
+
+    public ArrayHeadersMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public ArrayHeadersMap(int initialCapacity) {
+        int capacity = Math.max(initialCapacity, 1);
+        this.keys = new String[capacity];
+        this.hashes = new int[capacity];
+        this.values = new Object[capacity];
+    }
+
+    public ArrayHeadersMap(Map<? extends String, ?> map) {
+        int capacity = Math.max(map.size(), DEFAULT_CAPACITY);
+        if (map instanceof ArrayHeadersMap other) {
+            // the keys are already hashed and unique so just copy the arrays
+            this.keys = Arrays.copyOf(other.keys, capacity);
+            this.hashes = Arrays.copyOf(other.hashes, capacity);
+            this.values = Arrays.copyOf(other.values, capacity);
+            this.size = other.size;
+        } else {
+            this.keys = new String[capacity];
+            this.hashes = new int[capacity];
+            this.values = new Object[capacity];
+            putAll(map);
+        }
+    }
+
+    /**
+     * Computes the hash of the key where the characters are folded the same way as
+     * {@link String#equalsIgnoreCase(String)} does.
+     */
+    static int foldedHash(String key) {
+        int h = 0;
+        for (int i = 0; i < key.length(); i++) {
+            h = 31 * h + Character.toLowerCase(Character.toUpperCase(key.charAt(i)));
+        }
+        return h;
+    }
+
+    private int indexOf(Object key) {
+        if (!(key instanceof String str)) {
+            return -1;
+        }
+        // match the same instance first, which is common as keys are often constants
+        for (int i = 0; i < size; i++) {
+            if (keys[i] == str) {
+                return i;
+            }
+        }
+        int h = foldedHash(str);
+        for (int i = 0; i < size; i++) {
+            if (hashes[i] == h && keys[i].equalsIgnoreCase(str)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) != -1;
+    }
+
+    @Override
+    public Object get(Object key) {
+        int i = indexOf(key);
+        return i != -1 ? values[i] : null;
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        Objects.requireNonNull(key, "key");
+        int i = indexOf(key);
+        if (i != -1) {
+            // keep the original key case as the tree based case insensitive map does
+            Object answer = values[i];
+            values[i] = value;
+            return answer;
+        }
+        if (size == keys.length) {
+            int capacity = size * 2;
+            keys = Arrays.copyOf(keys, capacity);
+            hashes = Arrays.copyOf(hashes, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+        keys[size] = key;
+        hashes[size] = foldedHash(key);
+        values[size] = value;
+        size++;
+        modCount++;
+        return null;
+    }
+
+    @Override
+    public Object remove(Object key) {
+        int i = indexOf(key);
+        if (i == -1) {
+            return null;
+        }
+        Object answer = values[i];
+        removeAt(i);
+        return answer;
+    }
+
+    private void removeAt(int i) {
+        // shift the remaining headers to keep the order they were added in
+        int moved = size - i - 1;
+        if (moved > 0) {
+            System.arraycopy(keys, i + 1, keys, i, moved);
+            System.arraycopy(hashes, i + 1, hashes, i, moved);
+            System.arraycopy(values, i + 1, values, i, moved);
+        }
+        size--;
+        keys[size] = null;
+        values[size] = null;
+        modCount++;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(keys, 0, size, null);
+        Arrays.fill(values, 0, size, null);
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public Set<Map.Entry<String, Object>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<String, Object>> {
+
+        @Override
+        public Iterator<Map.Entry<String, Object>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void clear() {
+            ArrayHeadersMap.this.clear();
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Map.Entry<String, Object>> {
+
+        private int next;
+        private int last = -1;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return next < size;
+        }
+
+        @Override
+        public Map.Entry<String, Object> next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (next >= size) {
+                throw new NoSuchElementException();
+            }
+            last = next++;
+            return new Entry(last);
+        }
+
+        @Override
+        public void remove() {
+            if (last == -1) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            removeAt(last);
+            next = last;
+            last = -1;
+            expectedModCount = modCount;
+        }
+    }
+
+    private final class Entry implements Map.Entry<String, Object> {
+
+        private final int index;
+
+        Entry(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public String getKey() {
+            return keys[index];
+        }
+
+        @Override
+        public Object getValue() {
+            return values[index];
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            Object answer = values[index];
+            values[index] = value;
+            return answer;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Map.Entry<?, ?> e
+                    && Objects.equals(getKey(), e.getKey()) && Objects.equals(getValue(), e.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(getKey()) ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
+        }
+    }
+}
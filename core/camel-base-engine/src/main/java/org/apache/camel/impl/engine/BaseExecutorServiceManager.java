@@ -200,7 +200,7 @@ public class BaseExecutorServiceManager extends ServiceSupport implements Execut
         ThreadPoolProfile defaultProfile = getDefaultThreadPoolProfile();
         profile.addDefaults(defaultProfile);
 
-        ThreadFactory threadFactory = createThreadFactory(sanitizedName, true);
+        ThreadFactory threadFactory = createThreadFactory(sanitizedName, true, isVirtualThreads(profile));
         ExecutorService executorService = threadPoolFactory.newThreadPool(profile, threadFactory);
         onThreadPoolCreated(executorService, source, profile.getId());
         if (LOG.isDebugEnabled()) {
@@ -260,7 +260,8 @@ public class BaseExecutorServiceManager extends ServiceSupport implements Execut
         String sanitizedName = URISupport.sanitizeUri(name);
         profile.addDefaults(getDefaultThreadPoolProfile());
         ScheduledExecutorService answer
-                = threadPoolFactory.newScheduledThreadPool(profile, createThreadFactory(sanitizedName, true));
+                = threadPoolFactory.newScheduledThreadPool(profile,
+                        createThreadFactory(sanitizedName, true, isVirtualThreads(profile)));
         onThreadPoolCreated(answer, source, null);
 
         if (LOG.isDebugEnabled()) {
@@ -529,6 +530,10 @@ public class BaseExecutorServiceManager extends ServiceSupport implements Execut
         threadFactoryListeners.clear();
     }
 
+    private static boolean isVirtualThreads(ThreadPoolProfile profile) {
+        return profile.getVirtualThreads() != null && profile.getVirtualThreads();
+    }
+
     /**
      * Invoked when a new thread pool is created. This implementation will invoke the
      * {@link LifecycleStrategy#onThreadPoolAdd(org.apache.camel.CamelContext, java.util.concurrent.ThreadPoolExecutor, String, String, String, String)
@@ -592,7 +597,18 @@ public class BaseExecutorServiceManager extends ServiceSupport implements Execut
     }
 
     protected ThreadFactory createThreadFactory(String name, boolean daemon) {
-        ThreadFactory factory = new CamelThreadFactory(threadNamePattern, name, daemon);
+        return createThreadFactory(name, daemon, false);
+    }
+
+    /**
+     * Creates the thread factory for a thread pool.
+     *
+     * @param name    name which is appended to the thread name
+     * @param daemon  whether the threads are daemon threads
+     * @param virtual whether to create virtual threads, which is only possible on Java 21 or newer
+     */
+    protected ThreadFactory createThreadFactory(String name, boolean daemon, boolean virtual) {
+        ThreadFactory factory = new CamelThreadFactory(threadNamePattern, name, daemon, virtual);
         for (ThreadFactoryListener listener : threadFactoryListeners) {
             factory = listener.onNewThreadFactory(factory);
         }
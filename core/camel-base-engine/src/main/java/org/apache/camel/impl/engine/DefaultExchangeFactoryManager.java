@@ -19,6 +19,7 @@ package org.apache.camel.impl.engine;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.camel.CamelContext;
@@ -26,11 +27,13 @@ import org.apache.camel.CamelContextAware;
 import org.apache.camel.Consumer;
 import org.apache.camel.spi.ExchangeFactory;
 import org.apache.camel.spi.ExchangeFactoryManager;
+import org.apache.camel.spi.ProcessorExchangeFactory;
 import org.apache.camel.support.service.ServiceSupport;
 
 public class DefaultExchangeFactoryManager extends ServiceSupport implements ExchangeFactoryManager, CamelContextAware {
 
     private final Map<Consumer, ExchangeFactory> factories = new ConcurrentHashMap<>();
+    private final Set<ProcessorExchangeFactory> processorFactories = ConcurrentHashMap.newKeySet();
     private final UtilizationStatistics statistics = new UtilizationStatistics();
     private CamelContext camelContext;
     private int capacity;
@@ -62,6 +65,21 @@ public class DefaultExchangeFactoryManager extends ServiceSupport implements Exc
         return Collections.unmodifiableCollection(factories.values());
     }
 
+    @Override
+    public void addProcessorExchangeFactory(ProcessorExchangeFactory processorExchangeFactory) {
+        processorFactories.add(processorExchangeFactory);
+    }
+
+    @Override
+    public void removeProcessorExchangeFactory(ProcessorExchangeFactory processorExchangeFactory) {
+        processorFactories.remove(processorExchangeFactory);
+    }
+
+    @Override
+    public Collection<ProcessorExchangeFactory> getProcessorExchangeFactories() {
+        return Collections.unmodifiableCollection(processorFactories);
+    }
+
     @Override
     public int getConsumerCounter() {
         return factories.size();
@@ -78,6 +96,9 @@ public class DefaultExchangeFactoryManager extends ServiceSupport implements Exc
         for (ExchangeFactory ef : factories.values()) {
             counter += ef.getSize();
         }
+        for (ProcessorExchangeFactory pef : processorFactories) {
+            counter += pef.getSize();
+        }
         return counter;
     }
 
@@ -92,16 +113,21 @@ public class DefaultExchangeFactoryManager extends ServiceSupport implements Exc
         for (ExchangeFactory ef : factories.values()) {
             ef.setStatisticsEnabled(statisticsEnabled);
         }
+        for (ProcessorExchangeFactory pef : processorFactories) {
+            pef.setStatisticsEnabled(statisticsEnabled);
+        }
     }
 
     @Override
     public void resetStatistics() {
         factories.values().forEach(ExchangeFactory::resetStatistics);
+        processorFactories.forEach(ProcessorExchangeFactory::resetStatistics);
     }
 
     @Override
     public void purge() {
         factories.values().forEach(ExchangeFactory::purge);
+        processorFactories.forEach(ProcessorExchangeFactory::purge);
     }
 
     @Override
@@ -126,6 +152,11 @@ public class DefaultExchangeFactoryManager extends ServiceSupport implements Exc
                 for (ExchangeFactory ef : factories.values()) {
                     answer += ef.getStatistics().getCreatedCounter();
                 }
+                for (ProcessorExchangeFactory pef : processorFactories) {
+                    // the statistics of a processor factory is only created if enabled when it was built
+                    ExchangeFactory.Statistics pes = pef.getStatistics();
+                    answer += pes != null ? pes.getCreatedCounter() : 0;
+                }
             }
             return answer;
         }
@@ -137,6 +168,10 @@ public class DefaultExchangeFactoryManager extends ServiceSupport implements Exc
                 for (ExchangeFactory ef : factories.values()) {
                     answer += ef.getStatistics().getAcquiredCounter();
                 }
+                for (ProcessorExchangeFactory pef : processorFactories) {
+                    ExchangeFactory.Statistics pes = pef.getStatistics();
+                    answer += pes != null ? pes.getAcquiredCounter() : 0;
+                }
             }
             return answer;
         }
@@ -148,6 +183,10 @@ public class DefaultExchangeFactoryManager extends ServiceSupport implements Exc
                 for (ExchangeFactory ef : factories.values()) {
                     answer += ef.getStatistics().getReleasedCounter();
                 }
+                for (ProcessorExchangeFactory pef : processorFactories) {
+                    ExchangeFactory.Statistics pes = pef.getStatistics();
+                    answer += pes != null ? pes.getReleasedCounter() : 0;
+                }
             }
             return answer;
         }
@@ -159,6 +198,10 @@ public class DefaultExchangeFactoryManager extends ServiceSupport implements Exc
                 for (ExchangeFactory ef : factories.values()) {
                     answer += ef.getStatistics().getDiscardedCounter();
                 }
+                for (ProcessorExchangeFactory pef : processorFactories) {
+                    ExchangeFactory.Statistics pes = pef.getStatistics();
+                    answer += pes != null ? pes.getDiscardedCounter() : 0;
+                }
             }
             return answer;
         }
@@ -168,5 +211,6 @@ public class DefaultExchangeFactoryManager extends ServiceSupport implements Exc
     @Override
     protected void doShutdown() throws Exception {
         factories.clear();
+        processorFactories.clear();
     }
 }
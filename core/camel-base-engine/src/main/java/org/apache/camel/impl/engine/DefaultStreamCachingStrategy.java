@@ -19,11 +19,14 @@ package org.apache.camel.impl.engine;
 import java.io.File;
 import java.lang.management.ManagementFactory;
 import java.lang.management.MemoryMXBean;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -47,6 +50,8 @@ import org.slf4j.LoggerFactory;
 public class DefaultStreamCachingStrategy extends ServiceSupport implements CamelContextAware, StreamCachingStrategy {
 
     private static final Logger LOG = LoggerFactory.getLogger(DefaultStreamCachingStrategy.class);
+    // the size of the off-heap buffers, which are larger than the in-memory buffers as they are only used for large streams
+    private static final int OFF_HEAP_BUFFER_SIZE = 64 * 1024;
 
     private CamelContext camelContext;
     private boolean enabled;
@@ -66,6 +71,10 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
     private final UtilizationStatistics statistics = new UtilizationStatistics();
     private final Set<SpoolRule> spoolRules = new LinkedHashSet<>();
     private boolean anySpoolRules;
+    private long spoolOffHeapMemorySize;
+    private final Queue<ByteBuffer> offHeapBuffers = new ConcurrentLinkedQueue<>();
+    private final AtomicLong offHeapMemoryUsed = new AtomicLong();
+    private final AtomicLong offHeapSpillCounter = new AtomicLong();
 
     @Override
     public CamelContext getCamelContext() {
@@ -190,6 +199,53 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         this.bufferSize = bufferSize;
     }
 
+    @Override
+    public long getSpoolOffHeapMemorySize() {
+        return spoolOffHeapMemorySize;
+    }
+
+    @Override
+    public void setSpoolOffHeapMemorySize(long spoolOffHeapMemorySize) {
+        this.spoolOffHeapMemorySize = spoolOffHeapMemorySize;
+    }
+
+    @Override
+    public long getSpoolOffHeapMemoryUsed() {
+        return offHeapMemoryUsed.get();
+    }
+
+    @Override
+    public long getSpoolOffHeapSpillCounter() {
+        return offHeapSpillCounter.get();
+    }
+
+    @Override
+    public ByteBuffer acquireOffHeapBuffer() {
+        // reserve the memory before taking a buffer so the off-heap memory in use cannot exceed the size
+        long used;
+        do {
+            used = offHeapMemoryUsed.get();
+            if (used + OFF_HEAP_BUFFER_SIZE > spoolOffHeapMemorySize) {
+                LOG.trace("Off-heap memory in use {} bytes of {} bytes -> spool to disk", used, spoolOffHeapMemorySize);
+                offHeapSpillCounter.incrementAndGet();
+                return null;
+            }
+        } while (!offHeapMemoryUsed.compareAndSet(used, used + OFF_HEAP_BUFFER_SIZE));
+
+        ByteBuffer buffer = offHeapBuffers.poll();
+        if (buffer == null) {
+            buffer = ByteBuffer.allocateDirect(OFF_HEAP_BUFFER_SIZE);
+        }
+        return buffer;
+    }
+
+    @Override
+    public void releaseOffHeapBuffer(ByteBuffer buffer) {
+        buffer.clear();
+        offHeapBuffers.offer(buffer);
+        offHeapMemoryUsed.addAndGet(-OFF_HEAP_BUFFER_SIZE);
+    }
+
     @Override
     public boolean isRemoveSpoolDirectoryWhenStopping() {
         return removeSpoolDirectoryWhenStopping;
@@ -449,7 +505,10 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
 
         LOG.debug("StreamCaching configuration {}", this);
 
-        if (spoolDirectory != null) {
+        if (spoolDirectory != null && spoolOffHeapMemorySize > 0) {
+            LOG.info("StreamCaching in use with {} bytes off-heap memory, spool directory: {} and rules: {}",
+                    spoolOffHeapMemorySize, spoolDirectory.getPath(), spoolRules);
+        } else if (spoolDirectory != null) {
             LOG.info("StreamCaching in use with spool directory: {} and rules: {}", spoolDirectory.getPath(), spoolRules);
         } else if (!spoolRules.isEmpty()) {
             LOG.info("StreamCaching in use with rules: {}", spoolRules);
@@ -466,6 +525,10 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
             FileUtil.removeDir(spoolDirectory);
         }
 
+        // the pooled off-heap memory is freed when the buffers are garbage collected
+        offHeapBuffers.clear();
+        offHeapSpillCounter.set(0);
+
         if (LOG.isDebugEnabled() && statistics.isStatisticsEnabled()) {
             LOG.debug("Stopping StreamCachingStrategy with statistics: {}", statistics);
         }
@@ -485,6 +548,7 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
                + ", spoolCipher=" + spoolCipher
                + ", spoolThreshold=" + spoolThreshold
                + ", spoolUsedHeapMemoryThreshold=" + spoolUsedHeapMemoryThreshold
+               + ", spoolOffHeapMemorySize=" + spoolOffHeapMemorySize
                + ", bufferSize=" + bufferSize
                + ", anySpoolRules=" + anySpoolRules + "]";
     }
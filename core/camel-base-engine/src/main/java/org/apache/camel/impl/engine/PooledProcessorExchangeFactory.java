@@ -73,8 +73,8 @@ public class PooledProcessorExchangeFactory extends PrototypeProcessorExchangeFa
         }
 
         // reset exchange for reuse
-        ((ResetableClock) exchange.getClock()).reset();
-        ExchangeHelper.copyResults(answer, exchange);
+        ((ResetableClock) answer.getClock()).reset();
+        copyFrom(answer, exchange);
         return answer;
     }
 
@@ -97,9 +97,9 @@ public class PooledProcessorExchangeFactory extends PrototypeProcessorExchangeFa
         }
 
         // reset exchange for reuse
-        ((ResetableClock) exchange.getClock()).reset();
+        ((ResetableClock) answer.getClock()).reset();
 
-        ExchangeHelper.copyResults(answer, exchange);
+        copyFrom(answer, exchange);
         // do not reuse message id on copy
         answer.getIn().setMessageId(null);
         if (handover) {
@@ -131,6 +131,16 @@ public class PooledProcessorExchangeFactory extends PrototypeProcessorExchangeFa
         return answer;
     }
 
+    /**
+     * Copies the given exchange to the pooled exchange as a copy of the exchange, which is with the same message
+     * exchange pattern and the message as the in message, instead of as the result of the pooled exchange (which
+     * would put the message as out message on an out capable exchange).
+     */
+    private static void copyFrom(Exchange answer, Exchange exchange) {
+        answer.setPattern(exchange.getPattern());
+        ExchangeHelper.copyResultsPreservePattern(answer, exchange);
+    }
+
     @Override
     public boolean release(Exchange exchange) {
         try {
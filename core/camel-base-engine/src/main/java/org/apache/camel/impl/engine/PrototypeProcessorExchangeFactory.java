@@ -20,6 +20,7 @@ import org.apache.camel.Endpoint;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExchangePattern;
 import org.apache.camel.Processor;
+import org.apache.camel.spi.ExchangeFactoryManager;
 import org.apache.camel.spi.ProcessorExchangeFactory;
 import org.apache.camel.support.DefaultExchange;
 import org.apache.camel.support.ExchangeHelper;
@@ -36,6 +37,7 @@ public class PrototypeProcessorExchangeFactory extends PooledObjectFactorySuppor
     private static final Logger LOG = LoggerFactory.getLogger(PrototypeProcessorExchangeFactory.class);
 
     final Processor processor;
+    ExchangeFactoryManager exchangeFactoryManager;
     String routeId;
     String id;
 
@@ -47,6 +49,12 @@ public class PrototypeProcessorExchangeFactory extends PooledObjectFactorySuppor
         this.processor = processor;
     }
 
+    @Override
+    protected void doBuild() throws Exception {
+        super.doBuild();
+        this.exchangeFactoryManager = camelContext.getCamelContextExtension().getExchangeFactoryManager();
+    }
+
     @Override
     public String getRouteId() {
         return routeId;
@@ -113,9 +121,21 @@ public class PrototypeProcessorExchangeFactory extends PooledObjectFactorySuppor
         return false;
     }
 
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+        // only the factories created for a processor are managed
+        if (exchangeFactoryManager != null && processor != null) {
+            exchangeFactoryManager.addProcessorExchangeFactory(this);
+        }
+    }
+
     @Override
     protected void doStop() throws Exception {
         super.doStop();
+        if (exchangeFactoryManager != null && processor != null) {
+            exchangeFactoryManager.removeProcessorExchangeFactory(this);
+        }
         logUsageSummary(LOG, "PrototypeProcessorExchangeFactory", 0);
     }
 
@@ -0,0 +1,460 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.Deque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.camel.StaticService;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.ReactiveExecutor;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.concurrent.CamelThreadFactory;
+import org.apache.camel.util.concurrent.NamedThreadLocal;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link ReactiveExecutor} which allows idle threads to steal work that is queued on busy threads.
+ * <p/>
+ * Like {@link DefaultReactiveExecutor} each thread has its own worker, which runs the work scheduled on the thread in
+ * the same order as the default executor. However, with the default executor work that is queued behind a task that
+ * takes a long time to run, must wait for the task to complete, even if other threads are idle. This executor has a
+ * number of stealer threads, which take queued work from the head of the queues of busy workers, in the spirit of the
+ * work-stealing deques of a {@link java.util.concurrent.ForkJoinPool}. Only work scheduled with
+ * {@link #schedule(Runnable)} is stolen, and only in the order it was queued. The main flows of
+ * {@link #scheduleMain(Runnable)}, and the work they push back, always run on the owning thread.
+ * <p/>
+ * Work scheduled with {@link #scheduleSync(Runnable)} always runs on the current thread. Work scheduled with
+ * {@link #scheduleQueue(Runnable)} is used for transacted routing, which must stay on the current thread, so a worker
+ * is not stolen from while it has such work queued.
+ * <p/>
+ * Important: as work may continue on another thread, state bound to the thread, such as the MDC logging context, is not
+ * available to stolen work. Therefore, this executor should not be used together with MDC logging.
+ */
+@ManagedResource(description = "Managed ReactiveExecutor")
+public class WorkStealingReactiveExecutor extends ServiceSupport implements ReactiveExecutor, StaticService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(WorkStealingReactiveExecutor.class);
+
+    // use for statistics so we have insights at runtime
+    private boolean statisticsEnabled;
+    private final AtomicInteger createdWorkers = new AtomicInteger();
+    private final LongAdder runningWorkers = new LongAdder();
+    private final LongAdder pendingTasks = new LongAdder();
+    private final LongAdder stolenTasks = new LongAdder();
+
+    // the workers which may have work to be stolen, and the stealers waiting for work
+    private final Queue<Worker> victims = new ConcurrentLinkedQueue<>();
+    private final Queue<Thread> idleStealers = new ConcurrentLinkedQueue<>();
+    private int parallelism = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    private volatile Thread[] stealers;
+    private volatile boolean stealing;
+
+    private final NamedThreadLocal<Worker> workers = new NamedThreadLocal<>("CamelReactiveWorker", () -> {
+        int number = createdWorkers.incrementAndGet();
+        return new Worker(number, WorkStealingReactiveExecutor.this);
+    });
+
+    @Override
+    public void schedule(Runnable runnable) {
+        workers.get().schedule(runnable, false, false, false);
+    }
+
+    @Override
+    public void scheduleMain(Runnable runnable) {
+        workers.get().schedule(runnable, true, true, false);
+    }
+
+    @Override
+    public void scheduleSync(Runnable runnable) {
+        workers.get().schedule(runnable, false, true, true);
+    }
+
+    @Override
+    public void scheduleQueue(Runnable runnable) {
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("ScheduleQueue: {}", runnable);
+        }
+        Worker worker = workers.get();
+        worker.pinned = true;
+        worker.queue.add(runnable);
+        worker.incrementPendingTasks();
+    }
+
+    @Override
+    public boolean executeFromQueue() {
+        return workers.get().executeFromQueue();
+    }
+
+    @Override
+    @ManagedAttribute(description = "Whether statistics is enabled")
+    public boolean isStatisticsEnabled() {
+        return statisticsEnabled;
+    }
+
+    @Override
+    public void setStatisticsEnabled(boolean statisticsEnabled) {
+        this.statisticsEnabled = statisticsEnabled;
+    }
+
+    @ManagedAttribute(description = "Number of threads that steal work from busy workers")
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Sets the number of threads that steal work from busy workers. Is by default half the number of processors.
+     */
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    @ManagedAttribute(description = "Number of created workers")
+    public int getCreatedWorkers() {
+        return createdWorkers.get();
+    }
+
+    @ManagedAttribute(description = "Number of running workers")
+    public int getRunningWorkers() {
+        return runningWorkers.intValue();
+    }
+
+    @ManagedAttribute(description = "Number of pending tasks")
+    public int getPendingTasks() {
+        return pendingTasks.intValue();
+    }
+
+    @ManagedAttribute(description = "Number of tasks stolen from busy workers")
+    public long getStolenTasks() {
+        return stolenTasks.sum();
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be a positive number, was: " + parallelism);
+        }
+        stealing = true;
+        CamelThreadFactory factory = new CamelThreadFactory(null, "ReactiveWorkStealer", true);
+        Thread[] threads = new Thread[parallelism];
+        for (int i = 0; i < parallelism; i++) {
+            threads[i] = factory.newThread(this::steal);
+            threads[i].start();
+        }
+        stealers = threads;
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (LOG.isDebugEnabled() && statisticsEnabled) {
+            LOG.debug(
+                    "Stopping WorkStealingReactiveExecutor [createdWorkers: {}, runningWorkers: {}, pendingTasks: {}, stolenTasks: {}]",
+                    getCreatedWorkers(), getRunningWorkers(), getPendingTasks(), getStolenTasks());
+        }
+        stealing = false;
+        Thread[] threads = stealers;
+        stealers = null;
+        if (threads != null) {
+            for (Thread thread : threads) {
+                LockSupport.unpark(thread);
+            }
+            for (Thread thread : threads) {
+                if (thread != Thread.currentThread()) {
+                    thread.join(TimeUnit.SECONDS.toMillis(5));
+                }
+            }
+        }
+        idleStealers.clear();
+    }
+
+    @Override
+    protected void doShutdown() throws Exception {
+        workers.remove();
+        victims.clear();
+    }
+
+    /**
+     * Offers the worker to the stealers as it has work that it cannot run now
+     */
+    void publish(Worker worker) {
+        if (stealing && worker.published.compareAndSet(false, true)) {
+            victims.offer(worker);
+            Thread idle = idleStealers.poll();
+            if (idle != null) {
+                LockSupport.unpark(idle);
+            }
+        }
+    }
+
+    /**
+     * The loop of the stealer threads
+     */
+    private void steal() {
+        Thread current = Thread.currentThread();
+        Worker self = workers.get();
+        while (stealing) {
+            Runnable task = pollVictims();
+            if (task != null) {
+                stolenTasks.increment();
+                self.runStolen(task);
+                continue;
+            }
+            // register as idle and check again so a publish while registering is not missed
+            idleStealers.offer(current);
+            task = pollVictims();
+            if (task != null) {
+                idleStealers.remove(current);
+                stolenTasks.increment();
+                self.runStolen(task);
+            } else if (stealing) {
+                LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(100));
+                idleStealers.remove(current);
+            }
+        }
+    }
+
+    private Runnable pollVictims() {
+        Worker victim;
+        while ((victim = victims.poll()) != null) {
+            Runnable task = victim.steal();
+            if (task != null) {
+                // it may have more work, so offer it again to the other stealers
+                victims.offer(victim);
+                return task;
+            }
+            victim.published.set(false);
+            // work may have been queued while we were un-publishing the worker
+            if (victim.hasStealableWork() && victim.published.compareAndSet(false, true)) {
+                victims.offer(victim);
+            }
+        }
+        return null;
+    }
+
+    private static class Worker {
+
+        private final int number;
+        private final WorkStealingReactiveExecutor executor;
+        private final boolean stats;
+        private final AtomicBoolean published = new AtomicBoolean();
+        private volatile Deque<Runnable> queue = new ConcurrentLinkedDeque<>();
+        private final Deque<Deque<Runnable>> back = new ConcurrentLinkedDeque<>();
+        private volatile boolean running;
+        private volatile boolean pinned;
+
+        public Worker(int number, WorkStealingReactiveExecutor executor) {
+            this.number = number;
+            this.executor = executor;
+            this.stats = executor != null && executor.isStatisticsEnabled();
+        }
+
+        void schedule(Runnable runnable, boolean first, boolean main, boolean sync) {
+            if (LOG.isTraceEnabled()) {
+                LOG.trace("Schedule [first={}, main={}, sync={}]: {}", first, main, sync, runnable);
+            }
+            if (main) {
+                executeMainFlow();
+            } else if (running && !sync) {
+                // the worker is busy, so mark the work as stealable by other threads
+                runnable = new StealableTask(runnable);
+            }
+            if (first) {
+                queue.addFirst(runnable);
+            } else {
+                queue.addLast(runnable);
+            }
+
+            incrementPendingTasks();
+            tryExecuteReactiveWork(runnable, sync);
+        }
+
+        private void executeMainFlow() {
+            if (!queue.isEmpty()) {
+                back.push(queue);
+                queue = new ConcurrentLinkedDeque<>();
+            }
+        }
+
+        private void tryExecuteReactiveWork(Runnable runnable, boolean sync) {
+            if (!running || sync) {
+                running = true;
+                incrementRunningWorkers();
+                try {
+                    executeReactiveWork();
+                } finally {
+                    running = false;
+                    decrementRunningWorkers();
+                }
+            } else {
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Queuing reactive work: {}", runnable);
+                }
+                // the worker is busy, so other threads may run the queued work
+                executor.publish(this);
+            }
+        }
+
+        private void executeReactiveWork() {
+            for (;;) {
+                final Runnable polled = queue.pollFirst();
+                if (polled == null) {
+                    Deque<Runnable> next = back.pollFirst();
+                    if (next != null) {
+                        queue = next;
+                        continue;
+                    } else {
+                        pinned = false;
+                        break;
+                    }
+                }
+                doRun(polled);
+            }
+        }
+
+        /**
+         * Runs a task stolen from another worker, and the work it schedules on this worker
+         */
+        void runStolen(Runnable task) {
+            running = true;
+            incrementRunningWorkers();
+            try {
+                doRun(task);
+                executeReactiveWork();
+            } catch (Throwable t) {
+                // the stealer thread must keep running
+                LOG.warn("Error executing stolen reactive work due to {}. This exception is ignored.", t.getMessage(), t);
+            } finally {
+                running = false;
+                decrementRunningWorkers();
+            }
+        }
+
+        /**
+         * Steals the work at the head of the current queue if the worker is busy, and the work was scheduled with
+         * {@link #schedule(Runnable)}. The queues pushed back by main flows are left to the owning thread.
+         */
+        Runnable steal() {
+            if (pinned || !running) {
+                return null;
+            }
+            Deque<Runnable> current = queue;
+            Runnable task = current.peekFirst();
+            // the owner may take the task meanwhile, in which case it cannot be removed
+            if (task instanceof StealableTask && current.removeFirstOccurrence(task)) {
+                if (pinned) {
+                    // transacted work was queued meanwhile which must stay on the owner thread
+                    current.addFirst(task);
+                    return null;
+                }
+                return task;
+            }
+            return null;
+        }
+
+        boolean hasStealableWork() {
+            return !pinned && running && queue.peekFirst() instanceof StealableTask;
+        }
+
+        private void doRun(Runnable polled) {
+            try {
+                decrementPendingTasks();
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Worker #{} running: {}", number, polled);
+                }
+                polled.run();
+            } catch (Exception t) {
+                LOG.warn("Error executing reactive work due to {}. This exception is ignored.",
+                        t.getMessage(), t);
+            }
+        }
+
+        private void decrementRunningWorkers() {
+            if (stats) {
+                executor.runningWorkers.decrement();
+            }
+        }
+
+        private void incrementRunningWorkers() {
+            if (stats) {
+                executor.runningWorkers.increment();
+            }
+        }
+
+        private void incrementPendingTasks() {
+            if (stats) {
+                executor.pendingTasks.increment();
+            }
+        }
+
+        private void decrementPendingTasks() {
+            if (stats) {
+                executor.pendingTasks.decrement();
+            }
+        }
+
+        boolean executeFromQueue() {
+            final Runnable polled = queue.pollFirst();
+            if (polled == null) {
+                pinned = false;
+                return false;
+            }
+            try {
+                decrementPendingTasks();
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Running: {}", polled);
+                }
+                polled.run();
+            } catch (Exception t) {
+                // should not happen
+                LOG.warn("Error executing reactive work due to {}. This exception is ignored.", t.getMessage(), t);
+            }
+            return true;
+        }
+
+    }
+
+    /**
+     * Work scheduled while the worker is busy, which other threads may steal
+     */
+    private static final class StealableTask implements Runnable {
+        private final Runnable task;
+
+        StealableTask(Runnable task) {
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            task.run();
+        }
+
+        @Override
+        public String toString() {
+            return task.toString();
+        }
+    }
+
+}
@@ -55,6 +55,14 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
         }
     };
 
+    // marks the types which have no converter in the inline cache
+    private static final TypeConverter NO_CONVERTER = new TypeConverterSupport() {
+        @Override
+        public <T> T convertTo(Class<T> type, Exchange exchange, Object value) throws TypeConversionException {
+            return null;
+        }
+    };
+
     private static final Logger LOG = LoggerFactory.getLogger(CoreTypeConverterRegistry.class);
 
     // fallback converters
@@ -70,6 +78,14 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
     // Why 256: as of Camel 4, we have about 230 type converters. Therefore, set the capacity to a few more to provide
     // space for others added during runtime
     private final Map<TypeConvertible<?, ?>, TypeConverter> converters = new ConcurrentHashMap<>(256);
+    // inline cache of the converters map keyed by the (to, from) classes, which avoids creating and hashing a
+    // TypeConvertible for every conversion, and remembers the pairs which have no converter in the map
+    private final ClassValue<Map<Class<?>, TypeConverter>> resolvedConverters = new ClassValue<>() {
+        @Override
+        protected Map<Class<?>, TypeConverter> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
 
     protected CoreTypeConverterRegistry(boolean statisticsEnabled) {
         if (statisticsEnabled) {
@@ -370,9 +386,18 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
 
         // attempt bulk first which is the fastest (also taking into account primitives)
         final Class<?> aClass = type.isPrimitive() ? ObjectHelper.convertPrimitiveTypeToWrapperType(type) : type;
-        final TypeConvertible<?, ?> typeConvertible = new TypeConvertible<>(value.getClass(), aClass);
+        final Class<?> fromType = value.getClass();
+        final TypeConverter typeConverter = getResolvedConverter(aClass, fromType);
+        if (typeConverter != null) {
+            final Object ret = typeConverter.convertTo(type, exchange, value);
+            if (ret != null) {
+                return ret;
+            }
+        }
 
-        final Object ret = tryCachedConverters(type, exchange, value, typeConvertible);
+        final TypeConvertible<?, ?> typeConvertible = new TypeConvertible<>(fromType, aClass);
+
+        final Object ret = trySuperConverters(type, exchange, value, typeConvertible);
         if (ret != null) {
             return ret;
         }
@@ -385,37 +410,29 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
 
         final TypeConverter assignableConverter = tryAssignableFrom(typeConvertible, converters);
         if (assignableConverter != null) {
-            converters.put(typeConvertible, assignableConverter);
+            putConverter(typeConvertible, assignableConverter);
             return assignableConverter.convertTo(type, exchange, value);
         }
 
         // This is the last resort: if nothing else works, try to find something that converts from an Object to the target type
         final TypeConverter objConverter = converters.get(new TypeConvertible<>(Object.class, type));
         if (objConverter != null) {
-            converters.put(typeConvertible, objConverter);
+            putConverter(typeConvertible, objConverter);
             return objConverter.convertTo(type, exchange, value);
         }
 
-        converters.put(typeConvertible, MISS_CONVERTER);
+        putConverter(typeConvertible, MISS_CONVERTER);
 
         // Could not find suitable conversion, so return Void to indicate not found
         return TypeConverter.MISS_VALUE;
     }
 
-    private Object tryCachedConverters(Class<?> type, Exchange exchange, Object value, TypeConvertible<?, ?> typeConvertible) {
-        final TypeConverter typeConverter = converters.get(typeConvertible);
-        if (typeConverter != null) {
-            final Object ret = typeConverter.convertTo(type, exchange, value);
-            if (ret != null) {
-                return ret;
-            }
-        }
-
+    private Object trySuperConverters(Class<?> type, Exchange exchange, Object value, TypeConvertible<?, ?> typeConvertible) {
         final TypeConverter superConverterTc = TypeResolverHelper.tryMatch(typeConvertible, converters);
         if (superConverterTc != null) {
             final Object ret = superConverterTc.convertTo(type, exchange, value);
             if (ret != null) {
-                converters.put(typeConvertible, superConverterTc);
+                putConverter(typeConvertible, superConverterTc);
                 return ret;
             }
         }
@@ -440,7 +457,7 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
             }
 
             if (rc != null) {
-                converters.put(typeConvertible, tc);
+                putConverter(typeConvertible, tc);
                 // if fallback can promote then let it be promoted to a first class type converter
                 if (fallback.isCanPromote()) {
                     // add it as a known type converter since we found a fallback that could do it
@@ -465,12 +482,36 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
     }
 
     public TypeConverter getTypeConverter(Class<?> toType, Class<?> fromType) {
-        return converters.get(new TypeConvertible<>(fromType, toType));
+        return getResolvedConverter(toType, fromType);
+    }
+
+    /**
+     * Gets the converter from the converters map using the inline cache
+     *
+     * @return the converter, or <tt>null</tt> if the map has no converter for the given types
+     */
+    private TypeConverter getResolvedConverter(Class<?> toType, Class<?> fromType) {
+        final Map<Class<?>, TypeConverter> resolved = resolvedConverters.get(toType);
+        TypeConverter converter = resolved.get(fromType);
+        if (converter == null) {
+            converter = converters.get(new TypeConvertible<>(fromType, toType));
+            // a converter which is changed meanwhile is put in the cache after the map, so it is not overwritten here
+            resolved.putIfAbsent(fromType, converter != null ? converter : NO_CONVERTER);
+        }
+        return converter != NO_CONVERTER ? converter : null;
+    }
+
+    private void putConverter(TypeConvertible<?, ?> typeConvertible, TypeConverter typeConverter) {
+        final TypeConverter old = converters.put(typeConvertible, typeConverter);
+        if (old != typeConverter) {
+            // update the inline cache after the map
+            resolvedConverters.get(typeConvertible.getTo()).put(typeConvertible.getFrom(), typeConverter);
+        }
     }
 
     @Override
     public void addConverter(TypeConvertible<?, ?> typeConvertible, TypeConverter typeConverter) {
-        converters.put(typeConvertible, typeConverter);
+        putConverter(typeConvertible, typeConverter);
     }
 
     @Override
@@ -490,7 +531,7 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
 
         if (converter == MISS_CONVERTER) {
             // we have previously attempted to convert but missed, so add this converter
-            converters.put(typeConvertible, typeConverter);
+            putConverter(typeConvertible, typeConverter);
             return;
         }
 
@@ -507,7 +548,7 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
             }
 
             if (add) {
-                converters.put(typeConvertible, typeConverter);
+                putConverter(typeConvertible, typeConverter);
             }
         }
     }
@@ -532,6 +573,10 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
     public boolean removeTypeConverter(Class<?> toType, Class<?> fromType) {
         LOG.trace("Removing type converter from: {} to: {}", fromType, toType);
         final TypeConverter removed = converters.remove(new TypeConvertible<>(fromType, toType));
+        if (removed != null) {
+            // mark as no converter rather than removing, so a lookup racing with the removal cannot cache it again
+            resolvedConverters.get(toType).put(fromType, NO_CONVERTER);
+        }
         return removed != null;
     }
 
@@ -561,7 +606,7 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
             // converter not found, try to lookup then
             converter = lookup(toType, fromType);
             if (converter != null) {
-                converters.put(typeConvertible, converter);
+                putConverter(typeConvertible, converter);
             }
         }
         return converter;
@@ -778,6 +778,7 @@ public final class SimpleExpressionBuilder {
         return new ExpressionAdapter() {
             private ClassResolver classResolver;
             private Expression exp;
+            private final SimpleOgnlInvoker invoker = SimpleOgnlInvoker.compile(ognl);
             private Language bean;
 
             @Override
@@ -795,9 +796,7 @@ public final class SimpleExpressionBuilder {
                 } catch (InvalidPayloadException e) {
                     throw CamelExecutionException.wrapCamelExecutionException(exchange, e);
                 }
-                Expression ognlExp = bean.createExpression(null, new Object[] { null, body, ognl });
-                ognlExp.init(exchange.getContext());
-                return ognlExp.evaluate(exchange, Object.class);
+                return invoker.invoke(exchange, bean, body);
             }
 
             @Override
@@ -861,6 +860,7 @@ public final class SimpleExpressionBuilder {
         return new ExpressionAdapter() {
             private ClassResolver classResolver;
             private Expression exp;
+            private final SimpleOgnlInvoker invoker = SimpleOgnlInvoker.compile(ognl);
             private Language bean;
 
             @Override
@@ -876,9 +876,7 @@ public final class SimpleExpressionBuilder {
                 if (msg != null) {
                     // ognl is able to evaluate method name if it contains nested functions
                     // so we should not eager evaluate ognl as a string
-                    Expression ognlExp = bean.createExpression(null, new Object[] { null, msg, ognl });
-                    ognlExp.init(exchange.getContext());
-                    return ognlExp.evaluate(exchange, Object.class);
+                    return invoker.invoke(exchange, bean, msg);
                 } else {
                     return null;
                 }
@@ -907,6 +905,7 @@ public final class SimpleExpressionBuilder {
         return new ExpressionAdapter() {
             private ClassResolver classResolver;
             private Expression exp;
+            private final SimpleOgnlInvoker invoker = SimpleOgnlInvoker.compile(ognl);
             private Language bean;
 
             @Override
@@ -922,9 +921,7 @@ public final class SimpleExpressionBuilder {
                 if (body != null) {
                     // ognl is able to evaluate method name if it contains nested functions
                     // so we should not eager evaluate ognl as a string
-                    Expression ognlExp = bean.createExpression(null, new Object[] { null, body, ognl });
-                    ognlExp.init(exchange.getContext());
-                    return ognlExp.evaluate(exchange, Object.class);
+                    return invoker.invoke(exchange, bean, body);
                 } else {
                     return null;
                 }
@@ -952,15 +949,14 @@ public final class SimpleExpressionBuilder {
      */
     public static Expression exchangeOgnlExpression(final String ognl) {
         return new ExpressionAdapter() {
+            private final SimpleOgnlInvoker invoker = SimpleOgnlInvoker.compile(ognl);
             private Language bean;
 
             @Override
             public Object evaluate(Exchange exchange) {
                 // ognl is able to evaluate method name if it contains nested functions
                 // so we should not eager evaluate ognl as a string
-                Expression ognlExp = bean.createExpression(null, new Object[] { null, exchange, ognl });
-                ognlExp.init(exchange.getContext());
-                return ognlExp.evaluate(exchange, Object.class);
+                return invoker.invoke(exchange, bean, exchange);
             }
 
             @Override
@@ -1011,6 +1007,7 @@ public final class SimpleExpressionBuilder {
      */
     public static Expression bodyOgnlExpression(final String ognl) {
         return new ExpressionAdapter() {
+            private final SimpleOgnlInvoker invoker = SimpleOgnlInvoker.compile(ognl);
             private Language bean;
 
             @Override
@@ -1019,9 +1016,7 @@ public final class SimpleExpressionBuilder {
                 if (body == null) {
                     return null;
                 }
-                Expression ognlExp = bean.createExpression(null, new Object[] { null, body, ognl });
-                ognlExp.init(exchange.getContext());
-                return ognlExp.evaluate(exchange, Object.class);
+                return invoker.invoke(exchange, bean, body);
             }
 
             @Override
@@ -1152,6 +1147,7 @@ public final class SimpleExpressionBuilder {
      */
     public static Expression exchangeExceptionOgnlExpression(final String ognl) {
         return new ExpressionAdapter() {
+            private final SimpleOgnlInvoker invoker = SimpleOgnlInvoker.compile(ognl);
             private Language bean;
 
             @Override
@@ -1167,9 +1163,7 @@ public final class SimpleExpressionBuilder {
 
                 // ognl is able to evaluate method name if it contains nested functions
                 // so we should not eager evaluate ognl as a string
-                Expression ognlExp = bean.createExpression(null, new Object[] { null, exception, ognl });
-                ognlExp.init(exchange.getContext());
-                return ognlExp.evaluate(exchange, Object.class);
+                return invoker.invoke(exchange, bean, exception);
             }
 
             @Override
@@ -1193,6 +1187,7 @@ public final class SimpleExpressionBuilder {
         private final KeyedEntityRetrievalStrategy keyedEntityRetrievalStrategy;
         private String key;
         private final String method;
+        private final SimpleOgnlInvoker invoker;
         private Expression keyExpression;
         private Expression ognlExpression;
         private Language beanLanguage;
@@ -1219,6 +1214,7 @@ public final class SimpleExpressionBuilder {
             key = OgnlHelper.removeOperators(key);
             // and this may be the last remainder method to try as OGNL if there are no exchange properties with those key names
             method = StringHelper.after(ognl, key + keySuffix);
+            invoker = method != null ? SimpleOgnlInvoker.compile(method) : null;
         }
 
         @Override
@@ -1247,10 +1243,8 @@ public final class SimpleExpressionBuilder {
             if (property == null) {
                 return null;
             }
-            if (method != null) {
-                Expression exp = beanLanguage.createExpression(null, new Object[] { null, property, method });
-                exp.init(exchange.getContext());
-                return exp.evaluate(exchange, Object.class);
+            if (invoker != null) {
+                return invoker.invoke(exchange, beanLanguage, property);
             } else {
                 return property;
             }
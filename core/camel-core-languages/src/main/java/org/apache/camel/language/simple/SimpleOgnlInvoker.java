@@ -0,0 +1,351 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.language.simple;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.RuntimeExpressionException;
+import org.apache.camel.spi.Language;
+import org.apache.camel.support.LanguageSupport;
+import org.apache.camel.util.OgnlHelper;
+
+/**
+ * Invokes a simple OGNL method chain, such as <tt>.size</tt> or <tt>.getAddress?.zip</tt>, on a bean by calling the
+ * methods through {@link MethodHandle}s, instead of creating a bean language expression on every evaluation.
+ * <p/>
+ * Only chains of methods without parameters are compiled. The methods are resolved for the class of the bean when it
+ * is first invoked, the same way the bean language resolves them: by name, or by the shorthand name of a getter. The
+ * rest of the chain is invoked with the bean language (the reflective fallback) when a method cannot be resolved to a
+ * single method without parameters. When a method fails, or returns null in the middle of the chain without the null
+ * safe operator, the exception the bean language would fail with is thrown, without invoking any method again.
+ */
+final class SimpleOgnlInvoker {
+
+    // the methods the bean language does not invoke, or invokes in a special way
+    private static final Set<String> EXCLUDED_METHOD_NAMES = Set.of(
+            "class", "equals", "finalize", "getClass", "hashCode", "notify", "notifyAll", "wait",
+            "getInvocationHandler", "getProxyClass", "isProxyClass", "newProxyInstance");
+    private static final MethodType INVOKE_TYPE = MethodType.methodType(Object.class, Object.class);
+    // the exception of the bean language, which is not a dependency of the simple language
+    private static final String BEAN_EXPRESSION_EXCEPTION = "org.apache.camel.language.bean.RuntimeBeanExpressionException";
+
+    private final String ognl;
+    private final Step[] steps;
+
+    private SimpleOgnlInvoker(String ognl, Step[] steps) {
+        this.ognl = ognl;
+        this.steps = steps;
+    }
+
+    /**
+     * Compiles the OGNL method chain. Chains which are not only made of methods without parameters, such as chains with
+     * an index lookup or nested functions, are always invoked with the bean language.
+     *
+     * @param  ognl the OGNL method chain, such as <tt>.size</tt>
+     * @return      the invoker
+     */
+    static SimpleOgnlInvoker compile(String ognl) {
+        if (ognl == null || ognl.isEmpty() || LanguageSupport.hasSimpleFunction(ognl)) {
+            return new SimpleOgnlInvoker(ognl, null);
+        }
+        List<String> methods = OgnlHelper.splitOgnl(ognl);
+        if (methods.isEmpty()) {
+            return new SimpleOgnlInvoker(ognl, null);
+        }
+        Step[] steps = new Step[methods.size()];
+        for (int i = 0; i < steps.length; i++) {
+            String method = methods.get(i);
+            boolean nullSafe = OgnlHelper.isNullSafeOperator(method);
+            String name = OgnlHelper.removeLeadingOperators(method);
+            if (name.endsWith("()")) {
+                name = name.substring(0, name.length() - 2);
+            }
+            if (!isJavaIdentifier(name) || EXCLUDED_METHOD_NAMES.contains(name)) {
+                return new SimpleOgnlInvoker(ognl, null);
+            }
+            String remainder = String.join("", methods.subList(i, methods.size()));
+            steps[i] = new Step(method, name, nullSafe, remainder);
+        }
+        return new SimpleOgnlInvoker(ognl, steps);
+    }
+
+    /**
+     * Invokes the OGNL method chain on the bean.
+     *
+     * @param  exchange the exchange
+     * @param  language the bean language to invoke the methods which are not compiled
+     * @param  bean     the bean to invoke the first method on
+     * @return          the result of the last method
+     */
+    Object invoke(Exchange exchange, Language language, Object bean) {
+        if (steps == null) {
+            return invokeBeanLanguage(exchange, language, bean, ognl);
+        }
+        if (bean == null) {
+            // let the bean language fail as there is no bean
+            return invokeBeanLanguage(exchange, language, bean, ognl);
+        }
+        Object result = bean;
+        for (Step step : steps) {
+            if (result == null) {
+                // fail as the bean language does, when the last method returned null
+                String message = "last method returned null and therefore cannot continue to invoke method " + step.method
+                                 + " on a null instance";
+                throw newBeanExpressionException(exchange, bean.getClass().getCanonicalName(), ognl, message);
+            }
+            MethodHandle handle = step.getHandle(result.getClass());
+            if (handle == null) {
+                return invokeBeanLanguage(exchange, language, result, step.remainder);
+            }
+            try {
+                result = (Object) handle.invokeExact(result);
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable e) {
+                // fail as the bean language does, which has no bean name as it is given the bean
+                throw newBeanExpressionException(exchange, null, step.name, e);
+            }
+            if (result == null && step.nullSafe) {
+                return null;
+            }
+        }
+        return result;
+    }
+
+    private static Object invokeBeanLanguage(Exchange exchange, Language language, Object bean, String ognl) {
+        Expression exp = language.createExpression(null, new Object[] { null, bean, ognl });
+        exp.init(exchange.getContext());
+        return exp.evaluate(exchange, Object.class);
+    }
+
+    private static RuntimeException newBeanExpressionException(
+            Exchange exchange, String beanName, String method, Throwable cause) {
+        RuntimeException answer = createBeanExpressionException(exchange, Throwable.class, beanName, method, cause);
+        if (answer == null) {
+            answer = new RuntimeExpressionException(
+                    "Failed to invoke method: " + method + " on " + beanName + " due to: " + cause, cause);
+        }
+        return answer;
+    }
+
+    private static RuntimeException newBeanExpressionException(
+            Exchange exchange, String beanName, String method, String message) {
+        RuntimeException answer = createBeanExpressionException(exchange, String.class, beanName, method, message);
+        if (answer == null) {
+            answer = new RuntimeExpressionException(
+                    "Failed to invoke method: " + method + " on " + beanName + " due " + message);
+        }
+        return answer;
+    }
+
+    /**
+     * Creates the exception of the bean language, using the constructor with the given type of cause.
+     *
+     * @return the exception, or <tt>null</tt> if the bean language is not on the classpath
+     */
+    private static RuntimeException createBeanExpressionException(
+            Exchange exchange, Class<?> causeType, String beanName, String method, Object cause) {
+        Class<?> type = exchange.getContext().getClassResolver().resolveClass(BEAN_EXPRESSION_EXCEPTION);
+        if (type == null || !RuntimeException.class.isAssignableFrom(type)) {
+            return null;
+        }
+        try {
+            return (RuntimeException) type.getConstructor(Exchange.class, String.class, String.class, causeType)
+                    .newInstance(exchange, beanName, method, cause);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    private static boolean isJavaIdentifier(String name) {
+        if (name.isEmpty() || !Character.isJavaIdentifierStart(name.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < name.length(); i++) {
+            if (!Character.isJavaIdentifierPart(name.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Resolves the method with the given name the bean language would invoke on a bean of the given type, when it is
+     * the only method with that name and it has no parameters.
+     *
+     * @return the method handle, or <tt>null</tt> if the method should be invoked with the bean language
+     */
+    static MethodHandle resolve(Class<?> type, String name) {
+        if (type.isArray() || type == Class.class || type.getName().contains("$$")) {
+            // special handling in the bean language, or a proxy class which the bean language unwraps
+            return null;
+        }
+        Method method;
+        List<Method> methods = findMethods(type, name);
+        if (methods.isEmpty()) {
+            // try the getter for the shorthand name, such as getName for name
+            String suffix = name.substring(0, 1).toUpperCase(Locale.ENGLISH) + name.substring(1);
+            if (!Character.isUpperCase(suffix.charAt(0))) {
+                return null;
+            }
+            List<Method> getters = findMethods(type, "get" + suffix);
+            List<Method> is = findMethods(type, "is" + suffix);
+            boolean getter = getters.stream().anyMatch(m -> m.getParameterCount() == 0 && m.getReturnType() != void.class);
+            boolean booleanGetter = is.stream().anyMatch(
+                    m -> m.getParameterCount() == 0 && m.getReturnType().getSimpleName().equalsIgnoreCase("boolean"));
+            if (getter && !booleanGetter && getters.size() == 1) {
+                method = getters.get(0);
+            } else if (booleanGetter && !getter && is.size() == 1) {
+                method = is.get(0);
+            } else {
+                return null;
+            }
+        } else if (methods.size() == 1) {
+            method = methods.get(0);
+        } else {
+            return null;
+        }
+        if (method.getParameterCount() > 0 || Modifier.isStatic(method.getModifiers())
+                || method.getReturnType() == void.class || Exchange.class.isAssignableFrom(method.getReturnType())
+                || CompletionStage.class.isAssignableFrom(method.getReturnType()) || hasCamelAnnotation(method)) {
+            return null;
+        }
+        return unreflect(type, method.getName());
+    }
+
+    /**
+     * Finds the methods with the given name among the methods the bean language introspects, which are the non-private
+     * methods of the class, its super classes (except Object) and interfaces.
+     *
+     * @return the most specific method of each signature
+     */
+    private static List<Method> findMethods(Class<?> type, String name) {
+        List<Method> answer = new ArrayList<>(1);
+        Set<List<Class<?>>> signatures = new HashSet<>();
+        for (Class<?> clazz : hierarchy(type)) {
+            for (Method method : clazz.getDeclaredMethods()) {
+                if (name.equals(method.getName()) && !Modifier.isPrivate(method.getModifiers()) && !method.isBridge()
+                        && !method.isSynthetic() && signatures.add(Arrays.asList(method.getParameterTypes()))) {
+                    answer.add(method);
+                }
+            }
+        }
+        return answer;
+    }
+
+    /**
+     * Creates the handle for the method without parameters, which is looked up on the first public class or interface
+     * of the bean declaring the method, as the class of the bean may not be public.
+     */
+    private static MethodHandle unreflect(Class<?> type, String name) {
+        MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        for (Class<?> clazz : hierarchy(type)) {
+            if (!Modifier.isPublic(clazz.getModifiers())) {
+                continue;
+            }
+            try {
+                Method method = clazz.getDeclaredMethod(name);
+                if (Modifier.isPublic(method.getModifiers())) {
+                    return lookup.unreflect(method).asType(INVOKE_TYPE);
+                }
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                // not declared or accessible on this class
+            }
+        }
+        return null;
+    }
+
+    private static Iterable<Class<?>> hierarchy(Class<?> type) {
+        Set<Class<?>> answer = new LinkedHashSet<>();
+        Deque<Class<?>> interfaces = new ArrayDeque<>();
+        for (Class<?> clazz = type; clazz != null && clazz != Object.class; clazz = clazz.getSuperclass()) {
+            answer.add(clazz);
+            interfaces.addAll(Arrays.asList(clazz.getInterfaces()));
+        }
+        while (!interfaces.isEmpty()) {
+            Class<?> clazz = interfaces.poll();
+            if (answer.add(clazz)) {
+                interfaces.addAll(Arrays.asList(clazz.getInterfaces()));
+            }
+        }
+        return answer;
+    }
+
+    private static boolean hasCamelAnnotation(Method method) {
+        for (Annotation annotation : method.getAnnotations()) {
+            if (annotation.annotationType().getName().startsWith("org.apache.camel.")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A method in the chain, which caches the handles resolved for the classes it was invoked on.
+     */
+    private static final class Step {
+        private final String method;
+        private final String name;
+        private final boolean nullSafe;
+        private final String remainder;
+        private final ClassValue<ResolvedMethod> resolved = new ClassValue<>() {
+            @Override
+            protected ResolvedMethod computeValue(Class<?> type) {
+                return new ResolvedMethod(resolve(type, name));
+            }
+        };
+
+        Step(String method, String name, boolean nullSafe, String remainder) {
+            this.method = method;
+            this.name = name;
+            this.nullSafe = nullSafe;
+            this.remainder = remainder;
+        }
+
+        MethodHandle getHandle(Class<?> type) {
+            return resolved.get(type).handle;
+        }
+    }
+
+    /**
+     * The handle resolved for a class, which is <tt>null</tt> if the method is invoked with the bean language.
+     */
+    private static final class ResolvedMethod {
+        private final MethodHandle handle;
+
+        ResolvedMethod(MethodHandle handle) {
+            this.handle = handle;
+        }
+    }
+}
@@ -69,6 +69,11 @@ public final class ThreadPoolBuilder {
         return this;
     }
 
+    public ThreadPoolBuilder virtualThreads(boolean virtualThreads) {
+        profile.setVirtualThreads(virtualThreads);
+        return this;
+    }
+
     /**
      * Builds the new thread pool
      *
@@ -53,6 +53,9 @@ public class IdempotentConsumerDefinition extends OutputExpressionNode {
     @XmlAttribute
     @Metadata(label = "advanced", javaType = "java.lang.Boolean", defaultValue = "true")
     private String removeOnFailure;
+    @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Long")
+    private String bloomFilterExpectedKeys;
 
     public IdempotentConsumerDefinition() {
     }
@@ -65,6 +68,7 @@ public class IdempotentConsumerDefinition extends OutputExpressionNode {
         this.completionEager = source.completionEager;
         this.skipDuplicate = source.skipDuplicate;
         this.removeOnFailure = source.removeOnFailure;
+        this.bloomFilterExpectedKeys = source.bloomFilterExpectedKeys;
     }
 
     public IdempotentConsumerDefinition(Expression messageIdExpression, IdempotentRepository idempotentRepository) {
@@ -179,6 +183,24 @@ public class IdempotentConsumerDefinition extends OutputExpressionNode {
         return this;
     }
 
+    /**
+     * Sets the expected number of keys, to use an in-memory Bloom filter in front of the idempotent repository.
+     * <p/>
+     * The Bloom filter answers lookups of keys that have never been seen without calling the idempotent repository,
+     * which avoids round-trips to a database or remote cache when most messages are not duplicates. The filter is
+     * seeded with the existing keys when the repository is able to iterate its keys, and only knows about the keys
+     * added by this idempotent consumer, so it must not be used with a repository that is shared with other writers.
+     * <p/>
+     * As the key is always added to the repository when eager is enabled, this is mostly useful when eager is disabled.
+     *
+     * @param  bloomFilterExpectedKeys the expected number of keys, which is used to size the Bloom filter
+     * @return                         builder
+     */
+    public IdempotentConsumerDefinition bloomFilterExpectedKeys(long bloomFilterExpectedKeys) {
+        setBloomFilterExpectedKeys(Long.toString(bloomFilterExpectedKeys));
+        return this;
+    }
+
     /**
      * Expression used to calculate the correlation key to use for duplicate check. The Exchange which has the same
      * correlation key is regarded as a duplicate and will be rejected.
@@ -229,6 +251,14 @@ public class IdempotentConsumerDefinition extends OutputExpressionNode {
         this.removeOnFailure = removeOnFailure;
     }
 
+    public String getBloomFilterExpectedKeys() {
+        return bloomFilterExpectedKeys;
+    }
+
+    public void setBloomFilterExpectedKeys(String bloomFilterExpectedKeys) {
+        this.bloomFilterExpectedKeys = bloomFilterExpectedKeys;
+    }
+
     public String getCompletionEager() {
         return completionEager;
     }
@@ -201,6 +201,20 @@ public class ResequenceDefinition extends OutputDefinition<ResequenceDefinition>
         return this;
     }
 
+    /**
+     * Resequences the messages in a sliding window over their sequence numbers, instead of sorting them, which is
+     * faster when the sequence numbers are dense.
+     *
+     * @return the builder
+     */
+    public ResequenceDefinition slidingWindow() {
+        if (streamConfig == null) {
+            throw new IllegalStateException("slidingWindow() only supported for stream resequencer");
+        }
+        streamConfig.setSlidingWindow(Boolean.toString(true));
+        return this;
+    }
+
     /**
      * Sets the in batch size for number of exchanges received
      *
@@ -72,6 +72,12 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
     private String streaming;
     @XmlAttribute
     @Metadata(label = "advanced", javaType = "java.lang.Boolean")
+    private String aggregateInOrder;
+    @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Integer")
+    private String maxInflightExchanges;
+    @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Boolean")
     private String stopOnException;
     @XmlAttribute
     @Metadata(label = "advanced", javaType = "java.time.Duration", defaultValue = "0")
@@ -102,6 +108,8 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
         this.parallelProcessing = source.parallelProcessing;
         this.synchronous = source.synchronous;
         this.streaming = source.streaming;
+        this.aggregateInOrder = source.aggregateInOrder;
+        this.maxInflightExchanges = source.maxInflightExchanges;
         this.stopOnException = source.stopOnException;
         this.timeout = source.timeout;
         this.executorService = source.executorService;
@@ -395,6 +403,72 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
         return this;
     }
 
+    /**
+     * When in streaming mode with parallel processing, then the replies are aggregated in the same order as the
+     * messages was split, instead of in the order they come back. The replies which come back early are held until the
+     * previous replies have been aggregated, so this is best used together with maxInflightExchanges to bound the
+     * number of replies held.
+     *
+     * @return the builder
+     */
+    public SplitDefinition aggregateInOrder() {
+        return aggregateInOrder(true);
+    }
+
+    /**
+     * When in streaming mode with parallel processing, then the replies are aggregated in the same order as the
+     * messages was split, instead of in the order they come back. The replies which come back early are held until the
+     * previous replies have been aggregated, so this is best used together with maxInflightExchanges to bound the
+     * number of replies held.
+     *
+     * @return the builder
+     */
+    public SplitDefinition aggregateInOrder(boolean aggregateInOrder) {
+        return aggregateInOrder(Boolean.toString(aggregateInOrder));
+    }
+
+    /**
+     * When in streaming mode with parallel processing, then the replies are aggregated in the same order as the
+     * messages was split, instead of in the order they come back. The replies which come back early are held until the
+     * previous replies have been aggregated, so this is best used together with maxInflightExchanges to bound the
+     * number of replies held.
+     *
+     * @return the builder
+     */
+    public SplitDefinition aggregateInOrder(String aggregateInOrder) {
+        setAggregateInOrder(aggregateInOrder);
+        return this;
+    }
+
+    /**
+     * The maximum number of split messages which are being processed and not yet aggregated, when using parallel
+     * processing. When the limit is reached, then the splitter does not split the next message until a reply has been
+     * aggregated, so in streaming mode the memory used is bound by the limit, regardless of the size of the message
+     * being split.
+     * <p/>
+     * The default is no limit.
+     *
+     * @return the builder
+     */
+    public SplitDefinition maxInflightExchanges(int maxInflightExchanges) {
+        return maxInflightExchanges(Integer.toString(maxInflightExchanges));
+    }
+
+    /**
+     * The maximum number of split messages which are being processed and not yet aggregated, when using parallel
+     * processing. When the limit is reached, then the splitter does not split the next message until a reply has been
+     * aggregated, so in streaming mode the memory used is bound by the limit, regardless of the size of the message
+     * being split.
+     * <p/>
+     * The default is no limit.
+     *
+     * @return the builder
+     */
+    public SplitDefinition maxInflightExchanges(String maxInflightExchanges) {
+        setMaxInflightExchanges(maxInflightExchanges);
+        return this;
+    }
+
     /**
      * Will now stop further processing if an exception or failure occurred during processing of an
      * {@link org.apache.camel.Exchange} and the caused exception will be thrown.
@@ -615,6 +689,22 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
         this.streaming = streaming;
     }
 
+    public String getAggregateInOrder() {
+        return aggregateInOrder;
+    }
+
+    public void setAggregateInOrder(String aggregateInOrder) {
+        this.aggregateInOrder = aggregateInOrder;
+    }
+
+    public String getMaxInflightExchanges() {
+        return maxInflightExchanges;
+    }
+
+    public void setMaxInflightExchanges(String maxInflightExchanges) {
+        this.maxInflightExchanges = maxInflightExchanges;
+    }
+
     @Deprecated(since = "4.7.0")
     public String getParallelAggregate() {
         return parallelAggregate;
@@ -60,6 +60,9 @@ public class ThreadPoolProfileDefinition extends OptionalIdentifiedDefinition<Th
     @Metadata(label = "advanced", javaType = "org.apache.camel.util.concurrent.ThreadPoolRejectedPolicy",
               enums = "Abort,CallerRuns")
     private String rejectedPolicy;
+    @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Boolean")
+    private String virtualThreads;
 
     public ThreadPoolProfileDefinition() {
     }
@@ -138,6 +141,15 @@ public class ThreadPoolProfileDefinition extends OptionalIdentifiedDefinition<Th
         return this;
     }
 
+    public ThreadPoolProfileDefinition virtualThreads(boolean virtualThreads) {
+        return virtualThreads(Boolean.toString(virtualThreads));
+    }
+
+    public ThreadPoolProfileDefinition virtualThreads(String virtualThreads) {
+        setVirtualThreads(virtualThreads);
+        return this;
+    }
+
     public String getDefaultProfile() {
         return defaultProfile;
     }
@@ -230,4 +242,17 @@ public class ThreadPoolProfileDefinition extends OptionalIdentifiedDefinition<Th
         this.rejectedPolicy = rejectedPolicy;
     }
 
+    public String getVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * Whether to use virtual threads (requires Java 21 or newer, otherwise platform threads are used). A thread pool
+     * with virtual threads starts a new virtual thread for each task, so the pool and queue sizes do not apply. This is
+     * best suited for tasks which spend most of their time blocked, such as waiting for I/O.
+     */
+    public void setVirtualThreads(String virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
 }
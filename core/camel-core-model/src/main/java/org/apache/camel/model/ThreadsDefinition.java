@@ -72,6 +72,9 @@ public class ThreadsDefinition extends NoOutputDefinition<ThreadsDefinition>
     @XmlAttribute
     @Metadata(label = "advanced", defaultValue = "true")
     private String callerRunsWhenRejected;
+    @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Boolean")
+    private String virtualThreads;
 
     public ThreadsDefinition() {
         this.threadName = "Threads";
@@ -90,6 +93,7 @@ public class ThreadsDefinition extends NoOutputDefinition<ThreadsDefinition>
         this.threadName = source.threadName;
         this.rejectedPolicy = source.rejectedPolicy;
         this.callerRunsWhenRejected = source.callerRunsWhenRejected;
+        this.virtualThreads = source.virtualThreads;
     }
 
     @Override
@@ -325,6 +329,31 @@ public class ThreadsDefinition extends NoOutputDefinition<ThreadsDefinition>
         return this;
     }
 
+    /**
+     * Whether to use virtual threads (requires Java 21 or newer, otherwise platform threads are used). The thread pool
+     * then starts a new virtual thread for each message, so the pool and queue sizes do not apply. This is best suited
+     * for routes which spend most of their time blocked, such as waiting for I/O.
+     *
+     * @param  virtualThreads <tt>true</tt> to use virtual threads
+     * @return                the builder
+     */
+    public ThreadsDefinition virtualThreads(boolean virtualThreads) {
+        return virtualThreads(Boolean.toString(virtualThreads));
+    }
+
+    /**
+     * Whether to use virtual threads (requires Java 21 or newer, otherwise platform threads are used). The thread pool
+     * then starts a new virtual thread for each message, so the pool and queue sizes do not apply. This is best suited
+     * for routes which spend most of their time blocked, such as waiting for I/O.
+     *
+     * @param  virtualThreads <tt>true</tt> to use virtual threads
+     * @return                the builder
+     */
+    public ThreadsDefinition virtualThreads(String virtualThreads) {
+        setVirtualThreads(virtualThreads);
+        return this;
+    }
+
     @Override
     public ExecutorService getExecutorServiceBean() {
         return executorServiceBean;
@@ -407,6 +436,14 @@ public class ThreadsDefinition extends NoOutputDefinition<ThreadsDefinition>
         this.allowCoreThreadTimeOut = allowCoreThreadTimeOut;
     }
 
+    public String getVirtualThreads() {
+        return virtualThreads;
+    }
+
+    public void setVirtualThreads(String virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
     public String getExecutorService() {
         return executorService;
     }
@@ -52,6 +52,9 @@ public class StreamResequencerConfig extends ResequencerConfig {
     @Metadata(label = "advanced", javaType = "java.lang.Boolean")
     private String rejectOld;
     @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Boolean")
+    private String slidingWindow;
+    @XmlAttribute
     @Metadata(label = "advanced", javaType = "org.apache.camel.processor.resequencer.ExpressionResultComparator")
     private String comparator;
 
@@ -122,6 +125,7 @@ public class StreamResequencerConfig extends ResequencerConfig {
         this.deliveryAttemptInterval = source.deliveryAttemptInterval;
         this.ignoreInvalidExchanges = source.ignoreInvalidExchanges;
         this.rejectOld = source.rejectOld;
+        this.slidingWindow = source.slidingWindow;
         this.comparator = source.comparator;
     }
 
@@ -219,4 +223,17 @@ public class StreamResequencerConfig extends ResequencerConfig {
         return rejectOld;
     }
 
+    /**
+     * Whether to resequence the messages in a sliding window over their sequence numbers, instead of sorting them. This
+     * allocates less per message, and is faster when the sequence numbers are dense (such as from a counter). This
+     * requires the sequence numbers to be long values, and cannot be used with a custom comparator.
+     */
+    public void setSlidingWindow(String slidingWindow) {
+        this.slidingWindow = slidingWindow;
+    }
+
+    public String getSlidingWindow() {
+        return slidingWindow;
+    }
+
 }
@@ -23,7 +23,9 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
@@ -53,6 +55,9 @@ import org.apache.camel.Route;
 import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.StreamCache;
 import org.apache.camel.Traceable;
+import org.apache.camel.processor.aggregate.ShareUnitOfWorkAggregationStrategy;
+import org.apache.camel.processor.aggregate.UseLatestAggregationStrategy;
+import org.apache.camel.processor.aggregate.UseOriginalAggregationStrategy;
 import org.apache.camel.processor.errorhandler.ErrorHandlerSupport;
 import org.apache.camel.spi.AsyncProcessorAwaitManager;
 import org.apache.camel.spi.ErrorHandlerAware;
@@ -175,6 +180,8 @@ public class MulticastProcessor extends AsyncProcessorSupport
     private final boolean parallelProcessing;
     private boolean synchronous;
     private final boolean streaming;
+    private int maxInflightExchanges;
+    private boolean aggregateInOrder;
     private final boolean parallelAggregate;
     private final boolean stopOnException;
     private final ExecutorService executorService;
@@ -443,6 +450,9 @@ public class MulticastProcessor extends AsyncProcessorSupport
         final AtomicInteger nbAggregated = new AtomicInteger();
         final AtomicBoolean allSent = new AtomicBoolean();
         final AtomicBoolean done = new AtomicBoolean();
+        final AtomicInteger slots;
+        final AtomicBoolean waitingForSlot = new AtomicBoolean();
+        final Queue<Exchange> releaseOnDone = new ConcurrentLinkedQueue<>();
         final Map<String, String> mdc;
         final ScheduledFuture<?> timeoutTask;
 
@@ -465,11 +475,18 @@ public class MulticastProcessor extends AsyncProcessorSupport
             } else {
                 this.mdc = null;
             }
+            // when the number of inflight exchanges is bounded, then each exchange takes a slot until it is aggregated
+            if (isParallelProcessing() && maxInflightExchanges > 0) {
+                this.slots = new AtomicInteger(maxInflightExchanges);
+            } else {
+                this.slots = null;
+            }
+            boolean ordered = !isStreaming() || aggregateInOrder;
             if (capacity > 0) {
                 this.completion
-                        = new AsyncCompletionService<>(sync ? syncScheduler : scheduler, !isStreaming(), lock, capacity);
+                        = new AsyncCompletionService<>(sync ? syncScheduler : scheduler, ordered, lock, capacity);
             } else {
-                this.completion = new AsyncCompletionService<>(sync ? syncScheduler : scheduler, !isStreaming(), lock);
+                this.completion = new AsyncCompletionService<>(sync ? syncScheduler : scheduler, ordered, lock);
             }
         }
 
@@ -491,9 +508,13 @@ public class MulticastProcessor extends AsyncProcessorSupport
                 try {
                     Exchange exchange;
                     while (!done.get() && (exchange = completion.poll()) != null) {
+                        Exchange previous = result.get();
                         doAggregate(result, exchange, original);
+                        release(previous, exchange);
                         if (nbAggregated.incrementAndGet() >= nbExchangeSent.get() && allSent.get()) {
                             doDone(result.get(), true);
+                        } else {
+                            releaseSlot();
                         }
                     }
                 } catch (Exception e) {
@@ -506,6 +527,101 @@ public class MulticastProcessor extends AsyncProcessorSupport
             }
         }
 
+        /**
+         * Acquires a slot for sending the next exchange, when the number of inflight exchanges is bounded.
+         *
+         * @return <tt>false</tt> if all the slots are in use, then this task is scheduled again when a slot is released
+         */
+        protected boolean acquireSlot() {
+            if (slots == null) {
+                return true;
+            }
+            while (true) {
+                int free = slots.get();
+                if (free > 0) {
+                    if (slots.compareAndSet(free, free - 1)) {
+                        return true;
+                    }
+                } else {
+                    waitingForSlot.set(true);
+                    // a slot may have been released before we started waiting, and then we must take it ourselves
+                    if (slots.get() <= 0 || !waitingForSlot.compareAndSet(true, false)) {
+                        return false;
+                    }
+                }
+            }
+        }
+
+        /**
+         * Releases the slot of an exchange which has been aggregated, and continues sending if this task was waiting for
+         * a slot.
+         */
+        protected void releaseSlot() {
+            if (slots != null) {
+                slots.incrementAndGet();
+                if (waitingForSlot.compareAndSet(true, false)) {
+                    schedule(this);
+                }
+            }
+        }
+
+        /**
+         * Releases the exchanges which are no longer in use after the given exchange has been aggregated, so they can be
+         * reused for the next sub exchanges instead of being created.
+         * <p/>
+         * When the aggregation strategy is known to only keep the result (or the original exchange) then the aggregated
+         * exchange and the previous result are released right away, unless they are the new result. Otherwise the
+         * strategy may keep the exchange, which is then released when the task is done, or left for the garbage
+         * collector when streaming (as keeping all the streamed exchanges until done would use too much memory).
+         *
+         * @param previous the result before the exchange was aggregated
+         * @param exchange the aggregated exchange
+         */
+        protected void release(Exchange previous, Exchange exchange) {
+            if (!processorExchangeFactory.isPooled()) {
+                // nothing to reuse, but release to keep the statistics
+                processorExchangeFactory.release(exchange);
+                return;
+            }
+            if (isReleaseOnAggregate(getAggregationStrategy(exchange))) {
+                Exchange current = result.get();
+                if (previous != null && previous != current && previous != original && previous != exchange) {
+                    processorExchangeFactory.release(previous);
+                }
+                if (exchange != current) {
+                    processorExchangeFactory.release(exchange);
+                }
+            } else if (!isStreaming()) {
+                releaseOnDone.add(exchange);
+            }
+        }
+
+        /**
+         * The exchanges to release when the task is done, which are the exchanges not yet released when they were
+         * aggregated, and the exchanges which were created but not sent.
+         */
+        protected Collection<Exchange> getExchangesToRelease() {
+            if (!processorExchangeFactory.isPooled()) {
+                return null;
+            }
+            List<Exchange> answer = new ArrayList<>(releaseOnDone);
+            Exchange current = result.get();
+            if (current != null && current != original && isReleaseOnAggregate(getAggregationStrategy(current))) {
+                answer.add(current);
+            }
+            if (pairs instanceof Collection) {
+                // all the pairs are created up front, so the pairs after the sent pairs was never in use
+                int sent = nbExchangeSent.get();
+                int index = 0;
+                for (ProcessorExchangePair pair : pairs) {
+                    if (index++ >= sent && pair != null) {
+                        answer.add(pair.getExchange());
+                    }
+                }
+            }
+            return answer;
+        }
+
         protected void timeout() {
             Lock lock = this.lock;
             if (lock.tryLock()) {
@@ -522,7 +638,9 @@ public class MulticastProcessor extends AsyncProcessorSupport
                             }
                         }
                         if (exchange != null) {
+                            Exchange previous = result.get();
                             doAggregate(result, exchange, original);
+                            release(previous, exchange);
                             nbAggregated.incrementAndGet();
                         }
                     }
@@ -539,7 +657,8 @@ public class MulticastProcessor extends AsyncProcessorSupport
 
         protected void doTimeoutDone(Exchange exchange, boolean forceExhaust) {
             if (done.compareAndSet(false, true)) {
-                MulticastProcessor.this.doDone(original, exchange, pairs, callback, false, forceExhaust);
+                MulticastProcessor.this.doDone(original, exchange, pairs, getExchangesToRelease(), callback, false,
+                        forceExhaust);
             }
         }
 
@@ -554,7 +673,8 @@ public class MulticastProcessor extends AsyncProcessorSupport
                         LOG.debug("Cancel timeout task caused an exception. This exception is ignored.", e);
                     }
                 }
-                MulticastProcessor.this.doDone(original, exchange, pairs, callback, false, forceExhaust);
+                MulticastProcessor.this.doDone(original, exchange, pairs, getExchangesToRelease(), callback, false,
+                        forceExhaust);
             }
         }
 
@@ -584,6 +704,10 @@ public class MulticastProcessor extends AsyncProcessorSupport
                 if (done.get()) {
                     return;
                 }
+                // wait for a slot if the number of inflight exchanges is bounded (this provides backpressure on the iterator)
+                if (!acquireSlot()) {
+                    return;
+                }
 
                 // Get next processor exchange pair to sent, skipping null ones
                 ProcessorExchangePair pair = getNextProcessorExchangePair();
@@ -843,6 +967,30 @@ public class MulticastProcessor extends AsyncProcessorSupport
     protected void doDone(
             Exchange original, Exchange subExchange, final Iterable<ProcessorExchangePair> pairs,
             AsyncCallback callback, boolean doneSync, boolean forceExhaust) {
+        List<Exchange> exchanges = null;
+        if (pairs != null) {
+            exchanges = new ArrayList<>();
+            for (ProcessorExchangePair pair : pairs) {
+                exchanges.add(pair.getExchange());
+            }
+        }
+        doDone(original, subExchange, pairs, exchanges, callback, doneSync, forceExhaust);
+    }
+
+    /**
+     * Common work which must be done when we are done multicasting.
+     *
+     * @param original     the original exchange
+     * @param subExchange  the current sub exchange, can be <tt>null</tt> for the synchronous part
+     * @param pairs        the pairs with the exchanges to process
+     * @param exchanges    the exchanges created with the factory which should be released, can be <tt>null</tt>
+     * @param callback     the callback
+     * @param doneSync     the <tt>doneSync</tt> parameter to call on callback
+     * @param forceExhaust whether error handling is exhausted
+     */
+    protected void doDone(
+            Exchange original, Exchange subExchange, final Iterable<ProcessorExchangePair> pairs,
+            Collection<Exchange> exchanges, AsyncCallback callback, boolean doneSync, boolean forceExhaust) {
 
         AggregationStrategy strategy = getAggregationStrategy(subExchange);
         // invoke the on completion callback
@@ -881,11 +1029,11 @@ public class MulticastProcessor extends AsyncProcessorSupport
             }
         }
 
-        if (processorExchangeFactory != null && pairs != null) {
-            // the exchanges on the pairs was created with a factory, so they should be released
+        if (processorExchangeFactory != null && exchanges != null) {
+            // the exchanges was created with a factory, so they should be released
             try {
-                for (ProcessorExchangePair pair : pairs) {
-                    processorExchangeFactory.release(pair.getExchange());
+                for (Exchange exchange : exchanges) {
+                    processorExchangeFactory.release(exchange);
                 }
             } catch (Exception e) {
                 LOG.warn("Error releasing exchange due to {}. This exception is ignored.", e.getMessage(), e);
@@ -973,6 +1121,18 @@ public class MulticastProcessor extends AsyncProcessorSupport
         }
     }
 
+    /**
+     * Whether the aggregation strategy is known to only keep the result of the aggregation (or the original exchange),
+     * so the other sub exchanges can be released as soon as they have been aggregated.
+     */
+    protected boolean isReleaseOnAggregate(AggregationStrategy strategy) {
+        if (strategy instanceof ShareUnitOfWorkAggregationStrategy share) {
+            strategy = share.getDelegate();
+        }
+        return strategy == null || strategy.getClass() == UseOriginalAggregationStrategy.class
+                || strategy.getClass() == UseLatestAggregationStrategy.class;
+    }
+
     protected Integer getExchangeIndex(Exchange exchange) {
         return exchange.getProperty(ExchangePropertyKey.MULTICAST_INDEX, Integer.class);
     }
@@ -1295,6 +1455,34 @@ public class MulticastProcessor extends AsyncProcessorSupport
         return streaming;
     }
 
+    /**
+     * The maximum number of exchanges which are sent and not yet aggregated when using parallel processing, or 0 for no
+     * limit.
+     * <p/>
+     * When the limit is reached, then no more exchanges are created (such as reading the next split message from a
+     * stream) until an exchange has been aggregated.
+     */
+    public int getMaxInflightExchanges() {
+        return maxInflightExchanges;
+    }
+
+    public void setMaxInflightExchanges(int maxInflightExchanges) {
+        this.maxInflightExchanges = maxInflightExchanges;
+    }
+
+    /**
+     * Whether the replies are aggregated in the same order as the exchanges were sent when in streaming mode, by
+     * holding the replies which come back early until the previous replies have been aggregated. When not in streaming
+     * mode, then the replies are always aggregated in order.
+     */
+    public boolean isAggregateInOrder() {
+        return aggregateInOrder;
+    }
+
+    public void setAggregateInOrder(boolean aggregateInOrder) {
+        this.aggregateInOrder = aggregateInOrder;
+    }
+
     /**
      * Should the multicast processor stop processing further exchanges in case of an exception occurred?
      */
@@ -31,9 +31,12 @@ import org.apache.camel.Expression;
 import org.apache.camel.Navigate;
 import org.apache.camel.Processor;
 import org.apache.camel.Traceable;
+import org.apache.camel.processor.resequencer.DefaultExchangeComparator;
 import org.apache.camel.processor.resequencer.ResequencerEngine;
 import org.apache.camel.processor.resequencer.SequenceElementComparator;
 import org.apache.camel.processor.resequencer.SequenceSender;
+import org.apache.camel.processor.resequencer.StreamResequencerEngine;
+import org.apache.camel.processor.resequencer.WindowResequencerEngine;
 import org.apache.camel.spi.ExceptionHandler;
 import org.apache.camel.spi.IdAware;
 import org.apache.camel.spi.RouteIdAware;
@@ -58,8 +61,12 @@ import org.slf4j.LoggerFactory;
  * <p>
  * Instances of this class poll for {@link Exchange}s from a given <code>endpoint</code>. Resequencing work and the
  * delivery of messages to the next <code>processor</code> is done within the single polling thread.
+ * <p>
+ * When sliding window is enabled, the {@link WindowResequencerEngine} is used instead, which stores the messages by
+ * their <code>long</code> sequence number in a sliding window rather than sorting them.
  *
  * @see ResequencerEngine
+ * @see WindowResequencerEngine
  */
 public class StreamResequencer extends AsyncProcessorSupport
         implements SequenceSender<Exchange>, Navigate<Processor>, Traceable, IdAware, RouteIdAware {
@@ -70,7 +77,7 @@ public class StreamResequencer extends AsyncProcessorSupport
     private String routeId;
     private final CamelContext camelContext;
     private final ExceptionHandler exceptionHandler;
-    private final ResequencerEngine<Exchange> engine;
+    private final StreamResequencerEngine<Exchange> engine;
     private final Processor processor;
     private final Expression expression;
     private Delivery delivery;
@@ -86,9 +93,30 @@ public class StreamResequencer extends AsyncProcessorSupport
      */
     public StreamResequencer(CamelContext camelContext, Processor processor, SequenceElementComparator<Exchange> comparator,
                              Expression expression) {
+        this(camelContext, processor, comparator, expression, false);
+    }
+
+    /**
+     * Creates a new {@link StreamResequencer} instance.
+     *
+     * @param processor     next processor that processes re-ordered exchanges.
+     * @param comparator    a sequence element comparator for exchanges.
+     * @param slidingWindow whether to resequence the exchanges in a sliding window over their sequence numbers, which
+     *                      requires the {@link DefaultExchangeComparator}.
+     */
+    public StreamResequencer(CamelContext camelContext, Processor processor, SequenceElementComparator<Exchange> comparator,
+                             Expression expression, boolean slidingWindow) {
         ObjectHelper.notNull(camelContext, "CamelContext");
         this.camelContext = camelContext;
-        this.engine = new ResequencerEngine<>(comparator);
+        if (slidingWindow) {
+            if (!(comparator instanceof DefaultExchangeComparator)) {
+                throw new IllegalArgumentException(
+                        "Sliding window requires the default comparator, was: " + comparator);
+            }
+            this.engine = new WindowResequencerEngine<>(this::sequenceNumber);
+        } else {
+            this.engine = new ResequencerEngine<>(comparator);
+        }
         this.engine.setSequenceSender(this);
         this.processor = processor;
         this.expression = expression;
@@ -149,6 +177,13 @@ public class StreamResequencer extends AsyncProcessorSupport
         this.deliveryAttemptInterval = deliveryAttemptInterval;
     }
 
+    /**
+     * Whether the exchanges are resequenced in a sliding window over their sequence numbers.
+     */
+    public boolean isSlidingWindow() {
+        return engine instanceof WindowResequencerEngine;
+    }
+
     public boolean isIgnoreInvalidExchanges() {
         return ignoreInvalidExchanges;
     }
@@ -215,6 +250,10 @@ public class StreamResequencer extends AsyncProcessorSupport
     protected void doStart() throws Exception {
         ServiceHelper.startService(processor);
         delivery = new Delivery();
+        if (engine instanceof WindowResequencerEngine<Exchange> window) {
+            // the window covers twice the capacity, so out of order exchanges rarely fall outside of it
+            window.setWindowSize((int) Math.min(capacity * 2L, Integer.MAX_VALUE));
+        }
         engine.start();
         delivery.start();
     }
@@ -240,7 +279,7 @@ public class StreamResequencer extends AsyncProcessorSupport
     @Override
     public boolean process(Exchange exchange, AsyncCallback callback) {
         try {
-            engine.waitUntil(s -> s.size() < capacity);
+            engine.waitForCapacity(capacity);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             // we were interrupted so break out
@@ -267,6 +306,15 @@ public class StreamResequencer extends AsyncProcessorSupport
         return true;
     }
 
+    private Long sequenceNumber(Exchange exchange) {
+        try {
+            return expression.evaluate(exchange, Long.class);
+        } catch (Exception e) {
+            // the exchange is invalid
+            return null;
+        }
+    }
+
     @Override
     public boolean hasNext() {
         return processor != null;
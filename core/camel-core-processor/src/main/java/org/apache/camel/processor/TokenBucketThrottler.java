@@ -0,0 +1,368 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.RuntimeExchangeException;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A <a href="http://camel.apache.org/throttler.html">Throttler</a> will set a limit on the maximum number of message
+ * exchanges which can be sent to a processor within a specific time period.
+ * <p/>
+ * This throttle implementation is thread-safe and is therefore safe to be used by multiple concurrent threads in a
+ * single route.
+ * <p/>
+ * The throttling mechanism is a token bucket per correlation key, which holds up to maxRequestsPerPeriod tokens and is
+ * refilled continuously with one token every timePeriodMillis / maxRequestsPerPeriod. The bucket is kept as the
+ * theoretical arrival time of the next request (generic cell rate algorithm), which is updated with a compare and set,
+ * so acquiring a token does not lock or allocate. A caller which has to wait reserves its token up front, and is then
+ * delayed until the token is due: by parking the current thread, or when asyncDelayed is enabled, by scheduling the
+ * continuation of the exchange on the async executor so no thread is held while waiting.
+ * <p/>
+ * Buckets which have been idle (full) for a while are evicted, so the memory used is bound by the number of keys which
+ * are active rather than by the number of keys seen.
+ */
+public class TokenBucketThrottler extends AbstractThrottler {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TokenBucketThrottler.class);
+
+    // marks a bucket which has been evicted, and must no longer be used
+    private static final long EVICTED = Long.MIN_VALUE;
+
+    private volatile long timePeriodMillis;
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+    // guards scheduling the eviction, which is rescheduled when the time period is changed
+    private final Lock cleanLock = new ReentrantLock();
+    private ScheduledFuture<?> cleanFuture;
+
+    public TokenBucketThrottler(final CamelContext camelContext, final Expression maxRequestsExpression,
+                                final long timePeriodMillis,
+                                final ScheduledExecutorService asyncExecutor, final boolean shutdownAsyncExecutor,
+                                final boolean rejectExecution, Expression correlation) {
+        super(asyncExecutor, shutdownAsyncExecutor, camelContext, rejectExecution, correlation, maxRequestsExpression);
+
+        if (timePeriodMillis <= 0) {
+            throw new IllegalArgumentException("TimePeriodMillis should be a positive number, was: " + timePeriodMillis);
+        }
+        this.timePeriodMillis = timePeriodMillis;
+    }
+
+    @Override
+    public boolean process(final Exchange exchange, final AsyncCallback callback) {
+        try {
+            if (!isRunAllowed()) {
+                throw new RejectedExecutionException("Run is not allowed");
+            }
+
+            String key = DEFAULT_KEY;
+            if (correlationExpression != null) {
+                key = correlationExpression.evaluate(exchange, String.class);
+            }
+            int rate = evaluateMaxRequestsPerPeriod(exchange);
+            long periodNanos = TimeUnit.MILLISECONDS.toNanos(timePeriodMillis);
+
+            long delay;
+            Bucket bucket;
+            do {
+                bucket = buckets.computeIfAbsent(key, k -> new Bucket());
+                bucket.rate = rate;
+                delay = isRejectExecution()
+                        ? bucket.tryAcquire(System.nanoTime(), periodNanos) : bucket.reserve(System.nanoTime(), periodNanos);
+                if (delay == EVICTED) {
+                    // the bucket was evicted while we looked it up, so use a new bucket
+                    buckets.remove(key, bucket);
+                }
+            } while (delay == EVICTED);
+
+            if (delay > 0) {
+                if (isRejectExecution()) {
+                    throw new ThrottlerRejectedExecutionException(
+                            "Exceeded the max throttle rate of " + rate + " within " + timePeriodMillis + "ms");
+                }
+                if (isAsyncDelayed() && !exchange.isTransacted()) {
+                    return processAsynchronously(exchange, callback, delay);
+                }
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Throttled for {}ms, exchangeId: {}", TimeUnit.NANOSECONDS.toMillis(delay),
+                            exchange.getExchangeId());
+                }
+                park(delay);
+            } else if (LOG.isTraceEnabled()) {
+                LOG.trace("No throttling applied to exchangeId: {}", exchange.getExchangeId());
+            }
+
+            callback.done(true);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return handleInterrupt(exchange, callback, e, true);
+        } catch (Exception e) {
+            return handleException(exchange, callback, e, true);
+        }
+    }
+
+    /**
+     * Continues the exchange on the async executor when its token is due, as the token is already reserved. Except if
+     * the executor rejects the task and isCallerRunsWhenRejected() is enabled, then the current thread waits for the
+     * token instead.
+     */
+    protected boolean processAsynchronously(final Exchange exchange, final AsyncCallback callback, long delay)
+            throws InterruptedException {
+        try {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Throttle rate exceeded but AsyncDelayed enabled, so delaying for {}ms async, exchangeId: {}",
+                        TimeUnit.NANOSECONDS.toMillis(delay), exchange.getExchangeId());
+            }
+            asyncExecutor.schedule(() -> callback.done(false), delay, TimeUnit.NANOSECONDS);
+            return false;
+        } catch (final RejectedExecutionException e) {
+            if (isCallerRunsWhenRejected()) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("AsyncExecutor is full, rejected exchange will wait in the current thread, exchangeId: {}",
+                            exchange.getExchangeId());
+                }
+                park(delay);
+                callback.done(true);
+                return true;
+            }
+            throw e;
+        }
+    }
+
+    private void park(long delay) throws InterruptedException {
+        long deadline = System.nanoTime() + delay;
+        long remaining = delay;
+        while (remaining > 0) {
+            LockSupport.parkNanos(this, remaining);
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            remaining = deadline - System.nanoTime();
+        }
+    }
+
+    /**
+     * Evaluates the maxRequestsPerPeriodExpression
+     */
+    private int evaluateMaxRequestsPerPeriod(final Exchange exchange) {
+        Integer rate = getMaximumRequestsExpression().evaluate(exchange, Integer.class);
+        if (rate == null) {
+            throw new RuntimeExchangeException(
+                    "The maxRequestsPerPeriodExpression was evaluated as null: " + getMaximumRequestsExpression(), exchange);
+        }
+        if (rate <= 0) {
+            throw new IllegalStateException("The maximumRequestsPerPeriod must be a positive number, was: " + rate);
+        }
+        return rate;
+    }
+
+    /**
+     * Evicts the buckets which have been full for the clean period, as they hold no state a new bucket would not have.
+     */
+    private void evictIdleBuckets(long cleanPeriodMillis) {
+        long now = System.nanoTime();
+        long idleNanos = TimeUnit.MILLISECONDS.toNanos(cleanPeriodMillis);
+        int before = buckets.size();
+        buckets.values().removeIf(bucket -> bucket.evict(now, idleNanos));
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("Evicted {} idle throttling buckets", before - buckets.size());
+        }
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        ObjectHelper.notNull(asyncExecutor, "executorService", this);
+        cleanLock.lock();
+        try {
+            scheduleEviction();
+        } finally {
+            cleanLock.unlock();
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        cleanLock.lock();
+        try {
+            if (cleanFuture != null) {
+                cleanFuture.cancel(false);
+                cleanFuture = null;
+            }
+        } finally {
+            cleanLock.unlock();
+        }
+    }
+
+    /**
+     * Schedules the eviction of idle buckets, with a clean period of ten times the current time period.
+     * <p/>
+     * Must be called while holding the clean lock.
+     */
+    private void scheduleEviction() {
+        if (cleanFuture != null) {
+            cleanFuture.cancel(false);
+        }
+        final long cleanPeriodMillis = timePeriodMillis * 10;
+        cleanFuture = asyncExecutor.scheduleWithFixedDelay(() -> evictIdleBuckets(cleanPeriodMillis), cleanPeriodMillis,
+                cleanPeriodMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    protected void doShutdown() throws Exception {
+        if (shutdownAsyncExecutor && asyncExecutor != null) {
+            camelContext.getExecutorServiceManager().shutdownNow(asyncExecutor);
+        }
+        buckets.clear();
+        super.doShutdown();
+    }
+
+    /**
+     * A token bucket, which is the theoretical arrival time of the next request if the requests arrive at the maximum
+     * rate. The bucket is full when that time has passed.
+     */
+    private static final class Bucket {
+        private final AtomicLong arrival = new AtomicLong(System.nanoTime());
+        private volatile int rate;
+
+        /**
+         * Reserves a token.
+         *
+         * @return the nanos to wait until the token is due, or {@link #EVICTED} if the bucket was evicted
+         */
+        long reserve(long now, long periodNanos) {
+            long interval = Math.max(periodNanos / rate, 1);
+            long current;
+            long delay;
+            do {
+                current = arrival.get();
+                if (current == EVICTED) {
+                    return EVICTED;
+                }
+                long start = current - now < 0 ? now : current;
+                // the bucket holds up to rate tokens, so allow the next request up to one period ahead
+                delay = Math.max(start + interval - periodNanos - now, 0);
+                if (arrival.compareAndSet(current, start + interval)) {
+                    return delay;
+                }
+            } while (true);
+        }
+
+        /**
+         * Acquires a token if one is available.
+         *
+         * @return 0 if the token was acquired, the nanos until a token is available, or {@link #EVICTED} if the
+         *         bucket was evicted
+         */
+        long tryAcquire(long now, long periodNanos) {
+            long interval = Math.max(periodNanos / rate, 1);
+            long current;
+            do {
+                current = arrival.get();
+                if (current == EVICTED) {
+                    return EVICTED;
+                }
+                long start = current - now < 0 ? now : current;
+                long delay = start + interval - periodNanos - now;
+                if (delay > 0) {
+                    return delay;
+                }
+                if (arrival.compareAndSet(current, start + interval)) {
+                    return 0;
+                }
+            } while (true);
+        }
+
+        /**
+         * Marks the bucket as evicted if it has been full for the given time
+         */
+        boolean evict(long now, long idleNanos) {
+            long current = arrival.get();
+            return current != EVICTED && now - current > idleNanos && arrival.compareAndSet(current, EVICTED);
+        }
+    }
+
+    @Override
+    public String getMode() {
+        return "TokenBucket";
+    }
+
+    /**
+     * Gets the current maximum request per period value. If it is grouped throttling applied with correlationExpression
+     * than the max per period within the group will return
+     */
+    @Override
+    public int getCurrentMaximumRequests() {
+        return buckets.values().stream().mapToInt(bucket -> bucket.rate).max().orElse(0);
+    }
+
+    /**
+     * Gets the number of correlation keys which currently have a token bucket
+     */
+    public int getBucketCount() {
+        return buckets.size();
+    }
+
+    /**
+     * Sets the time period during which the maximum number of requests apply
+     */
+    public void setTimePeriodMillis(final long timePeriodMillis) {
+        if (timePeriodMillis <= 0) {
+            throw new IllegalArgumentException("TimePeriodMillis should be a positive number, was: " + timePeriodMillis);
+        }
+        cleanLock.lock();
+        try {
+            this.timePeriodMillis = timePeriodMillis;
+            // reschedule the eviction if started, so the clean period follows the time period
+            if (cleanFuture != null) {
+                scheduleEviction();
+            }
+        } finally {
+            cleanLock.unlock();
+        }
+    }
+
+    public long getTimePeriodMillis() {
+        return timePeriodMillis;
+    }
+
+    @Override
+    public String getTraceLabel() {
+        return "throttle[" + this.getMaximumRequestsExpression() + " per: " + timePeriodMillis + "]";
+    }
+
+    @Override
+    public String toString() {
+        return id;
+    }
+}
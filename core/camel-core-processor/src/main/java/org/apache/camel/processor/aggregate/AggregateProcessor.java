@@ -66,6 +66,7 @@ import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.support.LRUCacheFactory;
 import org.apache.camel.support.LoggingExceptionHandler;
 import org.apache.camel.support.NoLock;
+import org.apache.camel.support.StripedLock;
 import org.apache.camel.support.service.ServiceHelper;
 import org.apache.camel.util.ObjectHelper;
 import org.apache.camel.util.StopWatch;
@@ -100,6 +101,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
 
     private static final Logger LOG = LoggerFactory.getLogger(AggregateProcessor.class);
     private volatile Lock lock;
+    private volatile StripedLock stripedLock;
     private final AtomicBoolean aggregateRepositoryWarned = new AtomicBoolean();
     private final CamelContext camelContext;
     private final ReactiveExecutor reactiveExecutor;
@@ -231,6 +233,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
     private Integer closeCorrelationKeyOnCompletion;
     private boolean parallelProcessing;
     private boolean optimisticLocking;
+    private int lockStripes;
 
     // different ways to have completion triggered
     private boolean eagerCheckCompletion;
@@ -404,13 +407,15 @@ public class AggregateProcessor extends AsyncProcessorSupport
         removeFlagCompleteAllGroupsInclusive(copy);
 
         List<Exchange> aggregated = null;
-        lock.lock();
+        AtomicBoolean completeAllGroups = new AtomicBoolean();
+        Lock keyLock = lockFor(key);
+        keyLock.lock();
         try {
-            aggregated = doAggregation(key, copy);
+            aggregated = doAggregation(key, copy, completeAllGroups);
         } catch (CamelExchangeException e) {
             exchange.setException(e);
         } finally {
-            lock.unlock();
+            keyLock.unlock();
         }
 
         // we are completed so do that work outside the lock
@@ -419,6 +424,11 @@ public class AggregateProcessor extends AsyncProcessorSupport
             aggregated.forEach(agg -> onSubmitCompletion(key, agg));
         }
 
+        // the aggregation strategy requested to complete all groups while we only held the lock for the current key
+        if (completeAllGroups.get()) {
+            forceCompletionOfAllGroups();
+        }
+
         // check for the special header to force completion of all groups (inclusive of the message)
         if (isCompleteAllGroupsInclusive(exchange)) {
             removeFlagCompleteAllGroupsInclusive(exchange);
@@ -461,6 +471,15 @@ public class AggregateProcessor extends AsyncProcessorSupport
         return exchange.getIn().getHeader(Exchange.AGGREGATION_COMPLETE_ALL_GROUPS_INCLUSIVE, false, boolean.class);
     }
 
+    /**
+     * Gets the lock to use when aggregating the given correlation key, which is either the shared aggregation lock, or
+     * the lock of the stripe the key is mapped to when using lock stripes.
+     */
+    private Lock lockFor(String key) {
+        StripedLock striped = stripedLock;
+        return striped != null ? striped.getLock(key) : lock;
+    }
+
     /**
      * Aggregates the exchange with the given correlation key
      * <p/>
@@ -472,11 +491,14 @@ public class AggregateProcessor extends AsyncProcessorSupport
      *
      * @param  key                                     the correlation key
      * @param  newExchange                             the exchange
+     * @param  completeAllGroups                       set to <tt>true</tt> if all groups should be completed after the
+     *                                                 lock for the correlation key has been released
      * @return                                         the aggregated exchange(s) which is complete, or <tt>null</tt> if
      *                                                 not yet complete
      * @throws org.apache.camel.CamelExchangeException is thrown if error aggregating
      */
-    private List<Exchange> doAggregation(String key, Exchange newExchange) throws CamelExchangeException {
+    private List<Exchange> doAggregation(String key, Exchange newExchange, AtomicBoolean completeAllGroups)
+            throws CamelExchangeException {
         LOG.trace("onAggregation +++ start +++ with correlation key: {}", key);
 
         List<Exchange> list = new ArrayList<>();
@@ -576,7 +598,13 @@ public class AggregateProcessor extends AsyncProcessorSupport
         // check for the special exchange property to force completion of all groups
         if (isCompleteAllGroups(answer)) {
             removeFlagCompleteAllGroups(answer);
-            forceCompletionOfAllGroups();
+            if (stripedLock != null) {
+                // we only hold the lock for the stripe of this key, and cannot acquire all the stripes without risking
+                // a deadlock, so the completion of all groups must be done after the lock has been released
+                completeAllGroups.set(true);
+            } else {
+                forceCompletionOfAllGroups();
+            }
         } else if (isCompletionOnNewCorrelationGroup() && originalExchange == null) {
             // its a new group so force complete of all existing groups
             forceCompletionOfAllGroups();
@@ -1104,6 +1132,23 @@ public class AggregateProcessor extends AsyncProcessorSupport
         this.optimisticLocking = optimisticLocking;
     }
 
+    public int getLockStripes() {
+        return lockStripes;
+    }
+
+    /**
+     * Sets the number of lock stripes to use, which allows exchanges for different correlation keys to be aggregated in
+     * parallel, where only exchanges with correlation keys that are mapped to the same stripe are aggregated one at a
+     * time. The number is rounded up to the nearest power of two. By default, a single lock is shared for all
+     * correlation keys.
+     * <p/>
+     * This is not in use when using optimistic locking, completionFromBatchConsumer or completionOnNewCorrelationGroup,
+     * as these need to see all the correlation groups at once.
+     */
+    public void setLockStripes(int lockStripes) {
+        this.lockStripes = lockStripes;
+    }
+
     public AggregationRepository getAggregationRepository() {
         return aggregationRepository;
     }
@@ -1628,6 +1673,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
         }
         aggregateController.onStart(this);
 
+        stripedLock = null;
         if (optimisticLocking) {
             lock = NoLock.INSTANCE;
             if (getOptimisticLockingExecutorService() == null) {
@@ -1635,6 +1681,11 @@ public class AggregateProcessor extends AsyncProcessorSupport
                         .newSingleThreadScheduledExecutor(this, AGGREGATE_OPTIMISTIC_LOCKING_EXECUTOR));
                 shutdownOptimisticLockingExecutorService = true;
             }
+        } else if (lockStripes > 1 && !isCompletionFromBatchConsumer() && !isCompletionOnNewCorrelationGroup()) {
+            LOG.info("Using {} lock stripes for aggregating correlation groups in parallel", lockStripes);
+            // the lock for all stripes is used as the shared aggregation lock by the background tasks
+            stripedLock = new StripedLock(lockStripes);
+            lock = stripedLock;
         } else {
             lock = new ReentrantLock();
         }
@@ -1748,7 +1799,8 @@ public class AggregateProcessor extends AsyncProcessorSupport
         // must acquire the shared aggregation lock to be able to trigger force completion
         int total = 0;
 
-        lock.lock();
+        Lock keyLock = lockFor(key);
+        keyLock.lock();
         try {
             Exchange exchange = aggregationRepository.get(camelContext, key);
             if (exchange != null) {
@@ -1762,7 +1814,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
                 }
             }
         } finally {
-            lock.unlock();
+            keyLock.unlock();
         }
         LOG.trace("Completed force completion of group {}", key);
 
@@ -1821,7 +1873,8 @@ public class AggregateProcessor extends AsyncProcessorSupport
         // must acquire the shared aggregation lock to be able to trigger force completion
         int total = 0;
 
-        lock.lock();
+        Lock keyLock = lockFor(key);
+        keyLock.lock();
         try {
             Exchange exchange = aggregationRepository.get(camelContext, key);
             if (exchange != null) {
@@ -1831,7 +1884,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
                 onCompletion(key, exchange, exchange, false, true);
             }
         } finally {
-            lock.unlock();
+            keyLock.unlock();
         }
         LOG.trace("Completed force discarded of group {}", key);
 
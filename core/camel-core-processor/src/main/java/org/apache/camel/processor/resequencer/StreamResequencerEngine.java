@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.resequencer;
+
+/**
+ * A resequencer engine for resequencing element streams, which delivers the resequenced elements via a
+ * {@link SequenceSender}.
+ *
+ * @see ResequencerEngine
+ * @see WindowResequencerEngine
+ */
+public interface StreamResequencerEngine<E> {
+
+    /**
+     * Starts this resequencer engine.
+     */
+    void start();
+
+    /**
+     * Stops this resequencer engine.
+     */
+    void stop();
+
+    /**
+     * Returns the number of elements currently maintained by this resequencer.
+     */
+    int size();
+
+    /**
+     * Waits until the number of elements maintained by this resequencer is less than the given capacity. Do not call
+     * this method while holding a lock on the resequencer engine, as it will deadlock.
+     *
+     * @param  capacity             the capacity
+     * @throws InterruptedException if the thread is interrupted
+     */
+    void waitForCapacity(int capacity) throws InterruptedException;
+
+    /**
+     * Returns this resequencer's timeout value in milliseconds.
+     */
+    long getTimeout();
+
+    /**
+     * Sets this resequencer's timeout value in milliseconds.
+     */
+    void setTimeout(long timeout);
+
+    Boolean getRejectOld();
+
+    void setRejectOld(Boolean rejectOld);
+
+    SequenceSender<E> getSequenceSender();
+
+    void setSequenceSender(SequenceSender<E> sequenceSender);
+
+    /**
+     * Inserts the given element into this resequencer.
+     *
+     * @param  o                        an element.
+     * @throws IllegalArgumentException if the element cannot be used with this resequencer engine
+     */
+    void insert(E o);
+
+    /**
+     * Delivers all elements which are currently ready to deliver.
+     *
+     * @throws Exception thrown by {@link SequenceSender#sendElement(Object)}.
+     */
+    void deliver() throws Exception;
+
+    /**
+     * Attempts to deliver a single element from the head of the resequencer queue.
+     *
+     * @return           <code>true</code> if the element has been delivered <code>false</code> otherwise.
+     * @throws Exception thrown by {@link SequenceSender#sendElement(Object)}.
+     */
+    boolean deliverNext() throws Exception;
+
+}
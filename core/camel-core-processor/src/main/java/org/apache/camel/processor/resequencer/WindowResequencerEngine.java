@@ -0,0 +1,361 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.resequencer;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Resequences elements which have a <code>long</code> sequence number, with the same behaviour as the
+ * {@link ResequencerEngine}, but without sorting the elements in a tree.
+ * <p>
+ * The elements are stored in a ring buffer, which is a sliding window over the sequence numbers following the last
+ * delivered element, where an element is stored at the slot of its sequence number. So inserting an element, looking
+ * up its predecessor and successor, and delivering the lowest element do not compare any elements. Elements with a
+ * sequence number outside the window are kept sorted in a tree, and are moved into the window when it slides past them.
+ * When the sequence numbers are dense, as they are when they come from a counter, the window holds all the elements.
+ * <p>
+ * As all the elements are given the same timeout, the time an element is ready for delivery is stored next to it in the
+ * window, and it is checked when the element is about to be delivered. So there is no timer thread, and no timer task
+ * is allocated per element.
+ */
+public class WindowResequencerEngine<E> implements StreamResequencerEngine<E> {
+
+    /**
+     * The default number of sequence numbers covered by the window.
+     */
+    public static final int DEFAULT_WINDOW_SIZE = 1024;
+
+    private static final int MAX_WINDOW_SIZE = 1 << 20;
+
+    /**
+     * Marks an element which is ready for delivery.
+     */
+    private static final long READY = Long.MIN_VALUE;
+
+    private final Lock lock = new ReentrantLock();
+    private final Condition notFull = lock.newCondition();
+    private final Function<E, Long> sequenceNumber;
+    private final TreeMap<Long, Entry<E>> overflow = new TreeMap<>();
+    private int windowSize = DEFAULT_WINDOW_SIZE;
+    private Object[] elements;
+    private long[] deadlines;
+    private int mask;
+    private long base;
+    private int windowCount;
+    private int size;
+    private long timeout;
+    private Boolean rejectOld;
+    private SequenceSender<E> sequenceSender;
+    private E lastDelivered;
+    private long lastDeliveredSequence;
+
+    /**
+     * Creates a new resequencer instance with a default timeout of 2000 milliseconds.
+     *
+     * @param sequenceNumber function which returns the sequence number of an element, or <code>null</code> if the
+     *                       element cannot be used with this resequencer
+     */
+    public WindowResequencerEngine(Function<E, Long> sequenceNumber) {
+        this.sequenceNumber = sequenceNumber;
+        this.timeout = 2000L;
+    }
+
+    public int getWindowSize() {
+        return windowSize;
+    }
+
+    /**
+     * Sets the number of sequence numbers covered by the window, which is rounded up to a power of two. This must be
+     * set before the resequencer is started.
+     */
+    public void setWindowSize(int windowSize) {
+        int n = Math.max(16, Math.min(windowSize, MAX_WINDOW_SIZE));
+        this.windowSize = Integer.highestOneBit(n - 1) << 1;
+    }
+
+    @Override
+    public void start() {
+        lock.lock();
+        try {
+            if (elements == null) {
+                elements = new Object[windowSize];
+                deadlines = new long[windowSize];
+                mask = windowSize - 1;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void stop() {
+        // noop as there is no timer
+    }
+
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void waitForCapacity(int capacity) throws InterruptedException {
+        lock.lock();
+        try {
+            while (size >= capacity) {
+                notFull.await();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public long getTimeout() {
+        return timeout;
+    }
+
+    @Override
+    public void setTimeout(long timeout) {
+        this.timeout = timeout;
+    }
+
+    @Override
+    public Boolean getRejectOld() {
+        return rejectOld;
+    }
+
+    @Override
+    public void setRejectOld(Boolean rejectOld) {
+        this.rejectOld = rejectOld;
+    }
+
+    @Override
+    public SequenceSender<E> getSequenceSender() {
+        return sequenceSender;
+    }
+
+    @Override
+    public void setSequenceSender(SequenceSender<E> sequenceSender) {
+        this.sequenceSender = sequenceSender;
+    }
+
+    /**
+     * Returns the last delivered element.
+     *
+     * @return the last delivered element or <code>null</code> if no delivery has been made yet.
+     */
+    E getLastDelivered() {
+        return lastDelivered;
+    }
+
+    /**
+     * Sets the last delivered element. This is for testing purposes only.
+     *
+     * @param o an element.
+     */
+    void setLastDelivered(E o) {
+        lastDelivered = o;
+        lastDeliveredSequence = sequenceNumber.apply(o);
+    }
+
+    @Override
+    public void insert(E o) {
+        Long number = sequenceNumber.apply(o);
+        if (number == null) {
+            throw new IllegalArgumentException("Element cannot be used in resequencer: " + o);
+        }
+        long seq = number;
+
+        lock.lock();
+        try {
+            if (lastDelivered != null && rejectOld != null && rejectOld && seq < lastDeliveredSequence) {
+                throw new MessageRejectedException(
+                        "rejecting message [" + o + "], it should have been sent before the last delivered message ["
+                                                   + lastDelivered + "]");
+            }
+            if (windowCount == 0 && !inWindow(seq)) {
+                slide(seq - (windowSize >> 1));
+            }
+            if (contains(seq)) {
+                // duplicates are dropped, as with a sorted set
+                return;
+            }
+
+            // the successor of the element does not need to wait any longer
+            if (contains(seq + 1)) {
+                setDeadline(seq + 1, READY);
+            }
+
+            // the element is ready if it is the successor of the last delivered element or if it has a predecessor
+            long deadline = READY;
+            if (!(lastDelivered != null && seq - 1 == lastDeliveredSequence) && !contains(seq - 1)) {
+                deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+                if (deadline == READY) {
+                    deadline++;
+                }
+            }
+
+            if (inWindow(seq)) {
+                int index = (int) seq & mask;
+                elements[index] = o;
+                deadlines[index] = deadline;
+                windowCount++;
+            } else {
+                overflow.put(seq, new Entry<>(o, deadline));
+            }
+            size++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    @SuppressWarnings("StatementWithEmptyBody")
+    public void deliver() throws Exception {
+        lock.lock();
+        try {
+            while (deliverNext()) {
+                // do nothing here
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean deliverNext() throws Exception {
+        lock.lock();
+        try {
+            if (size == 0) {
+                return false;
+            }
+            E element;
+            long seq;
+            Map.Entry<Long, Entry<E>> first = overflow.isEmpty() ? null : overflow.firstEntry();
+            if (first != null && windowCount == 0 && first.getKey() >= base) {
+                // all the elements are above the window so slide the window to them
+                slide(first.getKey());
+                first = null;
+            }
+            if (first != null && first.getKey() < base) {
+                // the lowest element is below the window
+                if (!isReady(first.getValue().deadline)) {
+                    return false;
+                }
+                overflow.pollFirstEntry();
+                element = first.getValue().element;
+                seq = first.getKey();
+            } else {
+                // the lowest element is the first element in the window
+                int index = (int) base & mask;
+                while (elements[index] == null) {
+                    index = (index + 1) & mask;
+                }
+                if (!isReady(deadlines[index])) {
+                    return false;
+                }
+                element = (E) elements[index];
+                elements[index] = null;
+                seq = base + ((index - (int) base) & mask);
+                windowCount--;
+                slide(seq + 1);
+            }
+            size--;
+
+            lastDelivered = element;
+            lastDeliveredSequence = seq;
+
+            sequenceSender.sendElement(element);
+
+            notFull.signalAll();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean inWindow(long seq) {
+        long offset = seq - base;
+        return offset >= 0 && offset < windowSize;
+    }
+
+    private boolean contains(long seq) {
+        if (inWindow(seq)) {
+            return elements[(int) seq & mask] != null;
+        }
+        return !overflow.isEmpty() && overflow.containsKey(seq);
+    }
+
+    private void setDeadline(long seq, long deadline) {
+        if (inWindow(seq)) {
+            deadlines[(int) seq & mask] = deadline;
+        } else {
+            overflow.get(seq).deadline = deadline;
+        }
+    }
+
+    private static boolean isReady(long deadline) {
+        return deadline == READY || System.nanoTime() - deadline >= 0;
+    }
+
+    /**
+     * Slides the window forward to start at the given sequence number, or anywhere when the window is empty, and moves
+     * the elements from the overflow tree which are now in the window.
+     */
+    private void slide(long newBase) {
+        long oldEnd = base + windowSize;
+        base = newBase;
+        if (overflow.isEmpty()) {
+            return;
+        }
+        long from = windowCount == 0 ? base : Math.max(base, oldEnd);
+        for (var it = overflow.subMap(from, true, base + windowSize - 1, true).entrySet().iterator(); it.hasNext();) {
+            Map.Entry<Long, Entry<E>> e = it.next();
+            int index = (int) e.getKey().longValue() & mask;
+            elements[index] = e.getValue().element;
+            deadlines[index] = e.getValue().deadline;
+            windowCount++;
+            it.remove();
+        }
+    }
+
+    /**
+     * An element outside the window.
+     */
+    private static final class Entry<E> {
+        private final E element;
+        private long deadline;
+
+        Entry(E element, long deadline) {
+            this.element = element;
+            this.deadline = deadline;
+        }
+    }
+
+}
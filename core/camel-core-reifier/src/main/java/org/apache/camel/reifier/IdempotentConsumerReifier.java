@@ -23,6 +23,7 @@ import org.apache.camel.model.IdempotentConsumerDefinition;
 import org.apache.camel.model.ProcessorDefinition;
 import org.apache.camel.processor.idempotent.IdempotentConsumer;
 import org.apache.camel.spi.IdempotentRepository;
+import org.apache.camel.support.processor.idempotent.BloomFilterIdempotentRepository;
 import org.apache.camel.util.ObjectHelper;
 
 public class IdempotentConsumerReifier extends ExpressionReifier<IdempotentConsumerDefinition> {
@@ -38,6 +39,11 @@ public class IdempotentConsumerReifier extends ExpressionReifier<IdempotentConsu
         IdempotentRepository idempotentRepository = resolveIdempotentRepository();
         ObjectHelper.notNull(idempotentRepository, "idempotentRepository", definition);
 
+        long bloomFilterExpectedKeys = parseLong(definition.getBloomFilterExpectedKeys(), 0);
+        if (bloomFilterExpectedKeys > 0) {
+            idempotentRepository = new BloomFilterIdempotentRepository(idempotentRepository, bloomFilterExpectedKeys);
+        }
+
         Expression expression = createExpression(definition.getExpression());
 
         // these boolean should be true by default
@@ -127,7 +127,8 @@ public class ResequenceReifier extends ProcessorReifier<ResequenceDefinition> {
         }
         comparator.setExpression(expression);
 
-        StreamResequencer resequencer = new StreamResequencer(camelContext, target, comparator, expression);
+        boolean slidingWindow = parseBoolean(config.getSlidingWindow(), false);
+        StreamResequencer resequencer = new StreamResequencer(camelContext, target, comparator, expression, slidingWindow);
         Long dur = parseDuration(config.getTimeout());
         if (dur != null) {
             resequencer.setTimeout(dur);
@@ -46,6 +46,7 @@ public class SplitReifier extends ExpressionReifier<SplitDefinition> {
         boolean isParallelProcessing = parseBoolean(definition.getParallelProcessing(), false);
         boolean isSynchronous = parseBoolean(definition.getSynchronous(), false);
         boolean isStreaming = parseBoolean(definition.getStreaming(), false);
+        boolean isAggregateInOrder = parseBoolean(definition.getAggregateInOrder(), false);
         boolean isShareUnitOfWork = parseBoolean(definition.getShareUnitOfWork(), false);
         boolean isParallelAggregate = parseBoolean(definition.getParallelAggregate(), false);
         boolean isStopOnException = parseBoolean(definition.getStopOnException(), false);
@@ -56,6 +57,10 @@ public class SplitReifier extends ExpressionReifier<SplitDefinition> {
         if (timeout > 0 && !isParallelProcessing) {
             throw new IllegalArgumentException("Timeout is used but ParallelProcessing has not been enabled.");
         }
+        int maxInflightExchanges = parseInt(definition.getMaxInflightExchanges(), 0);
+        if (maxInflightExchanges > 0 && !isParallelProcessing) {
+            throw new IllegalArgumentException("MaxInflightExchanges is used but ParallelProcessing has not been enabled.");
+        }
         Processor prepare = definition.getOnPrepareProcessor();
         if (prepare == null && definition.getOnPrepare() != null) {
             prepare = mandatoryLookup(definition.getOnPrepare(), Processor.class);
@@ -77,6 +82,8 @@ public class SplitReifier extends ExpressionReifier<SplitDefinition> {
                     isShareUnitOfWork, isParallelAggregate);
         }
         answer.setSynchronous(isSynchronous);
+        answer.setMaxInflightExchanges(maxInflightExchanges);
+        answer.setAggregateInOrder(isAggregateInOrder);
 
         return answer;
     }
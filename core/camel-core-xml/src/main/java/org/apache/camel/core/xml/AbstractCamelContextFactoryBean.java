@@ -893,6 +893,10 @@ public abstract class AbstractCamelContextFactoryBean<T extends ModelCamelContex
                     StreamCachingStrategy.SpoolUsedHeapMemoryLimit.class, limit);
             getContext().getStreamCachingStrategy().setSpoolUsedHeapMemoryLimit(ul);
         }
+        Long spoolOffHeap = CamelContextHelper.parseLong(getContext(), streamCaching.getSpoolOffHeapMemorySize());
+        if (spoolOffHeap != null) {
+            getContext().getStreamCachingStrategy().setSpoolOffHeapMemorySize(spoolOffHeap);
+        }
         String spoolCipher = CamelContextHelper.parseText(getContext(), streamCaching.getSpoolCipher());
         if (spoolCipher != null) {
             getContext().getStreamCachingStrategy().setSpoolCipher(spoolCipher);
@@ -1475,6 +1479,7 @@ public abstract class AbstractCamelContextFactoryBean<T extends ModelCamelContex
         answer.setRejectedPolicy(
                 CamelContextHelper.parse(context, ThreadPoolRejectedPolicy.class, definition.getRejectedPolicy()));
         answer.setTimeUnit(CamelContextHelper.parse(context, TimeUnit.class, definition.getTimeUnit()));
+        answer.setVirtualThreads(CamelContextHelper.parseBoolean(context, definition.getVirtualThreads()));
         return answer;
     }
 
@@ -56,6 +56,9 @@ public class CamelStreamCachingStrategyDefinition extends IdentifiedType {
     @XmlAttribute
     private String spoolUsedHeapMemoryLimit;
     @XmlAttribute
+    @Metadata(defaultValue = "0")
+    private String spoolOffHeapMemorySize;
+    @XmlAttribute
     private String spoolRules;
     @XmlAttribute
     @Metadata(defaultValue = "" + IOHelper.DEFAULT_BUFFER_SIZE)
@@ -195,6 +198,20 @@ public class CamelStreamCachingStrategyDefinition extends IdentifiedType {
         this.spoolUsedHeapMemoryLimit = spoolUsedHeapMemoryLimit;
     }
 
+    public String getSpoolOffHeapMemorySize() {
+        return spoolOffHeapMemorySize;
+    }
+
+    /**
+     * Sets the size in bytes of off-heap (direct) memory which stream caches can use before spooling to disk.
+     * <p/>
+     * When a stream cache should be spooled, then it is first kept in off-heap memory, and only spooled to disk when
+     * all the off-heap memory is in use. Default is 0 which means the stream caches are spooled directly to disk.
+     */
+    public void setSpoolOffHeapMemorySize(String spoolOffHeapMemorySize) {
+        this.spoolOffHeapMemorySize = spoolOffHeapMemorySize;
+    }
+
     public String getSpoolRules() {
         return spoolRules;
     }
@@ -18,6 +18,8 @@ package org.apache.camel;
 
 import java.io.File;
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
 import java.lang.reflect.Method;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -627,6 +629,20 @@ public abstract class TestSupport {
         return Integer.parseInt(javaSpecVersion);
     }
 
+    /**
+     * Gets the number of bytes allocated in the heap by the current thread, which is used by the performance tests to
+     * measure the allocations.
+     *
+     * @return the bytes allocated, or 0 if the JVM does not support measuring it
+     */
+    public static long currentThreadAllocatedBytes() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean sun) {
+            return sun.getCurrentThreadAllocatedBytes();
+        }
+        return 0;
+    }
+
     /**
      * Used for registering a sysetem property.
      * <p/>
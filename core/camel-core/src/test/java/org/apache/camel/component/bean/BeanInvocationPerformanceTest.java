@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.bean;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.camel.Body;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Header;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.util.StopWatch;
+import org.apache.camel.util.TimeUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Measures the time taken and the heap allocated per exchange when invoking a bean with the common
+ * <tt>@Body</tt>/<tt>@Header</tt> signatures, using the <tt>bean:</tt> endpoint and the <tt>method</tt> expression.
+ */
+@EnabledIfSystemProperty(named = "core.manual.tests", matches = "true", disabledReason = "Manual test")
+public class BeanInvocationPerformanceTest extends ContextTestSupport {
+
+    private static final AtomicLong INVOKED = new AtomicLong();
+    private static final int TIMES = 100000;
+
+    @Test
+    public void testBeanEndpoint() {
+        run("direct:bean");
+    }
+
+    @Test
+    public void testMethodExpression() {
+        run("direct:method");
+    }
+
+    private void run(String uri) {
+        // warm up
+        for (int i = 0; i < TIMES; i++) {
+            template.sendBodyAndHeader(uri, "Hello World", "foo", 123);
+        }
+        INVOKED.set(0);
+
+        long before = currentThreadAllocatedBytes();
+        StopWatch watch = new StopWatch();
+        for (int i = 0; i < TIMES; i++) {
+            template.sendBodyAndHeader(uri, "Hello World", "foo", 123);
+        }
+        long taken = watch.taken();
+        long allocated = currentThreadAllocatedBytes() - before;
+
+        log.info("Took {} to invoke the bean {} times from {}, allocating {} bytes per exchange",
+                TimeUtils.printDuration(taken, true), TIMES, uri, allocated / TIMES);
+        assertEquals(TIMES, INVOKED.get());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                bindToRegistry("myBean", new MyBean());
+
+                from("direct:bean").to("bean:myBean?method=doSomething");
+
+                from("direct:method").filter().method("myBean", "accept");
+            }
+        };
+    }
+
+    public static class MyBean {
+
+        public void doSomething(@Body String body, @Header("foo") int foo) {
+            assertEquals("Hello World", body);
+            assertEquals(123, foo);
+            INVOKED.incrementAndGet();
+        }
+
+        public boolean accept(@Body String body) {
+            INVOKED.incrementAndGet();
+            return "Hello World".equals(body);
+        }
+    }
+}
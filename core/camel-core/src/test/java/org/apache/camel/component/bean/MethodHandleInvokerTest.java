@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.bean;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MethodHandleInvokerTest {
+
+    @Test
+    public void testInvokeStatic() throws Exception {
+        assertEquals("Hello World", invoker("hello").invoke(null, "World"));
+    }
+
+    @Test
+    public void testInvoke() throws Exception {
+        MyBean bean = new MyBean();
+        assertEquals(3L, invoker("add").invoke(bean, 1L, 2));
+        assertEquals(7L, invoker("add").invoke(bean, new Object[] { 5L, 2 }));
+        assertNull(invoker("nothing").invoke(bean, "foo"));
+        assertEquals(2, invoker("count").invoke(bean, (Object) new String[] { "a", "b" }));
+        assertEquals("Bye World", invoker("bye").invoke(new MyPrivateBean(), "World"));
+    }
+
+    @Test
+    public void testInvokeWideningPrimitive() throws Exception {
+        // an int argument is widened to long the same way as reflection does
+        assertEquals(3L, invoker("add").invoke(new MyBean(), 1, 2));
+    }
+
+    @Test
+    public void testExceptionThrownByMethod() {
+        MethodHandleInvoker invoker = invoker("fail");
+        InvocationTargetException e
+                = assertThrows(InvocationTargetException.class, () -> invoker.invoke(new MyBean(), "Damn"));
+        assertInstanceOf(IOException.class, e.getTargetException());
+        assertEquals("Damn", e.getTargetException().getMessage());
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        MethodHandleInvoker invoker = invoker("add");
+        MyBean bean = new MyBean();
+        assertThrows(IllegalArgumentException.class, () -> invoker.invoke(bean, null, 2));
+        assertThrows(IllegalArgumentException.class, () -> invoker.invoke(bean, "foo", 2));
+        assertThrows(IllegalArgumentException.class, () -> invoker.invoke(bean, (Object[]) null));
+        assertThrows(IllegalArgumentException.class, () -> invoker.invoke("foo", 1L, 2));
+        assertThrows(NullPointerException.class, () -> invoker.invoke(null, 1L, 2));
+    }
+
+    private static MethodHandleInvoker invoker(String name) {
+        for (Class<?> type : new Class<?>[] { MyBean.class, MyPrivateBean.class }) {
+            for (Method method : type.getDeclaredMethods()) {
+                if (method.getName().equals(name)) {
+                    return new MethodHandleInvoker(method);
+                }
+            }
+        }
+        throw new IllegalArgumentException(name);
+    }
+
+    public static class MyBean {
+
+        public static String hello(String name) {
+            return "Hello " + name;
+        }
+
+        public long add(long a, int b) {
+            return a + b;
+        }
+
+        public void nothing(String s) {
+            // noop
+        }
+
+        public int count(String... values) {
+            return values.length;
+        }
+
+        public String fail(String message) throws IOException {
+            throw new IOException(message);
+        }
+    }
+
+    private static class MyPrivateBean {
+
+        private String bye(String name) {
+            return "Bye " + name;
+        }
+    }
+}
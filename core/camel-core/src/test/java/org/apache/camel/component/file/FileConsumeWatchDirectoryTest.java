@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import java.nio.file.Files;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Unit test for consuming files from directories indexed from the events of the watch service.
+ */
+public class FileConsumeWatchDirectoryTest extends ContextTestSupport {
+
+    @Test
+    public void testConsumeWatchDirectory() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceivedInAnyOrder("Hello World", "Bye World");
+
+        template.sendBodyAndHeader(fileUri("inbox"), "Hello World", Exchange.FILE_NAME, "hello.txt");
+        template.sendBodyAndHeader(fileUri("inbox"), "Bye World", Exchange.FILE_NAME, "sub/bye.txt");
+
+        assertMockEndpointsSatisfied();
+
+        // files created in the indexed directories and in a new directory are picked up from the events
+        mock.reset();
+        mock.expectedBodiesReceivedInAnyOrder("Hello Again", "Bye Again", "Hi World");
+
+        template.sendBodyAndHeader(fileUri("inbox"), "Hello Again", Exchange.FILE_NAME, "hello2.txt");
+        template.sendBodyAndHeader(fileUri("inbox"), "Bye Again", Exchange.FILE_NAME, "sub/bye2.txt");
+        template.sendBodyAndHeader(fileUri("inbox"), "Hi World", Exchange.FILE_NAME, "sub/sub2/hi.txt");
+
+        assertMockEndpointsSatisfied();
+
+        Awaitility.await().untilAsserted(() -> {
+            // files should be deleted
+            assertFalse(Files.exists(testFile("inbox/hello2.txt")), "File should been deleted");
+            assertFalse(Files.exists(testFile("inbox/sub/bye2.txt")), "File should been deleted");
+            assertFalse(Files.exists(testFile("inbox/sub/sub2/hi.txt")), "File should been deleted");
+        });
+    }
+
+    @Test
+    public void testConsumeWatchDirectoryIdempotent() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:noop");
+        mock.expectedBodiesReceived("Hello World");
+
+        template.sendBodyAndHeader(fileUri("noop"), "Hello World", Exchange.FILE_NAME, "hello.txt");
+
+        assertMockEndpointsSatisfied();
+
+        // the indexed file is kept, but not consumed again
+        mock.reset();
+        mock.expectedBodiesReceived("Bye World");
+
+        template.sendBodyAndHeader(fileUri("noop"), "Bye World", Exchange.FILE_NAME, "bye.txt");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                from(fileUri("inbox?initialDelay=0&delay=10&delete=true&recursive=true&watchDirectory=true"))
+                        .convertBodyTo(String.class).to("mock:result");
+
+                from(fileUri("noop?initialDelay=0&delay=10&noop=true&watchDirectory=true"))
+                        .convertBodyTo(String.class).to("mock:noop");
+            }
+        };
+    }
+}
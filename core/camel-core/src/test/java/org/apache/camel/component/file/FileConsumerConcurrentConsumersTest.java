@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import java.nio.file.Files;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit test for processing the files of a poll with concurrent consumers.
+ */
+public class FileConsumerConcurrentConsumersTest extends ContextTestSupport {
+
+    private static final int FILES = 10;
+
+    private final Set<String> threads = ConcurrentHashMap.newKeySet();
+
+    @Test
+    public void testConcurrentConsumers() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(FILES - 1);
+        getMockEndpoint("mock:error").expectedBodiesReceived("Kaboom");
+
+        for (int i = 0; i < FILES - 1; i++) {
+            template.sendBodyAndHeader(fileUri(), "Hello " + i, Exchange.FILE_NAME, "hello" + i + ".txt");
+        }
+        template.sendBodyAndHeader(fileUri(), "Kaboom", Exchange.FILE_NAME, "kaboom.txt");
+
+        context.getRouteController().startRoute("foo");
+
+        assertMockEndpointsSatisfied();
+        assertTrue(threads.size() > 1, "Should use more than one thread: " + threads);
+
+        Awaitility.await().untilAsserted(() -> {
+            // the files should be moved or moved as failed on completion
+            for (int i = 0; i < FILES - 1; i++) {
+                assertFalse(Files.exists(testFile("hello" + i + ".txt")), "File should been moved");
+                assertTrue(Files.exists(testFile(".camel/hello" + i + ".txt")), "File should been moved");
+            }
+            assertTrue(Files.exists(testFile("error/kaboom.txt")), "File should been moved as failed");
+        });
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                onException(IllegalArgumentException.class).handled(false).to("mock:error");
+
+                from(fileUri("?initialDelay=0&delay=10&moveFailed=error&concurrentConsumers=4"))
+                        .routeId("foo").autoStartup(false)
+                        .process(e -> {
+                            threads.add(Thread.currentThread().getName());
+                            Thread.sleep(50);
+                        })
+                        .convertBodyTo(String.class)
+                        .filter(body().isEqualTo("Kaboom")).throwException(new IllegalArgumentException("Forced")).end()
+                        .to("mock:result");
+            }
+        };
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.converter.stream.FileInputStreamCache;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests writing a message body which is spooled to disk by stream caching to a file
+ */
+public class FileProducerStreamCacheTest extends ContextTestSupport {
+
+    private static final String DATA = "This message body is larger than the spool threshold so it is spooled to disk";
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.setStreamCaching(true);
+        context.getStreamCachingStrategy().setSpoolDirectory(testDirectory("cache").toFile());
+        context.getStreamCachingStrategy().setSpoolEnabled(true);
+        context.getStreamCachingStrategy().setSpoolThreshold(16);
+        return context;
+    }
+
+    @Test
+    public void testStreamCache() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(1);
+        mock.message(0).body().isInstanceOf(FileInputStreamCache.class);
+
+        template.sendBodyAndHeader("direct:start", new ByteArrayInputStream(DATA.getBytes(StandardCharsets.UTF_8)),
+                Exchange.FILE_NAME, "report.txt");
+
+        assertMockEndpointsSatisfied();
+
+        assertFileExists(testFile("out/report.txt"), DATA);
+    }
+
+    @Test
+    public void testStreamCacheAppend() throws Exception {
+        getMockEndpoint("mock:append").expectedMessageCount(2);
+
+        template.sendBodyAndHeader("direct:append", new ByteArrayInputStream(DATA.getBytes(StandardCharsets.UTF_8)),
+                Exchange.FILE_NAME, "report.txt");
+        template.sendBodyAndHeader("direct:append", new ByteArrayInputStream(DATA.getBytes(StandardCharsets.UTF_8)),
+                Exchange.FILE_NAME, "report.txt");
+
+        assertMockEndpointsSatisfied();
+
+        assertFileExists(testFile("append/report.txt"), DATA + "\n" + DATA + "\n");
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start").to(fileUri("out")).to("mock:result");
+
+                from("direct:append").to(fileUri("append?fileExist=Append&appendChars=\\n")).to("mock:append");
+            }
+        };
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SedaDrainBatchTest extends ContextTestSupport {
+
+    @Test
+    public void testDrainInBatches() throws Exception {
+        List<Object> bodies = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            bodies.add("Message " + i);
+        }
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived(bodies);
+
+        for (Object body : bodies) {
+            template.sendBody("seda:foo", body);
+        }
+        context.getRouteController().startRoute("foo");
+
+        mock.assertIsSatisfied();
+
+        SedaConsumer consumer = (SedaConsumer) context.getRoute("foo").getConsumer();
+        assertEquals(50, consumer.getDrainBatchSize());
+        // the messages were on the queue before the route started so they are drained in full batches
+        assertEquals(20, consumer.getDrainedBatches());
+        assertEquals(50.0, consumer.getMeanBatchSize());
+        assertEquals("32-63=20", consumer.getBatchSizeHistogram());
+        assertTrue(consumer.getQueueWaitHistogram().length() > 0);
+    }
+
+    @Test
+    public void testQueueWaitExcludesUpstreamTime() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:baz");
+        mock.expectedBodiesReceived("A", "B");
+
+        template.sendBody("direct:slow", "A");
+        template.sendBody("direct:slow", "B");
+
+        mock.assertIsSatisfied();
+
+        // the time spent routing before the exchange was added to the queue is not waiting on the queue
+        SedaConsumer consumer = (SedaConsumer) context.getRoute("baz").getConsumer();
+        assertTrue(consumer.getMeanQueueWait() < 200, "Mean queue wait: " + consumer.getMeanQueueWait());
+        assertNull(mock.getReceivedExchanges().get(0).getProperty(SedaConstants.ENQUEUED_TIME));
+    }
+
+    @Test
+    public void testErrorDoesNotStopConsumer() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:baz");
+        mock.expectedBodiesReceived("A", "B");
+
+        template.sendBody("seda:baz", "A");
+        template.sendBody("seda:baz", "Kaboom");
+        template.sendBody("seda:baz", "B");
+
+        mock.assertIsSatisfied();
+    }
+
+    @Test
+    public void testConcurrentConsumers() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:bar");
+        mock.expectedMessageCount(500);
+
+        for (int i = 0; i < 500; i++) {
+            template.sendBody("seda:bar", "Message " + i);
+        }
+
+        mock.assertIsSatisfied();
+        assertEquals(0, context.getEndpoint("seda:bar", SedaEndpoint.class).getCurrentQueueSize());
+    }
+
+    @Test
+    public void testSuspendResume() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:bar");
+        mock.expectedBodiesReceived("A");
+        template.sendBody("seda:bar", "A");
+        mock.assertIsSatisfied();
+
+        context.getRouteController().suspendRoute("bar");
+        // wait for the slack period of the consumers blocked in polling the queue
+        Thread.sleep(300);
+        mock.reset();
+        mock.expectedMessageCount(0);
+        template.sendBody("seda:bar", "B");
+        mock.setAssertPeriod(200);
+        mock.assertIsSatisfied();
+
+        mock.reset();
+        mock.expectedBodiesReceived("B", "C");
+        context.getRouteController().resumeRoute("bar");
+        template.sendBody("seda:bar", "C");
+        mock.assertIsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("seda:foo?drainBatchSize=50&size=2000").routeId("foo").noAutoStartup().to("mock:result");
+
+                from("seda:bar?drainBatchSize=20&concurrentConsumers=2&pollTimeout=100").routeId("bar").to("mock:bar");
+
+                from("direct:slow").delay(300).to("seda:baz");
+
+                from("seda:baz?drainBatchSize=20").routeId("baz").errorHandler(noErrorHandler())
+                        .filter(body().isEqualTo("Kaboom")).throwException(new IllegalArgumentException("Forced")).end()
+                        .to("mock:baz");
+            }
+        };
+    }
+}
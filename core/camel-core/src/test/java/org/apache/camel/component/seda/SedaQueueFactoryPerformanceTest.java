@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.util.StopWatch;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares the throughput of the bounded queues from the {@link BlockingQueueFactory} implementations, with a number of
+ * producers using blocking put and consumers draining the queue as the SEDA consumer does.
+ */
+@EnabledIfSystemProperty(named = "core.manual.tests", matches = "true", disabledReason = "Manual test")
+public class SedaQueueFactoryPerformanceTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SedaQueueFactoryPerformanceTest.class);
+
+    private static final int CAPACITY = 1024;
+    private static final int MESSAGES = 200000;
+
+    @ParameterizedTest
+    @CsvSource({ "1,1", "4,1", "1,4", "4,4" })
+    public void testQueueFactories(int producers, int consumers) throws Exception {
+        // warm up
+        run(new ArrayBlockingQueueFactory<>(), producers, consumers);
+        run(new LinkedBlockingQueueFactory<>(), producers, consumers);
+        run(new RingBufferBlockingQueueFactory<>(), producers, consumers);
+
+        long array = run(new ArrayBlockingQueueFactory<>(), producers, consumers);
+        long linked = run(new LinkedBlockingQueueFactory<>(), producers, consumers);
+        long ring = run(new RingBufferBlockingQueueFactory<>(), producers, consumers);
+        LOG.info("{} producers and {} consumers sending {} messages: ArrayBlockingQueue took {} ms,"
+                 + " LinkedBlockingQueue took {} ms, RingBufferBlockingQueue took {} ms",
+                producers, consumers, MESSAGES, array, linked, ring);
+    }
+
+    private long run(BlockingQueueFactory<Object> factory, int producers, int consumers) throws Exception {
+        BlockingQueue<Object> queue = factory.create(CAPACITY);
+        ExecutorService pool = Executors.newFixedThreadPool(producers + consumers);
+        try {
+            Object message = new Object();
+            int perProducer = MESSAGES / producers;
+            CountDownLatch latch = new CountDownLatch(perProducer * producers);
+            StopWatch watch = new StopWatch();
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < producers; i++) {
+                futures.add(pool.submit(() -> {
+                    for (int j = 0; j < perProducer; j++) {
+                        queue.put(message);
+                    }
+                    return null;
+                }));
+            }
+            for (int i = 0; i < consumers; i++) {
+                futures.add(pool.submit(() -> {
+                    List<Object> batch = new ArrayList<>(100);
+                    while (latch.getCount() > 0) {
+                        if (queue.drainTo(batch, 100) == 0) {
+                            Object polled = queue.poll(10, TimeUnit.MILLISECONDS);
+                            if (polled != null) {
+                                batch.add(polled);
+                            }
+                        }
+                        for (int j = 0; j < batch.size(); j++) {
+                            latch.countDown();
+                        }
+                        batch.clear();
+                    }
+                    return null;
+                }));
+            }
+            assertTrue(latch.await(60, TimeUnit.SECONDS), "All messages should be consumed");
+            long taken = watch.taken();
+            for (Future<?> future : futures) {
+                future.get(5, TimeUnit.SECONDS);
+            }
+            assertEquals(0, queue.size());
+            return taken;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
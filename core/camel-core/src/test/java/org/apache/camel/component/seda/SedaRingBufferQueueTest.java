@@ -0,0 +1,195 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Timeout(30)
+public class SedaRingBufferQueueTest extends ContextTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.getRegistry().bind("ringBufferQueueFactory", new RingBufferBlockingQueueFactory<Exchange>());
+        return context;
+    }
+
+    @Test
+    public void testQueueFactory() {
+        SedaEndpoint endpoint
+                = resolveMandatoryEndpoint("seda:ring?queueFactory=#ringBufferQueueFactory&size=100", SedaEndpoint.class);
+        RingBufferBlockingQueue<?> queue = assertIsInstanceOf(RingBufferBlockingQueue.class, endpoint.getQueue());
+        assertEquals(100, queue.getCapacity());
+        assertEquals(100, queue.remainingCapacity());
+    }
+
+    @Test
+    public void testWrapAround() throws Exception {
+        // use a capacity which is not a power of two
+        RingBufferBlockingQueue<Integer> queue = new RingBufferBlockingQueue<>(3);
+        for (int i = 0; i < 10; i++) {
+            assertTrue(queue.offer(i));
+            assertTrue(queue.offer(i + 100));
+            assertEquals(1, queue.remainingCapacity());
+            assertEquals(i, queue.peek());
+            assertEquals(i, queue.poll());
+            assertEquals(i + 100, queue.poll(1, TimeUnit.SECONDS));
+        }
+        assertTrue(queue.isEmpty());
+        assertNull(queue.poll());
+    }
+
+    @Test
+    public void testFull() throws Exception {
+        RingBufferBlockingQueue<String> queue = new RingBufferBlockingQueue<>(2);
+        assertTrue(queue.offer("a"));
+        assertTrue(queue.offer("b"));
+        assertFalse(queue.offer("c"));
+        assertFalse(queue.offer("c", 50, TimeUnit.MILLISECONDS));
+        assertThrows(IllegalStateException.class, () -> queue.add("c"));
+        assertEquals(0, queue.remainingCapacity());
+        assertEquals(List.of("a", "b"), new ArrayList<>(queue));
+    }
+
+    @Test
+    public void testRemoveAndDrain() {
+        RingBufferBlockingQueue<String> queue = new RingBufferBlockingQueue<>(8);
+        for (int i = 0; i < 6; i++) {
+            queue.offer("Message " + i);
+        }
+        assertTrue(queue.remove("Message 2"));
+        assertFalse(queue.remove("Message 2"));
+        assertEquals(5, queue.size());
+
+        List<String> drained = new ArrayList<>();
+        assertEquals(3, queue.drainTo(drained, 3));
+        assertEquals(List.of("Message 0", "Message 1", "Message 3"), drained);
+        assertEquals(2, queue.size());
+
+        queue.clear();
+        assertTrue(queue.isEmpty());
+        // the removed slot has been released
+        for (int i = 0; i < 8; i++) {
+            assertTrue(queue.offer("Message " + i));
+        }
+    }
+
+    @Test
+    public void testBlockingPutAndTake() throws Exception {
+        RingBufferBlockingQueue<Long> queue = new RingBufferBlockingQueue<>(16);
+        int producers = 4;
+        int consumers = 4;
+        int count = 20000;
+        ExecutorService pool = Executors.newFixedThreadPool(producers + consumers);
+        try {
+            AtomicLong sum = new AtomicLong();
+            CountDownLatch latch = new CountDownLatch(producers * count);
+            for (int p = 0; p < producers; p++) {
+                pool.submit(() -> {
+                    for (long i = 1; i <= count; i++) {
+                        queue.put(i);
+                    }
+                    return null;
+                });
+            }
+            List<Future<?>> futures = new ArrayList<>();
+            for (int c = 0; c < consumers; c++) {
+                futures.add(pool.submit(() -> {
+                    while (latch.getCount() > 0) {
+                        Long value = queue.poll(100, TimeUnit.MILLISECONDS);
+                        if (value != null) {
+                            sum.addAndGet(value);
+                            latch.countDown();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            assertTrue(latch.await(20, TimeUnit.SECONDS));
+            for (Future<?> future : futures) {
+                future.get(5, TimeUnit.SECONDS);
+            }
+            assertEquals(producers * ((long) count * (count + 1) / 2), sum.get());
+            assertTrue(queue.isEmpty());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testBlockWhenFull() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(20);
+
+        for (int i = 0; i < 20; i++) {
+            template.sendBody("seda:block?size=2&blockWhenFull=true&queueFactory=#ringBufferQueueFactory", "Message " + i);
+        }
+
+        mock.assertIsSatisfied();
+    }
+
+    @Test
+    public void testOfferTimeoutWhenFull() throws Exception {
+        String uri = "seda:full?size=2&blockWhenFull=true&offerTimeout=100&queueFactory=#ringBufferQueueFactory";
+        template.sendBody(uri, "A");
+        template.sendBody(uri, "B");
+        Exception e = assertThrows(Exception.class, () -> template.sendBody(uri, "C"));
+        assertIsInstanceOf(IllegalStateException.class, e.getCause());
+    }
+
+    @Test
+    public void testDiscardWhenFull() throws Exception {
+        String uri = "seda:full?size=2&discardWhenFull=true&queueFactory=#ringBufferQueueFactory";
+        for (int i = 0; i < 5; i++) {
+            template.sendBody(uri, "Message " + i);
+        }
+        assertEquals(2, context.getEndpoint(uri, SedaEndpoint.class).getCurrentQueueSize());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("seda:block?size=2&queueFactory=#ringBufferQueueFactory").routeId("block")
+                        .delay(5).syncDelayed()
+                        .to("mock:result");
+            }
+        };
+    }
+}
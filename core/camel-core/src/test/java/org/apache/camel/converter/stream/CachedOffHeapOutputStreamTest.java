@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.StreamCache;
+import org.apache.camel.impl.engine.DefaultUnitOfWork;
+import org.apache.camel.spi.StreamCachingStrategy;
+import org.apache.camel.spi.UnitOfWork;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CachedOffHeapOutputStreamTest extends ContextTestSupport {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private Exchange exchange;
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.setStreamCaching(true);
+        context.getStreamCachingStrategy().setSpoolDirectory(testDirectory().toFile());
+        context.getStreamCachingStrategy().setSpoolEnabled(true);
+        context.getStreamCachingStrategy().setSpoolThreshold(16);
+        context.getStreamCachingStrategy().setSpoolOffHeapMemorySize(2 * BUFFER_SIZE);
+        return context;
+    }
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        super.setUp();
+
+        exchange = new DefaultExchange(context);
+        UnitOfWork uow = new DefaultUnitOfWork(exchange);
+        exchange.getExchangeExtension().setUnitOfWork(uow);
+    }
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+    private static byte[] data(int size) {
+        byte[] data = new byte[size];
+        for (int i = 0; i < size; i++) {
+            data[i] = (byte) i;
+        }
+        return data;
+    }
+
+    private static byte[] read(InputStream is) throws Exception {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        ((StreamCache) is).writeTo(bos);
+        return bos.toByteArray();
+    }
+
+    @Test
+    public void testCacheStreamOffHeap() throws Exception {
+        context.start();
+        StreamCachingStrategy strategy = context.getStreamCachingStrategy();
+
+        byte[] data = data(BUFFER_SIZE + 100);
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write(data);
+
+        File file = testDirectory().toFile();
+        String[] files = file.list();
+        assertNotNull(files, "There should be a list of files");
+        assertEquals(0, files.length, "we should not have a temp file");
+        assertEquals(2 * BUFFER_SIZE, strategy.getSpoolOffHeapMemoryUsed());
+
+        StreamCache cache = cos.newStreamCache();
+        assertInstanceOf(OffHeapInputStreamCache.class, cache);
+        assertTrue(cache.inMemory());
+        assertEquals(data.length, cache.length());
+        assertArrayEquals(data, read((InputStream) cache));
+
+        // can be read again after reset
+        cache.reset();
+        assertArrayEquals(data, read((InputStream) cache));
+
+        // copies share the same buffers
+        StreamCache copy = cache.copy(exchange);
+        assertArrayEquals(data, read((InputStream) copy));
+        assertEquals(2 * BUFFER_SIZE, strategy.getSpoolOffHeapMemoryUsed());
+
+        exchange.getUnitOfWork().done(exchange);
+        assertEquals(0, strategy.getSpoolOffHeapMemoryUsed(), "The buffers should be released");
+        cos.close();
+    }
+
+    @Test
+    public void testReadAfterRelease() throws Exception {
+        context.start();
+
+        byte[] data = data(100);
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write(data);
+        StreamCache cache = cos.newStreamCache();
+        assertInstanceOf(OffHeapInputStreamCache.class, cache);
+        InputStream is = (InputStream) cache;
+        assertEquals(0, is.read());
+
+        exchange.getUnitOfWork().done(exchange);
+        cos.close();
+
+        // the released buffers are reused by another stream
+        Exchange other = new DefaultExchange(context);
+        other.getExchangeExtension().setUnitOfWork(new DefaultUnitOfWork(other));
+        byte[] otherData = new byte[100];
+        Arrays.fill(otherData, (byte) 42);
+        CachedOutputStream otherCos = new CachedOutputStream(other);
+        otherCos.write(otherData);
+        StreamCache otherCache = otherCos.newStreamCache();
+        assertInstanceOf(OffHeapInputStreamCache.class, otherCache);
+
+        // reading the cache of the done exchange must fail instead of reading the bytes of the other stream
+        assertThrows(IOException.class, is::read);
+        assertThrows(IOException.class, () -> is.read(new byte[10]));
+        assertThrows(IOException.class, () -> is.skip(10));
+        cache.reset();
+        assertThrows(IOException.class, () -> read(is));
+
+        assertArrayEquals(otherData, read((InputStream) otherCache));
+        other.getUnitOfWork().done(other);
+        otherCos.close();
+    }
+
+    @Test
+    public void testCacheStreamSpillToFile() throws Exception {
+        context.start();
+        StreamCachingStrategy strategy = context.getStreamCachingStrategy();
+
+        byte[] data = data(2 * BUFFER_SIZE + 100);
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write(Arrays.copyOfRange(data, 0, BUFFER_SIZE));
+        cos.write(Arrays.copyOfRange(data, BUFFER_SIZE, data.length));
+
+        File file = testDirectory().toFile();
+        String[] files = file.list();
+        assertNotNull(files, "There should be a list of files");
+        assertEquals(1, files.length, "we should have a temp file");
+        assertEquals(0, strategy.getSpoolOffHeapMemoryUsed(), "The buffers should be released when spooling");
+        assertEquals(1, strategy.getSpoolOffHeapSpillCounter());
+
+        StreamCache cache = cos.newStreamCache();
+        assertInstanceOf(FileInputStreamCache.class, cache);
+        assertArrayEquals(data, read((InputStream) cache));
+
+        exchange.getUnitOfWork().done(exchange);
+        cos.close();
+    }
+}
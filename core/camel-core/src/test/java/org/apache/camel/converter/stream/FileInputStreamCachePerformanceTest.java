@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.apache.camel.util.IOHelper;
+import org.apache.camel.util.StopWatch;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.apache.camel.TestSupport.currentThreadAllocatedBytes;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares the throughput and the heap allocated when writing a spooled {@link FileInputStreamCache} to a file, using
+ * file channel transfers versus copying the file through heap buffers.
+ * <p/>
+ * Bodies up to 100 MB are used to keep the test fast, add 1024 to the sizes to measure 1 GB bodies.
+ */
+@EnabledIfSystemProperty(named = "core.manual.tests", matches = "true", disabledReason = "Manual test")
+public class FileInputStreamCachePerformanceTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FileInputStreamCachePerformanceTest.class);
+
+    private static final int MB = 1024 * 1024;
+
+    @TempDir
+    Path tempDir;
+
+    @ParameterizedTest
+    @ValueSource(ints = { 10, 100 })
+    public void testWriteToFile(int size) throws Exception {
+        File source = createFile(size);
+        File target = tempDir.resolve("target.dat").toFile();
+
+        // warm up
+        copyThroughHeap(source, target);
+        writeTo(source, target);
+
+        long[] heap = measure(() -> copyThroughHeap(source, target));
+        assertEquals(source.length(), target.length());
+        long[] channel = measure(() -> writeTo(source, target));
+        assertEquals(source.length(), target.length());
+
+        LOG.info("Writing {} MB to file: copy through heap took {} ms allocating {} bytes,"
+                 + " file channel transfer took {} ms allocating {} bytes",
+                size, heap[0], heap[1], channel[0], channel[1]);
+    }
+
+    private File createFile(int size) throws IOException {
+        File file = tempDir.resolve("source-" + size + ".dat").toFile();
+        ByteBuffer chunk = ByteBuffer.allocate(MB);
+        for (int i = 0; i < MB; i++) {
+            chunk.put((byte) i);
+        }
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            for (int i = 0; i < size; i++) {
+                channel.write(chunk.flip());
+            }
+        }
+        return file;
+    }
+
+    private static void copyThroughHeap(File source, File target) throws IOException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(source.toPath()));
+             FileOutputStream out = new FileOutputStream(target)) {
+            IOHelper.copy(in, out);
+        }
+    }
+
+    private static void writeTo(File source, File target) throws IOException {
+        FileInputStreamCache cache = new FileInputStreamCache(source);
+        try (FileOutputStream out = new FileOutputStream(target)) {
+            cache.writeTo(out);
+        } finally {
+            cache.close();
+        }
+    }
+
+    /**
+     * Measures the time taken and the bytes allocated by the current thread (if supported by the JVM)
+     */
+    private static long[] measure(Task task) throws IOException {
+        long before = currentThreadAllocatedBytes();
+        StopWatch watch = new StopWatch();
+        task.run();
+        long taken = watch.taken();
+        return new long[] { taken, currentThreadAllocatedBytes() - before };
+    }
+
+    @FunctionalInterface
+    private interface Task {
+        void run() throws IOException;
+    }
+}
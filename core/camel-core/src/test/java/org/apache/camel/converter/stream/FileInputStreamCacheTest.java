@@ -18,11 +18,18 @@ package org.apache.camel.converter.stream;
 
 import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.FileOutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 
 import org.apache.camel.ContextTestSupport;
 import org.apache.camel.util.IOHelper;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -46,4 +53,48 @@ public class FileInputStreamCacheTest extends ContextTestSupport {
         IOHelper.close(cache, bos);
     }
 
+    @Test
+    public void testFileInputStreamCacheRead() throws Exception {
+        File file = new File(TEST_FILE);
+        FileInputStreamCache cache = new FileInputStreamCache(file);
+
+        byte[] expected = Files.readAllBytes(file.toPath());
+        assertArrayEquals(expected, cache.readAllBytes());
+
+        // can be read again after reset
+        cache.reset();
+        assertEquals(expected[0], cache.read());
+        assertEquals(expected.length - 1, cache.available());
+
+        IOHelper.close(cache);
+    }
+
+    @Test
+    public void testFileInputStreamCacheWriteToFile() throws Exception {
+        File file = new File(TEST_FILE);
+        FileInputStreamCache cache = new FileInputStreamCache(file);
+
+        Path target = testFile("copy.xml");
+        try (FileOutputStream fos = new FileOutputStream(target.toFile())) {
+            cache.writeTo(fos);
+        }
+        assertArrayEquals(Files.readAllBytes(file.toPath()), Files.readAllBytes(target));
+
+        IOHelper.close(cache);
+    }
+
+    @Test
+    public void testFileInputStreamCacheWriteToChannel() throws Exception {
+        File file = new File(TEST_FILE);
+        FileInputStreamCache cache = new FileInputStreamCache(file);
+
+        Path target = testFile("channel.xml");
+        try (FileChannel channel = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            assertEquals(file.length(), cache.writeTo(channel));
+        }
+        assertArrayEquals(Files.readAllBytes(file.toPath()), Files.readAllBytes(target));
+
+        IOHelper.close(cache);
+    }
+
 }
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.util.Map;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.impl.engine.ArrayHeadersMapFactory;
+import org.apache.camel.impl.engine.DefaultHeadersMapFactory;
+import org.apache.camel.spi.HeadersMapFactory;
+import org.apache.camel.util.StopWatch;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares the time to put, get and copy headers with the {@link HeadersMapFactory} implementations, using a mix of
+ * {@link Exchange} constants and custom keys looked up with different cases.
+ */
+@EnabledIfSystemProperty(named = "core.manual.tests", matches = "true", disabledReason = "Manual test")
+public class ArrayHeadersMapFactoryPerformanceTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ArrayHeadersMapFactoryPerformanceTest.class);
+
+    private static final int TIMES = 200000;
+    private static final String[] KNOWN = {
+            Exchange.FILE_NAME, Exchange.CONTENT_TYPE, Exchange.HTTP_METHOD, Exchange.HTTP_URI, Exchange.HTTP_PATH,
+            Exchange.HTTP_RESPONSE_CODE, Exchange.CONTENT_LENGTH, Exchange.BREADCRUMB_ID };
+
+    @ParameterizedTest
+    @ValueSource(ints = { 4, 16, 32 })
+    public void testHeadersMapFactories(int headers) {
+        String[] keys = new String[headers];
+        String[] lookups = new String[headers];
+        for (int i = 0; i < headers; i++) {
+            keys[i] = i < KNOWN.length ? KNOWN[i] : "MyHeader" + i;
+            // look up every other custom header with a different case
+            lookups[i] = i < KNOWN.length || i % 2 == 0 ? keys[i] : keys[i].toUpperCase();
+        }
+
+        // warm up
+        run(new DefaultHeadersMapFactory(), keys, lookups);
+        run(new ArrayHeadersMapFactory(), keys, lookups);
+
+        long[] tree = run(new DefaultHeadersMapFactory(), keys, lookups);
+        long[] array = run(new ArrayHeadersMapFactory(), keys, lookups);
+        LOG.info("{} headers {} times: CaseInsensitiveMap put/get/copy took {}/{}/{} ms,"
+                 + " ArrayHeadersMap put/get/copy took {}/{}/{} ms",
+                headers, TIMES, tree[0], tree[1], tree[2], array[0], array[1], array[2]);
+    }
+
+    private long[] run(HeadersMapFactory factory, String[] keys, String[] lookups) {
+        long[] answer = new long[3];
+
+        StopWatch watch = new StopWatch();
+        Map<String, Object> map = null;
+        for (int i = 0; i < TIMES; i++) {
+            map = factory.newMap();
+            for (String key : keys) {
+                map.put(key, key);
+            }
+        }
+        answer[0] = watch.takenAndRestart();
+
+        int found = 0;
+        for (int i = 0; i < TIMES; i++) {
+            for (String key : lookups) {
+                if (map.get(key) != null) {
+                    found++;
+                }
+            }
+        }
+        answer[1] = watch.takenAndRestart();
+        assertEquals(TIMES * lookups.length, found);
+
+        Map<String, Object> copy = null;
+        for (int i = 0; i < TIMES; i++) {
+            copy = factory.newMap(map);
+        }
+        answer[2] = watch.takenAndRestart();
+        assertEquals(keys.length, copy.size());
+
+        return answer;
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.impl.engine.ArrayHeadersMapFactory;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ArrayHeadersMapFactoryTest {
+
+    @Test
+    public void testLookupCaseAgnostic() {
+        Map<String, Object> map = new ArrayHeadersMapFactory().newMap();
+        assertNull(map.get("foo"));
+
+        map.put("foo", "cheese");
+
+        assertEquals("cheese", map.get("foo"));
+        assertEquals("cheese", map.get("Foo"));
+        assertEquals("cheese", map.get("FOO"));
+        assertTrue(map.containsKey("fOO"));
+    }
+
+    @Test
+    public void testLookupKnownHeaders() {
+        Map<String, Object> map = new ArrayHeadersMapFactory().newMap();
+        map.put(Exchange.FILE_NAME, "hello.txt");
+        map.put("content-type", "text/plain");
+
+        assertEquals("hello.txt", map.get(Exchange.FILE_NAME));
+        assertEquals("hello.txt", map.get("camelfilename"));
+        assertEquals("text/plain", map.get(Exchange.CONTENT_TYPE));
+    }
+
+    @Test
+    public void testPutKeepsOriginalKey() {
+        Map<String, Object> map = new ArrayHeadersMapFactory().newMap();
+        map.put("Foo", "cheese");
+        assertEquals("cheese", map.put("FOO", "beer"));
+
+        assertEquals(1, map.size());
+        assertEquals("beer", map.get("foo"));
+        assertEquals("Foo", map.keySet().iterator().next());
+    }
+
+    @Test
+    public void testGrowAndRemove() {
+        Map<String, Object> map = new ArrayHeadersMapFactory().newMap();
+        for (int i = 0; i < 50; i++) {
+            map.put("Header" + i, i);
+        }
+        assertEquals(50, map.size());
+        assertEquals(42, map.get("HEADER42"));
+
+        assertEquals(0, map.remove("header0"));
+        assertNull(map.remove("header0"));
+        assertEquals(49, map.size());
+
+        Iterator<String> it = map.keySet().iterator();
+        while (it.hasNext()) {
+            if (it.next().endsWith("1")) {
+                it.remove();
+            }
+        }
+        assertEquals(44, map.size());
+        assertFalse(map.containsKey("Header41"));
+        assertEquals(List.of("Header2", "Header3"), map.keySet().stream().limit(2).toList());
+
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertNull(map.get("Header2"));
+    }
+
+    @Test
+    public void testConstructFromOther() {
+        Map<String, Object> other = new ArrayHeadersMapFactory().newMap();
+        other.put("Foo", "cheese");
+        other.put("bar", 123);
+
+        Map<String, Object> map = new ArrayHeadersMapFactory().newMap(other);
+
+        assertEquals("cheese", map.get("FOO"));
+        assertEquals("cheese", map.get("foo"));
+        assertEquals("cheese", map.get("Foo"));
+
+        assertEquals(123, map.get("BAR"));
+        assertEquals(123, map.get("bar"));
+        assertEquals(123, map.get("BaR"));
+
+        // the copy must not affect the existing map
+        map.put("beer", "yes");
+        map.remove("foo");
+        assertEquals(2, other.size());
+        assertEquals("cheese", other.get("foo"));
+        assertNull(other.get("beer"));
+    }
+
+    @Test
+    public void testConstructFromHashMap() {
+        Map<String, Object> other = new HashMap<>();
+        other.put("Foo", "cheese");
+        other.put("bar", 123);
+
+        Map<String, Object> map = new ArrayHeadersMapFactory().newMap(other);
+
+        assertEquals("cheese", map.get("FOO"));
+        assertEquals(123, map.get("BAR"));
+        assertEquals(other, map);
+    }
+
+    @Test
+    public void testIsInstance() {
+        Map<String, Object> map = new ArrayHeadersMapFactory().newMap();
+
+        Map<String, Object> other = new ArrayHeadersMapFactory().newMap(map);
+        other.put("Foo", "cheese");
+        other.put("bar", 123);
+
+        assertTrue(new ArrayHeadersMapFactory().isInstanceOf(map));
+        assertTrue(new ArrayHeadersMapFactory().isInstanceOf(other));
+        assertFalse(new ArrayHeadersMapFactory().isInstanceOf(new HashMap<>()));
+    }
+
+}
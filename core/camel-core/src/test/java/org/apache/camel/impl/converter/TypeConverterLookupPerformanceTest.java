@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.converter;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.TypeConverter;
+import org.apache.camel.util.StopWatch;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Measures the common conversions which are done for every exchange, which look up the converters from the registry.
+ */
+@EnabledIfSystemProperty(named = "core.manual.tests", matches = "true", disabledReason = "Manual test")
+public class TypeConverterLookupPerformanceTest extends ContextTestSupport {
+
+    private static final int TIMES = 500000;
+
+    @Test
+    public void testCommonConversions() throws Exception {
+        TypeConverter tc = context.getTypeConverter();
+        byte[] bytes = "Hello World".getBytes(StandardCharsets.UTF_8);
+
+        // warm up
+        convert(tc, bytes, TIMES / 10);
+
+        StopWatch watch = new StopWatch();
+        convert(tc, bytes, TIMES);
+        log.info("Converting String, byte[], InputStream and Integer {} times took {} ms", TIMES, watch.taken());
+    }
+
+    @Test
+    public void testMissConversions() {
+        TypeConverter tc = context.getTypeConverter();
+
+        StopWatch watch = new StopWatch();
+        for (int i = 0; i < TIMES; i++) {
+            assertNull(tc.tryConvertTo(Country.class, "en"));
+        }
+        log.info("Trying a conversion with no converter {} times took {} ms", TIMES, watch.taken());
+    }
+
+    private static void convert(TypeConverter tc, byte[] bytes, int times) throws Exception {
+        for (int i = 0; i < times; i++) {
+            assertEquals("Hello World", tc.mandatoryConvertTo(String.class, bytes));
+            assertNotNull(tc.mandatoryConvertTo(byte[].class, "Hello World"));
+            InputStream is = tc.mandatoryConvertTo(InputStream.class, "Hello World");
+            assertNotNull(is);
+            assertEquals("Hello World", tc.mandatoryConvertTo(String.class, new ByteArrayInputStream(bytes)));
+            assertEquals(123, tc.mandatoryConvertTo(Integer.class, "123"));
+            assertEquals(123L, tc.mandatoryConvertTo(Long.class, 123));
+        }
+    }
+}
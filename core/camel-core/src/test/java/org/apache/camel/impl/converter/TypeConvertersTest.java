@@ -21,6 +21,7 @@ import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 public class TypeConvertersTest extends ContextTestSupport {
 
@@ -45,6 +46,23 @@ public class TypeConvertersTest extends ContextTestSupport {
         assertEquals("en", iso);
     }
 
+    @Test
+    public void testAddAndRemoveAfterLookup() {
+        // the miss is cached, which must not hide the converter that is added later
+        assertNull(context.getTypeConverter().tryConvertTo(Country.class, "en"));
+        assertNull(context.getTypeConverterRegistry().lookup(Country.class, String.class));
+
+        context.getTypeConverterRegistry().addTypeConverters(converters);
+
+        Country country = context.getTypeConverter().convertTo(Country.class, "en");
+        assertNotNull(country);
+        assertEquals("England", country.getName());
+
+        context.getTypeConverterRegistry().removeTypeConverter(Country.class, String.class);
+
+        assertNull(context.getTypeConverter().tryConvertTo(Country.class, "en"));
+    }
+
     @Test
     public void testStringToPrimitiveTypes() throws Exception {
         assertEquals(Short.parseShort("1"), context.getTypeConverter().mandatoryConvertTo(short.class, "1"));
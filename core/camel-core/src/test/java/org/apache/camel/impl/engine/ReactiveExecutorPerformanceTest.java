@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.spi.ReactiveExecutor;
+import org.apache.camel.support.service.ServiceHelper;
+import org.apache.camel.util.StopWatch;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares the reactive executors when a few threads are busy, where each task schedules more work that blocks for a
+ * short while, such as calling a remote service.
+ */
+@EnabledIfSystemProperty(named = "core.manual.tests", matches = "true", disabledReason = "Manual test")
+public class ReactiveExecutorPerformanceTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ReactiveExecutorPerformanceTest.class);
+
+    private final int threads = 2;
+    private final int rounds = 20;
+    private final int tasks = 20;
+
+    @Test
+    public void testDefaultReactiveExecutor() throws Exception {
+        long taken = run(new DefaultReactiveExecutor());
+        LOG.info("DefaultReactiveExecutor took {} ms", taken);
+    }
+
+    @Test
+    public void testWorkStealingReactiveExecutor() throws Exception {
+        WorkStealingReactiveExecutor executor = new WorkStealingReactiveExecutor();
+        executor.setParallelism(4);
+        long taken = run(executor);
+        LOG.info("WorkStealingReactiveExecutor took {} ms (stolen tasks: {})", taken, executor.getStolenTasks());
+    }
+
+    private long run(ReactiveExecutor executor) throws Exception {
+        ServiceHelper.startService(executor);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch latch = new CountDownLatch(threads * rounds * tasks);
+            StopWatch watch = new StopWatch();
+            for (int t = 0; t < threads; t++) {
+                pool.submit(() -> {
+                    for (int r = 0; r < rounds; r++) {
+                        executor.scheduleMain(() -> {
+                            for (int i = 0; i < tasks; i++) {
+                                executor.schedule(() -> {
+                                    sleep();
+                                    latch.countDown();
+                                });
+                            }
+                        });
+                    }
+                });
+            }
+            assertTrue(latch.await(30, TimeUnit.SECONDS), "All tasks should complete");
+            return watch.taken();
+        } finally {
+            pool.shutdownNow();
+            ServiceHelper.stopAndShutdownService(executor);
+        }
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.spi.ReactiveExecutor;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class WorkStealingReactiveExecutorTest extends ContextTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        WorkStealingReactiveExecutor executor = new WorkStealingReactiveExecutor();
+        executor.setParallelism(2);
+        context.getCamelContextExtension().setReactiveExecutor(executor);
+        return context;
+    }
+
+    @Test
+    public void testRouting() throws Exception {
+        getMockEndpoint("mock:line").expectedMessageCount(300);
+        getMockEndpoint("mock:result").expectedBodiesReceivedInAnyOrder("A,B,C", "D,E,F", "G,H,I");
+
+        template.sendBody("seda:start", "A,B,C");
+        template.sendBody("seda:start", "D,E,F");
+        template.sendBody("seda:start", "G,H,I");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testStealQueuedWork() throws Exception {
+        ReactiveExecutor executor = context.getCamelContextExtension().getReactiveExecutor();
+        CountDownLatch latch = new CountDownLatch(10);
+        boolean[] done = new boolean[1];
+
+        executor.scheduleMain(() -> {
+            for (int i = 0; i < 10; i++) {
+                executor.schedule(latch::countDown);
+            }
+            // the work is queued behind this task, so it can only complete if other threads steal it
+            try {
+                done[0] = latch.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        assertTrue(done[0], "Queued work should be stolen by other threads");
+        assertEquals(10, ((WorkStealingReactiveExecutor) executor).getStolenTasks());
+    }
+
+    @Test
+    public void testScheduleSyncRunsOnCurrentThread() {
+        ReactiveExecutor executor = context.getCamelContextExtension().getReactiveExecutor();
+        Thread current = Thread.currentThread();
+        Thread[] ran = new Thread[2];
+
+        executor.scheduleMain(() -> executor.scheduleSync(() -> {
+            ran[0] = Thread.currentThread();
+            executor.scheduleSync(() -> ran[1] = Thread.currentThread());
+        }));
+
+        assertEquals(current, ran[0]);
+        assertEquals(current, ran[1]);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("seda:start?concurrentConsumers=3")
+                        .multicast()
+                            .to("direct:lines")
+                            .to("mock:result")
+                        .end();
+
+                from("direct:lines")
+                        .loop(100)
+                            .split(body().tokenize(","))
+                                .filter(body().isEqualTo("A")).to("mock:line").end()
+                                .filter(body().isEqualTo("E")).to("mock:line").end()
+                                .filter(body().isEqualTo("I")).to("mock:line").end()
+                            .end()
+                        .end();
+            }
+        };
+    }
+}
@@ -318,6 +318,39 @@ public class TokenizerTest extends ExchangeTestSupport {
         assertEquals(1, names.size());
     }
 
+    @Test
+    public void testTokenizeXMLPairWithNestedSameName() {
+        Expression exp = tokenizeXML("<item>", null);
+        exp.init(context);
+
+        exchange.getIn().setBody(
+                "<items><item id=\"1\"><item id=\"2\">James</item></item><item id=\"3\"/><item>Claus</item></items>");
+
+        List<?> names = exp.evaluate(exchange, List.class);
+        assertEquals(3, names.size());
+
+        assertEquals("<item id=\"1\"><item id=\"2\">James</item></item>", names.get(0));
+        assertEquals("<item id=\"3\"/>", names.get(1));
+        assertEquals("<item>Claus</item>", names.get(2));
+    }
+
+    @Test
+    public void testTokenizeXMLPairWithCommentAndCData() {
+        Expression exp = tokenizeXML("<person>", "<persons>");
+        exp.init(context);
+
+        exchange.getIn().setBody(
+                "<?xml version=\"1.0\"?><!DOCTYPE persons [<!ENTITY foo \"<person>\">]><persons xmlns=\"http:acme.com/persons\">"
+                                 + "<!-- <person>Hadrian</person> --><person nick=\"a > b\">James</person>"
+                                 + "<person><![CDATA[</person>]]>Claus</person></persons>");
+
+        List<?> names = exp.evaluate(exchange, List.class);
+        assertEquals(2, names.size());
+
+        assertEquals("<person nick=\"a > b\" xmlns=\"http:acme.com/persons\">James</person>", names.get(0));
+        assertEquals("<person xmlns=\"http:acme.com/persons\"><![CDATA[</person>]]>Claus</person>", names.get(1));
+    }
+
     @Test
     public void testTokenizeXMLPairWithDefaultNamespace() {
         Expression exp = tokenizeXML("<person>", "<persons>");
@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.language.simple;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.camel.LanguageTestSupport;
+import org.apache.camel.language.bean.RuntimeBeanExpressionException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SimpleOgnlInvokerTest extends LanguageTestSupport {
+
+    @Override
+    protected String getLanguageName() {
+        return "simple";
+    }
+
+    @Test
+    public void testResolve() {
+        assertNotNull(SimpleOgnlInvoker.resolve(ArrayList.class, "size"));
+        assertNotNull(SimpleOgnlInvoker.resolve(Animal.class, "name"));
+        assertNotNull(SimpleOgnlInvoker.resolve(Animal.class, "getName"));
+        assertNotNull(SimpleOgnlInvoker.resolve(Animal.class, "dangerous"));
+        // the class of the list is not public, so the method is invoked through the List interface
+        assertNotNull(SimpleOgnlInvoker.resolve(Collections.unmodifiableList(new ArrayList<>()).getClass(), "size"));
+
+        // overloaded methods and methods with parameters are chosen by the bean language
+        assertNull(SimpleOgnlInvoker.resolve(String.class, "toUpperCase"));
+        assertNull(SimpleOgnlInvoker.resolve(Animal.class, "hello"));
+        // not a method
+        assertNull(SimpleOgnlInvoker.resolve(Animal.class, "unknown"));
+        // special for arrays in the bean language
+        assertNull(SimpleOgnlInvoker.resolve(byte[].class, "length"));
+    }
+
+    @Test
+    public void testOgnl() {
+        List<String> lines = new ArrayList<>();
+        lines.add("Camel");
+        exchange.getIn().setBody(lines);
+        assertPredicate("${body.size} == 1", true);
+        assertPredicate("${body.isEmpty()}", false);
+
+        exchange.getIn().setBody(new Animal("Tony", new Animal("Tiger", null)));
+        assertExpression("${body.name}", "Tony");
+        assertExpression("${body.getFriend.getName}", "Tiger");
+        assertExpression("${body.friend?.friend?.name}", null);
+        assertExpression("${body.dangerous}", true);
+        assertExpression("${body.hello('World')}", "Hello World");
+
+        exchange.getIn().setBody(Path.of("target", "foo.txt"));
+        assertExpression("${body.fileName.toString}", "foo.txt");
+    }
+
+    @Test
+    public void testOgnlFailsAsBeanLanguage() {
+        exchange.getIn().setBody(new Animal("Tony", null));
+
+        RuntimeBeanExpressionException e = assertThrows(RuntimeBeanExpressionException.class,
+                () -> assertExpression("${body.friend.name}", null));
+        assertEquals("Failed to invoke method: .friend.name on " + Animal.class.getCanonicalName()
+                     + " due last method returned null and therefore cannot continue to invoke method .name on a null instance",
+                e.getMessage());
+
+        e = assertThrows(RuntimeBeanExpressionException.class, () -> assertExpression("${body.boom}", null));
+        assertEquals("Forced", e.getCause().getMessage());
+    }
+
+    @Test
+    public void testOgnlFailsWithoutInvokingAgain() {
+        Animal animal = new Animal("Tony", null);
+        exchange.getIn().setBody(animal);
+
+        assertThrows(RuntimeBeanExpressionException.class, () -> assertExpression("${body.visit.friend.name}", null));
+        assertEquals(1, animal.visits);
+
+        assertThrows(RuntimeBeanExpressionException.class, () -> assertExpression("${body.visit.boom}", null));
+        assertEquals(2, animal.visits);
+        assertEquals(1, animal.booms);
+    }
+
+    @Test
+    public void testOgnlPolymorphicBodies() {
+        Animal tony = new Animal("Tony", null);
+        Animal tiger = new Cat("Tiger");
+        for (int i = 0; i < 3; i++) {
+            exchange.getIn().setBody(tony);
+            assertExpression("${body.name}", "Tony");
+            exchange.getIn().setBody(tiger);
+            assertExpression("${body.name}", "Tiger the cat");
+        }
+    }
+
+    public static class Animal {
+        private final String name;
+        private final Animal friend;
+        private int visits;
+        private int booms;
+
+        public Animal(String name, Animal friend) {
+            this.name = name;
+            this.friend = friend;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Animal getFriend() {
+            return friend;
+        }
+
+        public boolean isDangerous() {
+            return true;
+        }
+
+        public String hello(String name) {
+            return "Hello " + name;
+        }
+
+        public Animal visit() {
+            visits++;
+            return this;
+        }
+
+        public String boom() {
+            booms++;
+            throw new IllegalArgumentException("Forced");
+        }
+    }
+
+    public static class Cat extends Animal {
+
+        public Cat(String name) {
+            super(name, null);
+        }
+
+        @Override
+        public String getName() {
+            return super.getName() + " the cat";
+        }
+    }
+}
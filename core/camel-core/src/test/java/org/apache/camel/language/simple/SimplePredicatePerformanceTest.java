@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.language.simple;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.Predicate;
+import org.apache.camel.spi.Language;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.util.StopWatch;
+import org.apache.camel.util.TimeUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Measures the time taken and the heap allocated per evaluation of typical simple predicates, and of a simple OGNL
+ * method call invoked through method handles and with the bean language.
+ */
+@EnabledIfSystemProperty(named = "core.manual.tests", matches = "true", disabledReason = "Manual test")
+public class SimplePredicatePerformanceTest extends ContextTestSupport {
+
+    private static final int TIMES = 200000;
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+    @Test
+    public void testPredicates() {
+        run("${header.foo} == 'x' && ${body.size} > 10");
+        run("${header.foo} == 'x' || ${body.isEmpty}");
+        run("${body.size} > 10 && ${exchangeProperty.bar} != null");
+        run("${header.foo} in 'x,y,z'");
+    }
+
+    @Test
+    public void testOgnl() {
+        Exchange exchange = createExchange();
+        Language bean = context.resolveLanguage("bean");
+        Object body = exchange.getIn().getBody();
+
+        SimpleOgnlInvoker invoker = SimpleOgnlInvoker.compile(".size");
+
+        long[] handles = measure(() -> invoker.invoke(exchange, bean, body));
+        long[] beans = measure(() -> {
+            Expression exp = bean.createExpression(null, new Object[] { null, body, ".size" });
+            exp.init(context);
+            return exp.evaluate(exchange, Object.class);
+        });
+
+        log.info("Invoking .size {} times took {} allocating {} bytes per call with method handles,"
+                 + " and {} allocating {} bytes per call with the bean language",
+                TIMES, TimeUtils.printDuration(handles[0], true), handles[1] / TIMES,
+                TimeUtils.printDuration(beans[0], true), beans[1] / TIMES);
+    }
+
+    private void run(String text) {
+        Exchange exchange = createExchange();
+        Predicate predicate = context.resolveLanguage("simple").createPredicate(text);
+        predicate.init(context);
+
+        long[] result = measure(() -> predicate.matches(exchange));
+
+        log.info("Evaluating {} {} times took {} allocating {} bytes per evaluation",
+                text, TIMES, TimeUtils.printDuration(result[0], true), result[1] / TIMES);
+    }
+
+    private Exchange createExchange() {
+        List<Integer> body = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            body.add(i);
+        }
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setHeader("foo", "x");
+        exchange.getIn().setBody(body);
+        exchange.setProperty("bar", 123);
+        return exchange;
+    }
+
+    private static long[] measure(Evaluation evaluation) {
+        Object expected = evaluation.evaluate();
+        // warm up
+        for (int i = 0; i < TIMES; i++) {
+            evaluation.evaluate();
+        }
+
+        long before = currentThreadAllocatedBytes();
+        StopWatch watch = new StopWatch();
+        for (int i = 0; i < TIMES; i++) {
+            assertEquals(expected, evaluation.evaluate());
+        }
+        long taken = watch.taken();
+        long allocated = currentThreadAllocatedBytes() - before;
+        return new long[] { taken, allocated };
+    }
+
+    private interface Evaluation {
+        Object evaluate();
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.language.tokenizer;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+
+import org.apache.camel.util.ByteScanner;
+import org.apache.camel.util.Scanner;
+import org.apache.camel.util.StopWatch;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.apache.camel.TestSupport.currentThreadAllocatedBytes;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares the time taken and the heap allocated when splitting a large CSV payload into lines with the
+ * {@link Scanner}, which decodes the payload and matches the delimiter as a regular expression, and with the
+ * {@link ByteScanner}, which matches the delimiter as bytes and only decodes the lines.
+ */
+@EnabledIfSystemProperty(named = "core.manual.tests", matches = "true", disabledReason = "Manual test")
+public class TokenizeLinesPerformanceTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TokenizeLinesPerformanceTest.class);
+
+    private static final int COUNT = 500000;
+
+    @Test
+    public void testTokenizeLines() {
+        byte[] payload = createPayload();
+
+        // warm up
+        split(new Scanner(new ByteArrayInputStream(payload), "UTF-8", "\n"));
+        split(new ByteScanner(new ByteArrayInputStream(payload), "UTF-8", "\n"));
+
+        long[] scanner = split(new Scanner(new ByteArrayInputStream(payload), "UTF-8", "\n"));
+        long[] bytes = split(new ByteScanner(new ByteArrayInputStream(payload), "UTF-8", "\n"));
+
+        LOG.info("Splitting {} bytes into {} lines: scanner took {} ms allocating {} bytes,"
+                 + " byte scanner took {} ms allocating {} bytes",
+                payload.length, COUNT, scanner[0], scanner[1], bytes[0], bytes[1]);
+    }
+
+    private static byte[] createPayload() {
+        StringBuilder sb = new StringBuilder(COUNT * 64);
+        for (int i = 0; i < COUNT; i++) {
+            sb.append(i).append(",Camel,Rider,").append(i * 31).append(",2024-01-01T00:00:00Z\n");
+        }
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static long[] split(Iterator<String> it) {
+        long before = currentThreadAllocatedBytes();
+        StopWatch watch = new StopWatch();
+        int count = 0;
+        while (it.hasNext()) {
+            it.next();
+            count++;
+        }
+        long taken = watch.taken();
+        long allocated = currentThreadAllocatedBytes() - before;
+        assertEquals(COUNT, count);
+        return new long[] { taken, allocated };
+    }
+
+}
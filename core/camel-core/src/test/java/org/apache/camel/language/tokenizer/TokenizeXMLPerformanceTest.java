@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.language.tokenizer;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Scanner;
+import java.util.regex.Pattern;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.support.builder.TokenXMLExpressionIterator;
+import org.apache.camel.util.StopWatch;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares the time taken and the heap allocated when splitting a large XML payload with the streaming
+ * {@link TokenXMLExpressionIterator}, and with a {@link Scanner} using the regular expression the tokenizer used
+ * before.
+ */
+@EnabledIfSystemProperty(named = "core.manual.tests", matches = "true", disabledReason = "Manual test")
+public class TokenizeXMLPerformanceTest extends ContextTestSupport {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TokenizeXMLPerformanceTest.class);
+
+    private static final int COUNT = 100000;
+    private static final String NAME = "([^:<>]{1,15}?:|)order";
+    private static final Pattern REGEX = Pattern.compile("<" + NAME + "(\\s+[^>]*)?/>|<" + NAME + "(\\s+[^>]*)?>(?:(?!(</"
+                                                         + NAME + "\\s*>)).)*</" + NAME + "\\s*>",
+            Pattern.MULTILINE | Pattern.DOTALL);
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+    @Test
+    public void testTokenizeXML() {
+        byte[] payload = createPayload();
+
+        // warm up
+        scan(payload);
+        tokenize(payload);
+
+        long[] regex = scan(payload);
+        long[] streaming = tokenize(payload);
+
+        LOG.info("Splitting {} bytes into {} tokens: regex took {} ms allocating {} bytes,"
+                 + " streaming took {} ms allocating {} bytes",
+                payload.length, COUNT, regex[0], regex[1], streaming[0], streaming[1]);
+    }
+
+    private static byte[] createPayload() {
+        StringBuilder sb = new StringBuilder(COUNT * 100);
+        sb.append("<?xml version=\"1.0\"?>\n<orders xmlns=\"urn:acme:orders\">\n");
+        for (int i = 0; i < COUNT; i++) {
+            sb.append("  <order id=\"").append(i).append("\"><item>Camel</item><amount>").append(i)
+                    .append("</amount></order>\n");
+        }
+        sb.append("</orders>\n");
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static long[] scan(byte[] payload) {
+        long before = currentThreadAllocatedBytes();
+        StopWatch watch = new StopWatch();
+        int count = 0;
+        try (Scanner scanner = new Scanner(new ByteArrayInputStream(payload), StandardCharsets.UTF_8)) {
+            while (scanner.findWithinHorizon(REGEX, 0) != null) {
+                count++;
+            }
+        }
+        long taken = watch.taken();
+        long allocated = currentThreadAllocatedBytes() - before;
+        assertEquals(COUNT, count);
+        return new long[] { taken, allocated };
+    }
+
+    private long[] tokenize(byte[] payload) {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody(new ByteArrayInputStream(payload));
+        long before = currentThreadAllocatedBytes();
+        StopWatch watch = new StopWatch();
+        int count = 0;
+        Iterator<?> it = (Iterator<?>) new TokenXMLExpressionIterator("order", null).evaluate(exchange);
+        while (it.hasNext()) {
+            it.next();
+            count++;
+        }
+        long taken = watch.taken();
+        long allocated = currentThreadAllocatedBytes() - before;
+        assertEquals(COUNT, count);
+        return new long[] { taken, allocated };
+    }
+
+}
@@ -0,0 +1,205 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.spi.IdempotentRepository;
+import org.apache.camel.support.processor.idempotent.BloomFilterIdempotentRepository;
+import org.apache.camel.support.processor.idempotent.MemoryIdempotentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BloomFilterIdempotentConsumerTest extends ContextTestSupport {
+
+    private final AtomicInteger lookups = new AtomicInteger();
+    private MemoryIdempotentRepository repo;
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        repo = new MemoryIdempotentRepository() {
+            @Override
+            public boolean contains(String key) {
+                lookups.incrementAndGet();
+                return super.contains(key);
+            }
+        };
+        repo.setCacheSize(10000);
+        repo.start();
+        // keys already in the repository must be seeded into the filter
+        repo.add("1");
+        super.setUp();
+    }
+
+    @Test
+    public void testDuplicateMessagesAreFilteredOut() throws Exception {
+        MockEndpoint resultEndpoint = getMockEndpoint("mock:result");
+        resultEndpoint.expectedBodiesReceived("two", "three");
+
+        template.sendBodyAndHeader("direct:start", "one", "messageId", "1");
+        template.sendBodyAndHeader("direct:start", "two", "messageId", "2");
+        template.sendBodyAndHeader("direct:start", "one", "messageId", "1");
+        template.sendBodyAndHeader("direct:start", "two", "messageId", "2");
+        template.sendBodyAndHeader("direct:start", "three", "messageId", "3");
+
+        resultEndpoint.assertIsSatisfied();
+
+        // the first lookup of key 2 and 3 is answered by the filter
+        assertEquals(3, lookups.get());
+        assertTrue(repo.contains("3"));
+    }
+
+    @Test
+    public void testLookupsAvoided() throws Exception {
+        BloomFilterIdempotentRepository filter = new BloomFilterIdempotentRepository(repo, 1000);
+        filter.start();
+
+        lookups.set(0);
+        for (int i = 0; i < 1000; i++) {
+            assertFalse(filter.contains("key-" + i));
+            assertTrue(filter.add("key-" + i));
+        }
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(filter.contains("key-" + i));
+        }
+
+        // the keys added must never be answered by the filter alone
+        assertEquals(1000 + filter.getFalsePositives(), filter.getBackendLookups());
+        assertEquals(lookups.get(), filter.getBackendLookups());
+        assertEquals(1000 - filter.getFalsePositives(), filter.getLookupsAvoided());
+        assertTrue(filter.getFalsePositiveRate() < 0.05, "False positive rate: " + filter.getFalsePositiveRate());
+        assertTrue(filter.getExpectedFalsePositiveRate() < 0.05);
+
+        // removed keys are answered by the repository
+        assertTrue(filter.remove("key-0"));
+        assertFalse(filter.contains("key-0"));
+
+        filter.clear();
+        assertFalse(filter.contains("key-1"));
+        filter.stop();
+    }
+
+    @Test
+    public void testAddWhileClearing() throws Exception {
+        CountDownLatch cleared = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        MemoryIdempotentRepository slow = new MemoryIdempotentRepository() {
+            @Override
+            public void clear() {
+                super.clear();
+                cleared.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        BloomFilterIdempotentRepository filter = new BloomFilterIdempotentRepository(slow, 1000);
+        filter.start();
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> clear = executor.submit(filter::clear);
+            assertTrue(cleared.await(10, TimeUnit.SECONDS));
+
+            // a key added while the repository is being cleared must not be wiped from the filter
+            Future<?> add = executor.submit(() -> filter.add("new"));
+            Thread.sleep(100);
+            release.countDown();
+            clear.get(10, TimeUnit.SECONDS);
+            add.get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertTrue(slow.contains("new"));
+        assertTrue(filter.contains("new"));
+        filter.stop();
+    }
+
+    @Test
+    public void testNotBrowsableRepository() throws Exception {
+        IdempotentRepository other = new IdempotentRepository() {
+            @Override
+            public boolean add(String key) {
+                return repo.add(key);
+            }
+
+            @Override
+            public boolean contains(String key) {
+                return repo.contains(key);
+            }
+
+            @Override
+            public boolean remove(String key) {
+                return repo.remove(key);
+            }
+
+            @Override
+            public boolean confirm(String key) {
+                return true;
+            }
+
+            @Override
+            public void clear() {
+                repo.clear();
+            }
+
+            @Override
+            public void start() {
+            }
+
+            @Override
+            public void stop() {
+            }
+        };
+        BloomFilterIdempotentRepository filter = new BloomFilterIdempotentRepository(other, 1000);
+        filter.start();
+
+        // the filter does not know the existing keys so all lookups are done by the repository
+        assertFalse(filter.isFiltering());
+        assertTrue(filter.contains("1"));
+        assertFalse(filter.contains("2"));
+        assertEquals(2, filter.getBackendLookups());
+        assertEquals(0, filter.getLookupsAvoided());
+        filter.stop();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                from("direct:start").idempotentConsumer(header("messageId"), repo).eager(false).bloomFilterExpectedKeys(1000)
+                        .to("mock:result");
+            }
+        };
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.support.processor.idempotent.IndexedFileIdempotentRepository;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IndexedFileIdempotentConsumerTest extends ContextTestSupport {
+
+    private File store;
+    private IndexedFileIdempotentRepository repo;
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        store = testFile("idempotentfilestore.dat").toFile();
+        repo = new IndexedFileIdempotentRepository(store);
+        super.setUp();
+    }
+
+    @Test
+    public void testDuplicateMessagesAreFilteredOut() throws Exception {
+        MockEndpoint resultEndpoint = getMockEndpoint("mock:result");
+        resultEndpoint.expectedBodiesReceived("one", "two", "three");
+
+        template.sendBodyAndHeader("direct:start", "one", "messageId", "1");
+        template.sendBodyAndHeader("direct:start", "two", "messageId", "2");
+        template.sendBodyAndHeader("direct:start", "one", "messageId", "1");
+        template.sendBodyAndHeader("direct:start", "two", "messageId", "2");
+        template.sendBodyAndHeader("direct:start", "one", "messageId", "1");
+        template.sendBodyAndHeader("direct:start", "three", "messageId", "3");
+
+        resultEndpoint.assertIsSatisfied();
+
+        assertTrue(repo.contains("1"));
+        assertTrue(repo.contains("2"));
+        assertTrue(repo.contains("3"));
+        assertFalse(repo.contains("4"));
+    }
+
+    @Test
+    public void testReloadStore() throws Exception {
+        for (int i = 0; i < 5000; i++) {
+            assertTrue(repo.add("key-" + i));
+        }
+        assertTrue(repo.remove("key-42"));
+        repo.stop();
+
+        // reuse the index from the graceful stop
+        repo.start();
+        assertEquals(4999, repo.getSize());
+        assertTrue(repo.contains("key-4999"));
+        assertFalse(repo.contains("key-42"));
+        assertFalse(repo.add("key-0"));
+        repo.stop();
+
+        // the index is rebuilt from the file store
+        assertTrue(new File(store.getPath() + ".idx").delete());
+        repo.start();
+        assertEquals(4999, repo.getSize());
+        assertTrue(repo.contains("key-4999"));
+        assertFalse(repo.contains("key-42"));
+        assertFalse(repo.contains("key-5000"));
+    }
+
+    @Test
+    public void testCompactRemovedKeys() throws Exception {
+        for (int i = 0; i < 1000; i++) {
+            repo.add("key-" + i);
+        }
+        for (int i = 0; i < 1000; i += 2) {
+            repo.remove("key-" + i);
+        }
+        long size = repo.getFileStoreSize();
+
+        repo.compact();
+
+        assertTrue(repo.getFileStoreSize() < size);
+        assertEquals(500, repo.getSize());
+        assertFalse(repo.contains("key-0"));
+        assertTrue(repo.contains("key-1"));
+        assertTrue(repo.contains("key-999"));
+
+        // the compacted file store must be loaded again
+        repo.stop();
+        assertTrue(new File(store.getPath() + ".idx").delete());
+        repo.start();
+        assertEquals(500, repo.getSize());
+        assertTrue(repo.contains("key-999"));
+    }
+
+    @Test
+    public void testDropOldestWhenMaxFileStoreSizeHit() throws Exception {
+        repo.stop();
+        repo.setMaxFileStoreSize(1000);
+        repo.setDropOldestFileStore(50);
+        repo.start();
+
+        // each entry is 15 bytes so we hit the max size at entry 67
+        for (int i = 0; i < 67; i++) {
+            repo.add("key-" + (100000 + i));
+        }
+
+        // the file store is compacted in the background
+        Awaitility.await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> assertEquals(17, repo.getSize()));
+        assertFalse(repo.contains("key-100000"));
+        assertFalse(repo.contains("key-100049"));
+        assertTrue(repo.contains("key-100050"));
+        assertTrue(repo.contains("key-100066"));
+    }
+
+    @Test
+    public void testDropOldestWaitsForFileStoreToGrow() throws Exception {
+        // without camel context the file store is compacted in the caller thread
+        IndexedFileIdempotentRepository other = new IndexedFileIdempotentRepository(testFile("other.dat").toFile());
+        other.start();
+        for (int i = 0; i < 100; i++) {
+            other.add("key-" + (100000 + i));
+        }
+        other.stop();
+        other.setMaxFileStoreSize(1000);
+        other.setDropOldestFileStore(1);
+        other.start();
+
+        // dropping the oldest entry is not enough to get below the max size
+        other.add("key-100100");
+        assertEquals(100, other.getSize());
+        assertFalse(other.contains("key-100000"));
+
+        // so the file store must grow by 10% of the max size before compacting again
+        for (int i = 101; i < 107; i++) {
+            other.add("key-" + (100000 + i));
+        }
+        assertEquals(106, other.getSize());
+        other.add("key-100107");
+        assertEquals(106, other.getSize());
+        assertFalse(other.contains("key-100001"));
+        other.stop();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                from("direct:start").idempotentConsumer(header("messageId"), repo).to("mock:result");
+            }
+        };
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.AggregationStrategy;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SplitParallelMaxInflightTest extends ContextTestSupport {
+
+    private static final int COUNT = 50;
+
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final AtomicInteger maxInflight = new AtomicInteger();
+
+    @Test
+    public void testMaxInflightInOrder() throws Exception {
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < COUNT; i++) {
+            if (i > 0) {
+                expected.append(",");
+            }
+            expected.append(i);
+        }
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived(expected.toString());
+
+        template.sendBody("direct:start", new CountingIterator());
+
+        assertMockEndpointsSatisfied();
+
+        assertTrue(maxInflight.get() <= 3, "Should not have more than 3 inflight exchanges, was: " + maxInflight.get());
+        assertEquals(0, inflight.get());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        AggregationStrategy strategy = (oldExchange, newExchange) -> {
+            inflight.decrementAndGet();
+            if (oldExchange == null) {
+                return newExchange;
+            }
+            String body = oldExchange.getIn().getBody(String.class) + "," + newExchange.getIn().getBody(String.class);
+            oldExchange.getIn().setBody(body);
+            return oldExchange;
+        };
+
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start")
+                        .split(body(), strategy).streaming().parallelProcessing().maxInflightExchanges(3).aggregateInOrder()
+                            .delay(simple("${random(0,10)}"))
+                        .end()
+                        .to("mock:result");
+            }
+        };
+    }
+
+    /**
+     * An iterator which tracks how many of its elements are being processed, as the element is taken from the
+     * iterator and released when it has been aggregated.
+     */
+    private class CountingIterator implements Iterator<Integer> {
+        private int index;
+
+        @Override
+        public boolean hasNext() {
+            return index < COUNT;
+        }
+
+        @Override
+        public Integer next() {
+            maxInflight.accumulateAndGet(inflight.incrementAndGet(), Math::max);
+            return index++;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.impl.engine.PooledExchangeFactory;
+import org.apache.camel.impl.engine.PooledProcessorExchangeFactory;
+import org.apache.camel.util.StopWatch;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares the time taken and the heap allocated when splitting a large payload in streaming mode with the prototype
+ * exchange factory, which creates a new exchange for each line, and with the pooled exchange factory, which reuses the
+ * exchanges.
+ */
+@EnabledIfSystemProperty(named = "core.manual.tests", matches = "true", disabledReason = "Manual test")
+public class SplitPooledExchangePerformanceTest extends ContextTestSupport {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SplitPooledExchangePerformanceTest.class);
+
+    private static final int COUNT = 200000;
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+    @Test
+    public void testSplitStreaming() throws Exception {
+        String body = createBody();
+
+        long[] prototype = split(body, false);
+        long[] pooled = split(body, true);
+
+        LOG.info("Splitting {} lines: prototype took {} ms allocating {} bytes, pooled took {} ms allocating {} bytes",
+                COUNT, prototype[0], prototype[1], pooled[0], pooled[1]);
+    }
+
+    private static String createBody() {
+        StringBuilder sb = new StringBuilder(COUNT * 12);
+        for (int i = 0; i < COUNT; i++) {
+            sb.append("Line ").append(i).append("\n");
+        }
+        return sb.toString();
+    }
+
+    private static long[] split(String body, boolean pooled) throws Exception {
+        CamelContext camel = new DefaultCamelContext();
+        if (pooled) {
+            camel.getCamelContextExtension().setExchangeFactory(new PooledExchangeFactory());
+            camel.getCamelContextExtension().setProcessorExchangeFactory(new PooledProcessorExchangeFactory());
+        }
+        camel.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start")
+                        .split(body().tokenize("\n")).streaming()
+                            .setHeader("line", body())
+                        .end();
+            }
+        });
+        camel.start();
+        try {
+            ProducerTemplate producer = camel.createProducerTemplate();
+            // warm up
+            producer.sendBody("direct:start", body);
+
+            long before = currentThreadAllocatedBytes();
+            StopWatch watch = new StopWatch();
+            producer.sendBody("direct:start", body);
+            long taken = watch.taken();
+            long allocated = currentThreadAllocatedBytes() - before;
+            return new long[] { taken, allocated };
+        } finally {
+            camel.stop();
+        }
+    }
+
+}
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.time.Duration;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.engine.PooledExchangeFactory;
+import org.apache.camel.impl.engine.PooledProcessorExchangeFactory;
+import org.apache.camel.spi.ExchangeFactoryManager;
+import org.apache.camel.spi.PooledObjectFactory;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SplitPooledExchangeTest extends ContextTestSupport {
+
+    private static final int COUNT = 1000;
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext camelContext = super.createCamelContext();
+        ExtendedCamelContext ecc = camelContext.getCamelContextExtension();
+
+        ecc.setExchangeFactory(new PooledExchangeFactory());
+        ecc.setProcessorExchangeFactory(new PooledProcessorExchangeFactory());
+        ecc.getExchangeFactory().setStatisticsEnabled(true);
+        ecc.getProcessorExchangeFactory().setStatisticsEnabled(true);
+
+        return camelContext;
+    }
+
+    @Test
+    void testStreamingSplitReusesExchanges() throws Exception {
+        getMockEndpoint("mock:line").expectedMessageCount(COUNT);
+        getMockEndpoint("mock:line").message(0).body().isEqualTo("Line 0");
+        getMockEndpoint("mock:result").expectedMessageCount(1);
+
+        template.sendBody("direct:start", createBody());
+
+        assertMockEndpointsSatisfied();
+
+        ExchangeFactoryManager manager = context.getCamelContextExtension().getExchangeFactoryManager();
+        assertEquals(1, manager.getProcessorExchangeFactories().size());
+
+        PooledObjectFactory.Statistics stat = manager.getStatistics();
+        // the sub exchanges are released when they have been aggregated, so only a few are created
+        assertTrue(stat.getCreatedCounter() < 10, "Should create few exchanges, was: " + stat.getCreatedCounter());
+        // a copy of the input exchange and an exchange for each line
+        assertEquals(COUNT + 1, stat.getCreatedCounter() + stat.getAcquiredCounter());
+        Awaitility.await().atMost(Duration.ofSeconds(1)).untilAsserted(
+                () -> assertEquals(stat.getCreatedCounter() + stat.getAcquiredCounter(), stat.getReleasedCounter()));
+        assertEquals(0, stat.getDiscardedCounter());
+    }
+
+    @Test
+    void testStreamingSplitRequestReply() throws Exception {
+        getMockEndpoint("mock:line").expectedMessageCount(COUNT);
+        getMockEndpoint("mock:line").message(COUNT - 1).body().isEqualTo("Line " + (COUNT - 1));
+
+        // the input message is not changed by the split when using the default aggregation strategy
+        String body = createBody();
+        Object out = template.requestBody("direct:start", body);
+        assertEquals(body, out);
+
+        assertMockEndpointsSatisfied();
+    }
+
+    private static String createBody() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < COUNT; i++) {
+            sb.append("Line ").append(i).append("\n");
+        }
+        return sb.toString();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start")
+                        .split(body().tokenize("\n")).streaming()
+                            .to("mock:line")
+                        .end()
+                        .to("mock:result");
+            }
+        };
+    }
+}
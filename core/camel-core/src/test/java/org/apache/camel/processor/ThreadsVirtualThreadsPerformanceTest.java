@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.ThreadPoolProfileBuilder;
+import org.apache.camel.spi.ExecutorServiceManager;
+import org.apache.camel.spi.ThreadPoolProfile;
+import org.apache.camel.util.StopWatch;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares the time taken to run tasks which are mostly blocked with a thread pool of platform threads, and with a
+ * thread pool of virtual threads (which falls back to platform threads before Java 21).
+ */
+@EnabledIfSystemProperty(named = "core.manual.tests", matches = "true", disabledReason = "Manual test")
+public class ThreadsVirtualThreadsPerformanceTest extends ContextTestSupport {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ThreadsVirtualThreadsPerformanceTest.class);
+
+    private static final int COUNT = 2000;
+    private static final long BLOCKED_MILLIS = 5;
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+    @Test
+    public void testBlockingTasks() throws Exception {
+        ExecutorServiceManager manager = context.getExecutorServiceManager();
+        ThreadPoolProfile platform = new ThreadPoolProfileBuilder("platform").maxQueueSize(-1).build();
+        ThreadPoolProfile virtual = new ThreadPoolProfileBuilder("virtual").virtualThreads(true).build();
+        manager.registerThreadPoolProfile(platform);
+        manager.registerThreadPoolProfile(virtual);
+
+        // warm up
+        run("platform");
+        run("virtual");
+
+        long platformTaken = run("platform");
+        long virtualTaken = run("virtual");
+
+        LOG.info("Running {} tasks blocked for {} ms: platform threads took {} ms, virtual threads took {} ms",
+                COUNT, BLOCKED_MILLIS, platformTaken, virtualTaken);
+    }
+
+    private long run(String profile) throws Exception {
+        ExecutorService pool = context.getExecutorServiceManager().newThreadPool(this, profile, profile);
+        try {
+            StopWatch watch = new StopWatch();
+            List<Future<?>> futures = new ArrayList<>(COUNT);
+            for (int i = 0; i < COUNT; i++) {
+                futures.add(pool.submit(() -> {
+                    Thread.sleep(BLOCKED_MILLIS);
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            return watch.taken();
+        } finally {
+            context.getExecutorServiceManager().shutdownNow(pool);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.concurrent.ExecutorService;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.builder.ThreadPoolProfileBuilder;
+import org.apache.camel.spi.ThreadPoolProfile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ThreadsVirtualThreadsTest extends ContextTestSupport {
+
+    @Test
+    public void testThreadsVirtualThreads() throws Exception {
+        getMockEndpoint("mock:result").expectedBodiesReceived("Hello World");
+
+        template.sendBody("direct:start", "Hello World");
+
+        assertMockEndpointsSatisfied();
+
+        String name = getMockEndpoint("mock:result").getReceivedExchanges().get(0).getMessage().getHeader("threadName",
+                String.class);
+        assertNotEquals(Thread.currentThread().getName(), name);
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    public void testThreadsVirtualThreadsIsVirtual() throws Exception {
+        getMockEndpoint("mock:result").expectedBodiesReceived("Hello World");
+
+        template.sendBody("direct:start", "Hello World");
+
+        assertMockEndpointsSatisfied();
+
+        assertTrue(getMockEndpoint("mock:result").getReceivedExchanges().get(0).getMessage().getHeader("virtual",
+                boolean.class));
+    }
+
+    @Test
+    public void testProfileInheritsVirtualThreads() {
+        ThreadPoolProfile profile = new ThreadPoolProfileBuilder("myProfile").poolSize(5).build();
+        ThreadPoolProfile defaultProfile = context.getExecutorServiceManager().getDefaultThreadPoolProfile().clone();
+        defaultProfile.setVirtualThreads(true);
+
+        profile.addDefaults(defaultProfile);
+        assertTrue(profile.getVirtualThreads());
+        assertEquals(5, profile.getPoolSize());
+
+        ThreadPoolProfile platform = new ThreadPoolProfileBuilder("platform").virtualThreads(false).build();
+        platform.addDefaults(defaultProfile);
+        assertFalse(platform.getVirtualThreads());
+    }
+
+    @Test
+    public void testProfileVirtualThreadsExecutorService() throws Exception {
+        ThreadPoolProfile profile = new ThreadPoolProfileBuilder("myVirtualProfile").virtualThreads(true).build();
+        context.getExecutorServiceManager().registerThreadPoolProfile(profile);
+
+        ExecutorService pool = context.getExecutorServiceManager().newThreadPool(this, "Cool", "myVirtualProfile");
+        try {
+            assertEquals("Hello", pool.submit(() -> "Hello").get());
+        } finally {
+            context.getExecutorServiceManager().shutdownNow(pool);
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start")
+                        .threads().virtualThreads(true)
+                        .process(e -> {
+                            e.getMessage().setHeader("threadName", Thread.currentThread().getName());
+                            e.getMessage().setHeader("virtual", isVirtual(Thread.currentThread()));
+                        })
+                        .to("mock:result");
+            }
+        };
+    }
+
+    private static boolean isVirtual(Thread thread) {
+        try {
+            return (boolean) Thread.class.getMethod("isVirtual").invoke(thread);
+        } catch (ReflectiveOperationException e) {
+            // virtual threads are not supported before Java 21
+            return false;
+        }
+    }
+}
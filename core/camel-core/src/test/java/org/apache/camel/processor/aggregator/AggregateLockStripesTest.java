@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.aggregator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.camel.AggregationStrategy;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.util.StopWatch;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Isolated("Creates lots of threads")
+public class AggregateLockStripesTest extends ContextTestSupport {
+
+    private static final int THREADS = 32;
+    private static final int GROUPS = 200;
+    private static final int GROUP_SIZE = 10;
+
+    @Test
+    public void testGlobalLockVersusLockStripes() throws Exception {
+        long global = sendAndAssert("global");
+        long striped = sendAndAssert("striped");
+
+        log.info("Aggregated {} groups with {} threads using a global lock in {} ms, and using lock stripes in {} ms",
+                GROUPS, THREADS, global, striped);
+    }
+
+    private long sendAndAssert(String name) throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:" + name);
+        mock.expectedMessageCount(GROUPS);
+
+        ExecutorService service = Executors.newFixedThreadPool(THREADS);
+        List<Callable<Object>> tasks = new ArrayList<>();
+        for (int i = 0; i < GROUPS * GROUP_SIZE; i++) {
+            final int id = i % GROUPS;
+            tasks.add(() -> {
+                template.sendBodyAndHeader("direct:" + name, "A", "id", id);
+                return null;
+            });
+        }
+
+        StopWatch watch = new StopWatch();
+        service.invokeAll(tasks);
+        assertMockEndpointsSatisfied();
+        long taken = watch.taken();
+        service.shutdownNow();
+
+        // every group must have been completed with all its messages
+        for (Exchange exchange : mock.getReceivedExchanges()) {
+            assertEquals(GROUP_SIZE, exchange.getMessage().getBody(String.class).length());
+        }
+        return taken;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:global").aggregate(header("id"), new SlowAggregationStrategy()).completionSize(GROUP_SIZE)
+                        .to("mock:global");
+
+                from("direct:striped").aggregate(header("id"), new SlowAggregationStrategy()).completionSize(GROUP_SIZE)
+                        .lockStripes(64)
+                        .to("mock:striped");
+            }
+        };
+    }
+
+    private static class SlowAggregationStrategy implements AggregationStrategy {
+
+        @Override
+        public Exchange aggregate(Exchange oldExchange, Exchange newExchange) {
+            try {
+                // simulate some work being done while aggregating
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (oldExchange == null) {
+                return newExchange;
+            }
+            String body = oldExchange.getMessage().getBody(String.class) + newExchange.getMessage().getBody(String.class);
+            oldExchange.getMessage().setBody(body);
+            return oldExchange;
+        }
+    }
+}
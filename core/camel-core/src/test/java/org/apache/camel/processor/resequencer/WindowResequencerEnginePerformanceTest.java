@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.resequencer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.camel.util.StopWatch;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.apache.camel.TestSupport.currentThreadAllocatedBytes;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares the throughput and the heap allocated when resequencing the same stream of dense sequence numbers, which
+ * arrive slightly out of order, with the {@link ResequencerEngine} and the {@link WindowResequencerEngine}.
+ */
+@EnabledIfSystemProperty(named = "core.manual.tests", matches = "true", disabledReason = "Manual test")
+public class WindowResequencerEnginePerformanceTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(WindowResequencerEnginePerformanceTest.class);
+
+    private static final int COUNT = 200000;
+    private static final int DISORDER = 100;
+
+    @Test
+    public void testResequence() throws Exception {
+        Integer[] input = createInput();
+
+        // warm up
+        resequence(createTreeEngine(), input);
+        resequence(createWindowEngine(), input);
+
+        long[] tree = resequence(createTreeEngine(), input);
+        long[] window = resequence(createWindowEngine(), input);
+
+        LOG.info("Resequencing {} elements: tree took {} ms allocating {} bytes,"
+                 + " sliding window took {} ms allocating {} bytes",
+                COUNT, tree[0], tree[1], window[0], window[1]);
+    }
+
+    private static StreamResequencerEngine<Integer> createTreeEngine() {
+        ResequencerEngine<Integer> engine = new ResequencerEngine<>(new IntegerComparator());
+        engine.setLastDelivered(0);
+        return engine;
+    }
+
+    private static StreamResequencerEngine<Integer> createWindowEngine() {
+        WindowResequencerEngine<Integer> engine = new WindowResequencerEngine<>(Integer::longValue);
+        engine.setLastDelivered(0);
+        return engine;
+    }
+
+    /**
+     * Creates the sequence numbers 1 to COUNT where each number is moved at most DISORDER positions
+     */
+    private static Integer[] createInput() {
+        List<Integer> list = new ArrayList<>(COUNT);
+        for (int i = 1; i <= COUNT; i++) {
+            list.add(i);
+        }
+        Random random = new Random(42);
+        for (int i = 0; i < COUNT; i += DISORDER) {
+            Collections.shuffle(list.subList(i, Math.min(i + DISORDER, COUNT)), random);
+        }
+        return list.toArray(new Integer[0]);
+    }
+
+    /**
+     * Resequences the input, and measures the time taken and the bytes allocated by the current thread (if supported
+     * by the JVM)
+     */
+    private static long[] resequence(StreamResequencerEngine<Integer> engine, Integer[] input) throws Exception {
+        int[] expected = { 1 };
+        engine.setSequenceSender(o -> assertEquals(expected[0]++, o));
+        engine.setTimeout(60000);
+        engine.start();
+        try {
+            long before = currentThreadAllocatedBytes();
+            StopWatch watch = new StopWatch();
+            for (Integer i : input) {
+                engine.insert(i);
+                engine.deliver();
+            }
+            long taken = watch.taken();
+            long allocated = currentThreadAllocatedBytes() - before;
+            assertEquals(COUNT + 1, expected[0]);
+            return new long[] { taken, allocated };
+        } finally {
+            engine.stop();
+        }
+    }
+
+}
@@ -0,0 +1,205 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.resequencer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WindowResequencerEngineTest {
+
+    private WindowResequencerEngine<Integer> engine;
+    private SequenceBuffer<Integer> buffer;
+
+    @Test
+    void testTimeout() throws Exception {
+        initEngine(200, 16);
+        engine.insert(4);
+        engine.deliver();
+        assertEquals(0, buffer.size());
+        await().atMost(5, TimeUnit.SECONDS).until(() -> {
+            engine.deliver();
+            return buffer.size() == 1;
+        });
+        assertEquals(4, buffer.take());
+        assertEquals(4, engine.getLastDelivered());
+    }
+
+    @Test
+    void testSuccessorOfLastDelivered() throws Exception {
+        initEngine(60000, 16);
+        engine.setLastDelivered(3);
+        engine.insert(4);
+        engine.deliver();
+        assertEquals(4, buffer.poll(0));
+        assertEquals(4, engine.getLastDelivered());
+    }
+
+    @Test
+    void testPredecessorArrives() throws Exception {
+        initEngine(60000, 16);
+        engine.setLastDelivered(2);
+        engine.insert(4);
+        engine.deliver();
+        assertNull(buffer.poll(0));
+        engine.insert(3);
+        engine.deliver();
+        assertEquals(3, buffer.poll(0));
+        assertEquals(4, buffer.poll(0));
+        assertEquals(0, engine.size());
+    }
+
+    @Test
+    void testGapIsNotDeliveredBeforeTimeout() throws Exception {
+        initEngine(60000, 16);
+        engine.setLastDelivered(0);
+        engine.insert(2);
+        engine.insert(1);
+        engine.insert(4);
+        engine.deliver();
+        assertEquals(1, buffer.poll(0));
+        assertEquals(2, buffer.poll(0));
+        assertNull(buffer.poll(0));
+        assertEquals(1, engine.size());
+    }
+
+    @Test
+    void testOutsideWindow() throws Exception {
+        initEngine(0, 16);
+        engine.insert(1000);
+        engine.insert(20);
+        engine.insert(3);
+        engine.insert(500);
+        engine.insert(1);
+        engine.insert(1017);
+        assertEquals(6, engine.size());
+        engine.deliver();
+        assertDelivered(1, 3, 20, 500, 1000, 1017);
+        assertEquals(0, engine.size());
+    }
+
+    @Test
+    void testBelowWindow() throws Exception {
+        initEngine(0, 16);
+        engine.setLastDelivered(100);
+        engine.insert(110);
+        engine.insert(5);
+        engine.deliver();
+        assertDelivered(5, 110);
+    }
+
+    @Test
+    void testDuplicateIsDropped() throws Exception {
+        initEngine(0, 16);
+        engine.insert(1);
+        engine.insert(1);
+        engine.insert(100);
+        engine.insert(100);
+        assertEquals(2, engine.size());
+        engine.deliver();
+        assertDelivered(1, 100);
+    }
+
+    @Test
+    void testRejectOld() throws Exception {
+        initEngine(0, 16);
+        engine.setRejectOld(true);
+        engine.setLastDelivered(10);
+        assertThrows(MessageRejectedException.class, () -> engine.insert(5));
+        engine.insert(12);
+        assertEquals(1, engine.size());
+    }
+
+    @Test
+    void testInvalidElement() {
+        initEngine(0, 16);
+        assertThrows(IllegalArgumentException.class, () -> engine.insert(-1));
+        assertEquals(0, engine.size());
+    }
+
+    @Test
+    void testWaitForCapacity() throws Exception {
+        initEngine(0, 16);
+        engine.insert(1);
+        engine.insert(2);
+        engine.waitForCapacity(3);
+
+        Thread waiting = new Thread(() -> {
+            try {
+                engine.waitForCapacity(2);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        waiting.start();
+        waiting.join(100);
+        assertTrue(waiting.isAlive());
+
+        assertTrue(engine.deliverNext());
+        waiting.join(5000);
+        assertFalse(waiting.isAlive());
+    }
+
+    @Test
+    void testShuffled() throws Exception {
+        for (int windowSize : new int[] { 16, 1024 }) {
+            initEngine(60000, windowSize);
+            engine.setLastDelivered(0);
+            List<Integer> input = new ArrayList<>();
+            for (int i = 1; i <= 10000; i++) {
+                input.add(i);
+            }
+            Collections.shuffle(input, new Random(windowSize));
+            for (Integer i : input) {
+                engine.insert(i);
+            }
+            engine.deliver();
+            for (int i = 1; i <= 10000; i++) {
+                assertEquals(i, buffer.poll(0));
+            }
+            assertEquals(0, engine.size());
+        }
+    }
+
+    private void assertDelivered(Integer... expected) throws InterruptedException {
+        for (Integer e : expected) {
+            assertEquals(e, buffer.poll(0));
+        }
+        assertNull(buffer.poll(0));
+    }
+
+    private void initEngine(long timeout, int windowSize) {
+        buffer = new SequenceBuffer<>();
+        engine = new WindowResequencerEngine<>(i -> i < 0 ? null : (long) i);
+        engine.setSequenceSender(buffer);
+        engine.setTimeout(timeout);
+        engine.setWindowSize(windowSize);
+        engine.start();
+    }
+
+}
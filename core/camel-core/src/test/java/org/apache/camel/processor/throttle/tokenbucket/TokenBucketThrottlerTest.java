@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.throttle.tokenbucket;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.processor.ThrottlerRejectedExecutionException;
+import org.apache.camel.processor.TokenBucketThrottler;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledIfSystemProperty;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// time-bound that does not run well in shared environments
+@DisabledOnOs(OS.WINDOWS)
+@DisabledIfSystemProperty(named = "ci.env.name", matches = "github.com", disabledReason = "Flaky on Github CI")
+public class TokenBucketThrottlerTest extends ContextTestSupport {
+    private static final int INTERVAL = 500;
+    private static final int MESSAGE_COUNT = 9;
+
+    @Test
+    public void testSendLotsOfMessagesWithRejectExecution() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(2);
+        getMockEndpoint("mock:error").expectedMessageCount(4);
+
+        for (int i = 0; i < 6; i++) {
+            template.sendBody("direct:reject", "<message>" + i + "</message>");
+        }
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testGroupingWithRejectExecution() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(6);
+        getMockEndpoint("mock:error").expectedMessageCount(3);
+
+        for (int i = 0; i < MESSAGE_COUNT; i++) {
+            template.sendBodyAndHeader("direct:group", "<message>" + i + "</message>", "key", i % 3);
+        }
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testSendLotsOfMessagesSimultaneously() throws Exception {
+        long elapsed = sendMessagesAndAwaitDelivery("direct:a");
+        assertThrottlerTiming(elapsed);
+    }
+
+    @Test
+    public void testSendLotsOfMessagesAsyncDelayed() throws Exception {
+        long elapsed = sendMessagesAndAwaitDelivery("direct:async");
+        assertThrottlerTiming(elapsed);
+    }
+
+    @Test
+    public void testIdleBucketsAreEvicted() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(50);
+
+        for (int i = 0; i < 50; i++) {
+            template.sendBodyAndHeader("direct:evict", "<message>" + i + "</message>", "key", i);
+        }
+
+        assertMockEndpointsSatisfied();
+
+        TokenBucketThrottler throttler = context.getProcessor("evict", TokenBucketThrottler.class);
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> assertEquals(0, throttler.getBucketCount()));
+    }
+
+    @Test
+    public void testChangeTimePeriod() throws Exception {
+        TokenBucketThrottler throttler = context.getProcessor("reschedule", TokenBucketThrottler.class);
+        assertThrows(IllegalArgumentException.class, () -> throttler.setTimePeriodMillis(0));
+        assertEquals(60000, throttler.getTimePeriodMillis());
+
+        // the idle buckets are evicted after ten times the new time period rather than the one the route started with
+        throttler.setTimePeriodMillis(10);
+
+        getMockEndpoint("mock:result").expectedMessageCount(10);
+        for (int i = 0; i < 10; i++) {
+            template.sendBodyAndHeader("direct:reschedule", "<message>" + i + "</message>", "key", i);
+        }
+        assertMockEndpointsSatisfied();
+
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> assertEquals(0, throttler.getBucketCount()));
+    }
+
+    private void assertThrottlerTiming(long elapsed) {
+        // the first 5 messages are let through at once, and then one every 100ms
+        long minimum = (MESSAGE_COUNT - 5) * (INTERVAL / 5) - 50;
+        // add 1000 in case running on slow CI boxes
+        long maximum = (MESSAGE_COUNT - 5) * (INTERVAL / 5) + 1000;
+        log.info("Sent {} exchanges in {}ms. Calculated min {}ms and max {}ms", MESSAGE_COUNT, elapsed, minimum, maximum);
+
+        assertTrue(elapsed >= minimum, "Should take at least " + minimum + "ms, was: " + elapsed);
+        assertTrue(elapsed <= maximum, "Should take at most " + maximum + "ms, was: " + elapsed);
+    }
+
+    private long sendMessagesAndAwaitDelivery(final String endpointUri) throws InterruptedException {
+        MockEndpoint resultEndpoint = getMockEndpoint("mock:result");
+        resultEndpoint.expectedMessageCount(MESSAGE_COUNT);
+
+        ExecutorService executor = Executors.newFixedThreadPool(MESSAGE_COUNT);
+        try {
+            long start = System.nanoTime();
+            for (int i = 0; i < MESSAGE_COUNT; i++) {
+                executor.execute(() -> template.sendBody(endpointUri, "<message>payload</message>"));
+            }
+
+            resultEndpoint.assertIsSatisfied();
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                onException(ThrottlerRejectedExecutionException.class).handled(true).to("mock:error");
+
+                from("direct:reject").throttle(2).tokenBucketMode().timePeriodMillis(1000).rejectExecution(true)
+                        .to("log:result", "mock:result");
+
+                from("direct:group").throttle(2).tokenBucketMode().timePeriodMillis(1000).rejectExecution(true)
+                        .correlationExpression(header("key"))
+                        .to("log:result", "mock:result");
+
+                from("direct:a").throttle(5).tokenBucketMode().timePeriodMillis(INTERVAL)
+                        .to("log:result", "mock:result");
+
+                from("direct:async").throttle(5).tokenBucketMode().timePeriodMillis(INTERVAL).asyncDelayed()
+                        .to("log:result", "mock:result");
+
+                from("direct:evict").throttle(1).tokenBucketMode().timePeriodMillis(10)
+                        .correlationExpression(header("key")).id("evict")
+                        .to("mock:result");
+
+                from("direct:reschedule").throttle(1).tokenBucketMode().timePeriodMillis(60000)
+                        .correlationExpression(header("key")).id("reschedule")
+                        .to("mock:result");
+            }
+        };
+    }
+}
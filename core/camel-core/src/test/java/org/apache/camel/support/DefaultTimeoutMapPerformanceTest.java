@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.TimeoutMap;
+import org.apache.camel.util.StopWatch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Measures the time taken by the purge task of {@link DefaultTimeoutMap} with 1 million outstanding entries, such as
+ * requests waiting for their reply, using a simulated clock.
+ */
+@EnabledIfSystemProperty(named = "core.manual.tests", matches = "true", disabledReason = "Manual test")
+public class DefaultTimeoutMapPerformanceTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DefaultTimeoutMapPerformanceTest.class);
+
+    private static final int ENTRIES = 1000000;
+    private static final long TIMEOUT = 60000;
+    private static final long START = 1000000;
+
+    private final ScheduledExecutorService executor = new ScheduledThreadPoolExecutor(1);
+    private long clock = START;
+
+    @AfterEach
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testPurgeOutstandingEntries() {
+        AtomicInteger evicted = new AtomicInteger();
+        DefaultTimeoutMap<Integer, Integer> map = new DefaultTimeoutMap<>(executor, 1000) {
+            @Override
+            protected long currentTime() {
+                return clock;
+            }
+        };
+        map.addListener((type, key, value) -> {
+            if (type == TimeoutMap.Listener.Type.Evict) {
+                evicted.incrementAndGet();
+            }
+        });
+
+        // the requests are sent during the timeout, and the purge task runs every second
+        long put = 0;
+        long purge = 0;
+        long nextPurge = clock + 1000;
+        StopWatch watch = new StopWatch();
+        for (int i = 0; i < ENTRIES; i++) {
+            clock = START + i * TIMEOUT / ENTRIES;
+            if (clock >= nextPurge) {
+                put += watch.takenAndRestart();
+                map.purge();
+                purge += watch.takenAndRestart();
+                nextPurge += 1000;
+            }
+            map.put(i, i, TIMEOUT);
+        }
+        put += watch.takenAndRestart();
+        assertEquals(0, evicted.get());
+        assertEquals(ENTRIES, map.size());
+
+        // then the requests time out
+        for (int i = 0; i <= TIMEOUT / 1000; i++) {
+            clock = nextPurge;
+            map.purge();
+            nextPurge += 1000;
+        }
+        long expire = watch.taken();
+        assertEquals(ENTRIES, evicted.get());
+        assertEquals(0, map.size());
+
+        LOG.info("{} entries: put took {} ms, purging every second took {} ms while putting and {} ms while timing out",
+                ENTRIES, put, purge, expire);
+    }
+}
@@ -19,10 +19,15 @@ package org.apache.camel.support;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.camel.TimeoutMap;
 import org.junit.jupiter.api.Test;
@@ -31,6 +36,7 @@ import org.junit.jupiter.api.parallel.Isolated;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import static org.apache.camel.TimeoutMap.Listener.Type.Put;
 import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -52,6 +58,23 @@ public class DefaultTimeoutMapTest {
         map.stop();
     }
 
+    @Test
+    public void testSetTickTime() {
+        DefaultTimeoutMap<String, Integer> map = new DefaultTimeoutMap<>(executor, 100);
+        map.setTickTime(5);
+        assertEquals(5, map.getTickTime());
+
+        map.put("A", 123, 50);
+        assertThrows(IllegalStateException.class, () -> map.setTickTime(20));
+        map.remove("A");
+
+        map.start();
+        assertThrows(IllegalStateException.class, () -> map.setTickTime(20));
+        assertEquals(5, map.getTickTime());
+
+        map.stop();
+    }
+
     @Test
     public void testDefaultTimeoutMapPurge() {
         DefaultTimeoutMap<String, Integer> map = new DefaultTimeoutMap<>(executor, 100);
@@ -198,4 +221,50 @@ public class DefaultTimeoutMapTest {
         map.stop();
     }
 
+    @Test
+    public void testConcurrentPutRemovePurge() throws Exception {
+        // no locking, so the purge task runs concurrently with the callers
+        DefaultTimeoutMap<String, Integer> map = new DefaultTimeoutMap<>(executor, 1, false);
+        Map<String, AtomicInteger> events = new ConcurrentHashMap<>();
+        map.addListener((type, key, value) -> {
+            if (type != Put) {
+                events.computeIfAbsent(key, k -> new AtomicInteger()).incrementAndGet();
+            }
+        });
+        map.start();
+
+        int threads = 4;
+        int count = 2000;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                String prefix = t + "-";
+                futures.add(pool.submit(() -> {
+                    for (int i = 0; i < count; i++) {
+                        map.put(prefix + i, i, i % 5);
+                        if (i % 2 == 0) {
+                            map.remove(prefix + i);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertEquals(0, map.size()));
+
+        // every entry is either removed or expired, exactly once
+        assertEquals(threads * count, events.size());
+        for (Map.Entry<String, AtomicInteger> entry : events.entrySet()) {
+            assertEquals(1, entry.getValue().get(), "Events for " + entry.getKey());
+        }
+
+        map.stop();
+    }
+
 }
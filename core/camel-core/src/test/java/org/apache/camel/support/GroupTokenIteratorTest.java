@@ -24,6 +24,7 @@ import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
 import org.apache.camel.TestSupport;
 import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.util.ByteScanner;
 import org.apache.camel.util.IOHelper;
 import org.apache.camel.util.Scanner;
 import org.junit.jupiter.api.AfterEach;
@@ -89,6 +90,22 @@ public class GroupTokenIteratorTest extends TestSupport {
         IOHelper.close(gi);
     }
 
+    @Test
+    public void testGroupIteratorByteScanner() {
+        byte[] buf = "##comment\n\u00A31\nDEF\nGHI\nJKL\n".getBytes(StandardCharsets.UTF_8);
+        ByteScanner scanner = new ByteScanner(new ByteArrayInputStream(buf), "UTF-8", "\n");
+
+        exchange.setProperty(Exchange.CHARSET_NAME, "UTF-8");
+        GroupTokenIterator gi = new GroupTokenIterator(exchange, scanner, "\n", 2, true);
+
+        assertTrue(gi.hasNext());
+        assertEquals("\u00A31\nDEF", gi.next());
+        assertEquals("GHI\nJKL", gi.next());
+        assertFalse(gi.hasNext());
+
+        IOHelper.close(gi);
+    }
+
     @Test
     public void testGroupIteratorWithDifferentEncodingFromDefault() {
         if (Charset.defaultCharset() == StandardCharsets.UTF_8) {
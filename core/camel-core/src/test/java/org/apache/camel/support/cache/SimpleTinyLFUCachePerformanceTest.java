@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.cache;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.apache.camel.util.StopWatch;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares the hit rate and the throughput of {@link SimpleTinyLFUCache} and {@link SimpleLRUCache}, with keys used
+ * with a skewed frequency, such as the endpoints of a route, mixed with keys used only once, such as dynamic endpoints.
+ */
+@EnabledIfSystemProperty(named = "core.manual.tests", matches = "true", disabledReason = "Manual test")
+public class SimpleTinyLFUCachePerformanceTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SimpleTinyLFUCachePerformanceTest.class);
+
+    private static final int TIMES = 100000;
+    private static final int THREADS = 4;
+
+    @ParameterizedTest
+    @ValueSource(ints = { 100, 1000 })
+    public void testHitRate(int size) {
+        int[] keys = keys(size);
+
+        double tinyLfu = hitRate(new SimpleTinyLFUCache<>(16, size, v -> {
+        }), keys);
+        double lru = hitRate(new SimpleLRUCache<>(16, size, v -> {
+        }), keys);
+        LOG.info("Cache of {} entries {} times: SimpleTinyLFUCache hit rate {}%, SimpleLRUCache hit rate {}%",
+                size, TIMES, Math.round(tinyLfu * 100), Math.round(lru * 100));
+        assertTrue(tinyLfu >= lru, "The hit rate of SimpleTinyLFUCache should not be lower than SimpleLRUCache");
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 100, 1000 })
+    public void testThroughput(int size) throws Exception {
+        int[] keys = keys(size);
+        Consumer<Integer> evict = v -> {
+        };
+
+        // warm up, SimpleLRUCache is too slow to be run twice
+        throughput(new SimpleTinyLFUCache<>(16, size, evict), keys);
+
+        long tinyLfu = throughput(new SimpleTinyLFUCache<>(16, size, evict), keys);
+        long lru = throughput(new SimpleLRUCache<>(16, size, evict), keys);
+        LOG.info("Cache of {} entries {} times by {} threads: SimpleTinyLFUCache took {} ms, SimpleLRUCache took {} ms",
+                size, TIMES, THREADS, tinyLfu, lru);
+    }
+
+    /**
+     * Generates keys following a Zipf distribution among ten times the size of the cache, with one key out of five used
+     * only once.
+     */
+    private static int[] keys(int size) {
+        int range = size * 10;
+        double[] distribution = new double[range];
+        double sum = 0;
+        for (int i = 0; i < range; i++) {
+            sum += 1 / Math.pow(i + 1, 0.9);
+            distribution[i] = sum;
+        }
+        Random random = new Random(42);
+        int[] answer = new int[TIMES];
+        for (int i = 0; i < TIMES; i++) {
+            if (i % 5 == 0) {
+                answer[i] = range + i;
+            } else {
+                int index = Arrays.binarySearch(distribution, random.nextDouble() * sum);
+                answer[i] = index < 0 ? -index - 1 : index;
+            }
+        }
+        return answer;
+    }
+
+    private static double hitRate(Map<Integer, Integer> cache, int[] keys) {
+        int hits = 0;
+        for (int key : keys) {
+            if (cache.get(key) != null) {
+                hits++;
+            } else {
+                cache.put(key, key);
+            }
+        }
+        return (double) hits / keys.length;
+    }
+
+    private static long throughput(Map<Integer, Integer> cache, int[] keys) throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(THREADS);
+        StopWatch watch = new StopWatch();
+        for (int t = 0; t < THREADS; t++) {
+            int offset = t * keys.length / THREADS;
+            new Thread(() -> {
+                for (int i = 0; i < keys.length; i++) {
+                    int key = keys[(offset + i) % keys.length];
+                    if (cache.get(key) == null) {
+                        cache.putIfAbsent(key, key);
+                    }
+                }
+                latch.countDown();
+            }).start();
+        }
+        assertTrue(latch.await(5, TimeUnit.MINUTES));
+        return watch.taken();
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.cache;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The test class for {@link SimpleTinyLFUCache}.
+ */
+class SimpleTinyLFUCacheTest {
+
+    private final List<String> consumed = new ArrayList<>();
+    private final SimpleTinyLFUCache<String, String> map = new SimpleTinyLFUCache<>(16, 3, consumed::add);
+
+    @Test
+    void forbiddenOperations() {
+        assertThrows(UnsupportedOperationException.class, () -> map.values().add("foo"));
+        assertThrows(UnsupportedOperationException.class, () -> map.keySet().add("foo"));
+        assertThrows(UnsupportedOperationException.class, () -> map.entrySet().add(Map.entry("x", "y")));
+        assertThrows(NullPointerException.class, () -> map.put("1", null));
+        assertThrows(NullPointerException.class, () -> map.put(null, "One"));
+    }
+
+    @Test
+    void put() {
+        assertNull(map.put("1", "One"));
+        assertNull(map.put("2", "Two"));
+        assertNull(map.put("3", "Three"));
+        assertEquals(3, map.size());
+        assertEquals(0, consumed.size());
+        assertEquals("Two", map.put("2", "Two v2"));
+        assertEquals(3, map.size());
+        assertEquals("Two v2", map.get("2"));
+        assertNull(map.put("4", "Four"));
+        assertEquals(3, map.size());
+        assertEquals(1, consumed.size());
+        assertEquals(1, map.getEvicted());
+    }
+
+    @Test
+    void putIfAbsent() {
+        assertNull(map.putIfAbsent("1", "One"));
+        assertEquals("One", map.putIfAbsent("1", "One v2"));
+        assertEquals("One", map.get("1"));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void computeAndMerge() {
+        assertEquals("One", map.computeIfAbsent("1", k -> "One"));
+        assertEquals("One", map.computeIfAbsent("1", k -> "One v2"));
+        assertNull(map.computeIfPresent("2", (k, v) -> "Two"));
+        assertEquals("One v2", map.computeIfPresent("1", (k, v) -> v + " v2"));
+        assertEquals("Two", map.compute("2", (k, v) -> v == null ? "Two" : v + " v2"));
+        assertEquals("One v2 v3", map.merge("1", " v3", String::concat));
+        assertNull(map.compute("2", (k, v) -> null));
+        assertFalse(map.containsKey("2"));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void replaceAndRemove() {
+        assertNull(map.replace("1", "One"));
+        assertFalse(map.containsKey("1"));
+        map.put("1", "One");
+        assertEquals("One", map.replace("1", "One v2"));
+        assertFalse(map.replace("1", "One", "One v3"));
+        assertTrue(map.replace("1", "One v2", "One v3"));
+        assertFalse(map.remove("1", "One v2"));
+        assertTrue(map.remove("1", "One v3"));
+        assertNull(map.remove("1"));
+        assertTrue(map.isEmpty());
+        assertEquals(0, consumed.size());
+    }
+
+    @Test
+    void iteratorRemove() {
+        map.put("1", "One");
+        map.put("2", "Two");
+        Iterator<Map.Entry<String, String>> it = map.entrySet().iterator();
+        String key = it.next().getKey();
+        it.remove();
+        assertFalse(map.containsKey(key));
+        assertEquals(1, map.size());
+        assertEquals(1, map.values().size());
+        assertThrows(IllegalStateException.class, it::remove);
+    }
+
+    @Test
+    void clear() {
+        map.put("1", "One");
+        map.put("2", "Two");
+        map.put("3", "Three");
+        map.clear();
+        assertTrue(map.isEmpty());
+        map.put("4", "Four");
+        map.put("5", "Five");
+        map.put("6", "Six");
+        assertEquals(3, map.size());
+        assertEquals(0, consumed.size());
+    }
+
+    @Test
+    void statistics() {
+        map.put("1", "One");
+        assertEquals("One", map.get("1"));
+        assertNull(map.get("2"));
+        assertEquals(1, map.getHits());
+        assertEquals(1, map.getMisses());
+        assertEquals(3, map.getMaxCacheSize());
+        map.resetStatistics();
+        assertEquals(0, map.getHits());
+        assertEquals(0, map.getMisses());
+    }
+
+    @Test
+    void noCache() {
+        SimpleTinyLFUCache<String, String> cache = new SimpleTinyLFUCache<>(16, 0, consumed::add);
+        assertNull(cache.put("1", "One"));
+        assertTrue(cache.isEmpty());
+        assertEquals(List.of("One"), consumed);
+    }
+
+    @Test
+    void frequentlyUsedEntriesAreKept() {
+        SimpleTinyLFUCache<String, String> cache = new SimpleTinyLFUCache<>(16, 100, consumed::add);
+        for (int i = 0; i < 50; i++) {
+            cache.put("hot" + i, "Hot " + i);
+        }
+        for (int j = 0; j < 5; j++) {
+            for (int i = 0; i < 50; i++) {
+                assertEquals("Hot " + i, cache.get("hot" + i));
+            }
+        }
+        // entries used only once should not evict the entries used frequently
+        for (int i = 0; i < 1000; i++) {
+            cache.put("cold" + i, "Cold " + i);
+        }
+        cache.cleanUp();
+        assertEquals(100, cache.size());
+        assertEquals(950, consumed.size());
+        for (int i = 0; i < 50; i++) {
+            assertTrue(cache.containsKey("hot" + i), "hot" + i + " has been evicted");
+        }
+    }
+
+    @Test
+    void concurrentAccess() throws Exception {
+        int threads = 8;
+        SimpleTinyLFUCache<Integer, Integer> cache = new SimpleTinyLFUCache<>(16, 100, v -> {
+        });
+        CountDownLatch latch = new CountDownLatch(threads);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        for (int t = 0; t < threads; t++) {
+            Random random = new Random(t);
+            new Thread(() -> {
+                try {
+                    for (int i = 0; i < 100000; i++) {
+                        int key = random.nextInt(500);
+                        switch (random.nextInt(4)) {
+                            case 0 -> cache.put(key, key);
+                            case 1 -> cache.remove(key);
+                            default -> {
+                                Integer value = cache.get(key);
+                                if (value != null && value != key) {
+                                    throw new IllegalStateException("Wrong value " + value + " for key " + key);
+                                }
+                            }
+                        }
+                    }
+                } catch (Throwable e) {
+                    failure.set(e);
+                } finally {
+                    latch.countDown();
+                }
+            }).start();
+        }
+        assertTrue(latch.await(30, TimeUnit.SECONDS));
+        assertNull(failure.get());
+        cache.cleanUp();
+        assertTrue(cache.size() <= 100, "The cache should not exceed its maximum size: " + cache.size());
+    }
+}
@@ -159,6 +159,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "producertemplatecachesize":
         case "producerTemplateCacheSize": target.setProducerTemplateCacheSize(property(camelContext, int.class, value)); return true;
         case "profile": target.setProfile(property(camelContext, java.lang.String.class, value)); return true;
+        case "reactiveexecutor":
+        case "reactiveExecutor": target.setReactiveExecutor(property(camelContext, java.lang.String.class, value)); return true;
         case "routefilterexcludepattern":
         case "routeFilterExcludePattern": target.setRouteFilterExcludePattern(property(camelContext, java.lang.String.class, value)); return true;
         case "routefilterincludepattern":
@@ -231,6 +233,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "streamCachingSpoolDirectory": target.setStreamCachingSpoolDirectory(property(camelContext, java.lang.String.class, value)); return true;
         case "streamcachingspoolenabled":
         case "streamCachingSpoolEnabled": target.setStreamCachingSpoolEnabled(property(camelContext, boolean.class, value)); return true;
+        case "streamcachingspooloffheapmemorysize":
+        case "streamCachingSpoolOffHeapMemorySize": target.setStreamCachingSpoolOffHeapMemorySize(property(camelContext, long.class, value)); return true;
         case "streamcachingspoolthreshold":
         case "streamCachingSpoolThreshold": target.setStreamCachingSpoolThreshold(property(camelContext, long.class, value)); return true;
         case "streamcachingspoolusedheapmemorylimit":
@@ -403,6 +407,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "producertemplatecachesize":
         case "producerTemplateCacheSize": return int.class;
         case "profile": return java.lang.String.class;
+        case "reactiveexecutor":
+        case "reactiveExecutor": return java.lang.String.class;
         case "routefilterexcludepattern":
         case "routeFilterExcludePattern": return java.lang.String.class;
         case "routefilterincludepattern":
@@ -475,6 +481,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "streamCachingSpoolDirectory": return java.lang.String.class;
         case "streamcachingspoolenabled":
         case "streamCachingSpoolEnabled": return boolean.class;
+        case "streamcachingspooloffheapmemorysize":
+        case "streamCachingSpoolOffHeapMemorySize": return long.class;
         case "streamcachingspoolthreshold":
         case "streamCachingSpoolThreshold": return long.class;
         case "streamcachingspoolusedheapmemorylimit":
@@ -648,6 +656,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "producertemplatecachesize":
         case "producerTemplateCacheSize": return target.getProducerTemplateCacheSize();
         case "profile": return target.getProfile();
+        case "reactiveexecutor":
+        case "reactiveExecutor": return target.getReactiveExecutor();
         case "routefilterexcludepattern":
         case "routeFilterExcludePattern": return target.getRouteFilterExcludePattern();
         case "routefilterincludepattern":
@@ -720,6 +730,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "streamCachingSpoolDirectory": return target.getStreamCachingSpoolDirectory();
         case "streamcachingspoolenabled":
         case "streamCachingSpoolEnabled": return target.isStreamCachingSpoolEnabled();
+        case "streamcachingspooloffheapmemorysize":
+        case "streamCachingSpoolOffHeapMemorySize": return target.getStreamCachingSpoolOffHeapMemorySize();
         case "streamcachingspoolthreshold":
         case "streamCachingSpoolThreshold": return target.getStreamCachingSpoolThreshold();
         case "streamcachingspoolusedheapmemorylimit":
@@ -38,6 +38,8 @@ public class ThreadPoolProfileConfigurationPropertiesConfigurer extends org.apac
         case "rejectedPolicy": target.setRejectedPolicy(property(camelContext, org.apache.camel.util.concurrent.ThreadPoolRejectedPolicy.class, value)); return true;
         case "timeunit":
         case "timeUnit": target.setTimeUnit(property(camelContext, java.util.concurrent.TimeUnit.class, value)); return true;
+        case "virtualthreads":
+        case "virtualThreads": target.setVirtualThreads(property(camelContext, java.lang.Boolean.class, value)); return true;
         default: return false;
         }
     }
@@ -60,6 +62,8 @@ public class ThreadPoolProfileConfigurationPropertiesConfigurer extends org.apac
         case "rejectedPolicy": return org.apache.camel.util.concurrent.ThreadPoolRejectedPolicy.class;
         case "timeunit":
         case "timeUnit": return java.util.concurrent.TimeUnit.class;
+        case "virtualthreads":
+        case "virtualThreads": return java.lang.Boolean.class;
         default: return null;
         }
     }
@@ -83,6 +87,8 @@ public class ThreadPoolProfileConfigurationPropertiesConfigurer extends org.apac
         case "rejectedPolicy": return target.getRejectedPolicy();
         case "timeunit":
         case "timeUnit": return target.getTimeUnit();
+        case "virtualthreads":
+        case "virtualThreads": return target.getVirtualThreads();
         default: return null;
         }
     }
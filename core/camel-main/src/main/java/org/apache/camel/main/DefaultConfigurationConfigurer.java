@@ -41,6 +41,7 @@ import org.apache.camel.impl.engine.PooledExchangeFactory;
 import org.apache.camel.impl.engine.PooledProcessorExchangeFactory;
 import org.apache.camel.impl.engine.PrototypeExchangeFactory;
 import org.apache.camel.impl.engine.PrototypeProcessorExchangeFactory;
+import org.apache.camel.impl.engine.WorkStealingReactiveExecutor;
 import org.apache.camel.model.Model;
 import org.apache.camel.model.ModelCamelContext;
 import org.apache.camel.model.ModelLifecycleStrategy;
@@ -229,6 +230,10 @@ public final class DefaultConfigurationConfigurer {
             camelContext.getStreamCachingStrategy()
                     .setSpoolUsedHeapMemoryThreshold(config.getStreamCachingSpoolUsedHeapMemoryThreshold());
         }
+        if (config.getStreamCachingSpoolOffHeapMemorySize() > 0) {
+            camelContext.getStreamCachingStrategy()
+                    .setSpoolOffHeapMemorySize(config.getStreamCachingSpoolOffHeapMemorySize());
+        }
 
         if ("default".equals(config.getUuidGenerator())) {
             camelContext.setUuidGenerator(new DefaultUuidGenerator());
@@ -243,6 +248,10 @@ public final class DefaultConfigurationConfigurer {
             LOG.warn("Using OffUuidGenerator (Only intended for development purposes)");
         }
 
+        if ("workStealing".equals(config.getReactiveExecutor())) {
+            camelContext.getCamelContextExtension().setReactiveExecutor(new WorkStealingReactiveExecutor());
+        }
+
         if (config.getLogName() != null) {
             camelContext.getGlobalOptions().put(Exchange.LOG_EIP_NAME, config.getLogName());
         }
@@ -51,6 +51,8 @@ public abstract class DefaultConfigurationProperties<T> {
     private boolean jmxEnabled = true;
     @Metadata(enums = "classic,default,short,simple,off", defaultValue = "default")
     private String uuidGenerator = "default";
+    @Metadata(label = "advanced", enums = "default,workStealing", defaultValue = "default")
+    private String reactiveExecutor = "default";
     private int producerTemplateCacheSize = 1000;
     private int consumerTemplateCacheSize = 1000;
     private boolean loadTypeConverters;
@@ -65,6 +67,7 @@ public abstract class DefaultConfigurationProperties<T> {
     private String streamCachingSpoolDirectory;
     private String streamCachingSpoolCipher;
     private long streamCachingSpoolThreshold;
+    private long streamCachingSpoolOffHeapMemorySize;
     private int streamCachingSpoolUsedHeapMemoryThreshold;
     private String streamCachingSpoolUsedHeapMemoryLimit;
     private boolean streamCachingAnySpoolRules;
@@ -355,6 +358,22 @@ public abstract class DefaultConfigurationProperties<T> {
         this.uuidGenerator = uuidGenerator;
     }
 
+    public String getReactiveExecutor() {
+        return reactiveExecutor;
+    }
+
+    /**
+     * The reactive executor which runs the asynchronous routing work in the routing engine.
+     *
+     * default runs the work scheduled on a thread only on that thread. workStealing allows idle threads to steal work
+     * that is queued behind a long running task on a busy thread, which can reduce latency when a few routes are busy.
+     * The workStealing executor should not be used together with MDC logging, as the work may continue on another
+     * thread.
+     */
+    public void setReactiveExecutor(String reactiveExecutor) {
+        this.reactiveExecutor = reactiveExecutor;
+    }
+
     public int getProducerTemplateCacheSize() {
         return producerTemplateCacheSize;
     }
@@ -539,6 +558,19 @@ public abstract class DefaultConfigurationProperties<T> {
         this.streamCachingSpoolThreshold = streamCachingSpoolThreshold;
     }
 
+    public long getStreamCachingSpoolOffHeapMemorySize() {
+        return streamCachingSpoolOffHeapMemorySize;
+    }
+
+    /**
+     * Sets the size in bytes of off-heap (direct) memory which stream caches can use before spooling to disk. When a
+     * stream cache should be spooled, then it is first kept in off-heap memory, and only spooled to disk when all the
+     * off-heap memory is in use. Default is 0 which means the stream caches are spooled directly to disk.
+     */
+    public void setStreamCachingSpoolOffHeapMemorySize(long streamCachingSpoolOffHeapMemorySize) {
+        this.streamCachingSpoolOffHeapMemorySize = streamCachingSpoolOffHeapMemorySize;
+    }
+
     public int getStreamCachingSpoolUsedHeapMemoryThreshold() {
         return streamCachingSpoolUsedHeapMemoryThreshold;
     }
@@ -1764,6 +1796,19 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * The reactive executor which runs the asynchronous routing work in the routing engine.
+     *
+     * default runs the work scheduled on a thread only on that thread. workStealing allows idle threads to steal work
+     * that is queued behind a long running task on a busy thread, which can reduce latency when a few routes are busy.
+     * The workStealing executor should not be used together with MDC logging, as the work may continue on another
+     * thread.
+     */
+    public T withReactiveExecutor(String reactiveExecutor) {
+        this.reactiveExecutor = reactiveExecutor;
+        return (T) this;
+    }
+
     /**
      * Producer template endpoints cache size.
      */
@@ -1906,6 +1951,16 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * Sets the size in bytes of off-heap (direct) memory which stream caches can use before spooling to disk. When a
+     * stream cache should be spooled, then it is first kept in off-heap memory, and only spooled to disk when all the
+     * off-heap memory is in use. Default is 0 which means the stream caches are spooled directly to disk.
+     */
+    public T withStreamCachingSpoolOffHeapMemorySize(long streamCachingSpoolOffHeapMemorySize) {
+        this.streamCachingSpoolOffHeapMemorySize = streamCachingSpoolOffHeapMemorySize;
+        return (T) this;
+    }
+
     /**
      * Sets a percentage (1-99) of used heap memory threshold to activate stream caching spooling to disk.
      */
@@ -26,6 +26,9 @@ public interface ManagedExchangeFactoryManagerMBean extends ManagedServiceMBean
     @ManagedAttribute(description = "Number of consumers managed")
     Integer getConsumerCounter();
 
+    @ManagedAttribute(description = "Number of EIPs (such as Multicast and Split) managed")
+    Integer getProcessorCounter();
+
     @ManagedAttribute(description = "Max capacity per consumer for exchange pooling")
     Integer getCapacity();
 
@@ -29,6 +29,12 @@ public interface ManagedMulticastMBean extends ManagedProcessorMBean {
     @ManagedAttribute(description = "If enabled then Camel will process replies out-of-order, eg in the order they come back.")
     Boolean isStreaming();
 
+    @ManagedAttribute(description = "If enabled then Camel will process replies in the same order as the messages was sent, also when streaming.")
+    Boolean isAggregateInOrder();
+
+    @ManagedAttribute(description = "The maximum number of messages which are being processed and not yet aggregated, when using parallel processing.")
+    Integer getMaxInflightExchanges();
+
     @ManagedAttribute(description = "Will now stop further processing if an exception or failure occurred during processing.")
     Boolean isStopOnException();
 
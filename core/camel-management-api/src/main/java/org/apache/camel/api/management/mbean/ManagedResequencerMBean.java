@@ -44,4 +44,7 @@ public interface ManagedResequencerMBean extends ManagedProcessorMBean {
     @ManagedAttribute(description = "If true, throws an exception when messages older than the last delivered message are processed")
     Boolean isRejectOld();
 
+    @ManagedAttribute(description = "Whether the messages are resequenced in a sliding window over their sequence numbers")
+    Boolean isSlidingWindow();
+
 }
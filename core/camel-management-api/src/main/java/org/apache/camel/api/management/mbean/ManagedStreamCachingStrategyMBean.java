@@ -65,6 +65,18 @@ public interface ManagedStreamCachingStrategyMBean extends ManagedServiceMBean {
     @ManagedAttribute(description = "Whether used heap memory limit is committed or maximum")
     SpoolUsedHeapMemoryLimit getSpoolUsedHeapMemoryLimit();
 
+    @ManagedAttribute(description = "Size in bytes of off-heap memory which stream caches can use before spooling to disk")
+    void setSpoolOffHeapMemorySize(long size);
+
+    @ManagedAttribute(description = "Size in bytes of off-heap memory which stream caches can use before spooling to disk")
+    long getSpoolOffHeapMemorySize();
+
+    @ManagedAttribute(description = "Number of bytes of off-heap memory in use by stream caches")
+    long getSpoolOffHeapMemoryUsed();
+
+    @ManagedAttribute(description = "Number of stream caches spooled to disk because all the off-heap memory was in use")
+    long getSpoolOffHeapSpillCounter();
+
     @ManagedAttribute(description = "Buffer size in bytes to use when coping between buffers")
     void setBufferSize(int bufferSize);
 
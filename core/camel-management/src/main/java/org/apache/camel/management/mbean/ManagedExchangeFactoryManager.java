@@ -56,6 +56,11 @@ public class ManagedExchangeFactoryManager extends ManagedService implements Man
         return exchangeFactoryManager.getConsumerCounter();
     }
 
+    @Override
+    public Integer getProcessorCounter() {
+        return exchangeFactoryManager.getProcessorExchangeFactories().size();
+    }
+
     @Override
     public Integer getTotalPooled() {
         return exchangeFactoryManager.getPooledCounter();
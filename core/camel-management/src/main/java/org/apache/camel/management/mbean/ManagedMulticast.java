@@ -46,6 +46,16 @@ public class ManagedMulticast extends ManagedProcessor implements ManagedMultica
         return processor.isStreaming();
     }
 
+    @Override
+    public Boolean isAggregateInOrder() {
+        return processor.isAggregateInOrder();
+    }
+
+    @Override
+    public Integer getMaxInflightExchanges() {
+        return processor.getMaxInflightExchanges();
+    }
+
     @Override
     public Boolean isStopOnException() {
         return processor.isStopOnException();
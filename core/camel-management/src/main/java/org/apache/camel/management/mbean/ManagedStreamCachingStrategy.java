@@ -138,6 +138,26 @@ public class ManagedStreamCachingStrategy extends ManagedService implements Mana
         }
     }
 
+    @Override
+    public void setSpoolOffHeapMemorySize(long size) {
+        streamCachingStrategy.setSpoolOffHeapMemorySize(size);
+    }
+
+    @Override
+    public long getSpoolOffHeapMemorySize() {
+        return streamCachingStrategy.getSpoolOffHeapMemorySize();
+    }
+
+    @Override
+    public long getSpoolOffHeapMemoryUsed() {
+        return streamCachingStrategy.getSpoolOffHeapMemoryUsed();
+    }
+
+    @Override
+    public long getSpoolOffHeapSpillCounter() {
+        return streamCachingStrategy.getSpoolOffHeapSpillCounter();
+    }
+
     @Override
     public void setBufferSize(int bufferSize) {
         streamCachingStrategy.setBufferSize(bufferSize);
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management;
+
+import java.util.Set;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisabledOnOs(OS.AIX)
+public class ManagedFileChangedNonBlockingReadLockTest extends ManagementTestSupport {
+
+    @Test
+    public void testReadLockStatistics() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(1);
+
+        template.sendBodyAndHeader(fileUri(), "Hello World", Exchange.FILE_NAME, "hello.txt");
+
+        assertMockEndpointsSatisfied();
+
+        MBeanServer mbeanServer = getMBeanServer();
+        Set<ObjectName> set = mbeanServer.queryNames(new ObjectName("*:type=consumers,*"), null);
+        assertEquals(1, set.size());
+        ObjectName on = set.iterator().next();
+
+        Long stable = (Long) mbeanServer.getAttribute(on, "ReadLockStableFileCount");
+        assertEquals(1, stable.longValue());
+
+        Integer pending = (Integer) mbeanServer.getAttribute(on, "ReadLockPendingFileCount");
+        assertEquals(0, pending.intValue());
+
+        // the file must be unchanged for at least the check interval
+        Long mean = (Long) mbeanServer.getAttribute(on, "ReadLockMeanTimeToStable");
+        assertTrue(mean >= 100, "Should be at least the check interval, was: " + mean);
+
+        Long max = (Long) mbeanServer.getAttribute(on, "ReadLockMaxTimeToStable");
+        assertEquals(mean, max);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from(fileUri("?initialDelay=0&delay=10&readLock=changed-nonblocking&readLockCheckInterval=100"))
+                        .to("mock:result");
+            }
+        };
+    }
+}
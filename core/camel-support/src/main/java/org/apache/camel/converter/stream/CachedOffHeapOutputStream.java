@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.camel.spi.StreamCachingStrategy;
+
+/**
+ * An {@link OutputStream} which stores the content in off-heap buffers acquired from the
+ * {@link StreamCachingStrategy}, and is capable of returning {@link OffHeapInputStreamCache} views of the buffers.
+ * <p/>
+ * The buffers must be acquired by {@link #ensureCapacity(long)} before writing, and are given back to the
+ * {@link StreamCachingStrategy} when {@link #release()} is called, which is done by the {@link CachedOutputStream} when
+ * the exchanges are done or when spooling to disk.
+ */
+public final class CachedOffHeapOutputStream extends OutputStream {
+
+    private final Lock lock = new ReentrantLock();
+    private final StreamCachingStrategy strategy;
+    private final List<ByteBuffer> buffers = new ArrayList<>();
+    private long capacity;
+    private long count;
+    private int index;
+    private volatile boolean released;
+
+    CachedOffHeapOutputStream(StreamCachingStrategy strategy) {
+        this.strategy = strategy;
+    }
+
+    /**
+     * Acquires the off-heap buffers needed to write the given number of bytes
+     *
+     * @return <tt>true</tt> if the bytes can be written, or <tt>false</tt> if all the off-heap memory is in use
+     */
+    boolean ensureCapacity(long len) {
+        while (count + len > capacity) {
+            ByteBuffer buffer = strategy.acquireOffHeapBuffer();
+            if (buffer == null) {
+                return false;
+            }
+            buffers.add(buffer);
+            capacity += buffer.capacity();
+        }
+        return true;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        current().put((byte) b);
+        count++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        while (len > 0) {
+            ByteBuffer buffer = current();
+            int n = Math.min(len, buffer.remaining());
+            buffer.put(b, off, n);
+            off += n;
+            len -= n;
+            count += n;
+        }
+    }
+
+    private ByteBuffer current() throws IOException {
+        if (released) {
+            throw new IOException("The off-heap buffers have been released");
+        }
+        ByteBuffer buffer = buffers.get(index);
+        if (!buffer.hasRemaining()) {
+            buffer = buffers.get(++index);
+        }
+        return buffer;
+    }
+
+    /**
+     * Writes the content of the buffers to the given stream
+     */
+    void writeTo(OutputStream os) throws IOException {
+        new OffHeapInputStreamCache(this, null).writeTo(os);
+    }
+
+    /**
+     * Gets read only views of the buffers, positioned at the start of the content
+     */
+    ByteBuffer[] views() {
+        ByteBuffer[] answer = new ByteBuffer[Math.min(index + 1, buffers.size())];
+        for (int i = 0; i < answer.length; i++) {
+            answer[i] = buffers.get(i).asReadOnlyBuffer().flip();
+        }
+        return answer;
+    }
+
+    long size() {
+        return count;
+    }
+
+    /**
+     * Whether the buffers have been given back to the {@link StreamCachingStrategy}, after which they may be reused
+     * by other streams
+     */
+    boolean isReleased() {
+        return released;
+    }
+
+    /**
+     * Gives the buffers back to the {@link StreamCachingStrategy} so they can be reused
+     */
+    void release() {
+        lock.lock();
+        try {
+            if (!released) {
+                // mark as released before the buffers can be reused, so readers can detect reading reused buffers
+                released = true;
+                for (ByteBuffer buffer : buffers) {
+                    strategy.releaseOffHeapBuffer(buffer);
+                }
+                buffers.clear();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "CachedOffHeapOutputStream[size: " + count + ", buffers: " + buffers.size() + "]";
+    }
+}
@@ -33,6 +33,9 @@ import org.apache.camel.util.IOHelper;
  * This output stream will store the content into a File if the stream context size is exceed the THRESHOLD value. The
  * default THRESHOLD value is {@link StreamCache#DEFAULT_SPOOL_THRESHOLD} bytes .
  * <p/>
+ * If off-heap memory is enabled on the {@link StreamCachingStrategy} then the content is first stored in off-heap
+ * buffers, and only stored into a File when all the off-heap memory is in use.
+ * <p/>
  * The temp file will store in the temp directory, you can configure it by setting the TEMP_DIR property. If you don't
  * set the TEMP_DIR property, it will choose the directory which is set by the system property of "java.io.tmpdir".
  * <p/>
@@ -72,6 +75,7 @@ public class CachedOutputStream extends OutputStream {
         // need to clean up the temp file this time
         if (!closedOnCompletion) {
             tempFileManager.closeFileInputStreams();
+            tempFileManager.releaseOffHeapBuffers();
             tempFileManager.cleanUpTempFile();
         }
     }
@@ -103,6 +107,8 @@ public class CachedOutputStream extends OutputStream {
     public void write(byte[] b, int off, int len) throws IOException {
         this.totalLength += len;
         if (inMemory && currentStream instanceof ByteArrayOutputStream && strategy.shouldSpoolCache(totalLength)) {
+            pageToOffHeapOrFileStream(len);
+        } else if (currentStream instanceof CachedOffHeapOutputStream offHeap && !offHeap.ensureCapacity(len)) {
             pageToFileStream();
         }
         currentStream.write(b, off, len);
@@ -112,6 +118,8 @@ public class CachedOutputStream extends OutputStream {
     public void write(byte[] b) throws IOException {
         this.totalLength += b.length;
         if (inMemory && currentStream instanceof ByteArrayOutputStream && strategy.shouldSpoolCache(totalLength)) {
+            pageToOffHeapOrFileStream(b.length);
+        } else if (currentStream instanceof CachedOffHeapOutputStream offHeap && !offHeap.ensureCapacity(b.length)) {
             pageToFileStream();
         }
         currentStream.write(b);
@@ -121,6 +129,8 @@ public class CachedOutputStream extends OutputStream {
     public void write(int b) throws IOException {
         this.totalLength++;
         if (inMemory && currentStream instanceof ByteArrayOutputStream && strategy.shouldSpoolCache(totalLength)) {
+            pageToOffHeapOrFileStream(1);
+        } else if (currentStream instanceof CachedOffHeapOutputStream offHeap && !offHeap.ensureCapacity(1)) {
             pageToFileStream();
         }
         currentStream.write(b);
@@ -144,9 +154,11 @@ public class CachedOutputStream extends OutputStream {
         if (inMemory) {
             if (currentStream instanceof CachedByteArrayOutputStream cachedByteArrayOutputStream) {
                 return cachedByteArrayOutputStream.newInputStreamCache();
+            } else if (currentStream instanceof CachedOffHeapOutputStream) {
+                return tempFileManager.newOffHeapStreamCache();
             } else {
                 throw new IllegalStateException(
-                        "CurrentStream should be an instance of CachedByteArrayOutputStream but is: "
+                        "CurrentStream should be an instance of CachedByteArrayOutputStream or CachedOffHeapOutputStream but is: "
                                                 + currentStream.getClass().getName());
             }
         } else {
@@ -154,13 +166,36 @@ public class CachedOutputStream extends OutputStream {
         }
     }
 
+    private void pageToOffHeapOrFileStream(int len) throws IOException {
+        // the off-heap buffers must only be used if they are released when the exchanges are done
+        if (strategy.getSpoolOffHeapMemorySize() > 0 && tempFileManager.isActive()) {
+            flush();
+            ByteArrayOutputStream bout = (ByteArrayOutputStream) currentStream;
+            CachedOffHeapOutputStream offHeap = tempFileManager.createOffHeapOutputStream(strategy);
+            if (offHeap.ensureCapacity((long) bout.size() + len)) {
+                bout.writeTo(offHeap);
+                currentStream = offHeap;
+                return;
+            }
+            // not enough off-heap memory so spool to disk
+            offHeap.release();
+        }
+        pageToFileStream();
+    }
+
     private void pageToFileStream() throws IOException {
         flush();
-        ByteArrayOutputStream bout = (ByteArrayOutputStream) currentStream;
+        OutputStream previous = currentStream;
         try {
             // creates a tmp file and a file output stream
             currentStream = tempFileManager.createOutputStream(strategy);
-            bout.writeTo(currentStream);
+            if (previous instanceof CachedOffHeapOutputStream offHeap) {
+                offHeap.writeTo(currentStream);
+                // the content is now in the file so the off-heap buffers can be reused
+                offHeap.release();
+            } else {
+                ((ByteArrayOutputStream) previous).writeTo(currentStream);
+            }
         } finally {
             // ensure flag is flipped to file based
             inMemory = false;
@@ -19,9 +19,13 @@ package org.apache.camel.converter.stream;
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.StandardOpenOption;
 import java.security.GeneralSecurityException;
@@ -51,6 +55,10 @@ import org.slf4j.LoggerFactory;
 /**
  * A {@link StreamCache} for {@link File}s.
  * <p/>
+ * When the file is not encrypted then the content is written using
+ * {@link FileChannel#transferTo(long, long, WritableByteChannel)} when the target is a {@link FileOutputStream} or a
+ * {@link WritableByteChannel}, so the content is not copied into the heap.
+ * <p/>
  * <b>Important:</b> All the classes from the Camel release that implements {@link StreamCache} is NOT intended for end
  * users to create as instances, but they are part of Camels
  * <a href="https://camel.apache.org/manual/stream-caching.html">stream-caching</a> functionality.
@@ -104,12 +112,41 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
     @Override
     public void writeTo(OutputStream os) throws IOException {
         if (stream == null && ciphers == null) {
-            Files.copy(file.toPath(), os);
+            if (os instanceof FileOutputStream fos) {
+                writeTo(fos.getChannel());
+            } else {
+                Files.copy(file.toPath(), os);
+            }
         } else {
             IOHelper.copy(getInputStream(), os);
         }
     }
 
+    /**
+     * Writes the content to the given channel.
+     * <p/>
+     * When the file is not encrypted then the content is transferred from the file channel to the given channel, which
+     * allows the operating system to copy the content directly, such as from file to file, or from file to socket.
+     *
+     * @param  channel     the channel to write to, which is not closed
+     * @return             the number of bytes written
+     * @throws IOException is thrown if error writing
+     */
+    public long writeTo(WritableByteChannel channel) throws IOException {
+        if (stream == null && ciphers == null) {
+            try (FileChannel in = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+                long position = 0;
+                // transferTo may transfer fewer bytes than requested
+                while (position < length) {
+                    position += in.transferTo(position, length - position, channel);
+                }
+                return position;
+            }
+        } else {
+            return getInputStream().transferTo(Channels.newOutputStream(channel));
+        }
+    }
+
     @Override
     public StreamCache copy(Exchange exchange) throws IOException {
         tempFileManager.addExchange(exchange);
@@ -205,7 +242,8 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
      * Manages the temporary file for the file input stream caches.
      *
      * Collects all FileInputStreamCache instances of the temporary file. Counts the number of exchanges which have a
-     * FileInputStreamCache instance of the temporary file. Deletes the temporary file, if all exchanges are done.
+     * FileInputStreamCache instance of the temporary file. Deletes the temporary file, if all exchanges are done. The
+     * off-heap buffers of the stream cache, if any, are released at the same time.
      *
      * @see CachedOutputStream
      */
@@ -221,6 +259,7 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
         private File tempFile;
         private OutputStream outputStream; // file output stream
         private CipherPair ciphers;
+        private CachedOffHeapOutputStream offHeapOutputStream;
 
         // there can be several input streams, for example in the multi-cast, or wiretap parallel processing
         private List<FileInputStreamCache> fileInputStreamCaches;
@@ -270,6 +309,7 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
                             } catch (Exception e) {
                                 LOG.warn("Error closing streams. This exception will be ignored.", e);
                             }
+                            releaseOffHeapBuffers();
                             try {
                                 cleanUpTempFile();
                             } catch (Exception e) {
@@ -353,6 +393,32 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
             return new FileInputStreamCache(this);
         }
 
+        /**
+         * Whether the exchanges are not done yet, so the stream caches will be cleaned up when they are done.
+         */
+        boolean isActive() {
+            return !closedOnCompletion || exchangeCounter.get() > 0;
+        }
+
+        CachedOffHeapOutputStream createOffHeapOutputStream(StreamCachingStrategy strategy) {
+            // should only be called once
+            if (offHeapOutputStream != null) {
+                throw new IllegalStateException("The method 'createOffHeapOutputStream' can only be called once!");
+            }
+            offHeapOutputStream = new CachedOffHeapOutputStream(strategy);
+            return offHeapOutputStream;
+        }
+
+        OffHeapInputStreamCache newOffHeapStreamCache() {
+            return new OffHeapInputStreamCache(offHeapOutputStream, this);
+        }
+
+        void releaseOffHeapBuffers() {
+            if (offHeapOutputStream != null) {
+                offHeapOutputStream.release();
+            }
+        }
+
         void closeFileInputStreams() {
             if (fileInputStreamCaches != null) {
                 for (FileInputStreamCache fileInputStreamCache : fileInputStreamCaches) {
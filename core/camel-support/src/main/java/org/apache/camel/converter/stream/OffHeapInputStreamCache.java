@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.StreamCache;
+import org.apache.camel.converter.stream.FileInputStreamCache.TempFileManager;
+
+/**
+ * A {@link StreamCache} for caching using off-heap buffers.
+ * <p/>
+ * The buffers are shared by all the copies of the stream cache, and are released when all the exchanges using them
+ * are done.
+ * <p/>
+ * <b>Important:</b> All the classes from the Camel release that implements {@link StreamCache} is NOT intended for end
+ * users to create as instances, but they are part of Camels
+ * <a href="https://camel.apache.org/manual/stream-caching.html">stream-caching</a> functionality.
+ */
+public final class OffHeapInputStreamCache extends InputStream implements StreamCache {
+
+    private final CachedOffHeapOutputStream outputStream;
+    private final TempFileManager tempFileManager;
+    private final ByteBuffer[] buffers;
+    private final long length;
+    private long pos;
+    private int index;
+
+    OffHeapInputStreamCache(CachedOffHeapOutputStream outputStream, TempFileManager tempFileManager) {
+        this.outputStream = outputStream;
+        this.tempFileManager = tempFileManager;
+        this.buffers = outputStream.views();
+        this.length = outputStream.size();
+    }
+
+    @Override
+    public int read() throws IOException {
+        ByteBuffer buffer = current();
+        if (buffer == null) {
+            return -1;
+        }
+        int b = buffer.get() & 0xff;
+        checkNotReleased();
+        pos++;
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        int total = 0;
+        ByteBuffer buffer;
+        while (len > 0 && (buffer = current()) != null) {
+            int n = Math.min(len, buffer.remaining());
+            buffer.get(b, off, n);
+            off += n;
+            len -= n;
+            total += n;
+        }
+        checkNotReleased();
+        pos += total;
+        return total == 0 ? -1 : total;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = 0;
+        ByteBuffer buffer;
+        while (skipped < n && (buffer = current()) != null) {
+            int s = (int) Math.min(n - skipped, buffer.remaining());
+            buffer.position(buffer.position() + s);
+            skipped += s;
+        }
+        pos += skipped;
+        return skipped;
+    }
+
+    @Override
+    public int available() {
+        return (int) Math.min(Integer.MAX_VALUE, length - pos);
+    }
+
+    /**
+     * Gets the buffer to read from, or <tt>null</tt> if there is no more data
+     */
+    private ByteBuffer current() throws IOException {
+        checkNotReleased();
+        while (index < buffers.length) {
+            ByteBuffer buffer = buffers[index];
+            if (buffer.hasRemaining()) {
+                return buffer;
+            }
+            index++;
+        }
+        return null;
+    }
+
+    /**
+     * Fails when the buffers have been released, as they may be reused by other streams. This is checked both before
+     * and after reading, as the bytes read could be from another stream if the buffers were released meanwhile.
+     */
+    private void checkNotReleased() throws IOException {
+        if (outputStream.isReleased()) {
+            throw new IOException(
+                    "The off-heap buffers of the stream cache have been released as the exchanges using it are done");
+        }
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public void reset() {
+        for (ByteBuffer buffer : buffers) {
+            buffer.rewind();
+        }
+        index = 0;
+        pos = 0;
+    }
+
+    @Override
+    public void close() {
+        // noop as the buffers are released when the exchanges are done
+    }
+
+    @Override
+    public void writeTo(OutputStream os) throws IOException {
+        byte[] chunk = new byte[(int) Math.min(length - pos, 8192)];
+        int n;
+        while (chunk.length > 0 && (n = read(chunk, 0, chunk.length)) != -1) {
+            os.write(chunk, 0, n);
+        }
+    }
+
+    @Override
+    public StreamCache copy(Exchange exchange) throws IOException {
+        tempFileManager.addExchange(exchange);
+        return new OffHeapInputStreamCache(outputStream, tempFileManager);
+    }
+
+    @Override
+    public boolean inMemory() {
+        return true;
+    }
+
+    @Override
+    public long length() {
+        return length;
+    }
+
+    @Override
+    public long position() {
+        return pos;
+    }
+}
@@ -120,7 +120,7 @@ public class DefaultLRUCacheFactory extends LRUCacheFactory {
      * Converts a consumer of values of type {@code V} into a consumer of referent of {@code SoftReference} of type
      * {@code V}.
      */
-    private static <V> Consumer<SoftReference<V>> asSoftReferenceConsumer(Consumer<V> evicted) {
+    static <V> Consumer<SoftReference<V>> asSoftReferenceConsumer(Consumer<V> evicted) {
         return ref -> {
             V v = ref.get();
             if (v != null) {
@@ -18,7 +18,6 @@ package org.apache.camel.support;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ScheduledExecutorService;
@@ -48,12 +47,32 @@ import static org.apache.camel.TimeoutMap.Listener.Type.Remove;
  * a background task which check for old entries to purge. This implementation will shutdown the scheduler if its being
  * stopped. You must also invoke {@link #start()} to startup the timeout map, before its ready to be used. And you must
  * invoke {@link #stop()} to stop the map when no longer in use.
+ * <p/>
+ * The entries are scheduled in a hierarchical timing wheel, so the purge task only visits the entries which are about
+ * to expire, instead of every entry in the map. The entries are expired with the precision of the tick time, which is
+ * by default the smallest of the purge poll time and 10 millis. The timing wheel is always guarded by its own lock, also
+ * when locking is disabled.
  */
 public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMap<K, V> {
 
     protected final Logger log = LoggerFactory.getLogger(getClass());
 
+    private static final long DEFAULT_TICK_TIME = 10;
+    // 6 levels of 64 slots, each slot spanning a whole level below, cover 2 years of 1 milli ticks
+    private static final int LEVELS = 6;
+    private static final int LEVEL_BITS = 6;
+    private static final int SLOTS = 1 << LEVEL_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final long MAX_DELAY = 1L << (LEVEL_BITS * LEVELS);
+
     private final ConcurrentMap<K, TimeoutMapEntry<K, V>> map = new ConcurrentHashMap<>();
+    @SuppressWarnings("unchecked")
+    private final WheelEntry<K, V>[][] wheel = new WheelEntry[LEVELS][SLOTS];
+    // guards the timing wheel, regardless of the lock, as the purge task and the callers must not update it concurrently
+    private final Lock wheelLock = new ReentrantLock();
+    private int scheduled;
+    private long currentTick;
+    private long tickTime;
     private final ScheduledExecutorService executor;
     private volatile ScheduledFuture<?> future;
     private final long purgePollTime;
@@ -77,6 +96,7 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
         ObjectHelper.notNull(executor, "ScheduledExecutorService");
         this.executor = executor;
         this.purgePollTime = requestMapPollTimeMillis;
+        this.tickTime = Math.max(1, Math.min(requestMapPollTimeMillis, DEFAULT_TICK_TIME));
         this.lock = lock;
     }
 
@@ -102,11 +122,18 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
 
     @Override
     public V put(K key, V value, long timeoutMillis) {
-        TimeoutMapEntry<K, V> entry = new TimeoutMapEntry<>(key, value, timeoutMillis);
+        WheelEntry<K, V> entry = new WheelEntry<>(key, value, timeoutMillis);
         lock.lock();
         try {
             updateExpireTime(entry);
             TimeoutMapEntry<K, V> result = map.put(key, entry);
+            wheelLock.lock();
+            try {
+                unschedule(result);
+                schedule(entry);
+            } finally {
+                wheelLock.unlock();
+            }
             return unwrap(result);
         } finally {
             lock.unlock();
@@ -116,13 +143,21 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
 
     @Override
     public V putIfAbsent(K key, V value, long timeoutMillis) {
-        TimeoutMapEntry<K, V> entry = new TimeoutMapEntry<>(key, value, timeoutMillis);
+        WheelEntry<K, V> entry = new WheelEntry<>(key, value, timeoutMillis);
         TimeoutMapEntry<K, V> result = null;
         lock.lock();
         try {
             updateExpireTime(entry);
             //Just make sure we don't override the old entry
             result = map.putIfAbsent(key, entry);
+            if (result == null) {
+                wheelLock.lock();
+                try {
+                    schedule(entry);
+                } finally {
+                    wheelLock.unlock();
+                }
+            }
             return unwrap(result);
         } finally {
             lock.unlock();
@@ -142,7 +177,14 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
         V value = null;
         lock.lock();
         try {
-            value = unwrap(map.remove(key));
+            TimeoutMapEntry<K, V> entry = map.remove(key);
+            wheelLock.lock();
+            try {
+                unschedule(entry);
+            } finally {
+                wheelLock.unlock();
+            }
+            value = unwrap(entry);
             return value;
         } finally {
             lock.unlock();
@@ -184,17 +226,15 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
 
         long now = currentTime();
 
-        List<TimeoutMapEntry<K, V>> expired = new ArrayList<>(map.size());
+        List<TimeoutMapEntry<K, V>> expired = new ArrayList<>();
         lock.lock();
         try {
-            // need to find the expired entries and add to the expired list
-            for (Map.Entry<K, TimeoutMapEntry<K, V>> entry : map.entrySet()) {
-                if (entry.getValue().getExpireTime() < now) {
-                    if (isValidForEviction(entry.getValue())) {
-                        log.debug("Evicting inactive entry ID: {}", entry.getValue());
-                        expired.add(entry.getValue());
-                    }
-                }
+            // need to find the expired entries in the slots of the ticks since the last purge
+            wheelLock.lock();
+            try {
+                advance(now / tickTime, now, expired);
+            } finally {
+                wheelLock.unlock();
             }
 
             // if we found any expired then we need to sort, onEviction and remove
@@ -202,10 +242,8 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
                 // sort according to the expired time so we got the first expired first
                 expired.sort(comparing(TimeoutMapEntry::getExpireTime));
 
-                // and must remove from list after we have fired the notifications
-                for (TimeoutMapEntry<K, V> entry : expired) {
-                    map.remove(entry.getKey());
-                }
+                // only evict the entries which have not been removed or replaced meanwhile, when not locking
+                expired.removeIf(entry -> !map.remove(entry.getKey(), entry));
             }
         } finally {
             lock.unlock();
@@ -215,6 +253,137 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
         }
     }
 
+    /**
+     * Advances the timing wheel up to the given tick, cascading the entries of the higher levels to the lower levels
+     * as their time comes, and collecting the expired entries from the slots of the first level.
+     */
+    private void advance(long tick, long now, List<TimeoutMapEntry<K, V>> expired) {
+        while (currentTick < tick) {
+            if (scheduled == 0) {
+                // nothing to expire on the way
+                currentTick = tick;
+                return;
+            }
+            long next = currentTick + 1;
+            currentTick = next;
+            // when a level has done a full turn, the current slot of the level above is spread in the levels below
+            int levels = 1;
+            while (levels < LEVELS && (next & ((1L << (LEVEL_BITS * levels)) - 1)) == 0) {
+                levels++;
+            }
+            for (int level = levels - 1; level > 0; level--) {
+                WheelEntry<K, V> entry = takeSlot(level, (int) (next >>> (LEVEL_BITS * level)) & SLOT_MASK);
+                while (entry != null) {
+                    WheelEntry<K, V> following = entry.next;
+                    link(entry, entry.deadline);
+                    entry = following;
+                }
+            }
+            WheelEntry<K, V> entry = takeSlot(0, (int) next & SLOT_MASK);
+            while (entry != null) {
+                WheelEntry<K, V> following = entry.next;
+                long deadline = deadline(entry);
+                if (map.get(entry.getKey()) != entry) {
+                    // no longer in the map
+                } else if (deadline > next) {
+                    // the expire time has been updated since it was scheduled
+                    link(entry, deadline);
+                } else if (entry.getExpireTime() < now && isValidForEviction(entry)) {
+                    log.debug("Evicting inactive entry ID: {}", entry);
+                    expired.add(entry);
+                } else {
+                    // check again on next tick
+                    link(entry, next + 1);
+                }
+                entry = following;
+            }
+        }
+    }
+
+    private long deadline(TimeoutMapEntry<K, V> entry) {
+        // the first tick after the expire time
+        return entry.getExpireTime() / tickTime + 1;
+    }
+
+    private void schedule(WheelEntry<K, V> entry) {
+        if (scheduled == 0) {
+            // start from now, as there is nothing to expire before
+            currentTick = Math.max(currentTick, currentTime() / tickTime);
+        }
+        // the slot of the current tick has been purged already
+        link(entry, Math.max(deadline(entry), currentTick + 1));
+    }
+
+    private void unschedule(TimeoutMapEntry<K, V> entry) {
+        if (entry instanceof WheelEntry<K, V> wheelEntry && wheelEntry.level >= 0) {
+            unlink(wheelEntry);
+        }
+    }
+
+    /**
+     * Links the entry in the slot of the lowest level which slots span the time until the deadline, which must not be
+     * before the current tick.
+     */
+    private void link(WheelEntry<K, V> entry, long deadline) {
+        long delay = deadline - currentTick;
+        if (delay >= MAX_DELAY) {
+            // the deadline is checked again when this one is reached
+            deadline = currentTick + MAX_DELAY - 1;
+            delay = MAX_DELAY - 1;
+        }
+        int level = 0;
+        while (delay >= 1L << (LEVEL_BITS * (level + 1))) {
+            level++;
+        }
+        int slot = (int) (deadline >>> (LEVEL_BITS * level)) & SLOT_MASK;
+        WheelEntry<K, V> head = wheel[level][slot];
+        entry.deadline = deadline;
+        entry.level = level;
+        entry.slot = slot;
+        entry.prev = null;
+        entry.next = head;
+        if (head != null) {
+            head.prev = entry;
+        }
+        wheel[level][slot] = entry;
+        scheduled++;
+    }
+
+    private void unlink(WheelEntry<K, V> entry) {
+        if (entry.prev != null) {
+            entry.prev.next = entry.next;
+        } else {
+            wheel[entry.level][entry.slot] = entry.next;
+        }
+        if (entry.next != null) {
+            entry.next.prev = entry.prev;
+        }
+        entry.prev = null;
+        entry.next = null;
+        entry.level = -1;
+        scheduled--;
+    }
+
+    /**
+     * Removes all the entries of the slot, which are returned in the order they were linked, as a linked list to
+     * iterate with {@link WheelEntry#next}.
+     */
+    private WheelEntry<K, V> takeSlot(int level, int slot) {
+        WheelEntry<K, V> answer = null;
+        WheelEntry<K, V> entry = wheel[level][slot];
+        wheel[level][slot] = null;
+        while (entry != null) {
+            WheelEntry<K, V> following = entry.next;
+            entry.level = -1;
+            entry.prev = null;
+            entry.next = answer;
+            answer = entry;
+            entry = following;
+            scheduled--;
+        }
+        return answer;
+    }
+
     // Properties
     // -------------------------------------------------------------------------
 
@@ -226,6 +395,23 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
         return executor;
     }
 
+    public long getTickTime() {
+        return tickTime;
+    }
+
+    /**
+     * Sets the precision in millis of the expiration of the entries, which must be set before adding entries and
+     * starting the map. The default is the smallest of the purge poll time and 10 millis.
+     *
+     * @throws IllegalStateException if the map is started or has entries
+     */
+    public void setTickTime(long tickTime) {
+        if (isStarting() || isStarted() || !map.isEmpty()) {
+            throw new IllegalStateException("The tick time must be set before the timeout map is started or has entries");
+        }
+        this.tickTime = Math.max(1, tickTime);
+    }
+
     // Implementation methods
     // -------------------------------------------------------------------------
 
@@ -286,7 +472,38 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
             future = null;
         }
         // clear map if we stop
-        map.clear();
+        lock.lock();
+        try {
+            map.clear();
+            wheelLock.lock();
+            try {
+                // take the entries out of the slots, so they are no longer linked
+                for (int level = 0; level < LEVELS; level++) {
+                    for (int slot = 0; slot < SLOTS; slot++) {
+                        takeSlot(level, slot);
+                    }
+                }
+            } finally {
+                wheelLock.unlock();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * An entry linked in a slot of the timing wheel.
+     */
+    private static final class WheelEntry<K, V> extends TimeoutMapEntry<K, V> {
+        private WheelEntry<K, V> prev;
+        private WheelEntry<K, V> next;
+        private long deadline;
+        private int level = -1;
+        private int slot;
+
+        private WheelEntry(K key, V value, long timeout) {
+            super(key, value, timeout);
+        }
     }
 
 }
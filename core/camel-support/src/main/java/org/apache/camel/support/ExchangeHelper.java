@@ -19,12 +19,14 @@ package org.apache.camel.support;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.FileChannel;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CopyOnWriteArrayList;
@@ -57,6 +59,7 @@ import org.apache.camel.spi.NormalizedEndpointUri;
 import org.apache.camel.spi.UnitOfWork;
 import org.apache.camel.spi.VariableRepository;
 import org.apache.camel.spi.VariableRepositoryFactory;
+import org.apache.camel.util.ByteScanner;
 import org.apache.camel.util.IOHelper;
 import org.apache.camel.util.ObjectHelper;
 import org.apache.camel.util.Scanner;
@@ -999,16 +1002,7 @@ public final class ExchangeHelper {
      * @return           the scanner, is newer <tt>null</tt>
      */
     public static Scanner getScanner(Exchange exchange, Object value, String delimiter) {
-        if (value instanceof WrappedFile gf) {
-            Object body = gf.getBody();
-            if (body != null) {
-                // we have loaded the file content into the body so use that
-                value = body;
-            } else {
-                // generic file is just a wrapper for the real file so call again with the real file
-                value = gf.getFile();
-            }
-        }
+        value = unwrapFile(value);
 
         Scanner scanner;
         if (value instanceof Readable readable) {
@@ -1043,6 +1037,56 @@ public final class ExchangeHelper {
         return scanner;
     }
 
+    /**
+     * Creates an {@link Iterator} for splitting the given value by the given delimiter.
+     * <p/>
+     * If the value is a stream, channel or file, and the delimiter is a literal text which can be matched as bytes in
+     * the charset, then a {@link ByteScanner} is used which only decodes the tokens. Otherwise a {@link Scanner} is
+     * used where the delimiter is a regular expression.
+     *
+     * @param  exchange  the current exchange
+     * @param  value     the value, typically the message IN body
+     * @param  delimiter the delimiter to use
+     * @return           the iterator, is newer <tt>null</tt>
+     */
+    public static Iterator<String> getTokenScanner(Exchange exchange, Object value, String delimiter) {
+        value = unwrapFile(value);
+        if (value instanceof InputStream || value instanceof ReadableByteChannel || value instanceof File
+                || value instanceof Path) {
+            String charset = exchange.getProperty(ExchangePropertyKey.CHARSET_NAME, String.class);
+            if (ByteScanner.isSupported(charset, delimiter)) {
+                try {
+                    if (value instanceof InputStream inputStream) {
+                        return new ByteScanner(inputStream, charset, delimiter);
+                    } else if (value instanceof ReadableByteChannel readableByteChannel) {
+                        return new ByteScanner(readableByteChannel, charset, delimiter);
+                    } else if (value instanceof File file) {
+                        return new ByteScanner(file, charset, delimiter);
+                    } else {
+                        return new ByteScanner(FileChannel.open((Path) value, StandardOpenOption.READ), charset, delimiter);
+                    }
+                } catch (IOException e) {
+                    throw new RuntimeCamelException(e);
+                }
+            }
+        }
+        return getScanner(exchange, value, delimiter);
+    }
+
+    private static Object unwrapFile(Object value) {
+        if (value instanceof WrappedFile gf) {
+            Object body = gf.getBody();
+            if (body != null) {
+                // we have loaded the file content into the body so use that
+                return body;
+            } else {
+                // generic file is just a wrapper for the real file so call again with the real file
+                return gf.getFile();
+            }
+        }
+        return value;
+    }
+
     public static String getRouteId(Exchange exchange) {
         String answer = getAtRouteId(exchange);
         if (answer == null) {
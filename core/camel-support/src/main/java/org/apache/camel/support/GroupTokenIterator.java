@@ -20,6 +20,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.Iterator;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -27,6 +28,7 @@ import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
 import org.apache.camel.NoTypeConversionAvailableException;
 import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.util.ByteScanner;
 import org.apache.camel.util.IOHelper;
 import org.apache.camel.util.Scanner;
 
@@ -38,6 +40,9 @@ import org.apache.camel.util.Scanner;
  * individual parts.
  * <p/>
  * For example if you group by new line, then a new line token is inserted between the lines.
+ * <p/>
+ * If the given {@link Iterator} is a {@link ByteScanner} using the charset of the exchange, then the bytes of the parts
+ * are copied into the buffer without decoding the individual parts.
  */
 public final class GroupTokenIterator implements Iterator<Object>, Closeable {
 
@@ -45,6 +50,8 @@ public final class GroupTokenIterator implements Iterator<Object>, Closeable {
     private final Exchange exchange;
     private final Iterator<?> it;
     private final String token;
+    private final byte[] tokenBytes;
+    private final ByteScanner byteScanner;
     private final int group;
     private final boolean skipFirst;
     private final AtomicBoolean hasSkipFirst;
@@ -69,9 +76,17 @@ public final class GroupTokenIterator implements Iterator<Object>, Closeable {
         // so we need to use the actual evaluated delimiter as token
         if (LanguageSupport.hasSimpleFunction(token) && it instanceof Scanner scanner) {
             this.token = scanner.getDelim();
+        } else if (LanguageSupport.hasSimpleFunction(token) && it instanceof ByteScanner scanner) {
+            this.token = scanner.getDelim();
         } else {
             this.token = token;
         }
+        this.tokenBytes = this.token != null ? this.token.getBytes() : null;
+        if (it instanceof ByteScanner scanner && scanner.getCharset().equals(ExchangeHelper.getCharset(exchange))) {
+            this.byteScanner = scanner;
+        } else {
+            this.byteScanner = null;
+        }
         this.group = group;
         if (group <= 0) {
             throw new IllegalArgumentException("Group must be a positive number, was: " + group);
@@ -124,6 +139,10 @@ public final class GroupTokenIterator implements Iterator<Object>, Closeable {
     }
 
     private Object doNext() throws IOException, NoTypeConversionAvailableException {
+        if (byteScanner != null) {
+            return doNextBytes();
+        }
+
         int count = 0;
         Object data;
         while (count < group && it.hasNext()) {
@@ -140,7 +159,7 @@ public final class GroupTokenIterator implements Iterator<Object>, Closeable {
 
             // include token in between
             if (data != null && count > 0 && token != null) {
-                bos.write(token.getBytes());
+                bos.write(tokenBytes);
             }
             if (data instanceof InputStream is) {
                 IOHelper.copy(is, bos);
@@ -161,6 +180,33 @@ public final class GroupTokenIterator implements Iterator<Object>, Closeable {
         return answer;
     }
 
+    private Object doNextBytes() throws IOException {
+        int count = 0;
+        while (count < group && byteScanner.hasNext()) {
+            if (skipFirst && hasSkipFirst.compareAndSet(false, true)) {
+                byteScanner.next(OutputStream.nullOutputStream());
+                if (!byteScanner.hasNext()) {
+                    // Content with header only which is marked to skip
+                    count++;
+                    break;
+                }
+            }
+
+            // include token in between
+            if (count > 0 && tokenBytes != null) {
+                bos.write(tokenBytes);
+            }
+            byteScanner.next(bos);
+
+            count++;
+        }
+
+        // prepare and return answer as String using exchange's charset
+        String answer = bos.toString(ExchangeHelper.getCharset(exchange));
+        bos.reset();
+        return answer;
+    }
+
     @Override
     public void remove() {
         it.remove();
@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A lock that is split into a number of {@link ReentrantLock} stripes, where a key is mapped to a single stripe.
+ * <p/>
+ * Work for unrelated keys can then run in parallel by locking only the stripe of the key using
+ * {@link #getLock(Object)}, while work that must be exclusive across all keys uses this lock itself, which acquires
+ * every stripe in the same order.
+ * <p/>
+ * Important: a thread that holds a single stripe must not acquire the lock for all stripes, as this can deadlock with
+ * another thread that is acquiring all stripes.
+ */
+public final class StripedLock implements Lock {
+
+    private final ReentrantLock[] stripes;
+    private final int mask;
+
+    /**
+     * Creates a striped lock
+     *
+     * @param stripes the number of stripes, which is rounded up to the nearest power of two
+     */
+    public StripedLock(int stripes) {
+        if (stripes <= 0) {
+            throw new IllegalArgumentException("Stripes must be a positive number, was: " + stripes);
+        }
+        int size = stripes == 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+        this.mask = size - 1;
+    }
+
+    /**
+     * The number of stripes
+     */
+    public int getStripes() {
+        return stripes.length;
+    }
+
+    /**
+     * Gets the lock of the stripe the given key is mapped to
+     */
+    public Lock getLock(Object key) {
+        int h = key.hashCode();
+        // spread the higher bits as keys such as strings with a common prefix often only differ in the lower bits
+        h ^= h >>> 16;
+        return stripes[h & mask];
+    }
+
+    @Override
+    public void lock() {
+        for (ReentrantLock stripe : stripes) {
+            stripe.lock();
+        }
+    }
+
+    @Override
+    public void lockInterruptibly() throws InterruptedException {
+        int i = 0;
+        try {
+            for (; i < stripes.length; i++) {
+                stripes[i].lockInterruptibly();
+            }
+        } catch (InterruptedException e) {
+            unlock(i);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean tryLock() {
+        for (int i = 0; i < stripes.length; i++) {
+            if (!stripes[i].tryLock()) {
+                unlock(i);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(time);
+        int i = 0;
+        try {
+            for (; i < stripes.length; i++) {
+                long remaining = deadline - System.nanoTime();
+                if (!stripes[i].tryLock(remaining, TimeUnit.NANOSECONDS)) {
+                    unlock(i);
+                    return false;
+                }
+            }
+        } catch (InterruptedException e) {
+            unlock(i);
+            throw e;
+        }
+        return true;
+    }
+
+    @Override
+    public void unlock() {
+        unlock(stripes.length);
+    }
+
+    private void unlock(int count) {
+        // release in reverse order
+        for (int i = count - 1; i >= 0; i--) {
+            stripes[i].unlock();
+        }
+    }
+
+    @Override
+    public Condition newCondition() {
+        throw new UnsupportedOperationException();
+    }
+}
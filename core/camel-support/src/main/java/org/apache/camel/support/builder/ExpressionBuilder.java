@@ -1635,7 +1635,7 @@ public class ExpressionBuilder {
             public Object evaluate(Exchange exchange) {
                 String text = token.evaluate(exchange, String.class);
                 Object value = expression.evaluate(exchange, Object.class);
-                return ExchangeHelper.getScanner(exchange, value, text);
+                return ExchangeHelper.getTokenScanner(exchange, value, text);
             }
 
             @Override
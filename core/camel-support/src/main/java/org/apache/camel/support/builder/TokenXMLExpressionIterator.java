@@ -19,20 +19,21 @@ package org.apache.camel.support.builder;
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
-import java.text.MessageFormat;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Scanner;
-import java.util.regex.MatchResult;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.Expression;
 import org.apache.camel.InvalidPayloadException;
+import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.support.ExpressionAdapter;
 import org.apache.camel.support.LanguageSupport;
@@ -48,16 +49,12 @@ import org.apache.camel.util.StringHelper;
  * The message body must be able to convert to {@link java.io.InputStream} type which is used as stream to access the
  * message body.
  * <p/>
- * Can be used to split big XML files.
+ * Can be used to split big XML files, as the message body is streamed and only the current token is kept in memory.
  * <p/>
  * This implementation supports inheriting namespaces from a parent/root tag.
  */
 public class TokenXMLExpressionIterator extends ExpressionAdapter {
     private static final Pattern NAMESPACE_PATTERN = Pattern.compile("xmlns(:\\w+|)\\s*=\\s*('[^']+'|\"[^\"]+\")");
-    private static final String SCAN_TOKEN_NS_PREFIX_REGEX = "([^:<>]{1,15}?:|)";
-    private static final String SCAN_BLOCK_TOKEN_REGEX_TEMPLATE
-            = "<{0}(\\s+[^>]*)?/>|<{0}(\\s+[^>]*)?>(?:(?!(</{0}\\s*>)).)*</{0}\\s*>";
-    private static final String SCAN_PARENT_TOKEN_REGEX_TEMPLATE = "<{0}(\\s+[^>]*\\s*)?>";
     private static final String OPTION_WRAP_TOKEN = "<*>";
     private static final String NAMESPACE_SEPERATOR = " ";
 
@@ -166,97 +163,340 @@ public class TokenXMLExpressionIterator extends ExpressionAdapter {
     }
 
     /**
-     * Iterator to walk the input stream
+     * Iterator to walk the input stream.
+     * <p/>
+     * The input is read as a stream of markup and text, where each markup (start tag, end tag, comment, CDATA section,
+     * processing instruction or declaration) is read as a whole, so markup inside comments, CDATA sections or attribute
+     * values is not mistaken for tags. Only the text of the current token is kept in memory, and the nested tags with
+     * the same name as the token are counted, so the token ends at its own end tag.
      */
     static class XMLTokenIterator implements Iterator<Object>, Closeable {
+        private static final int EOF = -1;
+        private static final int START_TAG = 1;
+        private static final int EMPTY_TAG = 2;
+        private static final int END_TAG = 3;
+        private static final int OTHER = 4;
+
         final String tagToken;
         final InputStream in;
         final String charset;
-        Scanner scanner;
         Object image;
 
-        private final Pattern tagTokenPattern;
+        private final String tagName;
         private final String inheritNamespaceToken;
+        private final String inheritNamespaceName;
         private final boolean wrapToken;
-        private Pattern inheritNamespaceTokenPattern;
+        private final char[] buffer = new char[8192];
+        private final StringBuilder markup = new StringBuilder(256);
+        private final StringBuilder token = new StringBuilder(1024);
+        private Reader reader;
+        private int pos;
+        private int limit;
+        private int startTagLength;
+        private StringBuilder head;
         private String[] rootTokenNamespaces;
         private String wrapHead;
         private String wrapTail;
 
         XMLTokenIterator(String tagToken, String inheritNamespaceToken, InputStream in, String charset) {
             this.tagToken = tagToken;
+            this.in = in;
             this.charset = charset;
 
-            // remove any beginning < and ending > as we need to support ns prefixes and attributes, so we use a reg exp patterns
-            this.tagTokenPattern = Pattern.compile(MessageFormat.format(SCAN_BLOCK_TOKEN_REGEX_TEMPLATE,
-                    SCAN_TOKEN_NS_PREFIX_REGEX + tagToken.substring(1, tagToken.length() - 1)),
-                    Pattern.MULTILINE | Pattern.DOTALL);
-
+            // remove any beginning < and ending > as we need to support ns prefixes and attributes
+            this.tagName = tagToken.substring(1, tagToken.length() - 1);
             this.inheritNamespaceToken = inheritNamespaceToken;
             if (OPTION_WRAP_TOKEN.equals(inheritNamespaceToken)) {
                 this.wrapToken = true;
-                this.in = new RecordableInputStream(in, charset);
+                this.inheritNamespaceName = null;
+                // record the text before the first token which is used to wrap the tokens
+                this.head = new StringBuilder(256);
             } else {
                 this.wrapToken = false;
-                this.in = in;
-                if (inheritNamespaceToken != null) {
-                    // the inherit namespace token may itself have a namespace prefix
-                    // the namespaces on the parent tag can be in multi line, so we need to instruct the dot to support multilines
-                    this.inheritNamespaceTokenPattern = Pattern.compile(MessageFormat.format(SCAN_PARENT_TOKEN_REGEX_TEMPLATE,
-                            SCAN_TOKEN_NS_PREFIX_REGEX + inheritNamespaceToken.substring(1,
-                                    inheritNamespaceToken.length() - 1)),
-                            Pattern.MULTILINE | Pattern.DOTALL);
-                }
+                this.inheritNamespaceName = inheritNamespaceToken != null
+                        ? inheritNamespaceToken.substring(1, inheritNamespaceToken.length() - 1) : null;
             }
         }
 
         void init() {
-            // use a scanner with the default delimiter
-            this.scanner = new Scanner(in, charset);
-            this.image = scanner.hasNext() ? (String) next(true) : null;
+            this.reader = new InputStreamReader(in, charset != null ? Charset.forName(charset) : Charset.defaultCharset());
+            this.image = getNext();
         }
 
-        String getNext(boolean first) {
-            // initialize inherited namespaces on first
-            if (first && inheritNamespaceToken != null && !wrapToken) {
-                rootTokenNamespaces
-                        = getNamespacesFromNamespaceTokenSplitter(scanner.findWithinHorizon(inheritNamespaceTokenPattern, 0));
+        String getNext() {
+            String next;
+            try {
+                next = readToken();
+            } catch (IOException e) {
+                throw RuntimeCamelException.wrapRuntimeCamelException(e);
             }
-
-            String next = scanner.findWithinHorizon(tagTokenPattern, 0);
             if (next == null) {
                 return null;
             }
-            if (first && wrapToken) {
-                MatchResult mres = scanner.match();
-                wrapHead = ((RecordableInputStream) in).getText(mres.start());
-                wrapTail = buildXMLTail(wrapHead);
-            }
 
             // build answer accordingly to whether namespaces should be inherited or not
             if (inheritNamespaceToken != null && rootTokenNamespaces != null) {
-                String head = StringHelper.before(next, ">");
+                String head = next.substring(0, startTagLength - 1);
                 boolean empty = false;
                 if (head.endsWith("/")) {
                     head = head.substring(0, head.length() - 1);
                     empty = true;
                 }
-                StringBuilder sb = new StringBuilder(256);
+                StringBuilder sb = new StringBuilder(next.length() + 256);
                 // append root namespaces to local start token
                 // grab the text
-                String tail = StringHelper.after(next, ">");
+                String tail = next.substring(startTagLength);
                 // build result with inherited namespaces and skip the prefixes that are declared within the child itself.
                 next = sb.append(head).append(getMissingInherritNamespaces(head)).append(empty ? "/>" : ">").append(tail)
                         .toString();
             } else if (wrapToken) {
                 // wrap the token
-                StringBuilder sb = new StringBuilder(256);
+                StringBuilder sb = new StringBuilder(wrapHead.length() + next.length() + wrapTail.length());
                 next = sb.append(wrapHead).append(next).append(wrapTail).toString();
             }
 
             return next;
         }
 
+        /**
+         * Reads the next token from the stream
+         *
+         * @return the token, or <tt>null</tt> if there are no more tokens
+         */
+        private String readToken() throws IOException {
+            token.setLength(0);
+            int depth = 0;
+            while (readText(depth > 0 ? token : head)) {
+                int kind = readMarkup();
+                if (kind == EOF) {
+                    break;
+                }
+                if (depth > 0) {
+                    token.append(markup);
+                    if (kind == START_TAG && isTag(1, tagName)) {
+                        depth++;
+                    } else if (kind == END_TAG && isTag(2, tagName) && --depth == 0) {
+                        return token.toString();
+                    }
+                    continue;
+                }
+
+                boolean tag = kind == START_TAG || kind == EMPTY_TAG;
+                if (tag && inheritNamespaceName != null && rootTokenNamespaces == null && isTag(1, inheritNamespaceName)) {
+                    // initialize inherited namespaces from the parent tag
+                    rootTokenNamespaces = getNamespacesFromNamespaceTokenSplitter(markup.toString());
+                }
+                if (tag && isTag(1, tagName)) {
+                    if (head != null) {
+                        wrapHead = head.toString();
+                        wrapTail = buildXMLTail(wrapHead);
+                        head = null;
+                    }
+                    if (inheritNamespaceName != null && rootTokenNamespaces == null) {
+                        // the parent tag was not found before the first token
+                        rootTokenNamespaces = new String[0];
+                    }
+                    startTagLength = markup.length();
+                    token.append(markup);
+                    if (kind == EMPTY_TAG) {
+                        return token.toString();
+                    }
+                    depth = 1;
+                } else if (head != null) {
+                    head.append(markup);
+                }
+            }
+            // the last token is incomplete, or there are no more tokens
+            return null;
+        }
+
+        /**
+         * Reads the text up to the next markup, and appends the text to the given builder if not <tt>null</tt>
+         *
+         * @return <tt>true</tt> if the start of a markup was read, or <tt>false</tt> at the end of the stream
+         */
+        private boolean readText(StringBuilder text) throws IOException {
+            while (true) {
+                if (pos == limit && !fill()) {
+                    return false;
+                }
+                int start = pos;
+                while (pos < limit) {
+                    if (buffer[pos++] == '<') {
+                        if (text != null) {
+                            text.append(buffer, start, pos - start - 1);
+                        }
+                        return true;
+                    }
+                }
+                if (text != null) {
+                    text.append(buffer, start, pos - start);
+                }
+            }
+        }
+
+        /**
+         * Reads the markup following a <tt>&lt;</tt> into the markup builder
+         *
+         * @return the kind of markup, or {@link #EOF} if the stream ended within the markup
+         */
+        private int readMarkup() throws IOException {
+            markup.setLength(0);
+            markup.append('<');
+            int c = read();
+            if (c == EOF) {
+                return EOF;
+            }
+            markup.append((char) c);
+            if (c == '!') {
+                return readDeclaration();
+            } else if (c == '?') {
+                return readUntil("?>", 4);
+            } else if (c == '/') {
+                return readTag() == EOF ? EOF : END_TAG;
+            } else if (c == '>') {
+                // not a tag, such as <> in the text
+                return OTHER;
+            }
+            int kind = readTag();
+            if (kind == EOF) {
+                return EOF;
+            }
+            return markup.charAt(markup.length() - 2) == '/' ? EMPTY_TAG : START_TAG;
+        }
+
+        private int readTag() throws IOException {
+            char quote = 0;
+            int c;
+            while ((c = read()) != EOF) {
+                markup.append((char) c);
+                if (quote != 0) {
+                    if (c == quote) {
+                        quote = 0;
+                    }
+                } else if (c == '"' || c == '\'') {
+                    quote = (char) c;
+                } else if (c == '>') {
+                    return START_TAG;
+                }
+            }
+            return EOF;
+        }
+
+        private int readDeclaration() throws IOException {
+            int c;
+            while ((c = read()) != EOF) {
+                markup.append((char) c);
+                if (isMarkupPrefixOf("<!--")) {
+                    if (markup.length() == 4) {
+                        return readUntil("-->", 7);
+                    }
+                } else if (isMarkupPrefixOf("<![CDATA[")) {
+                    if (markup.length() == 9) {
+                        return readUntil("]]>", 12);
+                    }
+                } else {
+                    break;
+                }
+            }
+            if (c == EOF) {
+                return EOF;
+            }
+
+            // a declaration such as a DOCTYPE, which may have an internal subset in brackets
+            int brackets = 0;
+            char quote = 0;
+            int i = 2;
+            while (true) {
+                for (; i < markup.length(); i++) {
+                    char ch = markup.charAt(i);
+                    if (quote != 0) {
+                        if (ch == quote) {
+                            quote = 0;
+                        }
+                    } else if (ch == '"' || ch == '\'') {
+                        quote = ch;
+                    } else if (ch == '[') {
+                        brackets++;
+                    } else if (ch == ']') {
+                        brackets--;
+                    } else if (ch == '>' && brackets <= 0) {
+                        return OTHER;
+                    }
+                }
+                c = read();
+                if (c == EOF) {
+                    return EOF;
+                }
+                markup.append((char) c);
+            }
+        }
+
+        private int readUntil(String end, int minLength) throws IOException {
+            int c;
+            while ((c = read()) != EOF) {
+                markup.append((char) c);
+                if (c == end.charAt(end.length() - 1) && markup.length() >= minLength
+                        && markup.lastIndexOf(end) == markup.length() - end.length()) {
+                    return OTHER;
+                }
+            }
+            return EOF;
+        }
+
+        private boolean isMarkupPrefixOf(String text) {
+            int len = markup.length();
+            if (len > text.length()) {
+                return false;
+            }
+            for (int i = 0; i < len; i++) {
+                if (markup.charAt(i) != text.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Whether the name of the tag in the markup, starting at the given offset, is the given name with or without a
+         * namespace prefix
+         */
+        private boolean isTag(int offset, String name) {
+            int end = offset;
+            int len = markup.length();
+            while (end < len) {
+                char ch = markup.charAt(end);
+                if (ch == '>' || ch == '/' || Character.isWhitespace(ch)) {
+                    break;
+                }
+                end++;
+            }
+            int start = end - name.length();
+            if (start < offset || (start > offset && markup.charAt(start - 1) != ':')) {
+                return false;
+            }
+            for (int i = 0; i < name.length(); i++) {
+                if (markup.charAt(start + i) != name.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private int read() throws IOException {
+            if (pos == limit && !fill()) {
+                return EOF;
+            }
+            return buffer[pos++];
+        }
+
+        private boolean fill() throws IOException {
+            int n = reader.read(buffer, 0, buffer.length);
+            pos = 0;
+            limit = Math.max(n, 0);
+            return n > 0;
+        }
+
         private String getMissingInherritNamespaces(final String text) {
             final StringBuilder sb = new StringBuilder(256);
             if (text != null) {
@@ -326,22 +566,9 @@ public class TokenXMLExpressionIterator extends ExpressionAdapter {
 
         @Override
         public Object next() {
-            return next(false);
-        }
-
-        Object next(boolean first) {
             Object answer = image;
             // calculate next
-            if (scanner.hasNext()) {
-                image = getNext(first);
-            } else {
-                image = null;
-            }
-
-            if (answer == null) {
-                // first time the image may be null
-                answer = image;
-            }
+            image = answer != null ? getNext() : null;
             return answer;
         }
 
@@ -352,7 +579,11 @@ public class TokenXMLExpressionIterator extends ExpressionAdapter {
 
         @Override
         public void close() throws IOException {
-            scanner.close();
+            if (reader != null) {
+                reader.close();
+            } else {
+                in.close();
+            }
         }
 
     }
@@ -384,7 +615,8 @@ public class TokenXMLExpressionIterator extends ExpressionAdapter {
                 break;
             }
             int nc = xmlhead.charAt(p + 1);
-            if (nc == '?') {
+            if (nc == '?' || nc == '!') {
+                // skip processing instructions, comments and declarations
                 p++;
                 continue;
             } else if (nc == '/') {
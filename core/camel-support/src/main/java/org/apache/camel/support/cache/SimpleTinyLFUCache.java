@@ -0,0 +1,711 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.cache;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.apache.camel.support.LRUCache;
+
+/**
+ * {@code SimpleTinyLFUCache} is a bounded cache which evicts the entries using the W-TinyLFU policy, without any
+ * external dependency. The implementation doesn't accept null keys or values.
+ * <p/>
+ * The entries are stored in a {@link ConcurrentHashMap}, so reading an entry is lock-free and does not allocate: the
+ * read is recorded in one of the striped read buffers, which are lossy and drained when full. The writes, the draining
+ * of the buffers and the eviction are done under a lock, which is not held while reading.
+ * <p/>
+ * A new entry is added to a small admission window ordered by least recent use. An entry leaving the window is only
+ * admitted in the main space, in place of the least recently used entry there, if it has been used more frequently, as
+ * estimated by a 4-bit count-min sketch of the recent uses of the keys. The main space is split in a probation and a
+ * protected segment, an entry in probation being promoted to the protected segment when it is used again, so that the
+ * entries used only once do not evict the entries used frequently.
+ *
+ * @param <K> type of the key
+ * @param <V> type of the value
+ */
+public class SimpleTinyLFUCache<K, V> extends AbstractMap<K, V> implements ConcurrentMap<K, V>, LRUCache<K, V> {
+
+    /**
+     * The percentage of the maximum size used by the admission window.
+     */
+    static final int WINDOW_PERCENTAGE = 1;
+    /**
+     * The percentage of the main space used by the protected segment.
+     */
+    static final int PROTECTED_PERCENTAGE = 80;
+    /**
+     * The number of reads each read buffer can hold, which must be a power of two.
+     */
+    static final int READ_BUFFER_SIZE = 16;
+    private static final int MAXIMUM_READ_BUFFERS = 16;
+
+    private static final int WINDOW = 0;
+    private static final int PROBATION = 1;
+    private static final int PROTECTED = 2;
+
+    private final ConcurrentHashMap<K, Node<K, V>> data;
+    private final int maximumCacheSize;
+    private final int maximumWindowSize;
+    private final int maximumProtectedSize;
+    private final Consumer<V> evict;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ReadBuffer<K, V>[] readBuffers;
+    private final FrequencySketch sketch;
+    private final AccessOrder<K, V> window = new AccessOrder<>();
+    private final AccessOrder<K, V> probation = new AccessOrder<>();
+    private final AccessOrder<K, V> protectedSegment = new AccessOrder<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
+    private EntrySet entrySet;
+
+    @SuppressWarnings("unchecked")
+    public SimpleTinyLFUCache(int initialCapacity, int maximumCacheSize, Consumer<V> evicted) {
+        if (maximumCacheSize < 0) {
+            throw new IllegalArgumentException("The maximum cache size must not be negative");
+        }
+        this.data = new ConcurrentHashMap<>(initialCapacity);
+        this.maximumCacheSize = maximumCacheSize;
+        this.maximumWindowSize = maximumCacheSize == 0 ? 0 : Math.max(1, maximumCacheSize * WINDOW_PERCENTAGE / 100);
+        this.maximumProtectedSize = (maximumCacheSize - maximumWindowSize) * PROTECTED_PERCENTAGE / 100;
+        this.evict = Objects.requireNonNull(evicted);
+        this.sketch = new FrequencySketch(maximumCacheSize);
+        int buffers = Math.min(MAXIMUM_READ_BUFFERS, ceilingPowerOfTwo(Runtime.getRuntime().availableProcessors()));
+        this.readBuffers = new ReadBuffer[buffers];
+        for (int i = 0; i < buffers; i++) {
+            readBuffers[i] = new ReadBuffer<>();
+        }
+    }
+
+    @Override
+    public V get(Object key) {
+        Node<K, V> node = data.get(key);
+        if (node == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        afterRead(node);
+        return node.value;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return data.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return data.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return data.isEmpty();
+    }
+
+    @Override
+    public V put(K key, V value) {
+        Objects.requireNonNull(value);
+        return update(key, (k, v) -> value, true);
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value) {
+        Objects.requireNonNull(value);
+        // the value is usually present, so avoid locking the entry
+        Node<K, V> node = data.get(key);
+        if (node != null) {
+            afterRead(node);
+            return node.value;
+        }
+        return update(key, (k, v) -> v != null ? v : value, true);
+    }
+
+    @Override
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        Objects.requireNonNull(mappingFunction);
+        Node<K, V> node = data.get(key);
+        if (node != null) {
+            afterRead(node);
+            return node.value;
+        }
+        return update(key, (k, v) -> v != null ? v : mappingFunction.apply(k), false);
+    }
+
+    @Override
+    public V computeIfPresent(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        Objects.requireNonNull(remappingFunction);
+        return update(key, (k, v) -> v != null ? remappingFunction.apply(k, v) : null, false);
+    }
+
+    @Override
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        Objects.requireNonNull(remappingFunction);
+        return update(key, remappingFunction, false);
+    }
+
+    @Override
+    public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        Objects.requireNonNull(value);
+        Objects.requireNonNull(remappingFunction);
+        return update(key, (k, v) -> v == null ? value : remappingFunction.apply(v, value), false);
+    }
+
+    @Override
+    public V replace(K key, V value) {
+        Objects.requireNonNull(value);
+        return update(key, (k, v) -> v != null ? value : null, true);
+    }
+
+    @Override
+    public boolean replace(K key, V oldValue, V newValue) {
+        Objects.requireNonNull(oldValue);
+        Objects.requireNonNull(newValue);
+        V previous = update(key, (k, v) -> oldValue.equals(v) ? newValue : v, true);
+        return oldValue.equals(previous);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(Object key) {
+        return update((K) key, (k, v) -> null, true);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean remove(Object key, Object value) {
+        if (value == null) {
+            return false;
+        }
+        V previous = update((K) key, (k, v) -> value.equals(v) ? null : v, true);
+        return value.equals(previous);
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> m) {
+        for (Entry<? extends K, ? extends V> e : m.entrySet()) {
+            put(e.getKey(), e.getValue());
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.lock();
+        try {
+            drainReadBuffers();
+            for (Node<K, V> node : data.values()) {
+                if (data.remove(node.key, node)) {
+                    node.retired = true;
+                }
+            }
+            window.clear();
+            probation.clear();
+            protectedSegment.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    /**
+     * Applies the pending reads to the eviction policy.
+     */
+    @Override
+    public void cleanUp() {
+        lock.lock();
+        try {
+            drainReadBuffers();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void resetStatistics() {
+        hits.reset();
+        misses.reset();
+        evicted.reset();
+    }
+
+    @Override
+    public long getEvicted() {
+        return evicted.sum();
+    }
+
+    @Override
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    @Override
+    public long getHits() {
+        return hits.sum();
+    }
+
+    @Override
+    public int getMaxCacheSize() {
+        return maximumCacheSize;
+    }
+
+    /**
+     * Updates the entry of the key with the value returned by the function, which is given the current value or
+     * {@code null}, and removes the entry if the function returns {@code null}.
+     *
+     * @param  key         the key
+     * @param  function    the function returning the new value
+     * @param  returnValue whether to return the value before the update, or the value after the update
+     * @return             the value before or after the update
+     */
+    private V update(K key, BiFunction<? super K, ? super V, ? extends V> function, boolean returnValue) {
+        Objects.requireNonNull(key);
+        Update<K, V> update = new Update<>();
+        data.compute(key, (k, node) -> {
+            V oldValue = node != null ? node.value : null;
+            V newValue = function.apply(k, oldValue);
+            update.oldValue = oldValue;
+            update.newValue = newValue;
+            if (newValue == null) {
+                if (node != null) {
+                    node.retired = true;
+                    update.removed = node;
+                }
+                return null;
+            } else if (node == null) {
+                update.added = new Node<>(k, newValue);
+                return update.added;
+            } else {
+                node.value = newValue;
+                update.updated = node;
+                return node;
+            }
+        });
+        if (update.added != null || update.removed != null || update.updated != null) {
+            afterWrite(update);
+        }
+        return returnValue ? update.oldValue : update.newValue;
+    }
+
+    private void afterRead(Node<K, V> node) {
+        ReadBuffer<K, V> buffer = readBuffers[Thread.currentThread().hashCode() & (readBuffers.length - 1)];
+        if (!buffer.offer(node) && lock.tryLock()) {
+            // the buffer is full, so drain the buffers if no other thread is doing it
+            try {
+                drainReadBuffers();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void afterWrite(Update<K, V> update) {
+        List<V> evictedValues;
+        lock.lock();
+        try {
+            drainReadBuffers();
+            if (update.removed != null) {
+                unlink(update.removed);
+            }
+            if (update.updated != null) {
+                onAccess(update.updated);
+            }
+            if (update.added != null && !update.added.retired) {
+                sketch.increment(update.added.key);
+                window.addLast(update.added);
+                update.added.queue = WINDOW;
+            }
+            evictedValues = evictEntries();
+        } finally {
+            lock.unlock();
+        }
+        // call back outside the lock, as stopping an evicted service may take time
+        if (evictedValues != null) {
+            for (V value : evictedValues) {
+                evicted.increment();
+                evict.accept(value);
+            }
+        }
+    }
+
+    private void drainReadBuffers() {
+        for (ReadBuffer<K, V> buffer : readBuffers) {
+            buffer.drainTo(this);
+        }
+    }
+
+    /**
+     * Records the use of an entry: it is moved to the end of its segment, or promoted to the protected segment if it is
+     * in probation.
+     */
+    void onAccess(Node<K, V> node) {
+        if (node.retired || !node.linked) {
+            return;
+        }
+        sketch.increment(node.key);
+        if (node.queue == WINDOW) {
+            window.moveToLast(node);
+        } else if (node.queue == PROBATION) {
+            probation.remove(node);
+            protectedSegment.addLast(node);
+            node.queue = PROTECTED;
+            // demote the least recently used entries of the protected segment if it is full
+            while (protectedSegment.size > maximumProtectedSize) {
+                Node<K, V> demoted = protectedSegment.first;
+                protectedSegment.remove(demoted);
+                probation.addLast(demoted);
+                demoted.queue = PROBATION;
+            }
+        } else {
+            protectedSegment.moveToLast(node);
+        }
+    }
+
+    private void unlink(Node<K, V> node) {
+        if (node.linked) {
+            orderOf(node).remove(node);
+        }
+    }
+
+    private AccessOrder<K, V> orderOf(Node<K, V> node) {
+        return node.queue == WINDOW ? window : node.queue == PROBATION ? probation : protectedSegment;
+    }
+
+    /**
+     * Moves the entries leaving the admission window to probation, and evicts the entries while the cache is full,
+     * choosing between the least recently used entry in probation and the candidate from the window by their frequency.
+     *
+     * @return the evicted values, or {@code null} if none was evicted
+     */
+    private List<V> evictEntries() {
+        Node<K, V> candidate = null;
+        while (window.size > maximumWindowSize) {
+            Node<K, V> node = window.first;
+            window.remove(node);
+            probation.addLast(node);
+            node.queue = PROBATION;
+            if (candidate == null) {
+                candidate = node;
+            }
+        }
+
+        List<V> answer = null;
+        while (window.size + probation.size + protectedSegment.size > maximumCacheSize) {
+            Node<K, V> victim = probation.first;
+            if (victim == null) {
+                victim = protectedSegment.first != null ? protectedSegment.first : window.first;
+            } else if (candidate != null && candidate != victim) {
+                if (sketch.frequency(candidate.key) > sketch.frequency(victim.key)) {
+                    // the candidate is admitted in place of the victim
+                    answer = evictEntry(victim, answer);
+                    continue;
+                }
+                victim = candidate;
+            }
+            if (victim == candidate) {
+                candidate = candidate.next;
+            }
+            answer = evictEntry(victim, answer);
+        }
+        return answer;
+    }
+
+    private List<V> evictEntry(Node<K, V> node, List<V> evictedValues) {
+        unlink(node);
+        if (data.remove(node.key, node)) {
+            node.retired = true;
+            if (evictedValues == null) {
+                evictedValues = new ArrayList<>(1);
+            }
+            evictedValues.add(node.value);
+        }
+        return evictedValues;
+    }
+
+    private static int ceilingPowerOfTwo(int x) {
+        return 1 << -Integer.numberOfLeadingZeros(x - 1);
+    }
+
+    /**
+     * An entry of the cache, which is linked in the access order of its segment.
+     */
+    static final class Node<K, V> {
+        final K key;
+        volatile V value;
+        volatile boolean retired;
+        int queue;
+        boolean linked;
+        Node<K, V> prev;
+        Node<K, V> next;
+
+        Node(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    /**
+     * The result of an update of an entry.
+     */
+    private static final class Update<K, V> {
+        V oldValue;
+        V newValue;
+        Node<K, V> added;
+        Node<K, V> updated;
+        Node<K, V> removed;
+    }
+
+    /**
+     * A doubly linked list of entries from the least to the most recently used, only accessed under the lock.
+     */
+    private static final class AccessOrder<K, V> {
+        Node<K, V> first;
+        Node<K, V> last;
+        int size;
+
+        void addLast(Node<K, V> node) {
+            node.prev = last;
+            node.next = null;
+            if (last == null) {
+                first = node;
+            } else {
+                last.next = node;
+            }
+            last = node;
+            node.linked = true;
+            size++;
+        }
+
+        void remove(Node<K, V> node) {
+            if (node.prev == null) {
+                first = node.next;
+            } else {
+                node.prev.next = node.next;
+            }
+            if (node.next == null) {
+                last = node.prev;
+            } else {
+                node.next.prev = node.prev;
+            }
+            node.prev = null;
+            node.next = null;
+            node.linked = false;
+            size--;
+        }
+
+        void moveToLast(Node<K, V> node) {
+            if (node != last) {
+                remove(node);
+                addLast(node);
+            }
+        }
+
+        void clear() {
+            for (Node<K, V> node = first; node != null;) {
+                Node<K, V> next = node.next;
+                node.prev = null;
+                node.next = null;
+                node.linked = false;
+                node = next;
+            }
+            first = null;
+            last = null;
+            size = 0;
+        }
+    }
+
+    /**
+     * A lossy buffer of the entries read, written without locking by the reading threads and drained under the lock.
+     * When the buffer is full, the read is not recorded.
+     */
+    private static final class ReadBuffer<K, V> {
+        private final AtomicReferenceArray<Node<K, V>> buffer = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+        private final AtomicLong writeCounter = new AtomicLong();
+        private volatile long readCounter;
+
+        boolean offer(Node<K, V> node) {
+            long tail = writeCounter.get();
+            if (tail - readCounter >= READ_BUFFER_SIZE) {
+                return false;
+            }
+            if (writeCounter.compareAndSet(tail, tail + 1)) {
+                buffer.lazySet((int) tail & (READ_BUFFER_SIZE - 1), node);
+            }
+            return true;
+        }
+
+        void drainTo(SimpleTinyLFUCache<K, V> cache) {
+            long head = readCounter;
+            long tail = writeCounter.get();
+            while (head < tail) {
+                int index = (int) head & (READ_BUFFER_SIZE - 1);
+                Node<K, V> node = buffer.get(index);
+                if (node == null) {
+                    // not yet written by the reading thread
+                    break;
+                }
+                buffer.lazySet(index, null);
+                cache.onAccess(node);
+                head++;
+            }
+            readCounter = head;
+        }
+    }
+
+    /**
+     * A count-min sketch estimating the frequency of the keys with four 4-bit counters per key, which are halved
+     * periodically so the estimation favors the recent uses.
+     */
+    static final class FrequencySketch {
+        private static final long[] SEEDS = {
+                0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L };
+        private static final long RESET_MASK = 0x7777777777777777L;
+
+        private final long[] table;
+        private final int sampleSize;
+        private int additions;
+
+        FrequencySketch(int maximumSize) {
+            int size = ceilingPowerOfTwo(Math.max(16, maximumSize));
+            this.table = new long[size];
+            this.sampleSize = 10 * Math.max(16, maximumSize);
+        }
+
+        int frequency(Object key) {
+            int hash = spread(key.hashCode());
+            int frequency = Integer.MAX_VALUE;
+            for (int i = 0; i < SEEDS.length; i++) {
+                frequency = Math.min(frequency, count(hash, i));
+            }
+            return frequency;
+        }
+
+        void increment(Object key) {
+            int hash = spread(key.hashCode());
+            boolean added = false;
+            for (int i = 0; i < SEEDS.length; i++) {
+                added |= incrementAt(hash, i);
+            }
+            if (added && ++additions == sampleSize) {
+                reset();
+            }
+        }
+
+        private int count(int hash, int i) {
+            long h = indexHash(hash, i);
+            int index = (int) (h >>> 32) & (table.length - 1);
+            int offset = ((int) h & 15) << 2;
+            return (int) ((table[index] >>> offset) & 0xfL);
+        }
+
+        private boolean incrementAt(int hash, int i) {
+            long h = indexHash(hash, i);
+            int index = (int) (h >>> 32) & (table.length - 1);
+            int offset = ((int) h & 15) << 2;
+            long mask = 0xfL << offset;
+            if ((table[index] & mask) != mask) {
+                table[index] += 1L << offset;
+                return true;
+            }
+            return false;
+        }
+
+        private void reset() {
+            for (int i = 0; i < table.length; i++) {
+                table[i] = (table[i] >>> 1) & RESET_MASK;
+            }
+            additions /= 2;
+        }
+
+        private static long indexHash(int hash, int i) {
+            long h = (hash + SEEDS[i]) * SEEDS[i];
+            return h ^ (h >>> 29);
+        }
+
+        private static int spread(int x) {
+            x = ((x >>> 16) ^ x) * 0x45d9f3b;
+            x = ((x >>> 16) ^ x) * 0x45d9f3b;
+            return (x >>> 16) ^ x;
+        }
+    }
+
+    /**
+     * The entries of the cache, removing an entry through the iterator removes it from the cache.
+     */
+    private final class EntrySet extends AbstractSet<Entry<K, V>> {
+
+        @Override
+        public Iterator<Entry<K, V>> iterator() {
+            Iterator<Node<K, V>> it = data.values().iterator();
+            return new Iterator<>() {
+                private Node<K, V> current;
+
+                @Override
+                public boolean hasNext() {
+                    return it.hasNext();
+                }
+
+                @Override
+                public Entry<K, V> next() {
+                    current = it.next();
+                    return new SimpleImmutableEntry<>(current.key, current.value);
+                }
+
+                @Override
+                public void remove() {
+                    if (current == null) {
+                        throw new IllegalStateException();
+                    }
+                    SimpleTinyLFUCache.this.remove(current.key, current.value);
+                    current = null;
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return data.size();
+        }
+
+        @Override
+        public void clear() {
+            SimpleTinyLFUCache.this.clear();
+        }
+    }
+}
@@ -0,0 +1,421 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.Exchange;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.Configurer;
+import org.apache.camel.spi.IdempotentRepository;
+import org.apache.camel.spi.Metadata;
+import org.apache.camel.support.service.ServiceHelper;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An {@link org.apache.camel.spi.IdempotentRepository} which puts an in-memory Bloom filter in front of another
+ * repository, so looking up keys that have never been seen can be answered without calling the other repository, such
+ * as a database or remote cache.
+ * <p/>
+ * A Bloom filter can tell for certain that a key has not been added, but may answer that a key has been added when it
+ * has not (false positive), in which case the other repository is called. The filter is sized from the expected number
+ * of keys and the false positive probability. Adding more keys than expected increases the false positive rate, but
+ * never causes a wrong answer.
+ * <p/>
+ * Keys cannot be removed from a Bloom filter, so removed keys are still answered by the other repository. The filter is
+ * seeded with the keys of the other repository when starting, if the repository implements
+ * {@link BrowsableIdempotentRepository}, such as the memory, file and JDBC repositories. Otherwise the filter cannot
+ * know about the existing keys, and every lookup is delegated to the other repository, which is logged as a warning
+ * when starting.
+ * <p/>
+ * Important: the filter only knows about the keys added through this repository. Do not use this when the other
+ * repository is shared with other writers, such as other routes or nodes in a cluster, as a key added by those would be
+ * regarded as not seen.
+ */
+@Metadata(label = "bean",
+          description = "An idempotent repository which uses an in-memory Bloom filter in front of another idempotent repository,"
+                        + " to avoid calling the other repository when looking up keys that have never been seen.",
+          annotations = { "interfaceName=org.apache.camel.spi.IdempotentRepository" })
+@Configurer(metadataOnly = true)
+@ManagedResource(description = "Bloom filter idempotent repository")
+public class BloomFilterIdempotentRepository extends ServiceSupport implements IdempotentRepository, CamelContextAware {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BloomFilterIdempotentRepository.class);
+
+    private final LongAdder backendLookups = new LongAdder();
+    private final LongAdder lookupsAvoided = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+    // adds and lookups run concurrently, but not while clearing, which must clear the repository and the filter together
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private CamelContext camelContext;
+    private volatile BloomFilter filter;
+    private volatile boolean filtering;
+
+    @Metadata(description = "The idempotent repository to use for the keys that may have been seen", required = true)
+    private IdempotentRepository idempotentRepository;
+    @Metadata(description = "The expected number of keys, which is used to size the Bloom filter", defaultValue = "1000000")
+    private long expectedKeys = 1000000;
+    @Metadata(description = "The probability of the Bloom filter answering that a key may have been seen when it has not,"
+                            + " as a number between 0 and 1",
+              defaultValue = "0.01")
+    private double falsePositiveProbability = 0.01;
+
+    public BloomFilterIdempotentRepository() {
+    }
+
+    public BloomFilterIdempotentRepository(IdempotentRepository idempotentRepository) {
+        this.idempotentRepository = idempotentRepository;
+    }
+
+    public BloomFilterIdempotentRepository(IdempotentRepository idempotentRepository, long expectedKeys) {
+        this.idempotentRepository = idempotentRepository;
+        this.expectedKeys = expectedKeys;
+    }
+
+    /**
+     * Creates a new Bloom filter repository in front of the given repository.
+     *
+     * @param idempotentRepository the repository to use for the keys that may have been seen
+     * @param expectedKeys         the expected number of keys
+     */
+    public static IdempotentRepository bloomFilterIdempotentRepository(
+            IdempotentRepository idempotentRepository, long expectedKeys) {
+        return new BloomFilterIdempotentRepository(idempotentRepository, expectedKeys);
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    @Override
+    @ManagedOperation(description = "Adds the key to the store")
+    public boolean add(String key) {
+        lock.readLock().lock();
+        try {
+            // add to the filter first, so a concurrent lookup never misses a key the repository may already have
+            filter.put(key);
+            return idempotentRepository.add(key);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean add(Exchange exchange, String key) {
+        lock.readLock().lock();
+        try {
+            filter.put(key);
+            return idempotentRepository.add(exchange, key);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    @ManagedOperation(description = "Does the store contain the given key")
+    public boolean contains(String key) {
+        lock.readLock().lock();
+        try {
+            if (isNotSeen(key)) {
+                return false;
+            }
+            return lookup(idempotentRepository.contains(key));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean contains(Exchange exchange, String key) {
+        lock.readLock().lock();
+        try {
+            if (isNotSeen(key)) {
+                return false;
+            }
+            return lookup(idempotentRepository.contains(exchange, key));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    @ManagedOperation(description = "Remove the key from the store")
+    public boolean remove(String key) {
+        // the key cannot be removed from the filter, so it is answered by the repository from now on
+        return idempotentRepository.remove(key);
+    }
+
+    @Override
+    public boolean remove(Exchange exchange, String key) {
+        return idempotentRepository.remove(exchange, key);
+    }
+
+    @Override
+    public boolean confirm(String key) {
+        return idempotentRepository.confirm(key);
+    }
+
+    @Override
+    public boolean confirm(Exchange exchange, String key) {
+        return idempotentRepository.confirm(exchange, key);
+    }
+
+    @Override
+    @ManagedOperation(description = "Clear the store")
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            idempotentRepository.clear();
+            filter.clear();
+            // the repository is empty so the filter knows about all the keys from now on
+            filtering = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private boolean isNotSeen(String key) {
+        if (filtering && !filter.mightContain(key)) {
+            lookupsAvoided.increment();
+            return true;
+        }
+        return false;
+    }
+
+    private boolean lookup(boolean found) {
+        backendLookups.increment();
+        if (filtering && !found) {
+            falsePositives.increment();
+        }
+        return found;
+    }
+
+    public IdempotentRepository getIdempotentRepository() {
+        return idempotentRepository;
+    }
+
+    public void setIdempotentRepository(IdempotentRepository idempotentRepository) {
+        this.idempotentRepository = idempotentRepository;
+    }
+
+    @ManagedAttribute(description = "The expected number of keys")
+    public long getExpectedKeys() {
+        return expectedKeys;
+    }
+
+    public void setExpectedKeys(long expectedKeys) {
+        this.expectedKeys = expectedKeys;
+    }
+
+    @ManagedAttribute(description = "The configured false positive probability")
+    public double getFalsePositiveProbability() {
+        return falsePositiveProbability;
+    }
+
+    public void setFalsePositiveProbability(double falsePositiveProbability) {
+        this.falsePositiveProbability = falsePositiveProbability;
+    }
+
+    @ManagedAttribute(description = "Whether the Bloom filter is in use, which requires the filter to know about all the keys")
+    public boolean isFiltering() {
+        return filtering;
+    }
+
+    @ManagedAttribute(description = "Number of lookups which were answered by the idempotent repository")
+    public long getBackendLookups() {
+        return backendLookups.sum();
+    }
+
+    @ManagedAttribute(description = "Number of lookups which were answered by the Bloom filter without calling the idempotent repository")
+    public long getLookupsAvoided() {
+        return lookupsAvoided.sum();
+    }
+
+    @ManagedAttribute(description = "Number of lookups where the Bloom filter answered that the key may have been seen,"
+                                    + " but the idempotent repository did not have the key")
+    public long getFalsePositives() {
+        return falsePositives.sum();
+    }
+
+    @ManagedAttribute(description = "The observed false positive rate, which is the ratio of lookups of keys not seen"
+                                    + " that were not answered by the Bloom filter")
+    public double getFalsePositiveRate() {
+        long fp = falsePositives.sum();
+        long total = fp + lookupsAvoided.sum();
+        return total == 0 ? 0 : (double) fp / total;
+    }
+
+    @ManagedAttribute(description = "The false positive rate to expect from the number of bits currently set in the Bloom filter")
+    public double getExpectedFalsePositiveRate() {
+        BloomFilter bf = filter;
+        return bf != null ? bf.expectedFalsePositiveRate() : 0;
+    }
+
+    @ManagedAttribute(description = "The size of the Bloom filter in bits")
+    public long getBitSize() {
+        BloomFilter bf = filter;
+        return bf != null ? bf.bits : 0;
+    }
+
+    @ManagedOperation(description = "Reset the statistics")
+    public void resetStatistics() {
+        backendLookups.reset();
+        lookupsAvoided.reset();
+        falsePositives.reset();
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        ObjectHelper.notNull(idempotentRepository, "idempotentRepository", this);
+        if (expectedKeys <= 0) {
+            throw new IllegalArgumentException("ExpectedKeys must be a positive number, was: " + expectedKeys);
+        }
+        if (falsePositiveProbability <= 0 || falsePositiveProbability >= 1) {
+            throw new IllegalArgumentException(
+                    "FalsePositiveProbability must be between 0 and 1, was: " + falsePositiveProbability);
+        }
+
+        CamelContextAware.trySetCamelContext(idempotentRepository, camelContext);
+        ServiceHelper.startService(idempotentRepository);
+
+        filter = new BloomFilter(expectedKeys, falsePositiveProbability);
+        if (idempotentRepository instanceof BrowsableIdempotentRepository browsable) {
+            long[] count = new long[1];
+            browsable.forEachKey(key -> {
+                filter.put(key);
+                count[0]++;
+            });
+            filtering = true;
+            LOG.debug("Seeded Bloom filter with {} keys from idempotent repository: {}", count[0], idempotentRepository);
+        } else {
+            filtering = false;
+            LOG.warn("Cannot seed Bloom filter as the idempotent repository: {} does not implement {}."
+                     + " All lookups are delegated to the idempotent repository.",
+                    idempotentRepository, BrowsableIdempotentRepository.class.getSimpleName());
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        ServiceHelper.stopService(idempotentRepository);
+        filter = null;
+        filtering = false;
+    }
+
+    /**
+     * A Bloom filter using double hashing of a 64-bit hash of the key, where the bits are updated atomically so the
+     * filter can be used concurrently without locking.
+     */
+    static final class BloomFilter {
+        private final AtomicLongArray words;
+        private final long bits;
+        private final int hashes;
+
+        BloomFilter(long expectedKeys, double falsePositiveProbability) {
+            double ln2 = Math.log(2);
+            long m = (long) Math.ceil(-expectedKeys * Math.log(falsePositiveProbability) / (ln2 * ln2));
+            long size = Math.max(1, (m + 63) / 64);
+            if (size > Integer.MAX_VALUE - 8) {
+                throw new IllegalArgumentException(
+                        "Bloom filter for " + expectedKeys + " keys with false positive probability "
+                                                   + falsePositiveProbability + " is too large");
+            }
+            this.words = new AtomicLongArray((int) size);
+            this.bits = size * 64;
+            this.hashes = (int) Math.max(1, Math.min(30, Math.round((double) bits / expectedKeys * ln2)));
+        }
+
+        void put(String key) {
+            long h1 = hash(key);
+            long h2 = mix(h1 ^ 0x9e3779b97f4a7c15L) | 1;
+            for (int i = 0; i < hashes; i++) {
+                long bit = Long.remainderUnsigned(h1 + i * h2, bits);
+                int index = (int) (bit >>> 6);
+                long mask = 1L << bit;
+                long word = words.get(index);
+                while ((word & mask) == 0) {
+                    long witness = words.compareAndExchange(index, word, word | mask);
+                    if (witness == word) {
+                        break;
+                    }
+                    word = witness;
+                }
+            }
+        }
+
+        boolean mightContain(String key) {
+            long h1 = hash(key);
+            long h2 = mix(h1 ^ 0x9e3779b97f4a7c15L) | 1;
+            for (int i = 0; i < hashes; i++) {
+                long bit = Long.remainderUnsigned(h1 + i * h2, bits);
+                if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        void clear() {
+            for (int i = 0; i < words.length(); i++) {
+                words.set(i, 0);
+            }
+        }
+
+        double expectedFalsePositiveRate() {
+            long set = 0;
+            for (int i = 0; i < words.length(); i++) {
+                set += Long.bitCount(words.get(i));
+            }
+            return Math.pow((double) set / bits, hashes);
+        }
+
+        private static long hash(String key) {
+            // 64-bit FNV-1a of the chars of the key
+            long h = 0xcbf29ce484222325L;
+            for (int i = 0; i < key.length(); i++) {
+                h ^= key.charAt(i);
+                h *= 0x100000001b3L;
+            }
+            return mix(h);
+        }
+
+        private static long mix(long h) {
+            h ^= h >>> 33;
+            h *= 0xff51afd7ed558ccdL;
+            h ^= h >>> 33;
+            h *= 0xc4ceb9fe1a85ec53L;
+            h ^= h >>> 33;
+            return h;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.util.function.Consumer;
+
+import org.apache.camel.spi.IdempotentRepository;
+
+/**
+ * An {@link IdempotentRepository} that is able to iterate the keys it currently holds.
+ * <p/>
+ * This is used by {@link BloomFilterIdempotentRepository} to seed its filter from the repository on startup.
+ */
+public interface BrowsableIdempotentRepository extends IdempotentRepository {
+
+    /**
+     * Performs the given action for each key in the repository.
+     * <p/>
+     * The repository must be started. Keys added or removed concurrently may or may not be included.
+     *
+     * @param action the action to perform for each key
+     */
+    void forEachKey(Consumer<String> action);
+
+}
@@ -25,6 +25,7 @@ import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 
 import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.api.management.ManagedAttribute;
@@ -59,7 +60,7 @@ import org.slf4j.LoggerFactory;
           annotations = { "interfaceName=org.apache.camel.spi.IdempotentRepository" })
 @Configurer(metadataOnly = true)
 @ManagedResource(description = "File based idempotent repository")
-public class FileIdempotentRepository extends ServiceSupport implements IdempotentRepository {
+public class FileIdempotentRepository extends ServiceSupport implements BrowsableIdempotentRepository {
 
     private static final Logger LOG = LoggerFactory.getLogger(FileIdempotentRepository.class);
     private static final String STORE_DELIMITER = "\n";
@@ -218,6 +219,27 @@ public class FileIdempotentRepository extends ServiceSupport implements Idempote
         }
     }
 
+    @Override
+    public void forEachKey(Consumer<String> action) {
+        // the file store holds all the keys, where the 1st-level cache may only have the most frequently used
+        cacheAndStoreLock.lock();
+        try {
+            if (fileStore == null || !fileStore.exists()) {
+                return;
+            }
+
+            try (Scanner scanner = new Scanner(fileStore, null, STORE_DELIMITER)) {
+                while (scanner.hasNext()) {
+                    action.accept(scanner.next());
+                }
+            } catch (IOException e) {
+                throw RuntimeCamelException.wrapRuntimeCamelException(e);
+            }
+        } finally {
+            cacheAndStoreLock.unlock();
+        }
+    }
+
     public File getFileStore() {
         return fileStore;
     }
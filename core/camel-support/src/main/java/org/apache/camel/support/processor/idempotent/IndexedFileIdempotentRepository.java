@@ -0,0 +1,991 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.Configurer;
+import org.apache.camel.spi.IdempotentRepository;
+import org.apache.camel.spi.Metadata;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.FileUtil;
+import org.apache.camel.util.IOHelper;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A file based implementation of {@link org.apache.camel.spi.IdempotentRepository} which keeps the keys in an
+ * append-only log file, together with a memory-mapped hash index file, so {@link #add(String)} and
+ * {@link #contains(String)} do not need to scan the file store.
+ * <p/>
+ * The index is an open-addressing hash table stored in a file next to the log file (with <tt>.idx</tt> as suffix),
+ * where each slot holds the hash of a key and the position of the key in the log file. Looking up a key only reads the
+ * log file when the hash of the key is found in the index. Removing a key appends a remove record to the log file, and
+ * the log file is compacted in the background when it contains too many removed keys, or when it has grown bigger than
+ * the maximum file store size, in which case the {@link #getDropOldestFileStore()} oldest keys are dropped as well.
+ * <p/>
+ * The index is rebuilt from the log file if the index file is missing or the repository was not stopped gracefully.
+ */
+@Metadata(label = "bean",
+          description = "A file based idempotent repository which stores the keys in an append-only log file with a memory-mapped hash index,"
+                        + " which avoids scanning the file when checking for existing keys.",
+          annotations = { "interfaceName=org.apache.camel.spi.IdempotentRepository" })
+@Configurer(metadataOnly = true)
+@ManagedResource(description = "Indexed file based idempotent repository")
+public class IndexedFileIdempotentRepository extends ServiceSupport
+        implements BrowsableIdempotentRepository, CamelContextAware {
+
+    private static final Logger LOG = LoggerFactory.getLogger(IndexedFileIdempotentRepository.class);
+
+    private static final byte RECORD_ADD = 1;
+    private static final byte RECORD_REMOVE = 2;
+    // op + key length
+    private static final int RECORD_HEADER = 5;
+    // do not bother compacting small log files
+    private static final long MIN_COMPACTION_SIZE = 64 * 1024;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicBoolean compacting = new AtomicBoolean();
+    private CamelContext camelContext;
+    private ExecutorService executorService;
+    private FileChannel log;
+    private long logEnd;
+    private long deadBytes;
+    // the size of the log file after the last compaction
+    private long compactedEnd;
+    // incremented whenever the log file is truncated, which invalidates a compaction in progress
+    private long generation;
+    private HashIndex index;
+
+    @Metadata(description = "File name of the repository (incl directory). The index is stored in a file with the same name and .idx as suffix.",
+              required = true)
+    private File fileStore;
+    @Metadata(description = "The maximum file size for the file store in bytes, before the oldest entries are dropped by compacting the file store."
+                            + " The default value is 32mb",
+              defaultValue = "" + 32 * 1024 * 1000L)
+    private long maxFileStoreSize = 32 * 1024 * 1000L; // 32mb store file
+    @Metadata(description = "Sets the number of oldest entries to drop from the file store when the maximum capacity is hit to reduce disk"
+                            + " space to allow room for new entries.",
+              defaultValue = "1000")
+    private long dropOldestFileStore = 1000;
+    @Metadata(description = "The ratio of removed entries in the file store (as a value between 0 and 1) that triggers compacting the file store.",
+              defaultValue = "0.5")
+    private double compactionThreshold = 0.5;
+    @Metadata(description = "Whether to force writes to the file store to the storage device before returning.",
+              defaultValue = "false")
+    private boolean sync;
+
+    public IndexedFileIdempotentRepository() {
+    }
+
+    public IndexedFileIdempotentRepository(File fileStore) {
+        this.fileStore = fileStore;
+    }
+
+    /**
+     * Creates a new indexed file based repository.
+     *
+     * @param fileStore the file store
+     */
+    public static IdempotentRepository indexedFileIdempotentRepository(File fileStore) {
+        return new IndexedFileIdempotentRepository(fileStore);
+    }
+
+    /**
+     * Creates a new indexed file based repository.
+     *
+     * @param fileStore        the file store
+     * @param maxFileStoreSize the max size in bytes for the filestore file
+     */
+    public static IdempotentRepository indexedFileIdempotentRepository(File fileStore, long maxFileStoreSize) {
+        IndexedFileIdempotentRepository repository = new IndexedFileIdempotentRepository(fileStore);
+        repository.setMaxFileStoreSize(maxFileStoreSize);
+        return repository;
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    @Override
+    @ManagedOperation(description = "Adds the key to the store")
+    public boolean add(String key) {
+        byte[] data = key.getBytes(StandardCharsets.UTF_8);
+        long hash = hash(data);
+        boolean compact;
+        lock.writeLock().lock();
+        try {
+            if (index.find(data, hash) >= 0) {
+                return false;
+            }
+            long offset = append(RECORD_ADD, data);
+            index.insert(hash, offset);
+            compact = isCompactionNeeded();
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (compact) {
+            triggerCompaction();
+        }
+        return true;
+    }
+
+    @Override
+    @ManagedOperation(description = "Does the store contain the given key")
+    public boolean contains(String key) {
+        byte[] data = key.getBytes(StandardCharsets.UTF_8);
+        long hash = hash(data);
+        lock.readLock().lock();
+        try {
+            return index.find(data, hash) >= 0;
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    @ManagedOperation(description = "Remove the key from the store")
+    public boolean remove(String key) {
+        byte[] data = key.getBytes(StandardCharsets.UTF_8);
+        long hash = hash(data);
+        boolean compact;
+        lock.writeLock().lock();
+        try {
+            int slot = index.find(data, hash);
+            if (slot < 0) {
+                return false;
+            }
+            LOG.debug("Removing: {} from idempotent filestore: {}", key, fileStore);
+            append(RECORD_REMOVE, data);
+            index.delete(slot);
+            // both the add and the remove record are no longer needed
+            deadBytes += 2L * (RECORD_HEADER + data.length);
+            compact = isCompactionNeeded();
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (compact) {
+            triggerCompaction();
+        }
+        return true;
+    }
+
+    @Override
+    public boolean confirm(String key) {
+        // noop
+        return true;
+    }
+
+    @Override
+    @ManagedOperation(description = "Clear the store (danger this removes all entries)")
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            log.truncate(0);
+            logEnd = 0;
+            deadBytes = 0;
+            compactedEnd = 0;
+            generation++;
+            index.clear();
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void forEachKey(Consumer<String> action) {
+        lock.readLock().lock();
+        try {
+            RecordReader reader = new RecordReader(log, 0, logEnd);
+            while (reader.next()) {
+                // only the latest add record of a key is referenced from the index
+                if (reader.op == RECORD_ADD) {
+                    int slot = index.find(reader.data, hash(reader.data));
+                    if (slot >= 0 && index.offset(slot) == reader.offset) {
+                        action.accept(new String(reader.data, StandardCharsets.UTF_8));
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public File getFileStore() {
+        return fileStore;
+    }
+
+    public void setFileStore(File fileStore) {
+        this.fileStore = fileStore;
+    }
+
+    @ManagedAttribute(description = "The file path for the store")
+    public String getFilePath() {
+        return fileStore.getPath();
+    }
+
+    @ManagedAttribute(description = "The maximum file size for the file store in bytes")
+    public long getMaxFileStoreSize() {
+        return maxFileStoreSize;
+    }
+
+    /**
+     * Sets the maximum file size for the file store in bytes. When the file store grows bigger, then it is compacted
+     * and the {@link #getDropOldestFileStore()} oldest entries are dropped. You can set the value to 0 or negative to
+     * turn this off, and have unlimited file store size.
+     * <p/>
+     * The default is 32mb.
+     */
+    @ManagedAttribute(description = "The maximum file size for the file store in bytes")
+    public void setMaxFileStoreSize(long maxFileStoreSize) {
+        this.maxFileStoreSize = maxFileStoreSize;
+    }
+
+    public long getDropOldestFileStore() {
+        return dropOldestFileStore;
+    }
+
+    /**
+     * Sets the number of oldest entries to drop from the file store when the maximum capacity is hit to reduce disk
+     * space to allow room for new entries.
+     * <p/>
+     * The default is 1000.
+     */
+    @ManagedAttribute(description = "Number of oldest elements to drop from file store if maximum file size reached")
+    public void setDropOldestFileStore(long dropOldestFileStore) {
+        this.dropOldestFileStore = dropOldestFileStore;
+    }
+
+    @ManagedAttribute(description = "The ratio of removed entries in the file store that triggers compacting the file store")
+    public double getCompactionThreshold() {
+        return compactionThreshold;
+    }
+
+    /**
+     * Sets the ratio of removed entries in the file store (as a value between 0 and 1) that triggers compacting the
+     * file store.
+     * <p/>
+     * The default is 0.5.
+     */
+    public void setCompactionThreshold(double compactionThreshold) {
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    public boolean isSync() {
+        return sync;
+    }
+
+    /**
+     * Whether to force writes to the file store to the storage device before returning.
+     */
+    public void setSync(boolean sync) {
+        this.sync = sync;
+    }
+
+    @ManagedAttribute(description = "The number of entries in the store")
+    public int getSize() {
+        lock.readLock().lock();
+        try {
+            return index != null ? index.size() : 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @ManagedAttribute(description = "The current file size of the file store in bytes")
+    public long getFileStoreSize() {
+        lock.readLock().lock();
+        try {
+            return logEnd;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Compacts the file store by rewriting the entries that are still in use to a new file. Entries added or removed
+     * while compacting are carried over to the new file, which then replaces the current file store.
+     */
+    @ManagedOperation(description = "Compacts the file store")
+    public void compact() throws IOException {
+        if (compacting.compareAndSet(false, true)) {
+            try {
+                doCompact();
+            } finally {
+                compacting.set(false);
+            }
+        }
+    }
+
+    protected boolean isCompactionNeeded() {
+        if (maxFileStoreSize > 0 && dropOldestFileStore > 0) {
+            // the entries still in use may exceed the maximum size after dropping the oldest entries,
+            // so wait for the file store to grow before compacting again
+            long limit = compactedEnd > maxFileStoreSize ? compactedEnd + maxFileStoreSize / 10 : maxFileStoreSize;
+            if (logEnd > limit) {
+                return true;
+            }
+        }
+        return logEnd > MIN_COMPACTION_SIZE && deadBytes > logEnd * compactionThreshold;
+    }
+
+    protected void triggerCompaction() {
+        if (executorService != null) {
+            if (compacting.compareAndSet(false, true)) {
+                executorService.submit(() -> {
+                    try {
+                        doCompact();
+                    } catch (Exception e) {
+                        LOG.warn("Error compacting idempotent filestore: {}. This exception is ignored.", fileStore, e);
+                    } finally {
+                        compacting.set(false);
+                    }
+                });
+            }
+        } else {
+            // no thread pool so compact in the caller thread
+            try {
+                compact();
+            } catch (IOException e) {
+                throw RuntimeCamelException.wrapRuntimeCamelException(e);
+            }
+        }
+    }
+
+    private void doCompact() throws IOException {
+        long snapshotEnd;
+        long snapshotGeneration;
+        boolean dropOldest;
+        lock.readLock().lock();
+        try {
+            if (!isRunAllowed()) {
+                return;
+            }
+            snapshotEnd = logEnd;
+            snapshotGeneration = generation;
+            dropOldest = maxFileStoreSize > 0 && logEnd > maxFileStoreSize;
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (dropOldest) {
+            LOG.warn("Maximum capacity of file store: {} hit at {} bytes. Dropping {} oldest entries from the file store",
+                    fileStore, maxFileStoreSize, dropOldestFileStore);
+        }
+        LOG.debug("Compacting idempotent filestore: {} with {} bytes", fileStore, snapshotEnd);
+
+        File target = compactionFile();
+        try (FileChannel out = FileChannel.open(target.toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            HashIndex compacted = new HashIndex(out, HashIndex.capacityFor(getSize()));
+            long outEnd = 0;
+            long dropped = 0;
+
+            // copy the entries still in use, which can be done without holding the lock as the log is append-only
+            RecordReader reader = new RecordReader(log, 0, snapshotEnd);
+            while (reader.next()) {
+                if (reader.op != RECORD_ADD) {
+                    continue;
+                }
+                long hash = hash(reader.data);
+                boolean live;
+                lock.readLock().lock();
+                try {
+                    int slot = index.find(reader.data, hash);
+                    live = slot >= 0 && index.offset(slot) == reader.offset;
+                } finally {
+                    lock.readLock().unlock();
+                }
+                if (!live) {
+                    continue;
+                }
+                if (dropOldest && dropped < dropOldestFileStore) {
+                    dropped++;
+                    continue;
+                }
+                compacted.insert(hash, outEnd);
+                outEnd += write(out, outEnd, RECORD_ADD, reader.data);
+            }
+
+            lock.writeLock().lock();
+            try {
+                if (!isRunAllowed()) {
+                    return;
+                }
+                if (generation != snapshotGeneration) {
+                    // the file store was cleared while compacting, so the compacted entries are no longer valid
+                    LOG.debug("Discarding compaction of idempotent filestore: {} as it was cleared", fileStore);
+                    return;
+                }
+                // carry over what was added or removed while compacting
+                long removed = 0;
+                reader = new RecordReader(log, snapshotEnd, logEnd);
+                while (reader.next()) {
+                    long hash = hash(reader.data);
+                    if (reader.op == RECORD_ADD) {
+                        compacted.insert(hash, outEnd);
+                        outEnd += write(out, outEnd, RECORD_ADD, reader.data);
+                    } else {
+                        int slot = compacted.find(reader.data, hash);
+                        if (slot >= 0) {
+                            compacted.delete(slot);
+                            outEnd += write(out, outEnd, RECORD_REMOVE, reader.data);
+                            removed += 2L * (RECORD_HEADER + reader.data.length);
+                        }
+                    }
+                }
+                out.force(false);
+                out.close();
+
+                log.close();
+                try {
+                    move(target, fileStore);
+                } finally {
+                    // reopen the file store which is the compacted file if it was moved successfully
+                    log = openLog();
+                    index.setLog(log);
+                }
+                logEnd = outEnd;
+                compactedEnd = outEnd;
+                deadBytes = removed;
+                index.copyFrom(compacted);
+                index.setState(logEnd, deadBytes);
+            } finally {
+                lock.writeLock().unlock();
+            }
+            LOG.debug("Compacted idempotent filestore: {} from {} to {} bytes", fileStore, snapshotEnd, outEnd);
+        } finally {
+            FileUtil.deleteFile(target);
+        }
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        ObjectHelper.notNull(fileStore, "fileStore", this);
+
+        File parent = fileStore.getParentFile();
+        if (parent != null && !parent.exists()) {
+            LOG.debug("Creating filestore directory: {}", parent);
+            if (!parent.mkdirs()) {
+                LOG.warn("Cannot create the filestore directory at: {}", parent);
+            }
+        }
+        // remove left-over from a compaction which did not complete
+        FileUtil.deleteFile(compactionFile());
+
+        log = openLog();
+        logEnd = log.size();
+        compactedEnd = 0;
+        FileChannel channel = FileChannel.open(indexFile().toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        index = HashIndex.open(channel, log, logEnd);
+        if (index != null) {
+            deadBytes = index.deadBytes();
+            LOG.debug("Loaded {} entries from index of idempotent filestore: {}", index.size(), fileStore);
+        } else {
+            LOG.debug("Rebuilding index of idempotent filestore: {}", fileStore);
+            index = HashIndex.create(channel, log);
+            loadStore();
+            LOG.debug("Loaded {} entries to index from idempotent filestore: {}", index.size(), fileStore);
+        }
+        // mark the index as in use, so it is rebuilt if we are not stopped gracefully
+        index.setState(logEnd, deadBytes);
+        index.markClean(false);
+
+        if (executorService == null && camelContext != null) {
+            executorService = camelContext.getExecutorServiceManager().newSingleThreadExecutor(this,
+                    "IndexedFileIdempotentRepositoryCompaction");
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (executorService != null && camelContext != null) {
+            camelContext.getExecutorServiceManager().shutdownGraceful(executorService);
+            executorService = null;
+        }
+        lock.writeLock().lock();
+        try {
+            if (index != null) {
+                index.setState(logEnd, deadBytes);
+                index.markClean(true);
+                index.close();
+                index = null;
+            }
+            IOHelper.close(log, "Closing file idempotent repository", LOG);
+            log = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Rebuilds the index by reading the entire log file
+     */
+    protected void loadStore() throws IOException {
+        deadBytes = 0;
+        RecordReader reader = new RecordReader(log, 0, logEnd);
+        try {
+            while (reader.next()) {
+                long hash = hash(reader.data);
+                if (reader.op == RECORD_ADD) {
+                    index.insert(hash, reader.offset);
+                } else {
+                    int slot = index.find(reader.data, hash);
+                    if (slot >= 0) {
+                        index.delete(slot);
+                    }
+                    deadBytes += 2L * (RECORD_HEADER + reader.data.length);
+                }
+            }
+        } catch (EOFException e) {
+            // the last record was only partially written, so discard it
+            LOG.warn("Discarding incomplete entry at position {} in idempotent filestore: {}", reader.offset, fileStore);
+            log.truncate(reader.offset);
+            logEnd = reader.offset;
+            generation++;
+        }
+    }
+
+    private long append(byte op, byte[] data) throws IOException {
+        long offset = logEnd;
+        logEnd += write(log, offset, op, data);
+        if (sync) {
+            log.force(false);
+        }
+        return offset;
+    }
+
+    private FileChannel openLog() throws IOException {
+        return FileChannel.open(fileStore.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+    }
+
+    private File indexFile() {
+        return new File(fileStore.getPath() + ".idx");
+    }
+
+    private File compactionFile() {
+        return new File(fileStore.getPath() + ".compact");
+    }
+
+    private static void move(File from, File to) throws IOException {
+        try {
+            Files.move(from.toPath(), to.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(from.toPath(), to.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static int write(FileChannel channel, long position, byte op, byte[] data) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_HEADER + data.length);
+        buffer.put(op).putInt(data.length).put(data).flip();
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+        return RECORD_HEADER + data.length;
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int n = channel.read(buffer, position);
+            if (n < 0) {
+                throw new EOFException();
+            }
+            position += n;
+        }
+        buffer.flip();
+    }
+
+    /**
+     * 64-bit FNV-1a hash with a final avalanche step
+     */
+    static long hash(byte[] data) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : data) {
+            h ^= b & 0xff;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /**
+     * Reads the records of the log file sequentially using a buffer
+     */
+    private static final class RecordReader {
+        private final FileChannel channel;
+        private final long end;
+        private final ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+        private long bufferPosition;
+        private long position;
+        long offset;
+        byte op;
+        byte[] data;
+
+        RecordReader(FileChannel channel, long start, long end) {
+            this.channel = channel;
+            this.end = end;
+            this.position = start;
+            this.bufferPosition = start;
+            this.buffer.limit(0);
+        }
+
+        boolean next() throws IOException {
+            if (position >= end) {
+                return false;
+            }
+            offset = position;
+            ensure(RECORD_HEADER);
+            op = buffer.get();
+            int len = buffer.getInt();
+            data = new byte[len];
+            int copied = 0;
+            while (copied < len) {
+                if (!buffer.hasRemaining()) {
+                    ensure(1);
+                }
+                int n = Math.min(buffer.remaining(), len - copied);
+                buffer.get(data, copied, n);
+                copied += n;
+            }
+            position = offset + RECORD_HEADER + len;
+            return true;
+        }
+
+        private void ensure(int bytes) throws IOException {
+            if (buffer.remaining() >= bytes) {
+                return;
+            }
+            // keep what is left and read more
+            bufferPosition += buffer.position();
+            buffer.compact();
+            long limit = end - bufferPosition;
+            while (buffer.position() < bytes) {
+                if (bufferPosition + buffer.position() >= end) {
+                    throw new EOFException();
+                }
+                int max = (int) Math.min(buffer.remaining(), limit - buffer.position());
+                ByteBuffer slice = buffer.duplicate();
+                slice.limit(slice.position() + max);
+                int n = channel.read(slice, bufferPosition + buffer.position());
+                if (n < 0) {
+                    throw new EOFException();
+                }
+                buffer.position(buffer.position() + n);
+            }
+            buffer.flip();
+        }
+    }
+
+    /**
+     * An open-addressing hash table with linear probing, where each slot holds the hash of a key and the position of
+     * its record in the log file. The table is either memory-mapped from the index file, or kept on the heap while
+     * compacting.
+     */
+    private static final class HashIndex {
+        private static final int MAGIC = 0xCA4E1DE1;
+        private static final int VERSION = 1;
+        private static final int HEADER = 40;
+        private static final int SLOT = 16;
+        private static final int MIN_CAPACITY = 1024;
+        private static final long EMPTY = 0;
+        private static final long DELETED = -1;
+
+        private final FileChannel file;
+        private FileChannel log;
+        private ByteBuffer table;
+        private int capacity;
+        private int size;
+        private int tombstones;
+
+        private HashIndex(FileChannel file, FileChannel log, ByteBuffer table, int capacity) {
+            this.file = file;
+            this.log = log;
+            this.table = table;
+            this.capacity = capacity;
+        }
+
+        /**
+         * Creates a heap based index
+         */
+        HashIndex(FileChannel log, int capacity) {
+            this(null, log, ByteBuffer.allocate(HEADER + capacity * SLOT), capacity);
+        }
+
+        /**
+         * Creates a new empty index in the given file
+         */
+        static HashIndex create(FileChannel file, FileChannel log) throws IOException {
+            file.truncate(0);
+            HashIndex answer = new HashIndex(file, log, map(file, MIN_CAPACITY), MIN_CAPACITY);
+            answer.writeHeader();
+            return answer;
+        }
+
+        /**
+         * Opens an existing index from the given file, or returns <tt>null</tt> if the index is not valid for the log
+         */
+        static HashIndex open(FileChannel file, FileChannel log, long logEnd) throws IOException {
+            if (file.size() < HEADER) {
+                return null;
+            }
+            ByteBuffer header = ByteBuffer.allocate(HEADER);
+            readFully(file, header, 0);
+            int capacity = header.getInt(8);
+            boolean valid = header.getInt(0) == MAGIC && header.getInt(4) == VERSION && header.getInt(20) == 1
+                    && header.getLong(24) == logEnd && Integer.bitCount(capacity) == 1
+                    && file.size() >= HEADER + (long) capacity * SLOT;
+            if (!valid) {
+                return null;
+            }
+            HashIndex answer = new HashIndex(file, log, map(file, capacity), capacity);
+            answer.size = header.getInt(12);
+            answer.tombstones = header.getInt(16);
+            return answer;
+        }
+
+        static int capacityFor(int entries) {
+            int capacity = MIN_CAPACITY;
+            while (capacity < entries * 2L) {
+                capacity <<= 1;
+            }
+            return capacity;
+        }
+
+        private static ByteBuffer map(FileChannel file, int capacity) throws IOException {
+            return file.map(FileChannel.MapMode.READ_WRITE, 0, HEADER + (long) capacity * SLOT);
+        }
+
+        int size() {
+            return size;
+        }
+
+        long deadBytes() {
+            return table.getLong(32);
+        }
+
+        long offset(int slot) {
+            return table.getLong(HEADER + slot * SLOT + 8) - 1;
+        }
+
+        /**
+         * Finds the slot of the given key
+         *
+         * @return the slot, or <tt>-1</tt> if not found
+         */
+        int find(byte[] data, long hash) throws IOException {
+            int mask = capacity - 1;
+            int slot = (int) hash & mask;
+            for (int i = 0; i < capacity; i++) {
+                int pos = HEADER + slot * SLOT;
+                long ref = table.getLong(pos + 8);
+                if (ref == EMPTY) {
+                    return -1;
+                }
+                if (ref != DELETED && table.getLong(pos) == hash && keyEquals(ref - 1, data)) {
+                    return slot;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return -1;
+        }
+
+        /**
+         * Inserts the key with the given hash and position in the log file, which must not already be in the index
+         */
+        void insert(long hash, long offset) throws IOException {
+            if ((size + tombstones + 1) * 2L > capacity) {
+                resize(size * 4L >= capacity ? capacity << 1 : capacity);
+            }
+            int mask = capacity - 1;
+            int slot = (int) hash & mask;
+            while (true) {
+                int pos = HEADER + slot * SLOT;
+                long ref = table.getLong(pos + 8);
+                if (ref == EMPTY || ref == DELETED) {
+                    if (ref == DELETED) {
+                        tombstones--;
+                    }
+                    table.putLong(pos, hash);
+                    table.putLong(pos + 8, offset + 1);
+                    size++;
+                    return;
+                }
+                slot = (slot + 1) & mask;
+            }
+        }
+
+        void delete(int slot) {
+            table.putLong(HEADER + slot * SLOT + 8, DELETED);
+            size--;
+            tombstones++;
+        }
+
+        void clear() throws IOException {
+            resize(MIN_CAPACITY, new long[0], new long[0]);
+        }
+
+        /**
+         * Replaces the content of this index with the other index
+         */
+        void copyFrom(HashIndex other) throws IOException {
+            if (capacity != other.capacity) {
+                capacity = other.capacity;
+                table = remap();
+            }
+            ByteBuffer source = other.table.duplicate();
+            source.position(HEADER);
+            ByteBuffer target = table.duplicate();
+            target.position(HEADER);
+            target.put(source);
+            size = other.size;
+            tombstones = other.tombstones;
+            writeHeader();
+        }
+
+        void setLog(FileChannel log) {
+            this.log = log;
+        }
+
+        void setState(long logEnd, long deadBytes) {
+            writeHeader();
+            table.putLong(24, logEnd);
+            table.putLong(32, deadBytes);
+        }
+
+        void markClean(boolean clean) {
+            table.putInt(20, clean ? 1 : 0);
+            if (table instanceof MappedByteBuffer mapped) {
+                mapped.force();
+            }
+        }
+
+        void close() throws IOException {
+            file.close();
+        }
+
+        private void writeHeader() {
+            table.putInt(0, MAGIC);
+            table.putInt(4, VERSION);
+            table.putInt(8, capacity);
+            table.putInt(12, size);
+            table.putInt(16, tombstones);
+        }
+
+        private void resize(long newCapacity) throws IOException {
+            // keep the entries in use, and then insert them again into the resized table
+            long[] hashes = new long[size];
+            long[] refs = new long[size];
+            int n = 0;
+            for (int slot = 0; slot < capacity; slot++) {
+                int pos = HEADER + slot * SLOT;
+                long ref = table.getLong(pos + 8);
+                if (ref != EMPTY && ref != DELETED) {
+                    hashes[n] = table.getLong(pos);
+                    refs[n] = ref;
+                    n++;
+                }
+            }
+            if (newCapacity > Integer.MAX_VALUE / SLOT) {
+                throw new IllegalStateException("Index is full with " + size + " entries");
+            }
+            resize((int) newCapacity, hashes, refs);
+        }
+
+        private void resize(int newCapacity, long[] hashes, long[] refs) throws IOException {
+            if (newCapacity != capacity) {
+                capacity = newCapacity;
+                table = remap();
+            }
+            // clear all the slots
+            byte[] zeros = new byte[8192];
+            ByteBuffer target = table.duplicate();
+            target.position(HEADER);
+            while (target.hasRemaining()) {
+                target.put(zeros, 0, Math.min(zeros.length, target.remaining()));
+            }
+            size = 0;
+            tombstones = 0;
+            for (int i = 0; i < hashes.length; i++) {
+                insert(hashes[i], refs[i] - 1);
+            }
+            writeHeader();
+        }
+
+        private ByteBuffer remap() throws IOException {
+            if (file == null) {
+                ByteBuffer answer = ByteBuffer.allocate(HEADER + capacity * SLOT);
+                answer.put(table.duplicate().position(0).limit(HEADER));
+                return answer;
+            }
+            return map(file, capacity);
+        }
+
+        private boolean keyEquals(long offset, byte[] data) throws IOException {
+            ByteBuffer buffer = ByteBuffer.allocate(RECORD_HEADER + data.length);
+            try {
+                readFully(log, buffer, offset);
+            } catch (EOFException e) {
+                // the record is shorter than the key
+                return false;
+            }
+            return buffer.getInt(1) == data.length
+                    && Arrays.equals(buffer.array(), RECORD_HEADER, RECORD_HEADER + data.length, data, 0, data.length);
+        }
+    }
+}
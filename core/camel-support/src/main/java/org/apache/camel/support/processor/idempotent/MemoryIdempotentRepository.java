@@ -16,9 +16,12 @@
  */
 package org.apache.camel.support.processor.idempotent;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 
 import org.apache.camel.api.management.ManagedAttribute;
 import org.apache.camel.api.management.ManagedOperation;
@@ -41,7 +44,7 @@ import org.apache.camel.support.service.ServiceSupport;
           annotations = { "interfaceName=org.apache.camel.spi.IdempotentRepository" })
 @Configurer(metadataOnly = true)
 @ManagedResource(description = "Memory based idempotent repository")
-public class MemoryIdempotentRepository extends ServiceSupport implements IdempotentRepository {
+public class MemoryIdempotentRepository extends ServiceSupport implements BrowsableIdempotentRepository {
 
     private static final int MAX_CACHE_SIZE = 1000;
 
@@ -143,6 +146,18 @@ public class MemoryIdempotentRepository extends ServiceSupport implements Idempo
         }
     }
 
+    @Override
+    public void forEachKey(Consumer<String> action) {
+        List<String> keys;
+        cacheAndStoreLock.lock();
+        try {
+            keys = new ArrayList<>(cache.keySet());
+        } finally {
+            cacheAndStoreLock.unlock();
+        }
+        keys.forEach(action);
+    }
+
     public Map<String, Object> getCache() {
         return cache;
     }
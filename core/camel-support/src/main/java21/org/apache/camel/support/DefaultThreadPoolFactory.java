@@ -37,7 +37,6 @@ import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.util.concurrent.RejectableScheduledThreadPoolExecutor;
 import org.apache.camel.util.concurrent.RejectableThreadPoolExecutor;
 import org.apache.camel.util.concurrent.SizedScheduledExecutorService;
-import org.apache.camel.util.concurrent.ThreadType;
 import org.apache.camel.util.concurrent.ThreadFactoryTypeAware;
 
 /**
@@ -162,7 +161,7 @@ public class DefaultThreadPoolFactory extends ServiceSupport implements CamelCon
         VIRTUAL {
             @Override
             ExecutorService newCachedThreadPool(ThreadFactory threadFactory) {
-                return Executors.newThreadPerTaskExecutor(threadFactory);
+                return newThreadPerTaskExecutor(threadFactory, null);
             }
 
             @Override
@@ -170,7 +169,24 @@ public class DefaultThreadPoolFactory extends ServiceSupport implements CamelCon
                                           int maxQueueSize, boolean allowCoreThreadTimeOut,
                                           RejectedExecutionHandler rejectedExecutionHandler,
                                           ThreadFactory threadFactory) throws IllegalArgumentException {
-                return Executors.newThreadPerTaskExecutor(threadFactory);
+                return newThreadPerTaskExecutor(threadFactory, rejectedExecutionHandler);
+            }
+
+            /**
+             * Creates an executor which starts a new thread for each task, as a thread pool with no core threads, no
+             * limit and no keep alive time, which hands over each task to a new thread. A thread pool executor is used
+             * rather than {@link Executors#newThreadPerTaskExecutor(ThreadFactory)} so the thread pool can be managed
+             * (such as the active and completed task counts in JMX) as any other thread pool.
+             */
+            private ExecutorService newThreadPerTaskExecutor(
+                    ThreadFactory threadFactory, RejectedExecutionHandler rejectedExecutionHandler) {
+                ThreadPoolExecutor answer = new RejectableThreadPoolExecutor(
+                        0, Integer.MAX_VALUE, 0, TimeUnit.MILLISECONDS, new SynchronousQueue<>(), threadFactory);
+                if (rejectedExecutionHandler == null) {
+                    rejectedExecutionHandler = new ThreadPoolExecutor.CallerRunsPolicy();
+                }
+                answer.setRejectedExecutionHandler(rejectedExecutionHandler);
+                return answer;
             }
 
             @Override
@@ -188,9 +204,7 @@ public class DefaultThreadPoolFactory extends ServiceSupport implements CamelCon
         }
 
         static ThreadPoolFactoryType from(ThreadFactory threadFactory, int maxPoolSize) {
-            if (ThreadType.current() == ThreadType.PLATFORM) {
-                return ThreadPoolFactoryType.PLATFORM;
-            }
+            // the thread factory creates virtual threads if enabled globally or by the thread pool profile
             return maxPoolSize > 1 && threadFactory instanceof ThreadFactoryTypeAware factoryTypeAware && factoryTypeAware.isVirtual() ?
                     ThreadPoolFactoryType.VIRTUAL : ThreadPoolFactoryType.PLATFORM;
         }
@@ -0,0 +1,298 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.StandardCharsets;
+import java.nio.charset.UnsupportedCharsetException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * A scanner which splits a stream of bytes by a literal delimiter, without decoding the bytes into characters first.
+ * <p/>
+ * The bytes are read into a buffer which is reused for all the tokens, and the delimiter is searched for as bytes, so
+ * only the tokens are decoded when they are returned by {@link #next()}, or not at all when they are copied as bytes
+ * by {@link #next(OutputStream)}.
+ * <p/>
+ * The tokens are the same as the {@link Scanner} returns for the same delimiter, which is only possible for a charset
+ * where the encoded delimiter cannot be part of the encoding of another character, see
+ * {@link #isSupported(String, String)}.
+ */
+public final class ByteScanner implements Iterator<String>, Closeable {
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final String REGEX_META_CHARS = "\\^$.|?*+()[]{}";
+
+    private final InputStream in;
+    private final ReadableByteChannel channel;
+    private final Charset charset;
+    private final String delim;
+    private final byte[] delimBytes;
+    private byte[] buf = new byte[BUFFER_SIZE];
+    private ByteBuffer byteBuffer;
+    private int position;
+    private int limit;
+    private int tokenStart = -1;
+    private int tokenEnd;
+    private boolean started;
+    private boolean inputExhausted;
+    private boolean closed;
+    private IOException lastIOException;
+
+    public ByteScanner(InputStream source, String charsetName, String delimiter) {
+        this(Objects.requireNonNull(source, "source"), null, charsetName, delimiter);
+    }
+
+    public ByteScanner(File source, String charsetName, String delimiter) throws FileNotFoundException {
+        this(new FileInputStream(Objects.requireNonNull(source, "source")).getChannel(), charsetName, delimiter);
+    }
+
+    public ByteScanner(ReadableByteChannel source, String charsetName, String delimiter) {
+        this(null, Objects.requireNonNull(source, "source"), charsetName, delimiter);
+    }
+
+    private ByteScanner(InputStream in, ReadableByteChannel channel, String charsetName, String delimiter) {
+        if (!isSupported(charsetName, delimiter)) {
+            throw new IllegalArgumentException(
+                    "Cannot scan bytes with charset: " + charsetName + " and delimiter: " + delimiter);
+        }
+        this.in = in;
+        this.channel = channel;
+        this.charset = toCharset(charsetName);
+        this.delim = delimiter;
+        this.delimBytes = delimiter.getBytes(charset);
+        if (channel != null) {
+            this.byteBuffer = ByteBuffer.wrap(buf);
+        }
+    }
+
+    /**
+     * Whether the bytes in the given charset can be split by the given delimiter, which is the case when the delimiter
+     * is a literal text (not using regular expression syntax), and the charset is UTF-8, US-ASCII or ISO-8859-1.
+     */
+    public static boolean isSupported(String charsetName, String delimiter) {
+        if (delimiter == null || delimiter.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < delimiter.length(); i++) {
+            if (REGEX_META_CHARS.indexOf(delimiter.charAt(i)) != -1) {
+                return false;
+            }
+        }
+        Charset cs;
+        try {
+            cs = toCharset(charsetName);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        // these charsets never encode a character with bytes which are the encoding of another character
+        boolean safe = StandardCharsets.UTF_8.equals(cs) || StandardCharsets.US_ASCII.equals(cs)
+                || StandardCharsets.ISO_8859_1.equals(cs);
+        return safe && cs.newEncoder().canEncode(delimiter);
+    }
+
+    private static Charset toCharset(String charsetName) {
+        try {
+            return charsetName != null ? Charset.forName(charsetName) : Charset.defaultCharset();
+        } catch (IllegalCharsetNameException | UnsupportedCharsetException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (closed) {
+            return false;
+        }
+        if (tokenStart == -1) {
+            findToken();
+        }
+        return tokenStart != -1;
+    }
+
+    @Override
+    public String next() {
+        checkNext();
+        String answer = new String(buf, tokenStart, tokenEnd - tokenStart, charset);
+        tokenStart = -1;
+        return answer;
+    }
+
+    /**
+     * Writes the bytes of the next token to the given stream, instead of decoding the token.
+     */
+    public void next(OutputStream os) throws IOException {
+        checkNext();
+        os.write(buf, tokenStart, tokenEnd - tokenStart);
+        tokenStart = -1;
+    }
+
+    public String getDelim() {
+        return delim;
+    }
+
+    public Charset getCharset() {
+        return charset;
+    }
+
+    private void checkNext() {
+        if (closed) {
+            throw new IllegalStateException();
+        }
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+    }
+
+    /**
+     * Finds the next token, which is the bytes up to the next delimiter, or the remaining bytes when there are no more
+     * delimiters. As the {@link Scanner} does, a delimiter at the start is skipped, and there is no empty token after
+     * a delimiter at the end.
+     */
+    private void findToken() {
+        if (!started) {
+            started = true;
+            // skip a leading delimiter
+            while (limit - position < delimBytes.length && readMore()) {
+                // read until there are enough bytes to compare with the delimiter
+            }
+            if (limit - position >= delimBytes.length && isDelimiterAt(position)) {
+                position += delimBytes.length;
+            }
+        }
+        int from = position;
+        while (true) {
+            int index = indexOfDelimiter(from);
+            if (index != -1) {
+                tokenStart = position;
+                tokenEnd = index;
+                position = index + delimBytes.length;
+                return;
+            }
+            // no delimiter in the buffer, so continue searching where a delimiter could start after reading more
+            from = Math.max(position, limit - delimBytes.length + 1);
+            int offset = position;
+            if (!readMore()) {
+                if (position < limit) {
+                    tokenStart = position;
+                    tokenEnd = limit;
+                    position = limit;
+                }
+                return;
+            }
+            from -= offset - position;
+        }
+    }
+
+    private int indexOfDelimiter(int from) {
+        byte first = delimBytes[0];
+        int last = limit - delimBytes.length;
+        for (int i = from; i <= last; i++) {
+            if (buf[i] == first && (delimBytes.length == 1 || isDelimiterAt(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private boolean isDelimiterAt(int index) {
+        for (int i = 0; i < delimBytes.length; i++) {
+            if (buf[index + i] != delimBytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reads more bytes into the buffer, after moving the unread bytes to the start of the buffer, or growing the buffer
+     * if it is full of unread bytes.
+     *
+     * @return <tt>true</tt> if more bytes were read, <tt>false</tt> at the end of the input
+     */
+    private boolean readMore() {
+        if (inputExhausted) {
+            return false;
+        }
+        if (limit == buf.length) {
+            if (position > 0) {
+                System.arraycopy(buf, position, buf, 0, limit - position);
+                limit -= position;
+                position = 0;
+            } else {
+                byte[] newBuf = new byte[buf.length * 2];
+                System.arraycopy(buf, 0, newBuf, 0, limit);
+                buf = newBuf;
+                if (channel != null) {
+                    byteBuffer = ByteBuffer.wrap(buf);
+                }
+            }
+        }
+        int n;
+        try {
+            do {
+                if (channel != null) {
+                    byteBuffer.limit(buf.length).position(limit);
+                    n = channel.read(byteBuffer);
+                } else {
+                    n = in.read(buf, limit, buf.length - limit);
+                }
+            } while (n == 0);
+        } catch (IOException e) {
+            lastIOException = e;
+            n = -1;
+        }
+        if (n == -1) {
+            inputExhausted = true;
+            return false;
+        }
+        limit += n;
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            try {
+                if (channel != null) {
+                    channel.close();
+                } else {
+                    in.close();
+                }
+            } catch (IOException e) {
+                lastIOException = e;
+            }
+        }
+        if (lastIOException != null) {
+            throw lastIOException;
+        }
+    }
+
+}
@@ -37,6 +37,13 @@ public final class CamelThreadFactory implements ThreadFactory {
         this.daemon = daemon;
     }
 
+    /**
+     * Creates a thread factory. Virtual threads require Java 21 or newer, so platform threads are created instead.
+     */
+    public CamelThreadFactory(String pattern, String name, boolean daemon, boolean virtual) {
+        this(pattern, name, daemon);
+    }
+
     @Override
     public Thread newThread(Runnable runnable) {
         String threadName = ThreadHelper.resolveThreadName(pattern, name);
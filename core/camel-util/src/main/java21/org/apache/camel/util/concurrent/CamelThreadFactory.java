@@ -35,10 +35,22 @@ public final class CamelThreadFactory implements ThreadFactoryTypeAware {
     private final ThreadFactoryType threadType;
 
     public CamelThreadFactory(String pattern, String name, boolean daemon) {
+        this(pattern, name, daemon, false);
+    }
+
+    /**
+     * Creates a thread factory, which creates virtual threads if requested, regardless of the System property
+     * {@code camel.threads.virtual.enabled}.
+     */
+    public CamelThreadFactory(String pattern, String name, boolean daemon, boolean virtual) {
         this.pattern = pattern;
         this.name = name;
         this.daemon = daemon;
-        this.threadType = daemon ? TYPE : ThreadFactoryType.PLATFORM;
+        if (virtual) {
+            this.threadType = ThreadFactoryType.VIRTUAL;
+        } else {
+            this.threadType = daemon ? TYPE : ThreadFactoryType.PLATFORM;
+        }
     }
 
     @Override
@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ByteScannerTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testByteScannerInputStream() {
+        String d = "data1\ndata2\ndata3\n";
+        InputStream is = new ByteArrayInputStream(d.getBytes(StandardCharsets.UTF_8));
+
+        ByteScanner s = new ByteScanner(is, "UTF-8", "\n");
+
+        Assertions.assertTrue(s.hasNext());
+        Assertions.assertEquals("data1", s.next());
+        Assertions.assertTrue(s.hasNext());
+        Assertions.assertEquals("data2", s.next());
+        Assertions.assertTrue(s.hasNext());
+        Assertions.assertEquals("data3", s.next());
+        Assertions.assertFalse(s.hasNext());
+    }
+
+    @Test
+    public void testByteScannerChannel() throws Exception {
+        String d = "\u00A31\u20AC\u00A32\u20AC\u00A33";
+        InputStream is = new ByteArrayInputStream(d.getBytes(StandardCharsets.UTF_8));
+
+        ByteScanner s = new ByteScanner(Channels.newChannel(is), "UTF-8", "\u20AC");
+
+        Assertions.assertEquals("\u00A31", s.next());
+        Assertions.assertEquals("\u00A32", s.next());
+        Assertions.assertEquals("\u00A33", s.next());
+        Assertions.assertFalse(s.hasNext());
+        s.close();
+    }
+
+    @Test
+    public void testByteScannerFile() throws Exception {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 10000; i++) {
+            sb.append("line").append(i).append("\r\n");
+        }
+        File file = tempDir.resolve("lines.txt").toFile();
+        Files.writeString(file.toPath(), sb.toString());
+
+        List<String> lines = new ArrayList<>();
+        try (ByteScanner s = new ByteScanner(file, "UTF-8", "\r\n")) {
+            while (s.hasNext()) {
+                lines.add(s.next());
+            }
+        }
+
+        Assertions.assertEquals(10000, lines.size());
+        Assertions.assertEquals("line0", lines.get(0));
+        Assertions.assertEquals("line9999", lines.get(9999));
+    }
+
+    @Test
+    public void testByteScannerSameTokensAsScanner() {
+        String[] values = { "", "\n", "\n\n", "a", "\na", "a\n", "a\n\nb", "\n\na\n\n", "a\n\n\nb\n" };
+        for (String value : values) {
+            List<String> expected = new ArrayList<>();
+            Scanner scanner = new Scanner(value, "\n");
+            while (scanner.hasNext()) {
+                expected.add(scanner.next());
+            }
+
+            List<String> actual = new ArrayList<>();
+            ByteScanner s = new ByteScanner(new ByteArrayInputStream(value.getBytes()), "UTF-8", "\n");
+            while (s.hasNext()) {
+                actual.add(s.next());
+            }
+
+            Assertions.assertEquals(expected, actual, "Tokens of: " + value);
+        }
+    }
+
+    @Test
+    public void testByteScannerNextBytes() throws Exception {
+        ByteScanner s = new ByteScanner(new ByteArrayInputStream("abc,def".getBytes()), "UTF-8", ",");
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+
+        s.next(bos);
+        Assertions.assertEquals("abc", bos.toString());
+        Assertions.assertEquals("def", s.next());
+        Assertions.assertFalse(s.hasNext());
+    }
+
+    @Test
+    public void testIsSupported() {
+        Assertions.assertTrue(ByteScanner.isSupported("UTF-8", "\n"));
+        Assertions.assertTrue(ByteScanner.isSupported("ISO-8859-1", ";"));
+        Assertions.assertFalse(ByteScanner.isSupported("UTF-16", "\n"));
+        Assertions.assertFalse(ByteScanner.isSupported("UTF-8", "\\s+"));
+        Assertions.assertFalse(ByteScanner.isSupported("UTF-8", "|"));
+        Assertions.assertFalse(ByteScanner.isSupported("US-ASCII", "\u20AC"));
+        Assertions.assertFalse(ByteScanner.isSupported("UTF-8", ""));
+    }
+}
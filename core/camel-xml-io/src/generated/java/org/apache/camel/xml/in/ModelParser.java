@@ -91,6 +91,7 @@ public class ModelParser extends BaseParser {
                 case "executorService": def.setExecutorService(val); yield true;
                 case "forceCompletionOnStop": def.setForceCompletionOnStop(val); yield true;
                 case "ignoreInvalidCorrelationKeys": def.setIgnoreInvalidCorrelationKeys(val); yield true;
+                case "lockStripes": def.setLockStripes(val); yield true;
                 case "optimisticLocking": def.setOptimisticLocking(val); yield true;
                 case "parallelProcessing": def.setParallelProcessing(val); yield true;
                 case "timeoutCheckerExecutorService": def.setTimeoutCheckerExecutorService(val); yield true;
@@ -433,6 +434,7 @@ public class ModelParser extends BaseParser {
     }
     protected IdempotentConsumerDefinition doParseIdempotentConsumerDefinition() throws IOException, XmlPullParserException {
         return doParse(new IdempotentConsumerDefinition(), (def, key, val) -> switch (key) {
+                case "bloomFilterExpectedKeys": def.setBloomFilterExpectedKeys(val); yield true;
                 case "completionEager": def.setCompletionEager(val); yield true;
                 case "eager": def.setEager(val); yield true;
                 case "idempotentRepository": def.setIdempotentRepository(val); yield true;
@@ -1093,11 +1095,13 @@ public class ModelParser extends BaseParser {
     }
     protected SplitDefinition doParseSplitDefinition() throws IOException, XmlPullParserException {
         return doParse(new SplitDefinition(), (def, key, val) -> switch (key) {
+                case "aggregateInOrder": def.setAggregateInOrder(val); yield true;
                 case "aggregationStrategy": def.setAggregationStrategy(val); yield true;
                 case "aggregationStrategyMethodAllowNull": def.setAggregationStrategyMethodAllowNull(val); yield true;
                 case "aggregationStrategyMethodName": def.setAggregationStrategyMethodName(val); yield true;
                 case "delimiter": def.setDelimiter(val); yield true;
                 case "executorService": def.setExecutorService(val); yield true;
+                case "maxInflightExchanges": def.setMaxInflightExchanges(val); yield true;
                 case "onPrepare": def.setOnPrepare(val); yield true;
                 case "parallelAggregate": def.setParallelAggregate(val); yield true;
                 case "parallelProcessing": def.setParallelProcessing(val); yield true;
@@ -1171,6 +1175,7 @@ public class ModelParser extends BaseParser {
                 case "poolSize": def.setPoolSize(val); yield true;
                 case "rejectedPolicy": def.setRejectedPolicy(val); yield true;
                 case "timeUnit": def.setTimeUnit(val); yield true;
+                case "virtualThreads": def.setVirtualThreads(val); yield true;
                 default: yield optionalIdentifiedDefinitionAttributeHandler().accept(def, key, val);
             }, optionalIdentifiedDefinitionElementHandler(), noValueHandler());
     }
@@ -1186,6 +1191,7 @@ public class ModelParser extends BaseParser {
                 case "rejectedPolicy": def.setRejectedPolicy(val); yield true;
                 case "threadName": def.setThreadName(val); yield true;
                 case "timeUnit": def.setTimeUnit(val); yield true;
+                case "virtualThreads": def.setVirtualThreads(val); yield true;
                 default: yield processorDefinitionAttributeHandler().accept(def, key, val);
             }, optionalIdentifiedDefinitionElementHandler(), noValueHandler());
     }
@@ -1641,6 +1647,7 @@ public class ModelParser extends BaseParser {
                 case "deliveryAttemptInterval": def.setDeliveryAttemptInterval(val); yield true;
                 case "ignoreInvalidExchanges": def.setIgnoreInvalidExchanges(val); yield true;
                 case "rejectOld": def.setRejectOld(val); yield true;
+                case "slidingWindow": def.setSlidingWindow(val); yield true;
                 case "timeout": def.setTimeout(val); yield true;
                 default: yield false;
             }, noElementHandler(), noValueHandler());
@@ -801,6 +801,7 @@ public class ModelWriter extends BaseWriter {
         doWriteAttribute("completionFromBatchConsumer", def.getCompletionFromBatchConsumer());
         doWriteAttribute("completeAllOnStop", def.getCompleteAllOnStop());
         doWriteAttribute("completionSize", def.getCompletionSize());
+        doWriteAttribute("lockStripes", def.getLockStripes());
         doWriteAttribute("aggregationStrategyMethodName", def.getAggregationStrategyMethodName());
         doWriteAttribute("aggregateController", def.getAggregateController());
         doWriteAttribute("completionTimeout", def.getCompletionTimeout());
@@ -1046,6 +1047,7 @@ public class ModelWriter extends BaseWriter {
         doWriteAttribute("eager", def.getEager());
         doWriteAttribute("idempotentRepository", def.getIdempotentRepository());
         doWriteAttribute("removeOnFailure", def.getRemoveOnFailure());
+        doWriteAttribute("bloomFilterExpectedKeys", def.getBloomFilterExpectedKeys());
         doWriteOutputExpressionNodeElements(def);
         endElement(name);
     }
@@ -1731,6 +1733,8 @@ public class ModelWriter extends BaseWriter {
         doWriteAttribute("aggregationStrategyMethodName", def.getAggregationStrategyMethodName());
         doWriteAttribute("timeout", def.getTimeout());
         doWriteAttribute("streaming", def.getStreaming());
+        doWriteAttribute("aggregateInOrder", def.getAggregateInOrder());
+        doWriteAttribute("maxInflightExchanges", def.getMaxInflightExchanges());
         doWriteAttribute("stopOnException", def.getStopOnException());
         doWriteAttribute("delimiter", def.getDelimiter());
         doWriteAttribute("parallelProcessing", def.getParallelProcessing());
@@ -1783,6 +1787,7 @@ public class ModelWriter extends BaseWriter {
         doWriteAttribute("maxPoolSize", def.getMaxPoolSize());
         doWriteAttribute("rejectedPolicy", def.getRejectedPolicy());
         doWriteAttribute("timeUnit", def.getTimeUnit());
+        doWriteAttribute("virtualThreads", def.getVirtualThreads());
         endElement(name);
     }
     protected void doWriteThreadsDefinition(String name, ThreadsDefinition def) throws IOException {
@@ -1798,6 +1803,7 @@ public class ModelWriter extends BaseWriter {
         doWriteAttribute("threadName", def.getThreadName());
         doWriteAttribute("rejectedPolicy", def.getRejectedPolicy());
         doWriteAttribute("timeUnit", def.getTimeUnit());
+        doWriteAttribute("virtualThreads", def.getVirtualThreads());
         endElement(name);
     }
     protected void doWriteThrottleDefinition(String name, ThrottleDefinition def) throws IOException {
@@ -2302,6 +2308,7 @@ public class ModelWriter extends BaseWriter {
         doWriteAttribute("comparator", def.getComparator());
         doWriteAttribute("timeout", def.getTimeout());
         doWriteAttribute("rejectOld", def.getRejectOld());
+        doWriteAttribute("slidingWindow", def.getSlidingWindow());
         doWriteAttribute("ignoreInvalidExchanges", def.getIgnoreInvalidExchanges());
         doWriteAttribute("deliveryAttemptInterval", def.getDeliveryAttemptInterval());
         doWriteAttribute("capacity", def.getCapacity());
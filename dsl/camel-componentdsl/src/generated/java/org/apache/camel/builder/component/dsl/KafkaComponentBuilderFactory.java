@@ -986,6 +986,49 @@ public interface KafkaComponentBuilderFactory {
             return this;
         }
     
+        /**
+         * The order kept when processing the records of a poll in parallel, see
+         * the processingThreads option. With key, the records of a partition
+         * with the same key are processed in order, one after the other. With
+         * partition, all the records of a partition are processed in order, so
+         * the partitions are processed in parallel.
+         * 
+         * The option is a: &lt;code&gt;java.lang.String&lt;/code&gt; type.
+         * 
+         * Default: key
+         * Group: consumer (advanced)
+         * 
+         * @param processingOrder the value to set
+         * @return the dsl builder
+         */
+        default KafkaComponentBuilder processingOrder(java.lang.String processingOrder) {
+            doSetProperty("processingOrder", processingOrder);
+            return this;
+        }
+    
+        /**
+         * The number of threads used to process the records of a poll in
+         * parallel. The default is 1, which processes the records sequentially
+         * on the consumer thread. When more than one, the records are processed
+         * by a pool of threads shared by the consumers, while keeping the order
+         * of the records as set by the processingOrder option. The offsets of a
+         * partition are only committed up to the last record that has been
+         * processed with all its previous records. This cannot be used together
+         * with batching, allowManualCommit or the pausable EIP.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 1
+         * Group: consumer (advanced)
+         * 
+         * @param processingThreads the value to set
+         * @return the dsl builder
+         */
+        default KafkaComponentBuilder processingThreads(int processingThreads) {
+            doSetProperty("processingThreads", processingThreads);
+            return this;
+        }
+    
         
         /**
          * The delay in millis seconds to wait before trying again to subscribe
@@ -2436,6 +2479,8 @@ public interface KafkaComponentBuilderFactory {
             case "isolationLevel": getOrCreateConfiguration((KafkaComponent) component).setIsolationLevel((java.lang.String) value); return true;
             case "kafkaManualCommitFactory": ((KafkaComponent) component).setKafkaManualCommitFactory((org.apache.camel.component.kafka.consumer.KafkaManualCommitFactory) value); return true;
             case "pollExceptionStrategy": ((KafkaComponent) component).setPollExceptionStrategy((org.apache.camel.component.kafka.PollExceptionStrategy) value); return true;
+            case "processingOrder": getOrCreateConfiguration((KafkaComponent) component).setProcessingOrder((java.lang.String) value); return true;
+            case "processingThreads": getOrCreateConfiguration((KafkaComponent) component).setProcessingThreads((int) value); return true;
             case "subscribeConsumerBackoffInterval": ((KafkaComponent) component).setSubscribeConsumerBackoffInterval((long) value); return true;
             case "subscribeConsumerBackoffMaxAttempts": ((KafkaComponent) component).setSubscribeConsumerBackoffMaxAttempts((int) value); return true;
             case "batchWithIndividualHeaders": getOrCreateConfiguration((KafkaComponent) component).setBatchWithIndividualHeaders((boolean) value); return true;
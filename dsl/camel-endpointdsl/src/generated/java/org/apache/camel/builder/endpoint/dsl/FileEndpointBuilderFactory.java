@@ -859,32 +859,37 @@ public interface FileEndpointBuilderFactory {
          * consume files as fast as the others, but can be more reliable as the
          * JDK IO API cannot always determine whether a file is currently being
          * used by another process. The option readLockCheckInterval can be used
-         * to set the check frequency. - fileLock - is for using
-         * java.nio.channels.FileLock. This option is not avail for Windows OS
-         * and the FTP component. This approach should be avoided when accessing
-         * a remote file system via a mount/share unless that file system
-         * supports distributed file locks. - rename - rename is for using a try
-         * to rename the file as a test if we can get exclusive read-lock. -
-         * idempotent - (only for file component) idempotent is for using a
-         * idempotentRepository as the read-lock. This allows to use read locks
-         * that supports clustering if the idempotent repository implementation
-         * supports that. - idempotent-changed - (only for file component)
-         * idempotent-changed is for using a idempotentRepository and changed as
+         * to set the check frequency. - changed-nonblocking - (only for file
+         * component) changed-nonblocking is using file length/modification
+         * timestamp like changed, but without waiting for the file to stop
+         * changing. A file which is still changing is skipped and checked again
+         * on the next polls, at least readLockCheckInterval apart, so files
+         * being written slowly do not hold up the other files. - fileLock - is
+         * for using java.nio.channels.FileLock. This option is not avail for
+         * Windows OS and the FTP component. This approach should be avoided
+         * when accessing a remote file system via a mount/share unless that
+         * file system supports distributed file locks. - rename - rename is for
+         * using a try to rename the file as a test if we can get exclusive
+         * read-lock. - idempotent - (only for file component) idempotent is for
+         * using a idempotentRepository as the read-lock. This allows to use
+         * read locks that supports clustering if the idempotent repository
+         * implementation supports that. - idempotent-changed - (only for file
+         * component) idempotent-changed is for using a idempotentRepository and
+         * changed as the combined read-lock. This allows to use read locks that
+         * supports clustering if the idempotent repository implementation
+         * supports that. - idempotent-rename - (only for file component)
+         * idempotent-rename is for using a idempotentRepository and rename as
          * the combined read-lock. This allows to use read locks that supports
-         * clustering if the idempotent repository implementation supports that.
-         * - idempotent-rename - (only for file component) idempotent-rename is
-         * for using a idempotentRepository and rename as the combined
-         * read-lock. This allows to use read locks that supports clustering if
-         * the idempotent repository implementation supports that.Notice: The
-         * various read locks is not all suited to work in clustered mode, where
-         * concurrent consumers on different nodes is competing for the same
-         * files on a shared file system. The markerFile using a close to atomic
-         * operation to create the empty marker file, but its not guaranteed to
-         * work in a cluster. The fileLock may work better but then the file
-         * system need to support distributed file locks, and so on. Using the
-         * idempotent read lock can support clustering if the idempotent
-         * repository supports clustering, such as Hazelcast Component or
-         * Infinispan.
+         * clustering if the idempotent repository implementation supports
+         * that.Notice: The various read locks is not all suited to work in
+         * clustered mode, where concurrent consumers on different nodes is
+         * competing for the same files on a shared file system. The markerFile
+         * using a close to atomic operation to create the empty marker file,
+         * but its not guaranteed to work in a cluster. The fileLock may work
+         * better but then the file system need to support distributed file
+         * locks, and so on. Using the idempotent read lock can support
+         * clustering if the idempotent repository supports clustering, such as
+         * Hazelcast Component or Infinispan.
          * 
          * The option is a: <code>java.lang.String</code> type.
          * 
@@ -2025,6 +2030,46 @@ public interface FileEndpointBuilderFactory {
             doSetProperty("bridgeErrorHandler", bridgeErrorHandler);
             return this;
         }
+        /**
+         * Number of concurrent threads processing the files picked up in a
+         * poll. The files are still locked and retrieved one at a time by the
+         * polling thread, before being routed concurrently, and the next poll
+         * starts when all the files of the batch have completed. For the FTP
+         * components, the streamDownload option cannot be used together with
+         * this option.
+         * 
+         * The option is a: <code>int</code> type.
+         * 
+         * Default: 1
+         * Group: consumer (advanced)
+         * 
+         * @param concurrentConsumers the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder concurrentConsumers(int concurrentConsumers) {
+            doSetProperty("concurrentConsumers", concurrentConsumers);
+            return this;
+        }
+        /**
+         * Number of concurrent threads processing the files picked up in a
+         * poll. The files are still locked and retrieved one at a time by the
+         * polling thread, before being routed concurrently, and the next poll
+         * starts when all the files of the batch have completed. For the FTP
+         * components, the streamDownload option cannot be used together with
+         * this option.
+         * 
+         * The option will be converted to a <code>int</code> type.
+         * 
+         * Default: 1
+         * Group: consumer (advanced)
+         * 
+         * @param concurrentConsumers the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder concurrentConsumers(String concurrentConsumers) {
+            doSetProperty("concurrentConsumers", concurrentConsumers);
+            return this;
+        }
         /**
          * Similar to the startingDirectoryMustExist option, but this applies
          * during polling (after starting the consumer).
@@ -2483,6 +2528,88 @@ public interface FileEndpointBuilderFactory {
             doSetProperty("startingDirectoryMustHaveAccess", startingDirectoryMustHaveAccess);
             return this;
         }
+        /**
+         * Whether the consumer keeps an index of the files in the directories
+         * it polls, which is updated from the events of the file system watch
+         * service, instead of listing the directories on every poll. This
+         * speeds up polling directories with many files, which are only listed
+         * again when the watch service has lost events, and after the watch
+         * directory rescan interval. On macOS the watch service of the JDK
+         * polls the directories, so changes are only seen after a delay of
+         * about 2 to 10 seconds.
+         * 
+         * The option is a: <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param watchDirectory the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder watchDirectory(boolean watchDirectory) {
+            doSetProperty("watchDirectory", watchDirectory);
+            return this;
+        }
+        /**
+         * Whether the consumer keeps an index of the files in the directories
+         * it polls, which is updated from the events of the file system watch
+         * service, instead of listing the directories on every poll. This
+         * speeds up polling directories with many files, which are only listed
+         * again when the watch service has lost events, and after the watch
+         * directory rescan interval. On macOS the watch service of the JDK
+         * polls the directories, so changes are only seen after a delay of
+         * about 2 to 10 seconds.
+         * 
+         * The option will be converted to a <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param watchDirectory the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder watchDirectory(String watchDirectory) {
+            doSetProperty("watchDirectory", watchDirectory);
+            return this;
+        }
+        /**
+         * Interval in millis to list all the directories again when the
+         * watchDirectory option is enabled, in case the file system does not
+         * report all the changes, such as network file systems. Use zero to
+         * only list the directories again when the watch service has lost
+         * events.
+         * 
+         * The option is a: <code>long</code> type.
+         * 
+         * Default: 60000
+         * Group: consumer (advanced)
+         * 
+         * @param watchDirectoryRescanInterval the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder watchDirectoryRescanInterval(long watchDirectoryRescanInterval) {
+            doSetProperty("watchDirectoryRescanInterval", watchDirectoryRescanInterval);
+            return this;
+        }
+        /**
+         * Interval in millis to list all the directories again when the
+         * watchDirectory option is enabled, in case the file system does not
+         * report all the changes, such as network file systems. Use zero to
+         * only list the directories again when the watch service has lost
+         * events.
+         * 
+         * The option will be converted to a <code>long</code> type.
+         * 
+         * Default: 60000
+         * Group: consumer (advanced)
+         * 
+         * @param watchDirectoryRescanInterval the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder watchDirectoryRescanInterval(String watchDirectoryRescanInterval) {
+            doSetProperty("watchDirectoryRescanInterval", watchDirectoryRescanInterval);
+            return this;
+        }
         /**
          * Automatically create missing directories in the file's pathname. For
          * the file consumer, that means creating the starting directory. For
@@ -997,32 +997,37 @@ public interface FilesEndpointBuilderFactory {
          * consume files as fast as the others, but can be more reliable as the
          * JDK IO API cannot always determine whether a file is currently being
          * used by another process. The option readLockCheckInterval can be used
-         * to set the check frequency. - fileLock - is for using
-         * java.nio.channels.FileLock. This option is not avail for Windows OS
-         * and the FTP component. This approach should be avoided when accessing
-         * a remote file system via a mount/share unless that file system
-         * supports distributed file locks. - rename - rename is for using a try
-         * to rename the file as a test if we can get exclusive read-lock. -
-         * idempotent - (only for file component) idempotent is for using a
-         * idempotentRepository as the read-lock. This allows to use read locks
-         * that supports clustering if the idempotent repository implementation
-         * supports that. - idempotent-changed - (only for file component)
-         * idempotent-changed is for using a idempotentRepository and changed as
+         * to set the check frequency. - changed-nonblocking - (only for file
+         * component) changed-nonblocking is using file length/modification
+         * timestamp like changed, but without waiting for the file to stop
+         * changing. A file which is still changing is skipped and checked again
+         * on the next polls, at least readLockCheckInterval apart, so files
+         * being written slowly do not hold up the other files. - fileLock - is
+         * for using java.nio.channels.FileLock. This option is not avail for
+         * Windows OS and the FTP component. This approach should be avoided
+         * when accessing a remote file system via a mount/share unless that
+         * file system supports distributed file locks. - rename - rename is for
+         * using a try to rename the file as a test if we can get exclusive
+         * read-lock. - idempotent - (only for file component) idempotent is for
+         * using a idempotentRepository as the read-lock. This allows to use
+         * read locks that supports clustering if the idempotent repository
+         * implementation supports that. - idempotent-changed - (only for file
+         * component) idempotent-changed is for using a idempotentRepository and
+         * changed as the combined read-lock. This allows to use read locks that
+         * supports clustering if the idempotent repository implementation
+         * supports that. - idempotent-rename - (only for file component)
+         * idempotent-rename is for using a idempotentRepository and rename as
          * the combined read-lock. This allows to use read locks that supports
-         * clustering if the idempotent repository implementation supports that.
-         * - idempotent-rename - (only for file component) idempotent-rename is
-         * for using a idempotentRepository and rename as the combined
-         * read-lock. This allows to use read locks that supports clustering if
-         * the idempotent repository implementation supports that.Notice: The
-         * various read locks is not all suited to work in clustered mode, where
-         * concurrent consumers on different nodes is competing for the same
-         * files on a shared file system. The markerFile using a close to atomic
-         * operation to create the empty marker file, but its not guaranteed to
-         * work in a cluster. The fileLock may work better but then the file
-         * system need to support distributed file locks, and so on. Using the
-         * idempotent read lock can support clustering if the idempotent
-         * repository supports clustering, such as Hazelcast Component or
-         * Infinispan.
+         * clustering if the idempotent repository implementation supports
+         * that.Notice: The various read locks is not all suited to work in
+         * clustered mode, where concurrent consumers on different nodes is
+         * competing for the same files on a shared file system. The markerFile
+         * using a close to atomic operation to create the empty marker file,
+         * but its not guaranteed to work in a cluster. The fileLock may work
+         * better but then the file system need to support distributed file
+         * locks, and so on. Using the idempotent read lock can support
+         * clustering if the idempotent repository supports clustering, such as
+         * Hazelcast Component or Infinispan.
          * 
          * The option is a: <code>java.lang.String</code> type.
          * 
@@ -2181,6 +2186,46 @@ public interface FilesEndpointBuilderFactory {
             doSetProperty("bridgeErrorHandler", bridgeErrorHandler);
             return this;
         }
+        /**
+         * Number of concurrent threads processing the files picked up in a
+         * poll. The files are still locked and retrieved one at a time by the
+         * polling thread, before being routed concurrently, and the next poll
+         * starts when all the files of the batch have completed. For the FTP
+         * components, the streamDownload option cannot be used together with
+         * this option.
+         * 
+         * The option is a: <code>int</code> type.
+         * 
+         * Default: 1
+         * Group: consumer (advanced)
+         * 
+         * @param concurrentConsumers the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFilesEndpointConsumerBuilder concurrentConsumers(int concurrentConsumers) {
+            doSetProperty("concurrentConsumers", concurrentConsumers);
+            return this;
+        }
+        /**
+         * Number of concurrent threads processing the files picked up in a
+         * poll. The files are still locked and retrieved one at a time by the
+         * polling thread, before being routed concurrently, and the next poll
+         * starts when all the files of the batch have completed. For the FTP
+         * components, the streamDownload option cannot be used together with
+         * this option.
+         * 
+         * The option will be converted to a <code>int</code> type.
+         * 
+         * Default: 1
+         * Group: consumer (advanced)
+         * 
+         * @param concurrentConsumers the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFilesEndpointConsumerBuilder concurrentConsumers(String concurrentConsumers) {
+            doSetProperty("concurrentConsumers", concurrentConsumers);
+            return this;
+        }
         /**
          * Whether the FTP consumer should download the file. If this option is
          * set to false, then the message body will be null, but the consumer
@@ -2060,6 +2060,69 @@ public interface KafkaEndpointBuilderFactory {
             doSetProperty("kafkaManualCommitFactory", kafkaManualCommitFactory);
             return this;
         }
+        /**
+         * The order kept when processing the records of a poll in parallel, see
+         * the processingThreads option. With key, the records of a partition
+         * with the same key are processed in order, one after the other. With
+         * partition, all the records of a partition are processed in order, so
+         * the partitions are processed in parallel.
+         * 
+         * The option is a: <code>java.lang.String</code> type.
+         * 
+         * Default: key
+         * Group: consumer (advanced)
+         * 
+         * @param processingOrder the value to set
+         * @return the dsl builder
+         */
+        default AdvancedKafkaEndpointConsumerBuilder processingOrder(String processingOrder) {
+            doSetProperty("processingOrder", processingOrder);
+            return this;
+        }
+        /**
+         * The number of threads used to process the records of a poll in
+         * parallel. The default is 1, which processes the records sequentially
+         * on the consumer thread. When more than one, the records are processed
+         * by a pool of threads shared by the consumers, while keeping the order
+         * of the records as set by the processingOrder option. The offsets of a
+         * partition are only committed up to the last record that has been
+         * processed with all its previous records. This cannot be used together
+         * with batching, allowManualCommit or the pausable EIP.
+         * 
+         * The option is a: <code>int</code> type.
+         * 
+         * Default: 1
+         * Group: consumer (advanced)
+         * 
+         * @param processingThreads the value to set
+         * @return the dsl builder
+         */
+        default AdvancedKafkaEndpointConsumerBuilder processingThreads(int processingThreads) {
+            doSetProperty("processingThreads", processingThreads);
+            return this;
+        }
+        /**
+         * The number of threads used to process the records of a poll in
+         * parallel. The default is 1, which processes the records sequentially
+         * on the consumer thread. When more than one, the records are processed
+         * by a pool of threads shared by the consumers, while keeping the order
+         * of the records as set by the processingOrder option. The offsets of a
+         * partition are only committed up to the last record that has been
+         * processed with all its previous records. This cannot be used together
+         * with batching, allowManualCommit or the pausable EIP.
+         * 
+         * The option will be converted to a: <code>int</code> type.
+         * 
+         * Default: 1
+         * Group: consumer (advanced)
+         * 
+         * @param processingThreads the value to set
+         * @return the dsl builder
+         */
+        default AdvancedKafkaEndpointConsumerBuilder processingThreads(String processingThreads) {
+            doSetProperty("processingThreads", processingThreads);
+            return this;
+        }
         /**
          * Factory to use for creating
          * org.apache.kafka.clients.consumer.KafkaConsumer and
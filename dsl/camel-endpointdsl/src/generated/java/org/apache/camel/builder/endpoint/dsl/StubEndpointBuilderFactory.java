@@ -170,6 +170,44 @@ public interface StubEndpointBuilderFactory {
             doSetProperty("bridgeErrorHandler", bridgeErrorHandler);
             return this;
         }
+        /**
+         * Maximum number of exchanges the consumer drains from the queue each
+         * time it wakes up. When enabled (a value greater than 1), the consumer
+         * takes the lock of the queue once per batch instead of once per
+         * exchange, and spins for a short while before blocking when the queue
+         * is empty, which improves throughput at high message rates. The
+         * exchanges of a batch are processed one by one by the consumer thread.
+         * 
+         * The option is a: <code>int</code> type.
+         * 
+         * Group: consumer (advanced)
+         * 
+         * @param drainBatchSize the value to set
+         * @return the dsl builder
+         */
+        default AdvancedStubEndpointConsumerBuilder drainBatchSize(int drainBatchSize) {
+            doSetProperty("drainBatchSize", drainBatchSize);
+            return this;
+        }
+        /**
+         * Maximum number of exchanges the consumer drains from the queue each
+         * time it wakes up. When enabled (a value greater than 1), the consumer
+         * takes the lock of the queue once per batch instead of once per
+         * exchange, and spins for a short while before blocking when the queue
+         * is empty, which improves throughput at high message rates. The
+         * exchanges of a batch are processed one by one by the consumer thread.
+         * 
+         * The option will be converted to a <code>int</code> type.
+         * 
+         * Group: consumer (advanced)
+         * 
+         * @param drainBatchSize the value to set
+         * @return the dsl builder
+         */
+        default AdvancedStubEndpointConsumerBuilder drainBatchSize(String drainBatchSize) {
+            doSetProperty("drainBatchSize", drainBatchSize);
+            return this;
+        }
         /**
          * To let the consumer use a custom ExceptionHandler. Notice if the
          * option bridgeErrorHandler is enabled then this option is not in use.